@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.crypto;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BObjectType;
+import org.ballerinalang.jvm.values.AbstractObjectValue;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.FutureValue;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.stdlib.crypto.Constants;
+import org.ballerinalang.stdlib.crypto.CryptoUtils;
+import org.ballerinalang.stdlib.crypto.nativeimpl.AesCipher;
+import org.ballerinalang.stdlib.crypto.nativeimpl.Hash;
+import org.ballerinalang.stdlib.crypto.nativeimpl.Hmac;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures SHA-256, HMAC-SHA256 and AES-GCM over 1 KB and 100 MB inputs. The {@code oneShot} variant processes the
+ * whole input at once with the provider instances of the current thread, as `crypto:hashSha256` and the other
+ * functions do. The {@code streamed} variant feeds the input in the chunks `crypto:Hasher` and the other incremental
+ * objects read from a channel, so only a chunk of it is held in memory.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CryptoBenchmark {
+
+    private static final int CHUNK_SIZE = 8192;
+    private static final BObjectType OBJECT_TYPE = new BObjectType("CryptoObject", Constants.CRYPTO_PACKAGE_ID, 0);
+
+    @Param({"sha256", "hmacSha256", "aesGcm"})
+    private String algorithm;
+
+    @Param({"1024", "104857600"})
+    private int size;
+
+    private byte[] input;
+    private ArrayValue chunk;
+    private int chunkCount;
+    private byte[] key;
+    private ArrayValue keyValue;
+    private ArrayValue ivValue;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        input = new byte[size];
+        random.nextBytes(input);
+        byte[] chunkBytes = new byte[Math.min(size, CHUNK_SIZE)];
+        random.nextBytes(chunkBytes);
+        chunk = new ArrayValueImpl(chunkBytes);
+        chunkCount = size / chunkBytes.length;
+        key = new byte[16];
+        random.nextBytes(key);
+        keyValue = new ArrayValueImpl(key);
+        byte[] iv = new byte[12];
+        random.nextBytes(iv);
+        ivValue = new ArrayValueImpl(iv);
+    }
+
+    @Benchmark
+    public Object oneShot() {
+        switch (algorithm) {
+            case "hmacSha256":
+                return CryptoUtils.hmac("HmacSHA256", key, input);
+            case "aesGcm":
+                return CryptoUtils.aesEncryptDecrypt(CryptoUtils.CipherMode.ENCRYPT, Constants.GCM, "NONE", key, input,
+                                                     ivValue.getBytes(), 128);
+            default:
+                return CryptoUtils.hash("SHA-256", input);
+        }
+    }
+
+    @Benchmark
+    public void streamed(Blackhole blackhole) {
+        ObjectValue object = new CryptoObject();
+        switch (algorithm) {
+            case "hmacSha256":
+                Hmac.initHmac(object, "SHA256", keyValue);
+                for (int i = 0; i < chunkCount; i++) {
+                    Hmac.updateHmac(object, chunk);
+                }
+                blackhole.consume(Hmac.digestHmac(object));
+                break;
+            case "aesGcm":
+                AesCipher.initAesCipher(object, "ENCRYPT", Constants.GCM, keyValue, ivValue, "NONE", 128);
+                for (int i = 0; i < chunkCount; i++) {
+                    blackhole.consume(AesCipher.updateAesCipher(object, chunk));
+                }
+                blackhole.consume(AesCipher.finishAesCipher(object));
+                break;
+            default:
+                Hash.initHasher(object, "SHA256");
+                for (int i = 0; i < chunkCount; i++) {
+                    Hash.updateHasher(object, chunk);
+                }
+                blackhole.consume(Hash.digestHasher(object));
+        }
+    }
+
+    /**
+     * Object which only holds the native data of the incremental crypto objects.
+     */
+    private static class CryptoObject extends AbstractObjectValue {
+
+        CryptoObject() {
+            super(OBJECT_TYPE);
+        }
+
+        @Override
+        public Object call(Strand strand, String funcName, Object... args) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public FutureValue start(Strand strand, String funcName, Object... args) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Object get(BString fieldName) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void set(BString fieldName, Object value) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
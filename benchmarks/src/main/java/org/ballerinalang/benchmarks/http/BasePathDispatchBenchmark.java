@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.http;
+
+import org.ballerinalang.net.http.BasePathTrie;
+import org.ballerinalang.net.http.HTTPServicesRegistry;
+import org.ballerinalang.net.http.HttpConstants;
+import org.ballerinalang.net.http.HttpDispatcher;
+import org.ballerinalang.net.http.HttpUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.wso2.transport.http.netty.message.HttpCarbonMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures finding the base path of a request among the services of a listener. The {@code linearScan} variant is
+ * the former sorted list scan of the services registry and is kept as the baseline. The {@code findService} variant
+ * dispatches request messages whose targets have a query through {@link HttpDispatcher#findService}, so that it also
+ * includes validating the request target and extracting its matrix params, path and query.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BasePathDispatchBenchmark {
+
+    private static final int REQUEST_COUNT = 64;
+
+    @Param({"10", "100", "1000"})
+    public int serviceCount;
+
+    private BasePathTrie basePathTrie;
+    private List<String> sortedBasePaths;
+    private String[] requestPaths;
+    private HTTPServicesRegistry servicesRegistry;
+    private HttpCarbonMessage[] requestMessages;
+
+    @Setup
+    public void setup() {
+        List<String> basePaths = new ArrayList<>(serviceCount);
+        for (int i = 0; i < serviceCount; i++) {
+            // a mix of single segment and nested base paths, as in a gateway which fronts many APIs
+            basePaths.add(i % 2 == 0 ? "/service" + i : "/api/v" + (i % 3) + "/service" + i);
+        }
+        basePathTrie = BasePathTrie.build(basePaths);
+        sortedBasePaths = new ArrayList<>(basePaths);
+        sortedBasePaths.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+
+        requestPaths = new String[REQUEST_COUNT];
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            String basePath = basePaths.get((int) ((i * 7919L) % serviceCount));
+            requestPaths[i] = i % 4 == 0 ? basePath : basePath + "/orders/" + i;
+        }
+
+        servicesRegistry = new BenchmarkServicesRegistry(basePaths);
+        requestMessages = new HttpCarbonMessage[REQUEST_COUNT];
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            requestMessages[i] = HttpUtil.createHttpCarbonMessage(true);
+            // the dispatcher sets the target back as it is, as it has no matrix params
+            requestMessages[i].setProperty(HttpConstants.TO,
+                                           i % 2 == 0 ? requestPaths[i] : requestPaths[i] + "?limit=10&offset=" + i);
+        }
+    }
+
+    @Benchmark
+    public void findService(Blackhole blackhole) {
+        for (HttpCarbonMessage requestMessage : requestMessages) {
+            blackhole.consume(HttpDispatcher.findService(servicesRegistry, requestMessage));
+            blackhole.consume(requestMessage.getProperty(HttpConstants.SUB_PATH));
+        }
+    }
+
+    @Benchmark
+    public void trie(Blackhole blackhole) {
+        for (String requestPath : requestPaths) {
+            blackhole.consume(basePathTrie.match(requestPath));
+        }
+    }
+
+    @Benchmark
+    public void linearScan(Blackhole blackhole) {
+        for (String requestPath : requestPaths) {
+            blackhole.consume(findByLinearScan(requestPath));
+        }
+    }
+
+    private String findByLinearScan(String requestPath) {
+        for (String key : sortedBasePaths) {
+            if (!requestPath.toLowerCase().contains(key.toLowerCase())) {
+                continue;
+            }
+            if (requestPath.length() <= key.length()) {
+                return key;
+            }
+            if (requestPath.startsWith(key.concat("/"))) {
+                return key;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Services registry of the default host with the given base paths, as the services of a listener are only
+     * registered from Ballerina.
+     */
+    private static class BenchmarkServicesRegistry extends HTTPServicesRegistry {
+
+        private final BasePathTrie basePathTrie;
+
+        BenchmarkServicesRegistry(List<String> basePaths) {
+            super(null);
+            // the dispatcher only looks the matched base path up in the services map, which is left empty
+            servicesByBasePath = new ConcurrentHashMap<>();
+            servicesMapByHost.put(HttpConstants.DEFAULT_HOST, new ServicesMapHolder(servicesByBasePath));
+            basePathTrie = BasePathTrie.build(basePaths);
+        }
+
+        @Override
+        public BasePathTrie getBasePathTrieByHost(String hostName) {
+            return basePathTrie;
+        }
+    }
+}
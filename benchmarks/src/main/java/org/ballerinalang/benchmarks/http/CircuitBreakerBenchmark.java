@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.http;
+
+import org.ballerinalang.net.http.resiliency.CircuitBreaker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Measures the circuit breaker bookkeeping of a request, when 64 threads send requests through the same circuit
+ * breaker client. The {@code globalLock} variant guards the same updates with a single lock, as the former module
+ * level locks of the circuit breaker did, and is kept as the baseline.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@Threads(64)
+public class CircuitBreakerBenchmark {
+
+    // one in hundred requests fails, which does not trip the circuit
+    private static final int FAILURE_RATE = 100;
+
+    private CircuitBreaker circuitBreaker;
+    private ReentrantLock lock;
+
+    @Setup
+    public void setup() {
+        circuitBreaker = new CircuitBreaker(0.3, 1000, 10, 10000, 2000, System.currentTimeMillis());
+        lock = new ReentrantLock();
+    }
+
+    @Benchmark
+    public CircuitBreaker.State lockFree() {
+        CircuitBreaker.State state = circuitBreaker.updateState();
+        recordResponse();
+        return state;
+    }
+
+    @Benchmark
+    public CircuitBreaker.State globalLock() {
+        CircuitBreaker.State state;
+        lock.lock();
+        try {
+            state = circuitBreaker.updateState();
+        } finally {
+            lock.unlock();
+        }
+        lock.lock();
+        try {
+            recordResponse();
+        } finally {
+            lock.unlock();
+        }
+        return state;
+    }
+
+    private void recordResponse() {
+        if (ThreadLocalRandom.current().nextInt(FAILURE_RATE) == 0) {
+            circuitBreaker.recordFailure();
+        } else {
+            circuitBreaker.recordSuccess();
+        }
+    }
+}
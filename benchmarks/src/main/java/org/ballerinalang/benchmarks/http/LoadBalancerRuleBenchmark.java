@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.http;
+
+import org.ballerinalang.net.http.resiliency.LoadBalancerRules;
+import org.ballerinalang.net.http.resiliency.TargetLoad;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures the load balancing bookkeeping of a request, which is choosing a target and recording the request and the
+ * response on it, when 16 strands send requests through the same load balance client. The tail latency the rules
+ * give against backends of uneven speed is measured by {@link LoadBalancerSimulation}.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@Threads(16)
+public class LoadBalancerRuleBenchmark {
+
+    private static final long LATENCY = TimeUnit.MILLISECONDS.toNanos(5);
+
+    @Param({"roundRobin", "leastOutstanding", "powerOfTwoChoices", "peakEwma"})
+    private String rule;
+
+    @Param({"4", "16"})
+    private int targetCount;
+
+    private TargetLoad[] targets;
+    private AtomicInteger roundRobinIndex;
+
+    @Setup
+    public void setup() {
+        targets = new TargetLoad[targetCount];
+        long now = System.nanoTime();
+        for (int i = 0; i < targetCount; i++) {
+            targets[i] = new TargetLoad(now);
+        }
+        roundRobinIndex = new AtomicInteger();
+    }
+
+    @Benchmark
+    public int sendRequest() {
+        Random random = ThreadLocalRandom.current();
+        long now = System.nanoTime();
+        int index;
+        switch (rule) {
+            case "leastOutstanding":
+                index = LoadBalancerRules.leastOutstandingRequests(targets, random);
+                break;
+            case "powerOfTwoChoices":
+                index = LoadBalancerRules.powerOfTwoChoices(targets, random);
+                break;
+            case "peakEwma":
+                index = LoadBalancerRules.peakEwma(targets, random, now);
+                break;
+            default:
+                index = Math.floorMod(roundRobinIndex.getAndIncrement(), targets.length);
+        }
+        TargetLoad target = targets[index];
+        target.onRequest();
+        target.onResponse(LATENCY, now);
+        return index;
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.http;
+
+import org.ballerinalang.net.http.resiliency.LoadBalancerRules;
+import org.ballerinalang.net.http.resiliency.TargetLoad;
+
+import java.io.PrintStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A deterministic simulation of a load balance client in front of three fast backends and a slow one, which prints
+ * the latency percentiles each load balancing rule gives. Time is simulated, so the results do not depend on the
+ * machine, and the same seed always gives the same results.
+ * <p>
+ * Each backend serves a limited number of requests at a time and queues the rest. The slow backend cannot keep up
+ * with an even share of the requests, so round robin lets its queue grow, while the load aware rules send it less.
+ *
+ * @since 2.0.0
+ */
+public class LoadBalancerSimulation {
+
+    private static final PrintStream OUT = System.out;
+
+    private static final String[] RULES = {"roundRobin", "leastOutstanding", "powerOfTwoChoices", "peakEwma"};
+    private static final long[] MEAN_SERVICE_TIMES = {millis(5), millis(5), millis(5), millis(50)};
+    private static final int BACKEND_CONCURRENCY = 8;
+    private static final double REQUESTS_PER_SECOND = 2000;
+    private static final int REQUEST_COUNT = 200000;
+    private static final long SEED = 42;
+
+    public static void main(String[] args) {
+        OUT.printf("%-20s %10s %10s %10s %10s%n", "rule", "p50 (ms)", "p99 (ms)", "p99.9 (ms)", "slow share");
+        for (String rule : RULES) {
+            new LoadBalancerSimulation(rule).run();
+        }
+    }
+
+    private final String rule;
+    private final Random loadRandom = new Random(SEED);
+    private final Random ruleRandom = new Random(SEED + 1);
+    private final TargetLoad[] targets = new TargetLoad[MEAN_SERVICE_TIMES.length];
+    private final Backend[] backends = new Backend[MEAN_SERVICE_TIMES.length];
+    private final PriorityQueue<Event> events = new PriorityQueue<>();
+    private final long[] latencies = new long[REQUEST_COUNT];
+    private long eventSequence;
+    private int completedCount;
+    private int slowCount;
+    private int roundRobinIndex;
+
+    private LoadBalancerSimulation(String rule) {
+        this.rule = rule;
+        for (int i = 0; i < backends.length; i++) {
+            targets[i] = new TargetLoad(0);
+            backends[i] = new Backend(MEAN_SERVICE_TIMES[i]);
+        }
+    }
+
+    private void run() {
+        long arrival = 0;
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            arrival += exponential(TimeUnit.SECONDS.toNanos(1) / REQUESTS_PER_SECOND);
+            events.add(new Event(arrival, -1, arrival, eventSequence++));
+        }
+        while (!events.isEmpty()) {
+            Event event = events.poll();
+            if (event.target < 0) {
+                dispatch(event.time);
+            } else {
+                complete(event);
+            }
+        }
+
+        Arrays.sort(latencies);
+        OUT.printf("%-20s %10.1f %10.1f %10.1f %9.1f%%%n", rule, percentile(0.5), percentile(0.99),
+                   percentile(0.999), slowCount * 100.0 / REQUEST_COUNT);
+    }
+
+    private void dispatch(long now) {
+        int index;
+        switch (rule) {
+            case "leastOutstanding":
+                index = LoadBalancerRules.leastOutstandingRequests(targets, ruleRandom);
+                break;
+            case "powerOfTwoChoices":
+                index = LoadBalancerRules.powerOfTwoChoices(targets, ruleRandom);
+                break;
+            case "peakEwma":
+                index = LoadBalancerRules.peakEwma(targets, ruleRandom, now);
+                break;
+            default:
+                index = roundRobinIndex++ % targets.length;
+        }
+        if (index == backends.length - 1) {
+            slowCount++;
+        }
+        targets[index].onRequest();
+        Backend backend = backends[index];
+        if (backend.busy < BACKEND_CONCURRENCY) {
+            start(index, now, now);
+        } else {
+            backend.queue.add(now);
+        }
+    }
+
+    private void start(int index, long dispatchTime, long now) {
+        Backend backend = backends[index];
+        backend.busy++;
+        events.add(new Event(now + exponential(backend.meanServiceTime), index, dispatchTime, eventSequence++));
+    }
+
+    private void complete(Event event) {
+        long now = event.time;
+        targets[event.target].onResponse(now - event.dispatchTime, now);
+        latencies[completedCount++] = now - event.dispatchTime;
+        Backend backend = backends[event.target];
+        backend.busy--;
+        if (!backend.queue.isEmpty()) {
+            start(event.target, backend.queue.poll(), now);
+        }
+    }
+
+    private long exponential(double mean) {
+        return (long) (-Math.log(1 - loadRandom.nextDouble()) * mean);
+    }
+
+    private double percentile(double percentile) {
+        return latencies[(int) (percentile * (REQUEST_COUNT - 1))] / (double) millis(1);
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    /**
+     * A simulated backend, which serves a limited number of requests at a time.
+     */
+    private static class Backend {
+
+        private final long meanServiceTime;
+        private final ArrayDeque<Long> queue = new ArrayDeque<>();
+        private int busy;
+
+        Backend(long meanServiceTime) {
+            this.meanServiceTime = meanServiceTime;
+        }
+    }
+
+    /**
+     * The arrival of a request, or the completion of a request by the target backend.
+     */
+    private static class Event implements Comparable<Event> {
+
+        private final long time;
+        private final int target;
+        private final long dispatchTime;
+        private final long sequence;
+
+        Event(long time, int target, long dispatchTime, long sequence) {
+            this.time = time;
+            this.target = target;
+            this.dispatchTime = dispatchTime;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Event other) {
+            int result = Long.compare(time, other.time);
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.io;
+
+import org.ballerinalang.stdlib.io.channels.base.Channel;
+import org.ballerinalang.stdlib.io.channels.base.CharacterChannel;
+import org.ballerinalang.stdlib.io.channels.base.DelimitedRecordChannel;
+import org.ballerinalang.stdlib.io.csv.Format;
+import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of reading CSV records through the {@link DelimitedRecordChannel}, in records per second.
+ * The {@code regex} variant uses the RFC 4180 field separator regex of the CSV format as a custom separator, which
+ * takes the former path of splitting the records through regular expressions.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DelimitedRecordReadBenchmark {
+
+    private static final int RECORD_COUNT = 100_000;
+    private static final int BATCH_SIZE = 1000;
+
+    private byte[] content;
+
+    @Setup
+    public void setup() {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            csv.append(i).append(",Person").append(i).append(",\"Colombo, Sri Lanka\",")
+                    .append(i * 1.5).append(",Engineering\n");
+        }
+        content = csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORD_COUNT)
+    public void tokenized(Blackhole blackhole) throws BallerinaIOException {
+        DelimitedRecordChannel recordChannel = new DelimitedRecordChannel(createCharacterChannel(), Format.CSV);
+        while (recordChannel.hasNext()) {
+            blackhole.consume(recordChannel.read());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORD_COUNT)
+    public void tokenizedInBatches(Blackhole blackhole) throws BallerinaIOException {
+        DelimitedRecordChannel recordChannel = new DelimitedRecordChannel(createCharacterChannel(), Format.CSV);
+        String[][] records;
+        while ((records = recordChannel.read(BATCH_SIZE)).length > 0) {
+            blackhole.consume(records);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORD_COUNT)
+    public void regex(Blackhole blackhole) throws BallerinaIOException {
+        DelimitedRecordChannel recordChannel = new DelimitedRecordChannel(createCharacterChannel(),
+                Format.CSV.getReadRecSeparator(), Format.CSV.getReadFieldSeparator());
+        while (recordChannel.hasNext()) {
+            blackhole.consume(recordChannel.read());
+        }
+    }
+
+    private CharacterChannel createCharacterChannel() {
+        return new CharacterChannel(new InMemoryChannel(new InMemoryByteChannel(content)),
+                                    StandardCharsets.UTF_8.name());
+    }
+
+    /**
+     * Channel over the in memory content.
+     */
+    private static class InMemoryChannel extends Channel {
+
+        InMemoryChannel(ByteChannel channel) {
+            super(channel);
+        }
+
+        @Override
+        public void transfer(int position, int count, WritableByteChannel dstChannel) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Channel getChannel() {
+            return this;
+        }
+
+        @Override
+        public boolean remaining() {
+            return false;
+        }
+    }
+
+    /**
+     * Readable byte channel over a byte array.
+     */
+    private static class InMemoryByteChannel implements ByteChannel {
+
+        private final byte[] content;
+        private int position;
+
+        InMemoryByteChannel(byte[] content) {
+            this.content = content;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) {
+            if (position == content.length) {
+                return -1;
+            }
+            int length = Math.min(dst.remaining(), content.length - position);
+            dst.put(content, position, length);
+            position += length;
+            return length;
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
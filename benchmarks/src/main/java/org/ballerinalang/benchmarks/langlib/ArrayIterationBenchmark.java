@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.langlib;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BFunctionType;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.FPValue;
+import org.ballerinalang.jvm.values.FutureValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
+import org.ballerinalang.langlib.array.Filter;
+import org.ballerinalang.langlib.array.Map;
+import org.ballerinalang.langlib.array.Reduce;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures the throughput of the lang.array map, filter and reduce functions over int, string and record arrays.
+ * The functions are invoked from a strand of a running scheduler, as they are from Ballerina code.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ArrayIterationBenchmark {
+
+    private static final BString AGE = StringUtils.fromString("age");
+
+    @Param({"int", "string", "record"})
+    public String elementType;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private Scheduler scheduler;
+    private ArrayValue arr;
+    private FPValue<Object, Object> mapFunc;
+    private FPValue<Object, Boolean> filterFunc;
+    private FPValue<Object, Object> reduceFunc;
+
+    @Setup
+    public void setup() {
+        scheduler = new Scheduler(1, true);
+        Thread schedulerThread = new Thread(scheduler::start, "benchmark-scheduler");
+        schedulerThread.setDaemon(true);
+        schedulerThread.start();
+
+        BType elemType;
+        Function<Object, Long> key;
+        switch (elementType) {
+            case "int":
+                long[] ints = new long[size];
+                for (int i = 0; i < size; i++) {
+                    ints[i] = i;
+                }
+                arr = new ArrayValueImpl(ints);
+                elemType = BTypes.typeInt;
+                key = elem -> (Long) elem;
+                break;
+            case "string":
+                BString[] strings = new BString[size];
+                for (int i = 0; i < size; i++) {
+                    strings[i] = StringUtils.fromString("item-" + i);
+                }
+                arr = new ArrayValueImpl(strings);
+                elemType = BTypes.typeString;
+                key = elem -> (long) ((BString) elem).length();
+                break;
+            default:
+                java.util.Map<String, BField> fields = new LinkedHashMap<>();
+                fields.put("name", new BField(BTypes.typeString, "name", Flags.PUBLIC + Flags.REQUIRED));
+                fields.put("age", new BField(BTypes.typeInt, "age", Flags.PUBLIC + Flags.REQUIRED));
+                BRecordType recordType = new BRecordType("Person", new BPackage("bench", "langlib", "1.0.0"), 0,
+                                                         fields, null, true, 0);
+                Object[] records = new Object[size];
+                for (int i = 0; i < size; i++) {
+                    MapValue<BString, Object> record = new MapValueImpl<>(recordType);
+                    record.put(StringUtils.fromString("name"), StringUtils.fromString("person-" + i));
+                    record.put(AGE, (long) (i % 100));
+                    records[i] = record;
+                }
+                arr = new ArrayValueImpl(records, new BArrayType(recordType));
+                elemType = recordType;
+                key = elem -> (Long) ((MapValue) elem).get(AGE);
+                break;
+        }
+
+        mapFunc = new FPValue<>(params -> key.apply(((Object[]) params)[1]) * 2,
+                                new BFunctionType(new BType[]{elemType}, null, BTypes.typeInt), null, false);
+        filterFunc = new FPValue<>(params -> key.apply(((Object[]) params)[1]) % 2 == 0,
+                                   new BFunctionType(new BType[]{elemType}, null, BTypes.typeBoolean), null, false);
+        reduceFunc = new FPValue<>(params -> {
+            Object[] args = (Object[]) params;
+            return (Long) args[1] + key.apply(args[3]);
+        }, new BFunctionType(new BType[]{BTypes.typeInt, elemType}, null, BTypes.typeInt), null, false);
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.poison();
+    }
+
+    @Benchmark
+    public Object map() {
+        return runOnStrand(strand -> Map.map(strand, arr, mapFunc));
+    }
+
+    @Benchmark
+    public Object filter() {
+        return runOnStrand(strand -> Filter.filter(strand, arr, filterFunc));
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Object reduce() {
+        return runOnStrand(strand -> Reduce.reduce(strand, arr, (FPValue) reduceFunc, 0L));
+    }
+
+    private Object runOnStrand(Function<Strand, Object> call) {
+        Semaphore done = new Semaphore(0);
+        Function<Object[], Object> function = params -> call.apply((Strand) params[0]);
+        FutureValue future = scheduler.schedule(new Object[1], function, null, new CallableUnitCallback() {
+            @Override
+            public void notifySuccess() {
+                done.release();
+            }
+
+            @Override
+            public void notifyFailure(ErrorValue error) {
+                done.release();
+            }
+        }, null, null);
+        done.acquireUninterruptibly();
+        return future.result;
+    }
+}
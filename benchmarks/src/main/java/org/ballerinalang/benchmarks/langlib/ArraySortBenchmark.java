@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.langlib;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BFunctionType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.FPValue;
+import org.ballerinalang.jvm.values.FutureValue;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
+import org.ballerinalang.langlib.array.Sort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures the time taken by the lang.array sort function to sort random and already sorted int, float and string
+ * arrays. The function is invoked from a strand of a running scheduler, as it is from Ballerina code.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ArraySortBenchmark {
+
+    @Param({"int", "float", "string"})
+    public String elementType;
+
+    @Param({"random", "sorted"})
+    public String order;
+
+    @Param({"100000"})
+    public int size;
+
+    private Scheduler scheduler;
+    private long[] ints;
+    private double[] floats;
+    private BString[] strings;
+    private FPValue<Object, Long> comparator;
+    private ArrayValue arr;
+
+    @Setup
+    public void setup() {
+        scheduler = new Scheduler(1, true);
+        Thread schedulerThread = new Thread(scheduler::start, "benchmark-scheduler");
+        schedulerThread.setDaemon(true);
+        schedulerThread.start();
+
+        Random random = new Random(42);
+        ints = new long[size];
+        floats = new double[size];
+        strings = new BString[size];
+        for (int i = 0; i < size; i++) {
+            long value = "sorted".equals(order) ? i : random.nextInt(size);
+            ints[i] = value;
+            floats[i] = value / 4.0;
+            strings[i] = StringUtils.fromString(String.format("item-%08d", value));
+        }
+
+        BType elemType;
+        Function<Object[], Long> compare;
+        switch (elementType) {
+            case "int":
+                elemType = BTypes.typeInt;
+                compare = args -> (long) Long.compare((Long) args[1], (Long) args[3]);
+                break;
+            case "float":
+                elemType = BTypes.typeFloat;
+                compare = args -> (long) Double.compare((Double) args[1], (Double) args[3]);
+                break;
+            default:
+                elemType = BTypes.typeString;
+                compare = args -> (long) ((BString) args[1]).getValue().compareTo(((BString) args[3]).getValue());
+                break;
+        }
+        comparator = new FPValue<>(params -> compare.apply((Object[]) params),
+                                   new BFunctionType(new BType[]{elemType, elemType}, null, BTypes.typeInt), null,
+                                   false);
+    }
+
+    @Setup(Level.Invocation)
+    public void createArray() {
+        switch (elementType) {
+            case "int":
+                arr = new ArrayValueImpl(ints.clone());
+                break;
+            case "float":
+                arr = new ArrayValueImpl(floats.clone());
+                break;
+            default:
+                arr = new ArrayValueImpl(strings.clone());
+                break;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.poison();
+    }
+
+    @Benchmark
+    public Object sort() {
+        return runOnStrand(strand -> Sort.sort(strand, arr, comparator));
+    }
+
+    private Object runOnStrand(Function<Strand, Object> call) {
+        Semaphore done = new Semaphore(0);
+        Function<Object[], Object> function = params -> call.apply((Strand) params[0]);
+        FutureValue future = scheduler.schedule(new Object[1], function, null, new CallableUnitCallback() {
+            @Override
+            public void notifySuccess() {
+                done.release();
+            }
+
+            @Override
+            public void notifyFailure(ErrorValue error) {
+                done.release();
+            }
+        }, null, null);
+        done.acquireUninterruptibly();
+        return future.result;
+    }
+}
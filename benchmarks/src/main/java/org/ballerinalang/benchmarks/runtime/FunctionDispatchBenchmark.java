@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.runtime;
+
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.scheduling.StrandMetadata;
+import org.ballerinalang.jvm.types.BObjectType;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.AbstractObjectValue;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.FutureValue;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
+import org.ballerinalang.jvm.values.connector.Executor;
+import org.ballerinalang.jvm.values.connector.FunctionHandle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of dispatching a request to a Ballerina function or a resource, per request.
+ * <p>
+ * The {@code resolve*} variants only look the function up, as Testerina and the listeners did on every call before
+ * the functions were cached. The {@code execute*} variants run the function on a strand and wait for it, by name or
+ * through a handle resolved once, and {@code executeReflective} does it the former way, looking the function up and
+ * invoking it through reflection each time. {@code submitResource} dispatches a resource of a service the way the
+ * listeners do.
+ * <p>
+ * The functions are in {@link Functions}, which is looked up as {@code <org>.<package>.<version>.<class>}, the way
+ * the classes of Ballerina modules are.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FunctionDispatchBenchmark {
+
+    private static final String ORG_NAME = "org";
+    private static final String PACKAGE_NAME = "ballerinalang";
+    private static final String VERSION = "benchmarks";
+    private static final String CLASS_NAME = "runtime.FunctionDispatchBenchmark$Functions";
+    private static final String FUNCTION_NAME = "onMessage";
+    private static final StrandMetadata METADATA = new StrandMetadata(ORG_NAME, PACKAGE_NAME, VERSION,
+                                                                      FUNCTION_NAME);
+
+    private Scheduler scheduler;
+    private ClassLoader classLoader;
+    private FunctionHandle function;
+    private Service service;
+
+    @Setup
+    public void setup() {
+        scheduler = new Scheduler(1, true);
+        new Thread(scheduler::start).start();
+        classLoader = getClass().getClassLoader();
+        function = Executor.getFunction(classLoader, ORG_NAME, PACKAGE_NAME, VERSION, CLASS_NAME, FUNCTION_NAME,
+                                        long.class);
+        service = new Service();
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.poison();
+    }
+
+    @Benchmark
+    public Method resolveReflective() throws ReflectiveOperationException {
+        return loadFunctionsClass().getDeclaredMethod(FUNCTION_NAME, Strand.class, long.class, boolean.class);
+    }
+
+    @Benchmark
+    public FunctionHandle resolveCached() {
+        return Executor.getFunction(classLoader, ORG_NAME, PACKAGE_NAME, VERSION, CLASS_NAME, FUNCTION_NAME,
+                                    long.class);
+    }
+
+    @Benchmark
+    public Object executeReflective() throws ReflectiveOperationException, InterruptedException {
+        Method method = loadFunctionsClass().getDeclaredMethod(FUNCTION_NAME, Strand.class, long.class,
+                                                               boolean.class);
+        CountDownLatch latch = new CountDownLatch(1);
+        FutureValue future = scheduler.schedule(new Object[]{null, 1L, true}, args -> {
+            try {
+                return method.invoke(null, (Object[]) args);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }, null, new LatchCallback(latch), new HashMap<>(), BTypes.typeNull, null, METADATA);
+        latch.await();
+        return future.result;
+    }
+
+    @Benchmark
+    public Object executeByName() {
+        return Executor.executeFunction(scheduler, null, METADATA, classLoader, ORG_NAME, PACKAGE_NAME, VERSION,
+                                        CLASS_NAME, FUNCTION_NAME, 1L);
+    }
+
+    @Benchmark
+    public Object executeResolved() {
+        return Executor.executeFunction(scheduler, null, METADATA, function, 1L);
+    }
+
+    @Benchmark
+    public void submitResource() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Executor.submit(scheduler, service, FUNCTION_NAME, null, METADATA, new LatchCallback(latch), null, 1L, true);
+        latch.await();
+    }
+
+    private Class<?> loadFunctionsClass() throws ClassNotFoundException {
+        return classLoader.loadClass(ORG_NAME + "." + PACKAGE_NAME + "." + VERSION + "." + CLASS_NAME);
+    }
+
+    /**
+     * Functions in the form the Ballerina compiler generates them.
+     */
+    public static class Functions {
+
+        public static Object onMessage(Strand strand, long value, boolean valueIsDefault) {
+            return value + 1;
+        }
+    }
+
+    /**
+     * Service which dispatches its resource by name, as the generated service classes do.
+     */
+    private static class Service extends AbstractObjectValue {
+
+        Service() {
+            super(new BObjectType("Service", new BPackage(ORG_NAME, PACKAGE_NAME, "1.0.0"), 0));
+        }
+
+        @Override
+        public Object call(Strand strand, String funcName, Object... args) {
+            switch (funcName) {
+                case FUNCTION_NAME:
+                    return Functions.onMessage(strand, (Long) args[0], (Boolean) args[1]);
+                default:
+                    throw new UnsupportedOperationException(funcName);
+            }
+        }
+
+        @Override
+        public FutureValue start(Strand strand, String funcName, Object... args) {
+            throw new UnsupportedOperationException(funcName);
+        }
+
+        @Override
+        public Object get(BString fieldName) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void set(BString fieldName, Object value) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Callback which releases the request when the function completes.
+     */
+    private static class LatchCallback implements CallableUnitCallback {
+
+        private final CountDownLatch latch;
+
+        LatchCallback(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public void notifySuccess() {
+            latch.countDown();
+        }
+
+        @Override
+        public void notifyFailure(ErrorValue error) {
+            latch.countDown();
+        }
+    }
+}
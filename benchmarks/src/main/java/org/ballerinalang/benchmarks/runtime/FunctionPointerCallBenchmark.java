@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.runtime;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BFunctionType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.FPValue;
+import org.ballerinalang.jvm.values.FunctionPointerCallSite;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.api.BString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures calling a function pointer from the generated code.
+ * <p>
+ * The calls go through call sites bootstrapped by {@link FunctionPointerCallSite}, as the invokedynamic instructions
+ * of the generated code do, and the function pointers are given the handles of their methods the way the generated
+ * code does when it loads them. {@code longLivedPointer} calls a function pointer which is created once,
+ * {@code perCallClosure} creates a function pointer with a closure map before each call, as a closure created in a
+ * loop is, and {@code polymorphicCallSite} calls {@code functionCount} functions in turn through a single call site,
+ * which becomes megamorphic beyond four functions. {@code longLivedPointerBoxed} is the former call through
+ * {@link FPValue#getFunction()}, which boxes the arguments into an {@code Object[]}, and is kept as the baseline.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FunctionPointerCallBenchmark {
+
+    private static final int FUNCTION_COUNT = 8;
+    private static final BString CLOSURE_KEY = StringUtils.fromString("step");
+    private static final BType FUNCTION_TYPE = new BFunctionType(new BType[]{BTypes.typeInt}, null, BTypes.typeInt);
+
+    // (FPValue, Strand, value, valueIsProvided) -> long, the type of a call of function (int) returns int
+    private static final MethodType CALL_TYPE = MethodType.methodType(long.class, FPValue.class, Strand.class,
+                                                                      long.class, boolean.class);
+    private static final MethodHandle LONG_LIVED_CALL = createCallSite();
+    private static final MethodHandle PER_CALL_CLOSURE_CALL = createCallSite();
+    private static final MethodHandle POLYMORPHIC_CALL = createCallSite();
+
+    // handles of the methods of the functions, as loaded from the constant pool of the generated code
+    private static final MethodHandle[] FUNCTIONS = new MethodHandle[FUNCTION_COUNT];
+    private static final MethodHandle CLOSURE;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodType functionType = MethodType.methodType(long.class, Strand.class, long.class, boolean.class);
+        try {
+            for (int i = 0; i < FUNCTION_COUNT; i++) {
+                FUNCTIONS[i] = lookup.findStatic(Functions.class, "add" + i, functionType);
+            }
+            CLOSURE = lookup.findStatic(Functions.class, "addStep",
+                                        functionType.insertParameterTypes(1, MapValue.class, boolean.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private FPValue longLivedPointer;
+    private MapValue<BString, Object> closureMap;
+    private long value = 1;
+
+    @Setup
+    public void setup() {
+        longLivedPointer = createFunctionPointer(0);
+        closureMap = new MapValueImpl<>();
+        closureMap.put(CLOSURE_KEY, 2L);
+    }
+
+    @Benchmark
+    public long longLivedPointer() throws Throwable {
+        return (long) LONG_LIVED_CALL.invokeExact(longLivedPointer, (Strand) null, value, true);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public long longLivedPointerBoxed() {
+        Function<Object, Object> function = longLivedPointer.getFunction();
+        return (Long) function.apply(new Object[]{null, value, true});
+    }
+
+    @Benchmark
+    public long perCallClosure() throws Throwable {
+        MapValue<BString, Object> closureMap = this.closureMap;
+        FPValue closure = new FPValue<>(args -> {
+            Object[] params = (Object[]) args;
+            return Functions.addStep((Strand) params[0], closureMap, true, (Long) params[1], (Boolean) params[2]);
+        }, FUNCTION_TYPE, null, false);
+        closure.setHandle(CLOSURE, new Object[]{closureMap});
+        return (long) PER_CALL_CLOSURE_CALL.invokeExact(closure, (Strand) null, value, true);
+    }
+
+    @Benchmark
+    public long polymorphicCallSite(PolymorphicState state) throws Throwable {
+        long result = 0;
+        for (FPValue functionPointer : state.functionPointers) {
+            result += (long) POLYMORPHIC_CALL.invokeExact(functionPointer, (Strand) null, value, true);
+        }
+        return result;
+    }
+
+    private static MethodHandle createCallSite() {
+        return FunctionPointerCallSite.bootstrap(MethodHandles.lookup(), "call", CALL_TYPE).dynamicInvoker();
+    }
+
+    private static FPValue createFunctionPointer(int function) {
+        FPValue<Object, Object> functionPointer = new FPValue<>(args -> {
+            Object[] params = (Object[]) args;
+            return Functions.add((Strand) params[0], (Long) params[1], (Boolean) params[2]) + function;
+        }, FUNCTION_TYPE, null, false);
+        functionPointer.setHandle(FUNCTIONS[function], null);
+        return functionPointer;
+    }
+
+    /**
+     * Function pointers of distinct functions, which are called through the same call site.
+     */
+    @State(Scope.Benchmark)
+    public static class PolymorphicState {
+
+        @Param({"1", "4", "8"})
+        public int functionCount;
+
+        FPValue[] functionPointers;
+
+        @Setup
+        public void setup() {
+            // a multiple of the function count, so that each iteration makes the same calls
+            functionPointers = new FPValue[FUNCTION_COUNT];
+            for (int i = 0; i < FUNCTION_COUNT; i++) {
+                functionPointers[i] = createFunctionPointer(i % functionCount);
+            }
+        }
+    }
+
+    /**
+     * Functions in the form the Ballerina compiler generates them.
+     */
+    public static class Functions {
+
+        public static long add(Strand strand, long value, boolean valueIsProvided) {
+            return value + 1;
+        }
+
+        public static long add0(Strand strand, long value, boolean valueIsProvided) {
+            return add(strand, value, valueIsProvided);
+        }
+
+        public static long add1(Strand strand, long value, boolean valueIsProvided) {
+            return add(strand, value, valueIsProvided) + 1;
+        }
+
+        public static long add2(Strand strand, long value, boolean valueIsProvided) {
+            return add(strand, value, valueIsProvided) + 2;
+        }
+
+        public static long add3(Strand strand, long value, boolean valueIsProvided) {
+            return add(strand, value, valueIsProvided) + 3;
+        }
+
+        public static long add4(Strand strand, long value, boolean valueIsProvided) {
+            return add(strand, value, valueIsProvided) + 4;
+        }
+
+        public static long add5(Strand strand, long value, boolean valueIsProvided) {
+            return add(strand, value, valueIsProvided) + 5;
+        }
+
+        public static long add6(Strand strand, long value, boolean valueIsProvided) {
+            return add(strand, value, valueIsProvided) + 6;
+        }
+
+        public static long add7(Strand strand, long value, boolean valueIsProvided) {
+            return add(strand, value, valueIsProvided) + 7;
+        }
+
+        public static long addStep(Strand strand, MapValue<BString, Object> closureMap, boolean closureMapIsProvided,
+                                   long value, boolean valueIsProvided) {
+            return value + (Long) closureMap.get(CLOSURE_KEY);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.runtime;
+
+import org.ballerinalang.jvm.JSONParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the parsing of UTF-8 JSON documents of different sizes through the character based state machine
+ * ({@code readerStateMachine}) and the byte based parser used for UTF-8 streams and buffers. The documents are
+ * arrays of records with repeated field names, nested values and some non ASCII strings, similar to typical
+ * service payloads.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JSONParserBenchmark {
+
+    private static final String[] CITIES = {"Colombo", "Kandy", "Galle", "São Paulo", "Zürich", "東京"};
+
+    @Param({"1024", "102400", "1048576", "10485760"})
+    private int documentSize;
+
+    private byte[] document;
+
+    @Setup
+    public void setup() {
+        document = createDocument(documentSize).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Object readerStateMachine() {
+        return JSONParser.parse(new InputStreamReader(new BufferedInputStream(new ByteArrayInputStream(document)),
+                                                      StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public Object byteParserStream() {
+        return JSONParser.parse(new ByteArrayInputStream(document), "UTF-8");
+    }
+
+    @Benchmark
+    public Object byteParserBuffer() {
+        return JSONParser.parse(ByteBuffer.wrap(document));
+    }
+
+    private static String createDocument(int size) {
+        Random random = new Random(1);
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; builder.length() < size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append("{\"id\": ").append(i)
+                    .append(", \"name\": \"user-").append(random.nextInt(100000)).append('"')
+                    .append(", \"email\": \"user").append(i).append("@example.com\"")
+                    .append(", \"active\": ").append(random.nextBoolean())
+                    .append(", \"balance\": ").append(random.nextInt(10000000) / 100.0)
+                    .append(", \"manager\": null")
+                    .append(", \"tags\": [\"customer\", \"tier-").append(random.nextInt(3)).append("\"]")
+                    .append(", \"address\": {\"street\": \"").append(random.nextInt(500))
+                    .append(" Main Street\\nSuite 1\", \"city\": \"").append(CITIES[random.nextInt(CITIES.length)])
+                    .append("\", \"zip\": \"").append(10000 + random.nextInt(90000)).append("\"}}");
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.runtime;
+
+import org.ballerinalang.jvm.TypeChecker;
+import org.ballerinalang.jvm.types.AttachedFunction;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BFunctionType;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BObjectType;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.util.Flags;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures type to type checks of structural types. The {@code *Uncached} variants pass an explicit list of
+ * unresolved types, which bypasses the type check cache and gives the cost of the full structural check.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TypeCheckerBenchmark {
+
+    private static final BPackage PKG = new BPackage("bench", "types", "1.0.0");
+
+    private BType unionSource;
+    private BType unionTarget;
+    private BType recordSource;
+    private BType recordTarget;
+    private BType objectSource;
+    private BType objectTarget;
+    private BType jsonSource;
+
+    @Setup
+    public void setup() {
+        unionSource = new BUnionType(Arrays.asList(BTypes.typeInt, BTypes.typeString, BTypes.typeNull));
+        unionTarget = new BUnionType(Arrays.asList(BTypes.typeBoolean, BTypes.typeFloat, BTypes.typeNull,
+                                                   BTypes.typeString, BTypes.typeInt));
+
+        recordSource = createRecordType("Employee", 8, true);
+        recordTarget = createRecordType("Person", 6, false);
+
+        objectSource = createObjectType("Employee", 8);
+        objectTarget = createObjectType("Person", 6);
+
+        // map<json[]>, which has to be checked against the recursive json type
+        jsonSource = new BMapType(new BArrayType(new BMapType(BTypes.typeJSON)));
+    }
+
+    @Benchmark
+    public boolean union() {
+        return TypeChecker.checkIsType(unionSource, unionTarget);
+    }
+
+    @Benchmark
+    public boolean unionUncached() {
+        return TypeChecker.checkIsType(unionSource, unionTarget, new ArrayList<>());
+    }
+
+    @Benchmark
+    public boolean record() {
+        return TypeChecker.checkIsType(recordSource, recordTarget);
+    }
+
+    @Benchmark
+    public boolean recordUncached() {
+        return TypeChecker.checkIsType(recordSource, recordTarget, new ArrayList<>());
+    }
+
+    @Benchmark
+    public boolean object() {
+        return TypeChecker.checkIsType(objectSource, objectTarget);
+    }
+
+    @Benchmark
+    public boolean objectUncached() {
+        return TypeChecker.checkIsType(objectSource, objectTarget, new ArrayList<>());
+    }
+
+    @Benchmark
+    public boolean json() {
+        return TypeChecker.checkIsType(jsonSource, BTypes.typeJSON);
+    }
+
+    @Benchmark
+    public boolean jsonUncached() {
+        return TypeChecker.checkIsType(jsonSource, BTypes.typeJSON, new ArrayList<>());
+    }
+
+    private static BRecordType createRecordType(String name, int fieldCount, boolean sealed) {
+        Map<String, BField> fields = new LinkedHashMap<>();
+        for (int i = 0; i < fieldCount; i++) {
+            String fieldName = "field" + i;
+            BType fieldType = i % 2 == 0 ? BTypes.typeString : BTypes.typeInt;
+            fields.put(fieldName, new BField(fieldType, fieldName, Flags.PUBLIC + Flags.REQUIRED));
+        }
+        return new BRecordType(name, PKG, 0, fields, sealed ? null : BTypes.typeAnydata, sealed, 0);
+    }
+
+    private static BObjectType createObjectType(String name, int memberCount) {
+        BObjectType objectType = new BObjectType(name, PKG, 0);
+        Map<String, BField> fields = new LinkedHashMap<>();
+        AttachedFunction[] functions = new AttachedFunction[memberCount];
+        for (int i = 0; i < memberCount; i++) {
+            String fieldName = "field" + i;
+            fields.put(fieldName, new BField(BTypes.typeString, fieldName, Flags.PUBLIC));
+            BFunctionType functionType = new BFunctionType(new BType[]{BTypes.typeInt}, null, BTypes.typeString);
+            functions[i] = new AttachedFunction("method" + i, objectType, functionType, Flags.PUBLIC);
+        }
+        objectType.setFields(fields);
+        objectType.setAttachedFunctions(functions);
+        return objectType;
+    }
+}
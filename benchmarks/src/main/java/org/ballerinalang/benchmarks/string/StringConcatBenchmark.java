@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.string;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.values.api.BString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds a string in a loop through {@link BString#concat(BString)}, as {@code s = s + part} does, and reads it
+ * once it is built. The parts either contain only basic multilingual plane characters or also supplementary
+ * characters.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StringConcatBenchmark {
+
+    private static final BString EMPTY = StringUtils.fromString("");
+    private static final BString BMP_PART = StringUtils.fromString("{\"name\":\"apple\",\"colour\":\"red\"},");
+    private static final BString NON_BMP_PART = StringUtils.fromString("{\"name\":\"🍎\",\"mood\":\"😀\"},");
+
+    @Param({"100", "1000", "10000"})
+    public int parts;
+
+    @Benchmark
+    public int buildBmp() {
+        return build(BMP_PART);
+    }
+
+    @Benchmark
+    public int buildNonBmp() {
+        return build(NON_BMP_PART);
+    }
+
+    @Benchmark
+    public int buildNonBmpAndIndex() {
+        BString str = EMPTY;
+        for (int i = 0; i < parts; i++) {
+            str = str.concat(NON_BMP_PART);
+        }
+        return str.getCodePoint(str.length() - 1) + str.getCodePoint(str.length() / 2);
+    }
+
+    private int build(BString part) {
+        BString str = EMPTY;
+        for (int i = 0; i < parts; i++) {
+            str = str.concat(part);
+        }
+        return str.length() + str.hashCode();
+    }
+}
@@ -18,9 +18,11 @@
 package org.ballerinalang.logging;
 
 import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.logging.formatters.BallerinaLogFormatter;
 import org.ballerinalang.logging.formatters.HttpAccessLogFormatter;
 import org.ballerinalang.logging.formatters.HttpTraceLogFormatter;
 import org.ballerinalang.logging.formatters.JsonLogFormatter;
+import org.ballerinalang.logging.handlers.AsyncLogFileHandler;
 import org.ballerinalang.logging.util.BLogLevel;
 import org.ballerinalang.logging.util.BLogLevelMapper;
 
@@ -52,6 +54,9 @@ import static org.ballerinalang.logging.util.Constants.HTTP_TRACE_LOG_CONSOLE;
 import static org.ballerinalang.logging.util.Constants.HTTP_TRACE_LOG_FILE;
 import static org.ballerinalang.logging.util.Constants.HTTP_TRACE_LOG_HOST;
 import static org.ballerinalang.logging.util.Constants.HTTP_TRACE_LOG_PORT;
+import static org.ballerinalang.logging.util.Constants.LOG_FILE;
+import static org.ballerinalang.logging.util.Constants.LOG_FILE_BUFFER_SIZE;
+import static org.ballerinalang.logging.util.Constants.LOG_FILE_OVERFLOW_POLICY;
 import static org.ballerinalang.logging.util.Constants.LOG_LEVEL;
 
 /**
@@ -70,6 +75,8 @@ public class BLogManager extends LogManager {
     private BLogLevel ballerinaUserLogLevel = BLogLevel.INFO; // default to INFO
     private Logger httpTraceLogger;
     private Logger httpAccessLogger;
+    private Logger ballerinaRootLogger;
+    private AsyncLogFileHandler logFileHandler;
 
     @Override
     public void readConfiguration(InputStream ins) throws IOException, SecurityException {
@@ -104,6 +111,7 @@ public class BLogManager extends LogManager {
 
         setHttpTraceLogHandler();
         setHttpAccessLogHandler();
+        setLogFileHandler();
 
         // have to set default console logger level here since ballerina config is not initialized at the time of the
         // logger initialization
@@ -224,6 +232,40 @@ public class BLogManager extends LogManager {
         }
     }
 
+    /**
+     * Initializes the asynchronous file handler of the Ballerina user level logs, if a log file is configured.
+     */
+    public void setLogFileHandler() {
+        ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+        String logFilePath = configRegistry.getAsString(LOG_FILE);
+        if (logFilePath == null || logFilePath.trim().isEmpty() || logFileHandler != null) {
+            return;
+        }
+        if (ballerinaRootLogger == null) {
+            // keep a reference to prevent this logger from being garbage collected
+            ballerinaRootLogger = Logger.getLogger(BALLERINA_ROOT_LOGGER_NAME);
+        }
+
+        String bufferSize = configRegistry.getAsString(LOG_FILE_BUFFER_SIZE);
+        String overflowPolicy = configRegistry.getAsString(LOG_FILE_OVERFLOW_POLICY);
+        try {
+            int size = bufferSize == null ? AsyncLogFileHandler.DEFAULT_BUFFER_SIZE :
+                    Integer.parseInt(bufferSize.trim());
+            AsyncLogFileHandler.OverflowPolicy policy = overflowPolicy == null ?
+                    AsyncLogFileHandler.OverflowPolicy.BLOCK :
+                    AsyncLogFileHandler.OverflowPolicy.valueOf(overflowPolicy.trim().toUpperCase());
+            logFileHandler = new AsyncLogFileHandler(logFilePath, true, size, AsyncLogFileHandler.DEFAULT_BATCH_SIZE,
+                                                     policy);
+        } catch (IOException e) {
+            throw new RuntimeException("failed to setup log file: " + logFilePath, e);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("invalid log buffer configuration: " + e.getMessage(), e);
+        }
+        logFileHandler.setFormatter(new BallerinaLogFormatter());
+        logFileHandler.setLevel(Level.ALL);
+        ballerinaRootLogger.addHandler(logFileHandler);
+    }
+
     private String substituteVariables(String value) {
         Matcher matcher = varPattern.matcher(value);
         boolean found = matcher.find();
@@ -21,19 +21,33 @@ package org.ballerinalang.logging.formatters;
 import org.ballerinalang.logging.BLogManager;
 import org.ballerinalang.logging.util.BLogLevelMapper;
 
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.Date;
 import java.util.logging.Formatter;
 import java.util.logging.LogRecord;
 
 /**
  * A custom log formatter for formatting the Ballerina user level logs.
+ * <p>
+ * Records are formatted with {@link String#format(String, Object...)} using the configured format. The default format
+ * is formatted directly, reusing the date and time part of the timestamp within the same second.
  *
  * @since 0.89
  */
 public class BallerinaLogFormatter extends Formatter {
 
+    private static final String DEFAULT_FORMAT =
+            "%1$tY-%1$tm-%1$td %1$tH:%1$tM:%1$tS,%1$tL %2$-5s [%3$s] - %4$s %n";
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int LEVEL_WIDTH = 5;
+
     private static final String format = BLogManager.getLogManager().getProperty(
             BallerinaLogFormatter.class.getCanonicalName() + ".format");
+    private static final boolean isDefaultFormat = DEFAULT_FORMAT.equals(format);
+
+    private volatile Timestamp lastTimestamp = new Timestamp(Long.MIN_VALUE, null, "");
 
     @Override
     public String format(LogRecord record) {
@@ -41,10 +55,53 @@ public class BallerinaLogFormatter extends Formatter {
         if (record.getLoggerName().length() > BLogManager.LOGGER_PREFIX_LENGTH) {
             source = record.getLoggerName().substring(BLogManager.LOGGER_PREFIX_LENGTH);
         }
-        return String.format(format,
-                             new Date(record.getMillis()),
-                             BLogLevelMapper.getBallerinaLogLevel(record.getLevel()),
-                             source,
-                             record.getMessage());
+        String level = BLogLevelMapper.getBallerinaLogLevel(record.getLevel());
+        if (!isDefaultFormat) {
+            return String.format(format, new Date(record.getMillis()), level, source, record.getMessage());
+        }
+
+        long millis = record.getMillis();
+        String message = record.getMessage();
+        StringBuilder builder = new StringBuilder(48 + source.length() + (message == null ? 4 : message.length()));
+        builder.append(getDateTime(millis)).append(',');
+        int millisOfSecond = (int) Math.floorMod(millis, 1000L);
+        if (millisOfSecond < 100) {
+            builder.append(millisOfSecond < 10 ? "00" : "0");
+        }
+        builder.append(millisOfSecond).append(' ').append(level);
+        for (int i = level.length(); i < LEVEL_WIDTH; i++) {
+            builder.append(' ');
+        }
+        builder.append(" [").append(source).append("] - ").append(message).append(' ')
+                .append(System.lineSeparator());
+        return builder.toString();
+    }
+
+    private String getDateTime(long millis) {
+        long second = Math.floorDiv(millis, 1000L);
+        ZoneId zone = ZoneId.systemDefault();
+        Timestamp timestamp = lastTimestamp;
+        if (timestamp.second != second || !zone.equals(timestamp.zone)) {
+            String dateTime = TIMESTAMP_FORMATTER.format(Instant.ofEpochSecond(second).atZone(zone));
+            timestamp = new Timestamp(second, zone, dateTime);
+            lastTimestamp = timestamp;
+        }
+        return timestamp.dateTime;
+    }
+
+    /**
+     * Date and time of a second, formatted in a given time zone.
+     */
+    private static class Timestamp {
+
+        private final long second;
+        private final ZoneId zone;
+        private final String dateTime;
+
+        private Timestamp(long second, ZoneId zone, String dateTime) {
+            this.second = second;
+            this.zone = zone;
+            this.dateTime = dateTime;
+        }
     }
 }
@@ -0,0 +1,261 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.logging.handlers;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+import java.util.logging.SimpleFormatter;
+
+/**
+ * A file handler which writes the log records asynchronously. Published records are put into a bounded ring buffer
+ * and are formatted and written to the file in batches by a separate thread, hence the logging threads do not wait
+ * for the formatting or the file I/O.
+ * <p>
+ * When the buffer is full, the logging threads either wait for space ({@link OverflowPolicy#BLOCK}) or the records
+ * are dropped ({@link OverflowPolicy#DROP}). The number of dropped records is written to the file along with the next
+ * batch. Records which are still in the buffer are written when the handler is closed.
+ * <p>
+ * When created through the log manager configuration, the handler is configured by the following properties, where
+ * the property names are prefixed with the name of this class.
+ * <ul>
+ * <li>pattern - path of the log file (defaults to ballerina.log)</li>
+ * <li>append - whether to append to an existing file (defaults to true)</li>
+ * <li>bufferSize - maximum number of records waiting to be written (defaults to 8192)</li>
+ * <li>batchSize - maximum number of records written at once (defaults to 256)</li>
+ * <li>overflowPolicy - BLOCK or DROP (defaults to BLOCK)</li>
+ * <li>level and formatter - as in the other handlers</li>
+ * </ul>
+ *
+ * @since 2.0.0
+ */
+public class AsyncLogFileHandler extends Handler {
+
+    /**
+     * Behaviour of the handler when a record is published while the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The logging thread waits until the record can be put into the buffer.
+         */
+        BLOCK,
+        /**
+         * The record is dropped.
+         */
+        DROP
+    }
+
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private static final String DEFAULT_PATTERN = "ballerina.log";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    // marks the end of the records, once the handler is closed
+    private static final LogRecord END_OF_RECORDS = new LogRecord(Level.OFF, "");
+
+    private final BlockingQueue<LogRecord> buffer;
+    private final OverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private final Writer writer;
+    private final Thread writerThread;
+    private final AtomicLong droppedRecords = new AtomicLong();
+    private volatile boolean closed;
+
+    public AsyncLogFileHandler() throws IOException {
+        this(getProperty("pattern", DEFAULT_PATTERN), Boolean.parseBoolean(getProperty("append", "true")),
+             getIntProperty("bufferSize", DEFAULT_BUFFER_SIZE), getIntProperty("batchSize", DEFAULT_BATCH_SIZE),
+             OverflowPolicy.valueOf(getProperty("overflowPolicy", OverflowPolicy.BLOCK.name()).toUpperCase()));
+        String level = getProperty("level", null);
+        if (level != null) {
+            setLevel(Level.parse(level.trim()));
+        }
+        String formatter = getProperty("formatter", null);
+        if (formatter != null) {
+            try {
+                setFormatter((Formatter) ClassLoader.getSystemClassLoader().loadClass(formatter.trim())
+                        .getDeclaredConstructor().newInstance());
+            } catch (ReflectiveOperationException | ClassCastException e) {
+                reportError("failed to create the formatter: " + formatter, e, ErrorManager.GENERIC_FAILURE);
+            }
+        }
+    }
+
+    /**
+     * Creates a handler which writes to the given file.
+     *
+     * @param path           path of the log file
+     * @param append         whether to append to an existing file
+     * @param bufferSize     maximum number of records waiting to be written
+     * @param batchSize      maximum number of records written at once
+     * @param overflowPolicy behaviour when a record is published while the buffer is full
+     * @throws IOException if the file cannot be opened
+     */
+    public AsyncLogFileHandler(String path, boolean append, int bufferSize, int batchSize,
+                               OverflowPolicy overflowPolicy) throws IOException {
+        if (bufferSize <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("buffer size and batch size should be positive");
+        }
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(path, append),
+                                                                Charset.defaultCharset()), WRITE_BUFFER_SIZE);
+        setFormatter(new SimpleFormatter());
+        this.writerThread = new Thread(this::writeRecords, "ballerina-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (closed || !isLoggable(record)) {
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.DROP) {
+            if (!buffer.offer(record)) {
+                droppedRecords.incrementAndGet();
+            }
+            return;
+        }
+        try {
+            // the handler may get closed while waiting, after which the records are no longer taken
+            while (!buffer.offer(record, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (closed) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            droppedRecords.incrementAndGet();
+        }
+    }
+
+    /**
+     * Records are flushed to the file after each batch, hence this does nothing.
+     */
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        try {
+            buffer.put(END_OF_RECORDS);
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeRecords() {
+        List<LogRecord> batch = new ArrayList<>(batchSize);
+        boolean started = false;
+        boolean ended = false;
+        while (!ended) {
+            try {
+                batch.add(buffer.take());
+            } catch (InterruptedException e) {
+                continue;
+            }
+            if (!started) {
+                // the formatter is known only once the handler is configured
+                write(getFormatter().getHead(this));
+                started = true;
+            }
+            buffer.drainTo(batch, batchSize - 1);
+            for (LogRecord record : batch) {
+                if (record == END_OF_RECORDS) {
+                    ended = true;
+                    break;
+                }
+                write(record);
+            }
+            batch.clear();
+
+            long dropped = droppedRecords.getAndSet(0);
+            if (dropped > 0) {
+                write(dropped + " log records were dropped since the log buffer was full" + System.lineSeparator());
+            }
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                reportError(null, e, ErrorManager.FLUSH_FAILURE);
+            }
+        }
+
+        write(getFormatter().getTail(this));
+        try {
+            writer.close();
+        } catch (IOException e) {
+            reportError(null, e, ErrorManager.CLOSE_FAILURE);
+        }
+    }
+
+    private void write(LogRecord record) {
+        String message;
+        try {
+            message = getFormatter().format(record);
+        } catch (RuntimeException e) {
+            reportError(null, e, ErrorManager.FORMAT_FAILURE);
+            return;
+        }
+        write(message);
+    }
+
+    private void write(String message) {
+        try {
+            writer.write(message);
+        } catch (IOException e) {
+            reportError(null, e, ErrorManager.WRITE_FAILURE);
+        }
+    }
+
+    private static String getProperty(String name, String defaultValue) {
+        String value = LogManager.getLogManager().getProperty(AsyncLogFileHandler.class.getName() + "." + name);
+        return value == null ? defaultValue : value;
+    }
+
+    private static int getIntProperty(String name, int defaultValue) {
+        String value = getProperty(name, null);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+}
@@ -32,6 +32,10 @@ public class Constants {
 
     public static final String CONSOLE_LOGGER = "b7a.log.console";
 
+    public static final String LOG_FILE = "b7a.log.path";
+    public static final String LOG_FILE_BUFFER_SIZE = "b7a.log.buffer.size";
+    public static final String LOG_FILE_OVERFLOW_POLICY = "b7a.log.buffer.policy";
+
     public static final String HTTP_TRACE_LOG = "http.tracelog";
     public static final String HTTP_TRACE_LOG_ENABLED = "http.tracelog.enabled";
     public static final String HTTP_TRACE_LOG_CONSOLE = "b7a.http.tracelog.console";
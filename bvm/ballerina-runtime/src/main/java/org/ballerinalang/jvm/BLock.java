@@ -20,52 +20,154 @@ package org.ballerinalang.jvm;
 import org.ballerinalang.jvm.scheduling.State;
 import org.ballerinalang.jvm.scheduling.Strand;
 
-import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * {@code VarLock} represents lock object for variables in jvm.
+ * <p>
+ * The owning strand is kept in a single atomic word, so an uncontended lock or unlock is a single CAS. Strands that
+ * fail to acquire the lock are added to a lock free waiter queue and yield. On unlock the lock is handed off directly
+ * to the first waiter, which claims it when it gets resumed and retries the lock.
  *
  * @since 1.0.0
  */
 public class BLock {
 
-    private ArrayDeque<Strand> current;
+    /**
+     * Owner value used while a releasing strand hands the lock to a waiter.
+     */
+    private static final Object HANDING_OFF = new Object();
 
-    private ArrayDeque<Strand> waitingForLock;
+    private final String name;
+
+    /**
+     * Strand that owns the lock, {@code null} if the lock is free. A lock handed off to a waiter has the waiter as the
+     * owner and a hold count of zero until the waiter resumes.
+     */
+    private final AtomicReference<Object> owner = new AtomicReference<>();
+
+    /**
+     * Number of times the owner has acquired the lock. Only accessed by the owner.
+     */
+    private int holdCount;
+
+    private final Queue<Waiter> waitingForLock = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder parks = new LongAdder();
+    private final LongAdder waitTimeNanos = new LongAdder();
 
     public BLock() {
-        this.current = new ArrayDeque<>();
-        this.waitingForLock = new ArrayDeque<>();
+        this(null);
     }
 
-    public synchronized boolean lock(Strand strand) {
-        if (isLockFree() || lockedBySameContext(strand)) {
-            this.current.offerLast(strand);
+    public BLock(String name) {
+        this.name = name;
+    }
+
+    public boolean lock(Strand strand) {
+        Object current = this.owner.get();
+        if (current == strand) {
+            if (this.holdCount == 0) {
+                // lock was handed off to this strand while it was waiting
+                strand.addAcquiredLock(this);
+            }
+            this.holdCount++;
             return true;
         }
 
-        this.waitingForLock.offerLast(strand);
+        if (current == null && this.owner.compareAndSet(null, strand)) {
+            this.holdCount = 1;
+            this.acquisitions.increment();
+            strand.addAcquiredLock(this);
+            return true;
+        }
 
-        // Strand state change
+        // Strand state change. This has to happen before the strand becomes visible to the unlocking strand, so that
+        // the unblock is not overwritten.
         strand.setState(State.BLOCK_AND_YIELD);
         strand.blockedOnExtern = false;
+        this.parks.increment();
+        this.waitingForLock.offer(new Waiter(strand));
+
+        // Owner may have released the lock before this strand was added to the queue.
+        handOffIfFree();
         return false;
     }
 
-    public synchronized void unlock() {
-        //current cannot be empty as unlock cannot be called without lock being called first.
-        this.current.removeLast();
-        if (!waitingForLock.isEmpty()) {
-            Strand strand = this.waitingForLock.removeFirst();
-            strand.scheduler.unblockStrand(strand);
+    public void unlock() {
+        //owner cannot be empty as unlock cannot be called without lock being called first.
+        if (--this.holdCount > 0) {
+            return;
+        }
+
+        ((Strand) this.owner.get()).removeAcquiredLock(this);
+        // Only the owner polls the queue while it holds the lock.
+        Waiter waiter = this.waitingForLock.poll();
+        if (waiter != null) {
+            handOff(waiter);
+            return;
         }
+        this.owner.set(null);
+        handOffIfFree();
     }
 
     public boolean isLockFree() {
-        return this.current.isEmpty();
+        return this.owner.get() == null;
     }
 
     public boolean lockedBySameContext(Strand ctx) {
-        return this.current.getLast() == ctx;
+        return this.owner.get() == ctx;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getAcquisitionCount() {
+        return acquisitions.sum();
+    }
+
+    public long getParkCount() {
+        return parks.sum();
+    }
+
+    public long getWaitTimeNanos() {
+        return waitTimeNanos.sum();
+    }
+
+    private void handOffIfFree() {
+        while (!this.waitingForLock.isEmpty() && this.owner.compareAndSet(null, HANDING_OFF)) {
+            Waiter waiter = this.waitingForLock.poll();
+            if (waiter != null) {
+                handOff(waiter);
+                return;
+            }
+            this.owner.set(null);
+        }
+    }
+
+    private void handOff(Waiter waiter) {
+        this.holdCount = 0;
+        this.acquisitions.increment();
+        this.waitTimeNanos.add(System.nanoTime() - waiter.waitStartTime);
+        this.owner.set(waiter.strand);
+        waiter.strand.scheduler.unblockStrand(waiter.strand);
+    }
+
+    /**
+     * Strand waiting for the lock.
+     */
+    private static class Waiter {
+        final Strand strand;
+        final long waitStartTime;
+
+        Waiter(Strand strand) {
+            this.strand = strand;
+            this.waitStartTime = System.nanoTime();
+        }
     }
 }
@@ -18,10 +18,18 @@
 
 package org.ballerinalang.jvm;
 
+import org.ballerinalang.jvm.observability.ObserveUtils;
+import org.ballerinalang.jvm.observability.metrics.DefaultMetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.MetricId;
+import org.ballerinalang.jvm.observability.metrics.MetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.Tag;
+import org.ballerinalang.jvm.observability.metrics.Tags;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons;
 
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -30,33 +38,81 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class BLockStore {
 
+    private static final String LOCK_TAG = "lock";
+    private static final String MODULE_TAG = "module";
+
     /**
      * The map of locks inferred.
      */
     private  Map<String, BLock> globalLockMap;
 
+    private final String moduleName;
+
+    /**
+     * Registry the lock metrics are registered in, or {@code null} to use the default registry when metrics are
+     * enabled.
+     */
+    private final MetricRegistry metricRegistry;
+
     public BLockStore() {
+        this(null);
+    }
+
+    public BLockStore(String moduleName) {
+        this(moduleName, null);
+    }
+
+    public BLockStore(String moduleName, MetricRegistry metricRegistry) {
+        this.moduleName = moduleName;
+        this.metricRegistry = metricRegistry;
         globalLockMap = new ConcurrentHashMap<>();
     }
 
     public void addLockToMap(String lockName) {
-        globalLockMap.put(lockName, new BLock());
+        globalLockMap.put(lockName, createLock(lockName));
     }
 
     public BLock getLockFromMap(String lockName) {
-        return globalLockMap.computeIfAbsent(lockName, (k) -> {
-            return new BLock();
-        });
+        BLock lock = globalLockMap.get(lockName);
+        if (lock != null) {
+            return lock;
+        }
+        return globalLockMap.computeIfAbsent(lockName, this::createLock);
     }
 
     public void panicIfInLock(String lockName, Strand strand) {
-        for (BLock lock : globalLockMap.values()) {
-            if (lock.isLockFree()) {
-                continue;
-            }
-            if (lock.lockedBySameContext(strand)) {
+        // only the locks held by the strand need to be checked, not all the locks in the store
+        for (BLock lock : strand.getAcquiredLocks()) {
+            if (globalLockMap.get(lock.getName()) == lock) {
                 throw BallerinaErrors.createError(BallerinaErrorReasons.ASYNC_CALL_INSIDE_LOCK);
             }
         }
     }
+
+    private BLock createLock(String lockName) {
+        BLock lock = new BLock(lockName);
+        if (metricRegistry != null) {
+            registerLockMetrics(lock, metricRegistry);
+        } else if (ObserveUtils.isMetricsEnabled()) {
+            MetricRegistry defaultRegistry = DefaultMetricRegistry.getInstance();
+            if (defaultRegistry != null) {
+                registerLockMetrics(lock, defaultRegistry);
+            }
+        }
+        return lock;
+    }
+
+    private void registerLockMetrics(BLock lock, MetricRegistry metricRegistry) {
+        Set<Tag> tags = new HashSet<>();
+        Tags.tags(tags, LOCK_TAG, lock.getName());
+        if (moduleName != null) {
+            Tags.tags(tags, MODULE_TAG, moduleName);
+        }
+        metricRegistry.polledGauge(new MetricId("lock_acquisitions_total", "Total number of lock acquisitions",
+                tags), lock, BLock::getAcquisitionCount);
+        metricRegistry.polledGauge(new MetricId("lock_parks_total", "Total number of strands parked on the lock",
+                tags), lock, BLock::getParkCount);
+        metricRegistry.polledGauge(new MetricId("lock_wait_time_nanoseconds_total",
+                "Total time strands waited for the lock", tags), lock, BLock::getWaitTimeNanos);
+    }
 }
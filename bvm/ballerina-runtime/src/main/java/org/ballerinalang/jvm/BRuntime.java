@@ -123,9 +123,13 @@ public class BRuntime {
     }
 
     /**
-     * Invoke Function Pointer asynchronously given number of times. This will schedule the function and block the
-     * strand. This method can be used with collection of data where we need to invoke the function pointer for each
-     * item of the collection.
+     * Invoke Function Pointer asynchronously given number of times. This method can be used with collection of data
+     * where we need to invoke the function pointer for each item of the collection.
+     * <p>
+     * The function pointer is called directly on the current thread for each item, with a single child strand. Only
+     * if the function yields, the strand is blocked and the call and the rest of the iterations are scheduled, one
+     * strand per iteration. Hence the caller has to return its result as well, for the case where all the iterations
+     * complete without yielding.
      *
      * @param func                 Function Pointer to be invoked.
      * @param strandName           Name for newly creating strand which is used to execute the function pointer. This is
@@ -146,10 +150,24 @@ public class BRuntime {
             return;
         }
         Strand strand = Scheduler.getStrand();
-        blockStrand(strand);
-        AtomicInteger callCount = new AtomicInteger(0);
-        scheduleNextFunction(func, strand, strandName, metadata, noOfIterations, callCount, argsSupplier,
-                             futureResultConsumer, returnValueSupplier);
+        FutureValue future = scheduler.createFuture(strand, null, null, ((BFunctionType) func.getType()).retType,
+                                                    strandName, metadata);
+        for (int i = 0; i < noOfIterations; i++) {
+            Object result = scheduler.callLocal(argsSupplier.get(), func, strand, future);
+            if (future.strand.isYielded()) {
+                blockStrand(strand);
+                AsyncFunctionCallback callback = createIterationCallback(func, strand, strandName, metadata,
+                                                                         noOfIterations, new AtomicInteger(i),
+                                                                         argsSupplier, futureResultConsumer,
+                                                                         returnValueSupplier);
+                future.callback = callback;
+                callback.setFuture(future);
+                callback.setStrand(strand);
+                scheduler.resumeLocal(future);
+                return;
+            }
+            futureResultConsumer.accept(result);
+        }
     }
 
     /**
@@ -280,7 +298,18 @@ public class BRuntime {
                                       AtomicInteger callCount, Supplier<Object[]> argsSupplier,
                                       Consumer<Object> futureResultConsumer,
                                       Supplier<Object> returnValueSupplier) {
-        AsyncFunctionCallback callback = new AsyncFunctionCallback() {
+        AsyncFunctionCallback callback = createIterationCallback(func, strand, strandName, metadata, noOfIterations,
+                                                                 callCount, argsSupplier, futureResultConsumer,
+                                                                 returnValueSupplier);
+        invokeFunctionPointerAsync(func, strand, strandName, metadata, argsSupplier.get(), callback);
+    }
+
+    private AsyncFunctionCallback createIterationCallback(FPValue<?, ?> func, Strand strand, String strandName,
+                                                          StrandMetadata metadata, int noOfIterations,
+                                                          AtomicInteger callCount, Supplier<Object[]> argsSupplier,
+                                                          Consumer<Object> futureResultConsumer,
+                                                          Supplier<Object> returnValueSupplier) {
+        return new AsyncFunctionCallback() {
             @Override
             public void notifySuccess() {
                 futureResultConsumer.accept(getFutureResult());
@@ -297,7 +326,6 @@ public class BRuntime {
                 handleRuntimeErrors(error);
             }
         };
-        invokeFunctionPointerAsync(func, strand, strandName, metadata, argsSupplier.get(), callback);
     }
 
     private FutureValue invokeFunctionPointerAsync(FPValue<?, ?> func, Strand parent, String name,
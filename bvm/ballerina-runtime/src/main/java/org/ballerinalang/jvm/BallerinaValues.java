@@ -24,8 +24,8 @@ import org.ballerinalang.jvm.types.BField;
 import org.ballerinalang.jvm.types.BPackage;
 import org.ballerinalang.jvm.types.BRecordType;
 import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.values.CompactRecordValueImpl;
 import org.ballerinalang.jvm.values.MapValue;
-import org.ballerinalang.jvm.values.MapValueImpl;
 import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.jvm.values.ValueCreator;
 import org.ballerinalang.jvm.values.api.BString;
@@ -143,7 +143,7 @@ public class BallerinaValues {
      */
     public static MapValue<BString, Object> createRecord(MapValue<BString, Object> record, Object... values) {
         BRecordType recordType = (BRecordType) record.getType();
-        MapValue<BString, Object> mapValue = new MapValueImpl<>(recordType);
+        MapValue<BString, Object> mapValue = new CompactRecordValueImpl<>(recordType);
         int i = 0;
         for (Map.Entry<String, BField> fieldEntry : recordType.getFields().entrySet()) {
             Object value = values[i++];
@@ -0,0 +1,711 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.api.BString;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * JSON parser which works directly on UTF-8 encoded bytes. It produces the same values as the character based
+ * state machine of {@link JSONParser}, and reports errors with the same messages and locations.
+ * <p>
+ * Strings which consist only of ASCII characters, which is the common case for field names, are created directly
+ * from the input bytes, and the field names are interned into cached {@link BString}s which are reused across the
+ * documents parsed by the same thread. Numbers are parsed from the input bytes without creating an intermediate
+ * string, unless they are too long to be parsed exactly.
+ *
+ * @since 2.0.0
+ */
+@SuppressWarnings("unchecked")
+class JSONByteParser {
+
+    private static final int EOF = -1;
+    // contexts of the values, which decide the characters which end a number or a literal
+    private static final int ROOT = 0;
+    private static final int OBJECT = 1;
+    private static final int ARRAY = 2;
+    private static final int READ_BUFFER_SIZE = 8192;
+    private static final int KEY_CACHE_SIZE = 512;
+    private static final int MAX_CACHED_KEY_LENGTH = 32;
+    // doubles with at most this many digits, and powers of ten up to 22, are exact
+    private static final int MAX_EXACT_DOUBLE_DIGITS = 15;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18,
+            1e19, 1e20, 1e21, 1e22
+    };
+    private static final int MAX_EXACT_LONG_DIGITS = 18;
+    private static final char REPLACEMENT_CHAR = '\uFFFD';
+
+    private final byte[] readBuff = new byte[READ_BUFFER_SIZE];
+    private InputStream in;
+    private ByteBuffer source;
+    private byte[] buff;
+    private int pos;
+    private int limit;
+    // offset of the first byte of the buffer, from the start of the document
+    private long buffOffset;
+    private boolean ended;
+
+    private char[] charBuff = new char[1024];
+    private int charBuffIndex;
+    private byte[] tokenBuff = new byte[64];
+    private int tokenLength;
+
+    private int line;
+    private long lineStart;
+    // difference between the column in characters and the offset in bytes from the start of the line
+    private int columnAdjustment;
+
+    private Object[] containers = new Object[16];
+    private BString[] fieldNames = new BString[16];
+    private int depth;
+
+    private final BString[] keys = new BString[KEY_CACHE_SIZE];
+    private final byte[][] keyBytes = new byte[KEY_CACHE_SIZE][];
+
+    /**
+     * Parses the UTF-8 encoded JSON content of the given stream.
+     */
+    Object parse(InputStream in) throws BallerinaException {
+        this.in = in;
+        this.buff = this.readBuff;
+        return parse();
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content between the position and the limit of the given buffer. The contents
+     * of heap buffers are parsed in place.
+     */
+    Object parse(ByteBuffer buffer) throws BallerinaException {
+        if (buffer.hasArray()) {
+            this.buff = buffer.array();
+            this.pos = buffer.arrayOffset() + buffer.position();
+            this.limit = buffer.arrayOffset() + buffer.limit();
+            this.buffOffset = -this.pos;
+            buffer.position(buffer.limit());
+        } else {
+            this.source = buffer;
+            this.buff = this.readBuff;
+        }
+        return parse();
+    }
+
+    private Object parse() throws BallerinaException {
+        this.line = 1;
+        try {
+            Object value = parseDocument();
+            if (nextNonWhitespace() != EOF) {
+                throw error("JSON document has already ended");
+            }
+            return value;
+        } catch (IOException e) {
+            throw new BallerinaException("Error reading JSON: " + e.getMessage());
+        } catch (JsonParserException e) {
+            throw new BallerinaException(e.getMessage());
+        } finally {
+            // release the input and the values being built, so that they can be garbage collected
+            Arrays.fill(this.containers, 0, this.depth, null);
+            Arrays.fill(this.fieldNames, 0, this.depth, null);
+            this.depth = 0;
+            this.in = null;
+            this.source = null;
+            this.buff = null;
+            this.pos = 0;
+            this.limit = 0;
+            this.buffOffset = 0;
+            this.ended = false;
+            this.lineStart = 0;
+            this.columnAdjustment = 0;
+        }
+    }
+
+    private Object parseDocument() throws IOException, JsonParserException {
+        int ch = nextNonWhitespace();
+        switch (ch) {
+            case '{':
+            case '[':
+                return parseStructure(ch);
+            case '"':
+            case '\'':
+                return readString(ch, false);
+            case EOF:
+                throw error("empty JSON document");
+            default:
+                // a value at the root ends only at a whitespace
+                readToken(ch, ROOT);
+                return parseToken();
+        }
+    }
+
+    /**
+     * Parses an object or an array, keeping the enclosing objects and arrays in a stack instead of recursing, so
+     * that deeply nested documents can be parsed the same way as with {@link JSONParser}.
+     */
+    private Object parseStructure(int ch) throws IOException, JsonParserException {
+        Object current = ch == '{' ? newObject() : newArray();
+        boolean first = true;
+        while (true) {
+            boolean isObject = current instanceof MapValueImpl;
+            BString fieldName = null;
+            ch = nextNonWhitespace();
+            if (!first || ch != (isObject ? '}' : ']')) {
+                if (isObject) {
+                    if (ch != '"' && ch != '\'') {
+                        throw first ? expected("\"", "}") : expected("\"");
+                    }
+                    fieldName = readString(ch, true);
+                    if (nextNonWhitespace() != ':') {
+                        throw expected(":");
+                    }
+                    ch = nextNonWhitespace();
+                }
+
+                if (ch == '{' || ch == '[') {
+                    push(current, fieldName);
+                    current = ch == '{' ? newObject() : newArray();
+                    first = true;
+                    continue;
+                }
+                Object value;
+                if (ch == '"' || ch == '\'') {
+                    value = readString(ch, false);
+                } else {
+                    readToken(ch, isObject ? OBJECT : ARRAY);
+                    value = parseToken();
+                }
+                add(current, fieldName, value);
+                ch = nextNonWhitespace();
+            }
+
+            // closes the completed objects and arrays, until the next member is found
+            while (true) {
+                isObject = current instanceof MapValueImpl;
+                if (ch == (isObject ? '}' : ']')) {
+                    if (this.depth == 0) {
+                        return current;
+                    }
+                    Object value = current;
+                    this.depth--;
+                    current = this.containers[this.depth];
+                    fieldName = this.fieldNames[this.depth];
+                    this.containers[this.depth] = null;
+                    this.fieldNames[this.depth] = null;
+                    add(current, fieldName, value);
+                    ch = nextNonWhitespace();
+                } else if (ch == ',') {
+                    first = false;
+                    break;
+                } else {
+                    throw isObject ? expected(",", "}") : expected(",", "]");
+                }
+            }
+        }
+    }
+
+    private static Object newObject() {
+        return new MapValueImpl<>(new BMapType(BTypes.typeJSON));
+    }
+
+    private static Object newArray() {
+        return new ArrayValueImpl(new BArrayType(BTypes.typeJSON));
+    }
+
+    private static void add(Object container, BString fieldName, Object value) {
+        if (fieldName != null) {
+            ((MapValueImpl<BString, Object>) container).put(fieldName, value);
+        } else {
+            ((ArrayValue) container).append(value);
+        }
+    }
+
+    private void push(Object container, BString fieldName) {
+        if (this.depth == this.containers.length) {
+            this.containers = Arrays.copyOf(this.containers, this.depth * 2);
+            this.fieldNames = Arrays.copyOf(this.fieldNames, this.depth * 2);
+        }
+        this.containers[this.depth] = container;
+        this.fieldNames[this.depth] = fieldName;
+        this.depth++;
+    }
+
+    /**
+     * Reads a string after its opening quote. Strings of ASCII characters without escapes, which lie within the
+     * buffer, are created directly from the buffer.
+     */
+    private BString readString(int quote, boolean fieldName) throws IOException, JsonParserException {
+        byte[] b = this.buff;
+        int start = this.pos;
+        int end = this.limit;
+        int hash = 0;
+        int i = start;
+        for (; i < end; i++) {
+            int ch = b[i];
+            if (ch == quote) {
+                this.pos = i + 1;
+                int length = i - start;
+                if (fieldName && length <= MAX_CACHED_KEY_LENGTH) {
+                    return internKey(b, start, length, hash);
+                }
+                return StringUtils.fromString(new String(b, start, length, StandardCharsets.ISO_8859_1));
+            }
+            if (ch == '\\' || ch == '\n' || ch < 0) {
+                break;
+            }
+            hash = 31 * hash + ch;
+        }
+
+        this.charBuffIndex = 0;
+        for (int j = start; j < i; j++) {
+            append((char) b[j]);
+        }
+        this.pos = i;
+        return StringUtils.fromString(readRemainingString(quote));
+    }
+
+    private BString internKey(byte[] b, int start, int length, int hash) {
+        int slot = (hash ^ (hash >>> 16)) & (KEY_CACHE_SIZE - 1);
+        byte[] cachedBytes = this.keyBytes[slot];
+        if (cachedBytes != null && cachedBytes.length == length) {
+            int i = 0;
+            while (i < length && cachedBytes[i] == b[start + i]) {
+                i++;
+            }
+            if (i == length) {
+                return this.keys[slot];
+            }
+        }
+        BString key = StringUtils.fromString(new String(b, start, length, StandardCharsets.ISO_8859_1));
+        this.keyBytes[slot] = Arrays.copyOfRange(b, start, start + length);
+        this.keys[slot] = key;
+        return key;
+    }
+
+    private String readRemainingString(int quote) throws IOException, JsonParserException {
+        while (true) {
+            int ch = next();
+            if (ch == quote) {
+                return new String(this.charBuff, 0, this.charBuffIndex);
+            }
+            switch (ch) {
+                case EOF:
+                    throw error("unexpected end of JSON document");
+                case '\\':
+                    append(readEscapedChar());
+                    break;
+                case '\n':
+                    newLine();
+                    append('\n');
+                    break;
+                default:
+                    if (ch < 0x80) {
+                        append((char) ch);
+                    } else {
+                        appendMultiByteChar(ch);
+                    }
+                    break;
+            }
+        }
+    }
+
+    private char readEscapedChar() throws IOException, JsonParserException {
+        int ch = next();
+        switch (ch) {
+            case '"':
+            case '\\':
+            case '/':
+                return (char) ch;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int codeUnit = 0;
+                for (int i = 0; i < 4; i++) {
+                    ch = next();
+                    int digit = Character.digit(ch, 16);
+                    if (digit < 0) {
+                        if (ch == '\n') {
+                            newLine();
+                        }
+                        throw expected("hexadecimal value of an unicode character");
+                    }
+                    codeUnit = (codeUnit << 4) | digit;
+                }
+                return (char) codeUnit;
+            case '\n':
+                newLine();
+                throw expected("escaped characters");
+            default:
+                throw expected("escaped characters");
+        }
+    }
+
+    /**
+     * Decodes the UTF-8 sequence which starts with the given byte. Malformed sequences are replaced with
+     * {@code U+FFFD}, the same way as the decoder used by {@link JSONParser}.
+     */
+    private void appendMultiByteChar(int lead) throws IOException {
+        int count;
+        int codePoint;
+        // the range of the second byte excludes overlong encodings and code points above U+10FFFF
+        int min = 0x80;
+        int max = 0xBF;
+        if (lead >= 0xC2 && lead <= 0xDF) {
+            count = 1;
+            codePoint = lead & 0x1F;
+        } else if ((lead & 0xF0) == 0xE0) {
+            count = 2;
+            codePoint = lead & 0x0F;
+            min = lead == 0xE0 ? 0xA0 : min;
+        } else if (lead >= 0xF0 && lead <= 0xF4) {
+            count = 3;
+            codePoint = lead & 0x07;
+            min = lead == 0xF0 ? 0x90 : min;
+            max = lead == 0xF4 ? 0x8F : max;
+        } else {
+            append(REPLACEMENT_CHAR);
+            return;
+        }
+
+        for (int i = 0; i < count; i++) {
+            int ch = peek();
+            if (ch == EOF || (ch & 0xC0) != 0x80 || (i == 0 && (ch < min || ch > max))) {
+                this.columnAdjustment -= i;
+                append(REPLACEMENT_CHAR);
+                return;
+            }
+            this.pos++;
+            codePoint = (codePoint << 6) | (ch & 0x3F);
+        }
+
+        if (Character.isSurrogate((char) codePoint)) {
+            // encoded surrogates are malformed
+            append(REPLACEMENT_CHAR);
+            this.columnAdjustment -= count;
+        } else if (Character.isBmpCodePoint(codePoint)) {
+            append((char) codePoint);
+            this.columnAdjustment -= count;
+        } else {
+            append(Character.highSurrogate(codePoint));
+            append(Character.lowSurrogate(codePoint));
+            this.columnAdjustment -= count - 1;
+        }
+    }
+
+    private void append(char ch) {
+        if (this.charBuffIndex == this.charBuff.length) {
+            this.charBuff = Arrays.copyOf(this.charBuff, this.charBuff.length * 2);
+        }
+        this.charBuff[this.charBuffIndex++] = ch;
+    }
+
+    /**
+     * Reads a number or a literal which starts with the given character, up to the character which ends it. The
+     * character which ends the token is not consumed.
+     */
+    private void readToken(int ch, int context) throws IOException, JsonParserException {
+        // the character based parser reads the first character of the value twice
+        this.columnAdjustment++;
+        this.tokenLength = 0;
+        if (ch == EOF) {
+            throw new JsonParserException("invalid JSON document");
+        }
+        while (!isTokenEnd(ch, context)) {
+            if (this.tokenLength == this.tokenBuff.length) {
+                this.tokenBuff = Arrays.copyOf(this.tokenBuff, this.tokenLength * 2);
+            }
+            this.tokenBuff[this.tokenLength++] = (byte) ch;
+            if (this.tokenLength > 1) {
+                this.pos++;
+            }
+            ch = peek();
+        }
+        if (ch == EOF && context != ROOT) {
+            throw tokenError("unexpected end of JSON document");
+        }
+    }
+
+    /**
+     * Returns whether the given character ends a token in the given context. The characters which end a token are
+     * the same as with {@link JSONParser}, e.g. a '}' is a part of a token in an array.
+     */
+    private static boolean isTokenEnd(int ch, int context) {
+        switch (ch) {
+            case ' ':
+            case '\t':
+            case '\n':
+            case '\r':
+            case EOF:
+                return true;
+            case ',':
+            case ']':
+                return context != ROOT;
+            case '}':
+                return context == OBJECT;
+            default:
+                return false;
+        }
+    }
+
+    private Object parseToken() throws JsonParserException {
+        byte[] token = this.tokenBuff;
+        int length = this.tokenLength;
+        boolean fraction = false;
+        for (int i = 0; i < length; i++) {
+            if (token[i] == '.') {
+                fraction = true;
+                break;
+            }
+        }
+
+        if (fraction) {
+            double value = parseDouble(token, length);
+            if (!Double.isNaN(value)) {
+                return value;
+            }
+            try {
+                return Double.parseDouble(tokenString());
+            } catch (NumberFormatException e) {
+                throw tokenError("unrecognized token '" + tokenString() + "'");
+            }
+        }
+
+        if (length > 0) {
+            switch (token[0]) {
+                case 't':
+                    if (isLiteral(token, length, "true")) {
+                        return Boolean.TRUE;
+                    }
+                    break;
+                case 'f':
+                    if (isLiteral(token, length, "false")) {
+                        return Boolean.FALSE;
+                    }
+                    break;
+                case 'n':
+                    if (isLiteral(token, length, "null")) {
+                        return null;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        int start = length > 0 && token[0] == '-' ? 1 : 0;
+        int digits = length - start;
+        if (digits > 0 && digits <= MAX_EXACT_LONG_DIGITS) {
+            long value = 0;
+            int i = start;
+            for (; i < length; i++) {
+                int digit = token[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                value = value * 10 + digit;
+            }
+            if (i == length) {
+                return start == 1 ? -value : value;
+            }
+        }
+        try {
+            return Long.parseLong(tokenString());
+        } catch (NumberFormatException e) {
+            throw tokenError("unrecognized token '" + tokenString() + "'");
+        }
+    }
+
+    /**
+     * Parses a number of the form {@code -?digits.digits}, which has at most 15 significant digits, in a way that
+     * gives the correctly rounded result. Returns {@code NaN} for any other number, which has to be parsed by
+     * {@link Double#parseDouble(String)}.
+     */
+    private static double parseDouble(byte[] token, int length) {
+        int i = token[0] == '-' ? 1 : 0;
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (; i < length; i++) {
+            int ch = token[i];
+            if (ch == '.') {
+                if (fractionDigits >= 0) {
+                    return Double.NaN;
+                }
+                fractionDigits = 0;
+                continue;
+            }
+            int digit = ch - '0';
+            if (digit < 0 || digit > 9) {
+                return Double.NaN;
+            }
+            if (mantissa != 0 || digit != 0) {
+                digits++;
+            }
+            mantissa = mantissa * 10 + digit;
+            if (fractionDigits >= 0) {
+                fractionDigits++;
+            }
+        }
+        if (digits > MAX_EXACT_DOUBLE_DIGITS || fractionDigits <= 0 || fractionDigits >= POWERS_OF_TEN.length ||
+                length - fractionDigits - (token[0] == '-' ? 2 : 1) == 0) {
+            return Double.NaN;
+        }
+        double value = mantissa / POWERS_OF_TEN[fractionDigits];
+        return token[0] == '-' ? -value : value;
+    }
+
+    private static boolean isLiteral(byte[] token, int length, String literal) {
+        if (length != literal.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (token[i] != literal.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String tokenString() {
+        return new String(this.tokenBuff, 0, this.tokenLength, StandardCharsets.UTF_8);
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        while (true) {
+            if (this.pos == this.limit && !fill()) {
+                this.ended = true;
+                return EOF;
+            }
+            int ch = this.buff[this.pos++];
+            switch (ch) {
+                case ' ':
+                case '\t':
+                case '\r':
+                    break;
+                case '\n':
+                    newLine();
+                    break;
+                default:
+                    return ch & 0xFF;
+            }
+        }
+    }
+
+    private int next() throws IOException {
+        if (this.pos == this.limit && !fill()) {
+            this.ended = true;
+            return EOF;
+        }
+        return this.buff[this.pos++] & 0xFF;
+    }
+
+    private int peek() throws IOException {
+        if (this.pos == this.limit && !fill()) {
+            return EOF;
+        }
+        return this.buff[this.pos] & 0xFF;
+    }
+
+    private boolean fill() throws IOException {
+        int count;
+        if (this.in != null) {
+            count = this.in.read(this.readBuff, 0, READ_BUFFER_SIZE);
+        } else if (this.source != null && this.source.hasRemaining()) {
+            count = Math.min(this.source.remaining(), READ_BUFFER_SIZE);
+            this.source.get(this.readBuff, 0, count);
+        } else {
+            count = EOF;
+        }
+        if (count <= 0) {
+            return false;
+        }
+        this.buffOffset += this.limit;
+        this.pos = 0;
+        this.limit = count;
+        return true;
+    }
+
+    private void newLine() {
+        this.line++;
+        this.lineStart = this.buffOffset + this.pos;
+        this.columnAdjustment = 0;
+    }
+
+    private int column() {
+        return (int) (this.buffOffset + this.pos - this.lineStart) + this.columnAdjustment + (this.ended ? 1 : 0);
+    }
+
+    private JsonParserException error(String message) {
+        return new JsonParserException(message + " at line: " + this.line + " column: " + column());
+    }
+
+    private JsonParserException expected(String... chars) {
+        return error("expected " + String.join(" or ", chars));
+    }
+
+    /**
+     * Creates an error for the last token, which is reported after the character which ends the token, the same
+     * way as with {@link JSONParser}.
+     */
+    private JsonParserException tokenError(String message) {
+        for (int i = 0; i < this.tokenLength; i++) {
+            int ch = this.tokenBuff[i] & 0xFF;
+            if ((ch & 0xC0) == 0x80) {
+                this.columnAdjustment--;
+            } else if ((ch & 0xF8) == 0xF0) {
+                // a 4 byte sequence is a surrogate pair
+                this.columnAdjustment++;
+            }
+        }
+        if (this.pos < this.limit && this.buff[this.pos] == '\n') {
+            return new JsonParserException(message + " at line: " + (this.line + 1) + " column: 0");
+        }
+        return new JsonParserException(message + " at line: " + this.line + " column: " + (column() + 1));
+    }
+
+    /**
+     * Represents a JSON parser related exception.
+     */
+    private static class JsonParserException extends Exception {
+
+        private static final long serialVersionUID = -1407539536458417449L;
+
+        JsonParserException(String msg) {
+            super(msg);
+        }
+    }
+}
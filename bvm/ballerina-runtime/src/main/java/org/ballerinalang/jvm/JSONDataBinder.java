@@ -0,0 +1,663 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.commons.ArrayState;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BTupleType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.util.exceptions.BLangExceptionHelper;
+import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.ballerinalang.jvm.util.exceptions.RuntimeErrors;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.DecimalValue;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.TupleValueImpl;
+import org.ballerinalang.jvm.values.api.BString;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Parses JSON content directly into a value of a given type. Unlike {@link JSONParser}, which always builds a
+ * generic json value that has to be converted to the target type afterwards, records, maps, arrays, tuples and the
+ * basic types are validated and constructed while the content is being read. Only the parts of the content whose
+ * target type cannot be bound directly (e.g. unions, anydata) are built as json and converted.
+ * <p>
+ * Binding errors report the JSON path of the offending value, e.g. {@code $.employees[2].age}.
+ *
+ * @since 2.0.0
+ */
+public class JSONDataBinder {
+
+    private static final int EOF = -1;
+    private static final String NULL = "null";
+    private static final String TRUE = "true";
+    private static final String FALSE = "false";
+
+    private final Reader reader;
+    private final BiFunction<Object, BType, Object> converter;
+
+    private char[] buff = new char[1024];
+    private int pos;
+    private int limit;
+
+    private char[] charBuff = new char[256];
+    private int charBuffIndex;
+
+    private int line = 1;
+    private int column = 0;
+
+    private JSONDataBinder(Reader reader, BiFunction<Object, BType, Object> converter) {
+        this.reader = reader;
+        this.converter = converter;
+    }
+
+    /**
+     * Parses the given string into a value of the given type.
+     *
+     * @param jsonStr    the string which contains the JSON content
+     * @param targetType type of the value
+     * @return value of the target type
+     * @throws BallerinaException for any parsing or binding error
+     */
+    public static Object bind(String jsonStr, BType targetType) throws BallerinaException {
+        return bind(jsonStr, targetType, null);
+    }
+
+    /**
+     * Parses the given string into a value of the given type.
+     *
+     * @param jsonStr    the string which contains the JSON content
+     * @param targetType type of the value
+     * @param converter  function which converts a json value to a type which cannot be bound directly
+     * @return value of the target type
+     * @throws BallerinaException for any parsing or binding error
+     */
+    public static Object bind(String jsonStr, BType targetType, BiFunction<Object, BType, Object> converter)
+            throws BallerinaException {
+        try {
+            return bind(new StringReader(jsonStr), targetType, converter);
+        } catch (IOException e) {
+            throw new BallerinaException("Error reading JSON: " + e.getMessage());
+        } catch (JsonBindingException e) {
+            if (!e.hasPath) {
+                // a syntax error is reported by the parser, the same way as for the json value of the content
+                try {
+                    JSONParser.parse(jsonStr);
+                } catch (BallerinaException parserError) {
+                    throw parserError;
+                } catch (RuntimeException ignore) {
+                    // the parser fails without a message on a few documents, e.g. "[1,]"
+                }
+            }
+            throw new BallerinaException(e.getErrorMessage());
+        }
+    }
+
+    /**
+     * Parses the contents in the given {@link Reader} into a value of the given type.
+     * <p>
+     * The converter is called with the json value and the target type for the parts of the content whose target type
+     * cannot be bound directly. If it is {@code null}, such json values are accepted only if they already belong to
+     * the target type.
+     */
+    private static Object bind(Reader reader, BType targetType, BiFunction<Object, BType, Object> converter)
+            throws IOException, JsonBindingException {
+        JSONDataBinder binder = new JSONDataBinder(reader, converter);
+        Object value = binder.readValue(targetType, binder.nextNonWhitespace());
+        if (binder.nextNonWhitespace() != EOF) {
+            throw binder.syntaxError("expected end of JSON document");
+        }
+        return value;
+    }
+
+    private Object readValue(BType targetType, int ch) throws IOException, JsonBindingException {
+        switch (targetType.getTag()) {
+            case TypeTags.RECORD_TYPE_TAG:
+                if (ch == '{') {
+                    return readRecord((BRecordType) targetType);
+                }
+                break;
+            case TypeTags.MAP_TAG:
+                if (ch == '{') {
+                    return readMap((BMapType) targetType);
+                }
+                break;
+            case TypeTags.ARRAY_TAG:
+                if (ch == '[') {
+                    return readArray((BArrayType) targetType);
+                }
+                break;
+            case TypeTags.TUPLE_TAG:
+                if (ch == '[') {
+                    return readTuple((BTupleType) targetType);
+                }
+                break;
+            case TypeTags.DECIMAL_TAG:
+                if (ch == '-' || (ch >= '0' && ch <= '9')) {
+                    String number = readToken(ch);
+                    try {
+                        return new DecimalValue(number);
+                    } catch (NumberFormatException e) {
+                        throw syntaxError("unrecognized token '" + number + "'");
+                    }
+                }
+                break;
+            case TypeTags.JSON_TAG:
+                return readJson(ch);
+            case TypeTags.UNION_TAG:
+                // optional types, e.g. `int?`, are bound as their non-nil member type
+                BType memberType = getOptionalMemberType((BUnionType) targetType);
+                if (memberType != null) {
+                    if (ch == 'n') {
+                        readLiteral(ch);
+                        return null;
+                    }
+                    return readValue(memberType, ch);
+                }
+                break;
+            default:
+                break;
+        }
+        return convert(readJson(ch), targetType);
+    }
+
+    private MapValue<BString, Object> readRecord(BRecordType recordType) throws IOException, JsonBindingException {
+        MapValue<BString, Object> record = BallerinaValues.createRecordValue(recordType.getPackage(),
+                                                                             recordType.getName());
+        Map<String, BField> fields = recordType.getFields();
+        int ch = nextNonWhitespace();
+        if (ch != '}') {
+            while (true) {
+                String fieldName = readFieldName(ch);
+                BField field = fields.get(fieldName);
+                BType fieldType;
+                if (field != null) {
+                    fieldType = field.getFieldType();
+                } else if (!recordType.sealed) {
+                    fieldType = recordType.restFieldType;
+                } else {
+                    throw new JsonBindingException("field '" + fieldName + "' cannot be added to the closed record '" +
+                                                           recordType + "'");
+                }
+                try {
+                    record.put(StringUtils.fromString(fieldName), readValue(fieldType, nextNonWhitespace()));
+                } catch (JsonBindingException e) {
+                    throw e.inField(fieldName);
+                }
+                ch = nextNonWhitespace();
+                if (ch == '}') {
+                    break;
+                }
+                if (ch != ',') {
+                    throw syntaxError("expected ',' or '}'");
+                }
+                ch = nextNonWhitespace();
+            }
+        }
+
+        for (BField field : fields.values()) {
+            if (Flags.isFlagOn(field.flags, Flags.REQUIRED) &&
+                    !record.containsKey(StringUtils.fromString(field.getFieldName()))) {
+                throw new JsonBindingException("missing required field '" + field.getFieldName() + "' of type '" +
+                                                       field.getFieldType() + "' in record '" + recordType + "'");
+            }
+        }
+        return record;
+    }
+
+    private MapValue<BString, Object> readMap(BMapType mapType) throws IOException, JsonBindingException {
+        MapValue<BString, Object> map = new MapValueImpl<>(mapType);
+        BType constraintType = mapType.getConstrainedType();
+        int ch = nextNonWhitespace();
+        if (ch == '}') {
+            return map;
+        }
+        while (true) {
+            String fieldName = readFieldName(ch);
+            try {
+                map.put(StringUtils.fromString(fieldName), readValue(constraintType, nextNonWhitespace()));
+            } catch (JsonBindingException e) {
+                throw e.inField(fieldName);
+            }
+            ch = nextNonWhitespace();
+            if (ch == '}') {
+                return map;
+            }
+            if (ch != ',') {
+                throw syntaxError("expected ',' or '}'");
+            }
+            ch = nextNonWhitespace();
+        }
+    }
+
+    private ArrayValueImpl readArray(BArrayType arrayType) throws IOException, JsonBindingException {
+        ArrayValueImpl array = new ArrayValueImpl(arrayType);
+        BType elementType = arrayType.getElementType();
+        int maxSize = arrayType.getState() == ArrayState.CLOSED_SEALED ? arrayType.getSize() : Integer.MAX_VALUE;
+        int ch = nextNonWhitespace();
+        int index = 0;
+        if (ch != ']') {
+            while (true) {
+                if (index == maxSize) {
+                    throw new JsonBindingException("array of length " + maxSize + " cannot hold more than " +
+                                                           maxSize + " members, expected '" + arrayType + "'");
+                }
+                try {
+                    array.add(index, readValue(elementType, ch));
+                } catch (JsonBindingException e) {
+                    throw e.inElement(index);
+                }
+                index++;
+                ch = nextNonWhitespace();
+                if (ch == ']') {
+                    break;
+                }
+                if (ch != ',') {
+                    throw syntaxError("expected ',' or ']'");
+                }
+                ch = nextNonWhitespace();
+            }
+        }
+
+        if (maxSize != Integer.MAX_VALUE && index != maxSize) {
+            throw new JsonBindingException("array of length " + index + " cannot be converted to '" + arrayType + "'");
+        }
+        return array;
+    }
+
+    private TupleValueImpl readTuple(BTupleType tupleType) throws IOException, JsonBindingException {
+        TupleValueImpl tuple = new TupleValueImpl(tupleType);
+        List<BType> memberTypes = tupleType.getTupleTypes();
+        BType restType = tupleType.getRestType();
+        int ch = nextNonWhitespace();
+        int index = 0;
+        if (ch != ']') {
+            while (true) {
+                BType memberType = index < memberTypes.size() ? memberTypes.get(index) : restType;
+                if (memberType == null) {
+                    throw new JsonBindingException("tuple '" + tupleType + "' cannot hold more than " +
+                                                           memberTypes.size() + " members");
+                }
+                try {
+                    tuple.add(index, readValue(memberType, ch));
+                } catch (JsonBindingException e) {
+                    throw e.inElement(index);
+                }
+                index++;
+                ch = nextNonWhitespace();
+                if (ch == ']') {
+                    break;
+                }
+                if (ch != ',') {
+                    throw syntaxError("expected ',' or ']'");
+                }
+                ch = nextNonWhitespace();
+            }
+        }
+
+        if (index < memberTypes.size()) {
+            throw new JsonBindingException("array of length " + index + " cannot be converted to '" + tupleType +
+                                                   "'");
+        }
+        return tuple;
+    }
+
+    /**
+     * Reads a generic json value, in the same representation as {@link JSONParser}.
+     */
+    private Object readJson(int ch) throws IOException, JsonBindingException {
+        switch (ch) {
+            case '{':
+                MapValueImpl<BString, Object> map = new MapValueImpl<>(new BMapType(BTypes.typeJSON));
+                ch = nextNonWhitespace();
+                if (ch == '}') {
+                    return map;
+                }
+                while (true) {
+                    String fieldName = readFieldName(ch);
+                    map.put(StringUtils.fromString(fieldName), readJson(nextNonWhitespace()));
+                    ch = nextNonWhitespace();
+                    if (ch == '}') {
+                        return map;
+                    }
+                    if (ch != ',') {
+                        throw syntaxError("expected ',' or '}'");
+                    }
+                    ch = nextNonWhitespace();
+                }
+            case '[':
+                ArrayValueImpl array = new ArrayValueImpl(new BArrayType(BTypes.typeJSON));
+                ch = nextNonWhitespace();
+                if (ch == ']') {
+                    return array;
+                }
+                while (true) {
+                    array.append(readJson(ch));
+                    ch = nextNonWhitespace();
+                    if (ch == ']') {
+                        return array;
+                    }
+                    if (ch != ',') {
+                        throw syntaxError("expected ',' or ']'");
+                    }
+                    ch = nextNonWhitespace();
+                }
+            case '"':
+            case '\'':
+                return StringUtils.fromString(readString(ch));
+            case 't':
+            case 'f':
+            case 'n':
+                return readLiteral(ch);
+            case EOF:
+                throw syntaxError("unexpected end of JSON document");
+            default:
+                if (ch == '-' || (ch >= '0' && ch <= '9')) {
+                    return readNumber(ch);
+                }
+                throw syntaxError("unrecognized token '" + (char) ch + "'");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object convert(Object value, BType targetType) throws JsonBindingException {
+        if (value == null) {
+            if (targetType.isNilable()) {
+                return null;
+            }
+            throw new JsonBindingException(BLangExceptionHelper.getErrorMessage(RuntimeErrors.CANNOT_CONVERT_NIL,
+                                                                                targetType));
+        }
+
+        switch (targetType.getTag()) {
+            case TypeTags.INT_TAG:
+                if (value instanceof Long) {
+                    return value;
+                }
+                break;
+            case TypeTags.FLOAT_TAG:
+                if (value instanceof Double) {
+                    return value;
+                }
+                if (value instanceof Long) {
+                    return ((Long) value).doubleValue();
+                }
+                break;
+            case TypeTags.STRING_TAG:
+            case TypeTags.BOOLEAN_TAG:
+                if (TypeChecker.getType(value).getTag() == targetType.getTag()) {
+                    return value;
+                }
+                break;
+            default:
+                break;
+        }
+
+        if (converter != null) {
+            try {
+                return converter.apply(value, targetType);
+            } catch (ErrorValue e) {
+                Object details = e.getDetails();
+                if (details instanceof MapValueImpl) {
+                    BString message = BallerinaErrors.getErrorMessageFromDetail(
+                            (MapValueImpl<BString, Object>) details);
+                    if (message != null) {
+                        throw new JsonBindingException(message.getValue());
+                    }
+                }
+                throw new JsonBindingException(e.getErrorMessage().getValue());
+            } catch (BallerinaException e) {
+                throw new JsonBindingException(e.getDetail() != null ? e.getDetail() : e.getMessage());
+            }
+        }
+        if (TypeChecker.checkIsType(value, targetType)) {
+            return value;
+        }
+        throw new JsonBindingException(BLangExceptionHelper.getErrorMessage(
+                RuntimeErrors.INCOMPATIBLE_CONVERT_OPERATION, TypeChecker.getType(value), targetType));
+    }
+
+    private static BType getOptionalMemberType(BUnionType unionType) {
+        List<BType> memberTypes = unionType.getMemberTypes();
+        if (memberTypes.size() != 2) {
+            return null;
+        }
+        if (memberTypes.get(0).getTag() == TypeTags.NULL_TAG) {
+            return memberTypes.get(1);
+        }
+        if (memberTypes.get(1).getTag() == TypeTags.NULL_TAG) {
+            return memberTypes.get(0);
+        }
+        return null;
+    }
+
+    private String readFieldName(int ch) throws IOException, JsonBindingException {
+        if (ch != '"' && ch != '\'') {
+            throw syntaxError("expected '\"'");
+        }
+        String fieldName = readString(ch);
+        if (nextNonWhitespace() != ':') {
+            throw syntaxError("expected ':'");
+        }
+        return fieldName;
+    }
+
+    private String readString(int quote) throws IOException, JsonBindingException {
+        this.charBuffIndex = 0;
+        while (true) {
+            int ch = read();
+            if (ch == quote) {
+                return new String(this.charBuff, 0, this.charBuffIndex);
+            }
+            switch (ch) {
+                case EOF:
+                    throw syntaxError("unexpected end of JSON document");
+                case '\\':
+                    append(readEscapedChar());
+                    break;
+                default:
+                    append((char) ch);
+                    break;
+            }
+        }
+    }
+
+    private char readEscapedChar() throws IOException, JsonBindingException {
+        int ch = read();
+        switch (ch) {
+            case '"':
+            case '\'':
+            case '\\':
+            case '/':
+                return (char) ch;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int codePoint = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(read(), 16);
+                    if (digit < 0) {
+                        throw syntaxError("expected the hexadecimal value of a unicode character");
+                    }
+                    codePoint = (codePoint << 4) | digit;
+                }
+                return (char) codePoint;
+            default:
+                throw syntaxError("expected escaped characters");
+        }
+    }
+
+    private Object readNumber(int ch) throws IOException, JsonBindingException {
+        String number = readToken(ch);
+        try {
+            if (number.indexOf('.') >= 0 || number.indexOf('e') >= 0 || number.indexOf('E') >= 0) {
+                return Double.parseDouble(number);
+            }
+            return Long.parseLong(number);
+        } catch (NumberFormatException e) {
+            throw syntaxError("unrecognized token '" + number + "'");
+        }
+    }
+
+    private Object readLiteral(int ch) throws IOException, JsonBindingException {
+        String literal = readToken(ch);
+        switch (literal) {
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case NULL:
+                return null;
+            default:
+                throw syntaxError("unrecognized token '" + literal + "'");
+        }
+    }
+
+    /**
+     * Reads a number or a literal, which ends at a whitespace, a separator or the end of the document.
+     */
+    private String readToken(int ch) throws IOException {
+        this.charBuffIndex = 0;
+        append((char) ch);
+        while (true) {
+            ch = peek();
+            if (ch == EOF || ch == ',' || ch == '}' || ch == ']' || isWhitespace(ch)) {
+                return new String(this.charBuff, 0, this.charBuffIndex);
+            }
+            append((char) read());
+        }
+    }
+
+    private void append(char ch) {
+        if (this.charBuffIndex == this.charBuff.length) {
+            char[] newBuff = new char[this.charBuff.length * 2];
+            System.arraycopy(this.charBuff, 0, newBuff, 0, this.charBuff.length);
+            this.charBuff = newBuff;
+        }
+        this.charBuff[this.charBuffIndex++] = ch;
+    }
+
+    private static boolean isWhitespace(int ch) {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r';
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        int ch;
+        do {
+            ch = read();
+        } while (isWhitespace(ch));
+        return ch;
+    }
+
+    private int peek() throws IOException {
+        if (this.pos == this.limit) {
+            this.limit = this.reader.read(this.buff);
+            this.pos = 0;
+            if (this.limit <= 0) {
+                this.limit = 0;
+                return EOF;
+            }
+        }
+        return this.buff[this.pos];
+    }
+
+    private int read() throws IOException {
+        int ch = peek();
+        if (ch == EOF) {
+            return EOF;
+        }
+        this.pos++;
+        if (ch == '\n') {
+            this.line++;
+            this.column = 0;
+        } else {
+            this.column++;
+        }
+        return ch;
+    }
+
+    private JsonBindingException syntaxError(String message) {
+        return new JsonBindingException(message + " at line: " + this.line + " column: " + this.column, false);
+    }
+
+    /**
+     * Represents an error in parsing or binding JSON content, which collects the JSON path of the offending value
+     * while it is propagated to the root.
+     */
+    private static class JsonBindingException extends Exception {
+
+        private static final long serialVersionUID = 2920428591437604915L;
+
+        private final boolean hasPath;
+        private final StringBuilder path = new StringBuilder();
+
+        JsonBindingException(String message) {
+            this(message, true);
+        }
+
+        JsonBindingException(String message, boolean hasPath) {
+            super(message, null, false, false);
+            this.hasPath = hasPath;
+        }
+
+        JsonBindingException inField(String fieldName) {
+            if (this.hasPath) {
+                this.path.insert(0, fieldName).insert(0, '.');
+            }
+            return this;
+        }
+
+        JsonBindingException inElement(int index) {
+            if (this.hasPath) {
+                this.path.insert(0, ']').insert(0, index).insert(0, '[');
+            }
+            return this;
+        }
+
+        String getErrorMessage() {
+            if (!this.hasPath) {
+                return getMessage();
+            }
+            return getMessage() + " at '$" + this.path + "'";
+        }
+    }
+}
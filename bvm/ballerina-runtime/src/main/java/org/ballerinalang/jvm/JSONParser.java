@@ -34,7 +34,9 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
 import java.util.Deque;
 
@@ -53,6 +55,13 @@ public class JSONParser {
         }
     };
 
+    private static ThreadLocal<JSONByteParser> tlByteParser = new ThreadLocal<JSONByteParser>() {
+        @Override
+        public JSONByteParser initialValue() {
+            return new JSONByteParser();
+        }
+    };
+
     /**
      * Parses the contents in the given {@link InputStream} and returns a json.
      *
@@ -74,6 +83,9 @@ public class JSONParser {
      * @throws BallerinaException for any parsing error
      */
     public static Object parse(InputStream in, String charsetName) throws BallerinaException {
+        if (isUTF8(charsetName)) {
+            return tlByteParser.get().parse(in);
+        }
         try {
             Object jsonObj = parse(new InputStreamReader(new BufferedInputStream(in), charsetName));
             return changeForBString(jsonObj);
@@ -82,6 +94,18 @@ public class JSONParser {
         }
     }
 
+    /**
+     * Parses the UTF-8 encoded contents between the position and the limit of the given {@link ByteBuffer} and
+     * returns a json. The position of the buffer is moved to its limit.
+     *
+     * @param buffer byte buffer which contains the JSON content
+     * @return JSON structure
+     * @throws BallerinaException for any parsing error
+     */
+    public static Object parse(ByteBuffer buffer) throws BallerinaException {
+        return tlByteParser.get().parse(buffer);
+    }
+
     /**
      * Parses the contents in the given string and returns a json.
      *
@@ -93,6 +117,15 @@ public class JSONParser {
         return parse(new StringReader(jsonStr));
     }
 
+    private static boolean isUTF8(String charsetName) {
+        try {
+            return StandardCharsets.UTF_8.equals(Charset.forName(charsetName));
+        } catch (IllegalArgumentException e) {
+            // unsupported charsets are reported while creating the reader
+            return false;
+        }
+    }
+
     private static Object changeForBString(Object jsonObj) {
         if (jsonObj instanceof String) {
             return StringUtils.fromString((String) jsonObj);
@@ -201,6 +234,7 @@ public class JSONParser {
 
         public void reset() {
             this.index = 0;
+            this.charBuffIndex = 0;
             this.currentJsonNode = null;
             this.line = 1;
             this.column = 0;
@@ -699,13 +733,12 @@ public class JSONParser {
                 for (; i < count; i++) {
                     ch = buff[i];
                     sm.processLocation(ch);
-                    if (ch == '{') {
-                        state = sm.initNewObject();
-                    } else if (ch == '[') {
-                        state = sm.initNewArray();
-                    } else if (ch == '}' || ch == ']') {
+                    if (ch == '}') {
                         sm.processNonStringValue(ValueType.FIELD);
                         state = sm.finalizeObject();
+                    } else if (ch == ']') {
+                        sm.processNonStringValue(ValueType.FIELD);
+                        StateMachine.throwExpected(",", "}");
                     } else if (ch == ',') {
                         sm.processNonStringValue(ValueType.FIELD);
                         state = NON_FIRST_FIELD_READY_STATE;
@@ -739,11 +772,7 @@ public class JSONParser {
                 for (; i < count; i++) {
                     ch = buff[i];
                     sm.processLocation(ch);
-                    if (ch == '{') {
-                        state = sm.initNewObject();
-                    } else if (ch == '[') {
-                        state = sm.initNewArray();
-                    } else if (ch == ']') {
+                    if (ch == ']') {
                         sm.processNonStringValue(ValueType.ARRAY_ELEMENT);
                         state = sm.finalizeObject();
                     } else if (ch == ',') {
@@ -22,6 +22,7 @@ import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.types.BField;
 import org.ballerinalang.jvm.types.BJSONType;
 import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BRecordType;
 import org.ballerinalang.jvm.types.BStructureType;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.BTypes;
@@ -34,6 +35,7 @@ import org.ballerinalang.jvm.util.exceptions.BallerinaException;
 import org.ballerinalang.jvm.util.exceptions.RuntimeErrors;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.CompactRecordValueImpl;
 import org.ballerinalang.jvm.values.DecimalValue;
 import org.ballerinalang.jvm.values.ErrorValue;
 import org.ballerinalang.jvm.values.MapValue;
@@ -289,7 +291,8 @@ public class JSONUtils {
                                                            getComplexObjectTypeName(OBJECT), getTypeName(json));
         }
 
-        MapValueImpl<BString, Object> bStruct = new MapValueImpl<>(structType);
+        MapValueImpl<BString, Object> bStruct = structType.getTag() == TypeTags.RECORD_TYPE_TAG ?
+                new CompactRecordValueImpl<>((BRecordType) structType) : new MapValueImpl<>(structType);
         MapValueImpl<BString, Object> jsonObject = (MapValueImpl<BString, Object>) json;
         for (Map.Entry<String, BField> field : structType.getFields().entrySet()) {
             BType fieldType = field.getValue().type;
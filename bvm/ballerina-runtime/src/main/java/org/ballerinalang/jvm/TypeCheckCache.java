@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.types.BType;
+
+/**
+ * Fixed size cache of the results of type to type assignability checks done by the {@link TypeChecker}.
+ * <p>
+ * The cache is a direct mapped table indexed by the identities of the two types. A new result simply replaces
+ * whatever was in its slot, so the memory used by the cache is bounded even when types are created at runtime.
+ * Entries are immutable, hence they can be read and written without locking.
+ *
+ * @since 2.0.0
+ */
+final class TypeCheckCache {
+
+    private static final int SIZE = 1 << 12;
+    private static final int MASK = SIZE - 1;
+
+    private final Entry[] entries = new Entry[SIZE];
+
+    /**
+     * Returns the cached result for the given pair of types.
+     *
+     * @param sourceType source type
+     * @param targetType target type
+     * @return cached result, or {@code null} if the pair is not in the cache
+     */
+    Boolean get(BType sourceType, BType targetType) {
+        Entry entry = entries[index(sourceType, targetType)];
+        if (entry == null || entry.sourceType != sourceType || entry.targetType != targetType) {
+            return null;
+        }
+        return entry.result;
+    }
+
+    void put(BType sourceType, BType targetType, boolean result) {
+        entries[index(sourceType, targetType)] = new Entry(sourceType, targetType, result);
+    }
+
+    private static int index(BType sourceType, BType targetType) {
+        int hash = System.identityHashCode(sourceType) * 31 + System.identityHashCode(targetType);
+        return (hash ^ (hash >>> 16)) & MASK;
+    }
+
+    private static final class Entry {
+        final BType sourceType;
+        final BType targetType;
+        final boolean result;
+
+        Entry(BType sourceType, BType targetType, boolean result) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.result = result;
+        }
+    }
+}
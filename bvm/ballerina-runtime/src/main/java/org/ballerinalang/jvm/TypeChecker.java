@@ -97,6 +97,8 @@ import static org.ballerinalang.jvm.util.BLangConstants.UNSIGNED8_MAX_VALUE;
 @SuppressWarnings({"rawtypes"})
 public class TypeChecker {
 
+    private static final TypeCheckCache TYPE_CHECK_CACHE = new TypeCheckCache();
+
     public static Object checkCast(Object sourceVal, BType targetType) {
 
         if (checkIsType(sourceVal, targetType)) {
@@ -636,8 +638,10 @@ public class TypeChecker {
             case TypeTags.XML_PI_TAG:
                 return targetTypeTag == sourceTypeTag;
             default:
-                return checkIsRecursiveType(sourceType, targetType,
-                        unresolvedTypes == null ? new ArrayList<>() : unresolvedTypes);
+                if (unresolvedTypes == null) {
+                    return checkIsRecursiveTypeCached(sourceType, targetType);
+                }
+                return checkIsRecursiveType(sourceType, targetType, unresolvedTypes);
         }
     }
 
@@ -653,6 +657,21 @@ public class TypeChecker {
         return checkIsType(sourceTypedesc.getConstraint(), targetType.getConstraint(), unresolvedTypes);
     }
 
+    /**
+     * Checks a structural type relation that is not nested in another check. The result of such a check depends only
+     * on the two types, so it is cached and reused for the next check of the same pair.
+     */
+    private static boolean checkIsRecursiveTypeCached(BType sourceType, BType targetType) {
+        Boolean cachedResult = TYPE_CHECK_CACHE.get(sourceType, targetType);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+
+        boolean result = checkIsRecursiveType(sourceType, targetType, new ArrayList<>());
+        TYPE_CHECK_CACHE.put(sourceType, targetType, result);
+        return result;
+    }
+
     private static boolean checkIsRecursiveType(BType sourceType, BType targetType, List<TypePair> unresolvedTypes) {
         switch (targetType.getTag()) {
             case TypeTags.MAP_TAG:
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+/**
+ * Holds the {@link ItemGroup}s that are ready to be executed by the {@link Scheduler} worker threads.
+ *
+ * @since 2.0.0
+ */
+interface RunQueue {
+
+    /**
+     * Value of the {@code BALLERINA_SCHEDULER_QUEUE} environment variable that selects the single shared queue.
+     */
+    String SHARED = "shared";
+
+    /**
+     * Value of the {@code BALLERINA_SCHEDULER_QUEUE} environment variable that selects per worker queues with
+     * work stealing.
+     */
+    String WORK_STEALING = "work-stealing";
+
+    /**
+     * Binds the calling thread to this queue as one of its workers. Called once by each scheduler thread before it
+     * starts taking groups.
+     */
+    void registerWorker();
+
+    /**
+     * Adds a group that is visible to all the workers.
+     *
+     * @param group group to be executed
+     */
+    void add(ItemGroup group);
+
+    /**
+     * Adds a group that was made runnable by the strand running on the current thread. Implementations may keep it
+     * close to the current worker to get advantage of the locality.
+     *
+     * @param group group to be executed
+     */
+    void addLocal(ItemGroup group);
+
+    /**
+     * Retrieves the next group to be executed, waiting if necessary until one becomes available.
+     *
+     * @return next runnable group
+     * @throws InterruptedException if interrupted while waiting
+     */
+    ItemGroup take() throws InterruptedException;
+
+    boolean isEmpty();
+
+    static RunQueue create(String kind, int numWorkers) {
+        if (WORK_STEALING.equals(kind)) {
+            return new WorkStealingRunQueue(numWorkers);
+        }
+        return new SharedRunQueue();
+    }
+}
@@ -29,11 +29,10 @@ import org.ballerinalang.jvm.values.FutureValue;
 import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
 
 import java.io.PrintStream;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -57,7 +56,7 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+    private final RunQueue runnableList;
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
 
@@ -65,6 +64,12 @@ public class Scheduler {
 
     private static String poolSizeConf = System.getenv(BLangConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    /**
+     * This can be changed by setting the BALLERINA_SCHEDULER_QUEUE system variable to either `shared` or
+     * `work-stealing`. Default is `shared`.
+     */
+    private static String queueConf = System.getenv(BLangConstants.BALLERINA_SCHEDULER_QUEUE_ENV_VAR);
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
      * Default is 100.
@@ -87,11 +92,13 @@ public class Scheduler {
         }
         this.numThreads = poolSize;
         this.immortal = immortal;
+        this.runnableList = RunQueue.create(queueConf, numThreads);
     }
 
     public Scheduler(int numThreads, boolean immortal) {
         this.numThreads = numThreads;
         this.immortal = immortal;
+        this.runnableList = RunQueue.create(queueConf, numThreads);
     }
 
     public static Strand getStrand() {
@@ -143,11 +150,49 @@ public class Scheduler {
         future.strand.strandGroup = parent.strandGroup;
         parent.strandGroup.add(item);
         if (parent.strandGroup.scheduled.compareAndSet(false, true)) {
-            runnableList.add(future.strand.strandGroup);
+            runnableList.addLocal(future.strand.strandGroup);
         }
         return future;
     }
 
+    /**
+     * Calls given function directly on the current thread, with the strand of the given future. Unlike
+     * {@link #scheduleLocal(Object[], FPValue, Strand, FutureValue)}, the function runs to completion without going
+     * through the run queue. If the strand has yielded once the function returns, it has to be handed over to the
+     * scheduler through {@link #resumeLocal(FutureValue)}.
+     *
+     * @param params parameters to underlying function.
+     * @param fp     function to be executed.
+     * @param parent parent of the strand of the future, which is the strand of the current thread.
+     * @param future future of the invocation.
+     * @return the result of the function or a meaningless value if the strand has yielded.
+     */
+    public Object callLocal(Object[] params, FPValue<?, ?> fp, Strand parent, FutureValue future) {
+        Strand strand = future.strand;
+        params[0] = strand;
+        // the item is in place before the call, since the strand may be unblocked before it is handed over
+        strand.schedulerItem = new SchedulerItem(fp.getFunction(), params, future);
+        strand.strandGroup = parent.strandGroup;
+        StrandHolder holder = strandHolder.get();
+        holder.strand = strand;
+        try {
+            return strand.schedulerItem.execute();
+        } finally {
+            holder.strand = parent;
+        }
+    }
+
+    /**
+     * Hands over a strand, which has yielded during {@link #callLocal(Object[], FPValue, Strand, FutureValue)}, to
+     * the scheduler. The strand is resumed in the strand group of the parent.
+     *
+     * @param future future of the invocation.
+     */
+    public void resumeLocal(FutureValue future) {
+        totalStrands.incrementAndGet();
+        postProcess(future.strand.schedulerItem, null, null);
+    }
+
     /**
      * Add a task to the runnable list, which will eventually be executed by the Scheduler.
      *
@@ -251,6 +296,7 @@ public class Scheduler {
      * Executes tasks that are submitted to the Scheduler.
      */
     private void run() {
+        runnableList.registerWorker();
         while (true) {
             SchedulerItem item;
             ItemGroup group;
@@ -348,27 +394,14 @@ public class Scheduler {
                 justCompleted.setState(State.DONE);
 
 
-                for (WaitContext ctx : justCompleted.waitingContexts) {
-                    ctx.lock();
-                    if (!ctx.completed) {
-                        if ((item.future.panic != null && ctx.handlePanic()) || ctx.waitCompleted(result)) {
-                            if (ctx.intermediate) {
-                                ctx.runnable = true;
-                            } else {
-                                ctx.completed = true;
-                                reschedule(ctx.schedulerItem);
-                            }
-                        }
-                    }
-                    ctx.unLock();
-                }
+                notifyWaitingContexts(item, justCompleted, result);
 
                 cleanUp(justCompleted);
 
                 int strandsLeft = totalStrands.decrementAndGet();
                 if (strandsLeft == 0) {
                     // (number of started stands - finished stands) = 0, all the work is done
-                    assert runnableList.size() == 0;
+                    assert runnableList.isEmpty();
 
                     if (!immortal) {
                         for (int i = 0; i < numThreads; i++) {
@@ -382,6 +415,28 @@ public class Scheduler {
         }
     }
 
+    private void notifyWaitingContexts(SchedulerItem item, Strand justCompleted, Object result) {
+        List<WaitContext> waitingContexts = justCompleted.waitingContexts;
+        if (waitingContexts == null) {
+            return;
+        }
+
+        for (WaitContext ctx : waitingContexts) {
+            ctx.lock();
+            if (!ctx.completed) {
+                if ((item.future.panic != null && ctx.handlePanic()) || ctx.waitCompleted(result)) {
+                    if (ctx.intermediate) {
+                        ctx.runnable = true;
+                    } else {
+                        ctx.completed = true;
+                        reschedule(ctx.schedulerItem);
+                    }
+                }
+            }
+            ctx.unLock();
+        }
+    }
+
     private Throwable createError(Throwable t) {
         if (t instanceof StackOverflowError) {
             ErrorValue error = BallerinaErrors.createError(BallerinaErrorReasons.STACK_OVERFLOW_ERROR);
@@ -413,14 +468,17 @@ public class Scheduler {
 
     private void notifyChannels(SchedulerItem item, Throwable panic) {
         Set<ChannelDetails> channels = item.future.strand.channelDetails;
+        if (channels == null) {
+            return;
+        }
 
         for (ChannelDetails details: channels) {
             WorkerDataChannel wdChannel;
 
             if (details.channelInSameStrand) {
-                wdChannel = item.future.strand.wdChannels.getWorkerDataChannel(details.name);
+                wdChannel = item.future.strand.getWDChannels().getWorkerDataChannel(details.name);
             } else {
-                wdChannel = item.future.strand.parent.wdChannels.getWorkerDataChannel(details.name);
+                wdChannel = item.future.strand.parent.getWDChannels().getWorkerDataChannel(details.name);
             }
 
             if (details.send) {
@@ -442,7 +500,7 @@ public class Scheduler {
             //  2) All others have finished
             // In this case we need to put it back in the runnable list.
             if (group.scheduled.compareAndSet(false, true)) {
-                runnableList.add(group);
+                runnableList.addLocal(group);
             }
         }
     }
@@ -457,9 +515,7 @@ public class Scheduler {
         if (parent != null) {
             newStrand.observerContext = parent.observerContext;
         }
-        FutureValue future = new FutureValue(newStrand, callback, constraint);
-        future.strand.frames = new Object[100];
-        return future;
+        return new FutureValue(newStrand, callback, constraint);
     }
 
     public void poison() {
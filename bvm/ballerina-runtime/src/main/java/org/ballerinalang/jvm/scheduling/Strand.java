@@ -17,6 +17,7 @@
  */
 package org.ballerinalang.jvm.scheduling;
 
+import org.ballerinalang.jvm.BLock;
 import org.ballerinalang.jvm.StringUtils;
 import org.ballerinalang.jvm.TypeChecker;
 import org.ballerinalang.jvm.observability.ObserverContext;
@@ -29,6 +30,8 @@ import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.api.BError;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -55,6 +58,12 @@ public class Strand {
 
     private static AtomicInteger nextStrandId = new AtomicInteger(0);
 
+    /**
+     * Initial size of the frames array. It is allocated when the strand yields for the first time and grown when the
+     * yielding call stack gets deeper.
+     */
+    private static final int INITIAL_FRAMES_SIZE = 8;
+
     private int id;
     private String name;
     private StrandMetadata metadata;
@@ -65,20 +74,27 @@ public class Strand {
     public BError panic;
     public Scheduler scheduler;
     public Strand parent;
-    public WDChannels wdChannels;
+    private volatile WDChannels wdChannels;
     public FlushDetail flushDetail;
     public boolean blockedOnExtern;
     public Set<ChannelDetails> channelDetails;
-    public Set<SchedulerItem> dependants;
     public ObserverContext observerContext;
     public boolean cancel;
 
+    /**
+     * Name of the module which calls a function of the log module, in the {@code org/module} form. It is set by the
+     * generated code right before the call, so the log functions do not have to walk the Java stack to find the
+     * caller. It is {@code null} when the function is called in some other way, e.g. through a function pointer.
+     */
+    public String callerModule;
+
     SchedulerItem schedulerItem;
     List<WaitContext> waitingContexts;
     WaitContext waitContext;
     ItemGroup strandGroup;
 
     private Map<String, Object> globalProps;
+    private List<BLock> acquiredLocks;
     public TransactionLocalContext currentTrxContext;
     public Stack<TransactionLocalContext> trxContexts;
     private State state;
@@ -88,18 +104,49 @@ public class Strand {
                   Map<String, Object> properties) {
         this.id = nextStrandId.incrementAndGet();
         this.scheduler = scheduler;
-        this.wdChannels = new WDChannels();
-        this.channelDetails = new HashSet<>();
-        this.globalProps = new HashMap<>();
         this.state = RUNNABLE;
-        this.dependants = new HashSet<>();
         this.strandLock = new ReentrantLock();
-        this.waitingContexts = new ArrayList<>();
         this.name = name;
         this.metadata = metadata;
-        this.trxContexts = new Stack<>();
         this.parent = parent;
-        this.globalProps = properties != null ? properties : new HashMap<>();
+        this.globalProps = properties;
+    }
+
+    /**
+     * Gets the worker data channels of this strand. Channels are created on first use since most of the strands do
+     * not have workers communicating with each other.
+     *
+     * @return worker data channels of the strand
+     */
+    public WDChannels getWDChannels() {
+        WDChannels channels = this.wdChannels;
+        if (channels != null) {
+            return channels;
+        }
+        // child strands may access the channels of the parent concurrently
+        this.lock();
+        try {
+            if (this.wdChannels == null) {
+                this.wdChannels = new WDChannels();
+            }
+            return this.wdChannels;
+        } finally {
+            this.unlock();
+        }
+    }
+
+    /**
+     * Saves the frame of a yielding function so it can be restored when the strand is resumed.
+     *
+     * @param frame frame of the yielding function
+     */
+    public void pushFrame(Object frame) {
+        if (this.frames == null) {
+            this.frames = new Object[INITIAL_FRAMES_SIZE];
+        } else if (this.resumeIndex == this.frames.length) {
+            this.frames = Arrays.copyOf(this.frames, this.frames.length * 2);
+        }
+        this.frames[this.resumeIndex++] = frame;
     }
 
     public void handleChannelError(ChannelDetails[] channels, ErrorValue error) {
@@ -116,10 +163,16 @@ public class Strand {
     }
 
     public Object getProperty(String key) {
+        if (this.globalProps == null) {
+            return null;
+        }
         return this.globalProps.get(key);
     }
 
     public void setProperty(String key, Object value) {
+        if (this.globalProps == null) {
+            this.globalProps = new HashMap<>();
+        }
         this.globalProps.put(key, value);
     }
 
@@ -133,7 +186,7 @@ public class Strand {
     }
 
     public void removeCurrentTrxContext() {
-        if (!this.trxContexts.isEmpty()) {
+        if (this.trxContexts != null && !this.trxContexts.isEmpty()) {
             this.currentTrxContext = this.trxContexts.pop();
             return;
         }
@@ -142,6 +195,9 @@ public class Strand {
 
     public void setCurrentTransactionContext(TransactionLocalContext ctx) {
         if (this.currentTrxContext != null) {
+            if (this.trxContexts == null) {
+                this.trxContexts = new Stack<>();
+            }
             this.trxContexts.push(this.currentTrxContext);
         }
         this.currentTrxContext = ctx;
@@ -217,7 +273,7 @@ public class Strand {
                 target.put(StringUtils.fromString(entry.getKey()), future.result);
             } else {
                 this.setState(BLOCK_ON_AND_YIELD);
-                entry.getValue().strand.waitingContexts.add(ctx);
+                entry.getValue().strand.addWaitingContext(ctx);
             }
             future.strand.unlock();
         }
@@ -257,7 +313,7 @@ public class Strand {
                     waitResult = new WaitResult(true, future.result);
                     break;
                 } else {
-                    future.strand.waitingContexts.add(ctx);
+                    future.strand.addWaitingContext(ctx);
                 }
             } finally {
                 future.strand.unlock();
@@ -279,7 +335,62 @@ public class Strand {
         return waitResult;
     }
 
+    /**
+     * Registers a context that waits on the completion of this strand. Should be called while holding the strand
+     * lock.
+     *
+     * @param ctx wait context to be notified when the strand is done
+     */
+    void addWaitingContext(WaitContext ctx) {
+        if (this.waitingContexts == null) {
+            this.waitingContexts = new ArrayList<>();
+        }
+        this.waitingContexts.add(ctx);
+    }
+
+    /**
+     * Records a lock acquired by this strand. Reentrant acquisitions of the same lock are recorded only once.
+     *
+     * @param lock acquired lock
+     */
+    public void addAcquiredLock(BLock lock) {
+        if (this.acquiredLocks == null) {
+            this.acquiredLocks = new ArrayList<>();
+        }
+        this.acquiredLocks.add(lock);
+    }
+
+    /**
+     * Removes a lock that was fully released by this strand.
+     *
+     * @param lock released lock
+     */
+    public void removeAcquiredLock(BLock lock) {
+        // locks are released in the reverse order of acquisition
+        for (int i = this.acquiredLocks.size() - 1; i >= 0; i--) {
+            if (this.acquiredLocks.get(i) == lock) {
+                this.acquiredLocks.remove(i);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Gets the locks currently held by this strand.
+     *
+     * @return list of held locks
+     */
+    public List<BLock> getAcquiredLocks() {
+        if (this.acquiredLocks == null) {
+            return Collections.emptyList();
+        }
+        return this.acquiredLocks;
+    }
+
     public void updateChannelDetails(ChannelDetails[] channels) {
+        if (this.channelDetails == null) {
+            this.channelDetails = new HashSet<>();
+        }
         for (ChannelDetails channel: channels) {
             this.channelDetails.add(channel);
         }
@@ -288,9 +399,9 @@ public class Strand {
     private WorkerDataChannel getWorkerDataChannel(ChannelDetails channel) {
         WorkerDataChannel dataChannel;
         if (channel.channelInSameStrand) {
-            dataChannel = this.wdChannels.getWorkerDataChannel(channel.name);
+            dataChannel = this.getWDChannels().getWorkerDataChannel(channel.name);
         } else {
-            dataChannel = this.parent.wdChannels.getWorkerDataChannel(channel.name);
+            dataChannel = this.parent.getWDChannels().getWorkerDataChannel(channel.name);
         }
         return dataChannel;
     }
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link RunQueue} that gives each worker its own deque.
+ * <p>
+ * Groups made runnable by the strand running on a worker are pushed to the head of that worker's deque and are taken
+ * back in LIFO order. Groups coming from other threads (listeners, callbacks, etc.) go to a global queue. A worker
+ * that runs out of work first checks the global queue, then steals from the tail of a randomly selected victim and
+ * finally parks until a new group is added.
+ *
+ * @since 2.0.0
+ */
+class WorkStealingRunQueue implements RunQueue {
+
+    /**
+     * Upper bound for a single park. Only a safety net, idle workers are unparked when work is added.
+     */
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final Worker[] workers;
+    private final Queue<ItemGroup> globalQueue = new ConcurrentLinkedQueue<>();
+    private final Deque<ParkedWorker> parkedWorkers = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger registeredWorkers = new AtomicInteger();
+    private final ThreadLocal<Worker> currentWorker = new ThreadLocal<>();
+
+    WorkStealingRunQueue(int numWorkers) {
+        this.workers = new Worker[numWorkers];
+        for (int i = 0; i < numWorkers; i++) {
+            this.workers[i] = new Worker();
+        }
+    }
+
+    @Override
+    public void registerWorker() {
+        int index = registeredWorkers.getAndIncrement();
+        if (index < workers.length) {
+            currentWorker.set(workers[index]);
+        }
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        globalQueue.add(group);
+        unparkIdleWorker();
+    }
+
+    @Override
+    public void addLocal(ItemGroup group) {
+        Worker worker = currentWorker.get();
+        if (worker == null) {
+            add(group);
+            return;
+        }
+        worker.deque.addFirst(group);
+        unparkIdleWorker();
+    }
+
+    @Override
+    public ItemGroup take() throws InterruptedException {
+        Worker self = currentWorker.get();
+        while (true) {
+            ItemGroup group = poll(self);
+            if (group != null) {
+                return group;
+            }
+            park();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        if (!globalQueue.isEmpty()) {
+            return false;
+        }
+        for (Worker worker : workers) {
+            if (!worker.deque.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ItemGroup poll(Worker self) {
+        ItemGroup group;
+        if (self != null && (group = self.deque.pollFirst()) != null) {
+            return group;
+        }
+        if ((group = globalQueue.poll()) != null) {
+            return group;
+        }
+        return steal(self);
+    }
+
+    private ItemGroup steal(Worker self) {
+        int numWorkers = workers.length;
+        int start = ThreadLocalRandom.current().nextInt(numWorkers);
+        for (int i = 0; i < numWorkers; i++) {
+            Worker victim = workers[(start + i) % numWorkers];
+            if (victim == self) {
+                continue;
+            }
+            ItemGroup group = victim.deque.pollLast();
+            if (group != null) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private void park() throws InterruptedException {
+        ParkedWorker parked = new ParkedWorker(Thread.currentThread());
+        // Publish this thread as idle before re-checking the queues. Any group added after the re-check will find it
+        // in parkedWorkers and unpark it, so a wake up cannot be lost.
+        parkedWorkers.push(parked);
+        if (isEmpty()) {
+            LockSupport.parkNanos(this, MAX_PARK_NANOS);
+        }
+        // If a producer has already claimed this worker, it counts as woken up and goes on to poll the queues.
+        // Otherwise it withdraws, so that producers do not spend their wake ups on a worker which is not parked.
+        if (parked.claim()) {
+            parkedWorkers.remove(parked);
+        }
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+    private void unparkIdleWorker() {
+        ParkedWorker parked;
+        // Skip the workers that found work or timed out before they could be claimed, until one is actually woken up.
+        while ((parked = parkedWorkers.poll()) != null) {
+            if (parked.claim()) {
+                LockSupport.unpark(parked.thread);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Local run queue of a scheduler thread.
+     */
+    private static class Worker {
+        final Deque<ItemGroup> deque = new ConcurrentLinkedDeque<>();
+    }
+
+    /**
+     * An idle worker waiting in {@link #park()}. It is claimed exactly once, either by a producer waking it up or by
+     * the worker itself when it stops waiting.
+     */
+    private static class ParkedWorker {
+        final Thread thread;
+        private final AtomicBoolean parked = new AtomicBoolean(true);
+
+        ParkedWorker(Thread thread) {
+            this.thread = thread;
+        }
+
+        boolean claim() {
+            return parked.compareAndSet(true, false);
+        }
+    }
+}
@@ -20,6 +20,7 @@ package org.ballerinalang.jvm.types;
 import org.ballerinalang.jvm.BallerinaValues;
 import org.ballerinalang.jvm.StringUtils;
 import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.values.CompactRecordValueImpl;
 import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.MapValueImpl;
 import org.ballerinalang.jvm.values.api.BString;
@@ -38,6 +39,7 @@ public class BRecordType extends BStructureType {
     public int typeFlags;
     private final boolean readonly;
     private BIntersectionType immutableType;
+    private volatile RecordShape shape;
 
     /**
      * Create a {@code BRecordType} which represents the user defined record type.
@@ -83,7 +85,7 @@ public class BRecordType extends BStructureType {
     @SuppressWarnings("unchecked")
     @Override
     public <V extends Object> V getEmptyValue() {
-        MapValue<BString, Object> implicitInitValue = new MapValueImpl<>(this);
+        MapValue<BString, Object> implicitInitValue = new CompactRecordValueImpl<>(this);
         this.fields.entrySet().stream()
                 .filter(entry -> !Flags.isFlagOn(entry.getValue().flags, Flags.OPTIONAL))
                 .forEach(entry -> {
@@ -93,6 +95,21 @@ public class BRecordType extends BStructureType {
         return (V) implicitInitValue;
     }
 
+    /**
+     * Returns the slot layout of the fields declared in this record type. The layout is built on first use and is
+     * rebuilt if the fields are changed afterwards.
+     *
+     * @return shape of this record type
+     */
+    public RecordShape getShape() {
+        RecordShape shape = this.shape;
+        if (shape == null || !shape.isShapeOf(this.fields)) {
+            shape = new RecordShape(this.fields);
+            this.shape = shape;
+        }
+        return shape;
+    }
+
     @Override
     public int getTag() {
         return TypeTags.RECORD_TYPE_TAG;
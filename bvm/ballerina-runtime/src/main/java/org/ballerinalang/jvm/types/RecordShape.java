@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.types;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.values.api.BString;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fixed layout of the fields declared in a {@link BRecordType}. Each declared field is given a slot index, so that
+ * record values created at runtime can keep the field values in an array instead of hashing every entry.
+ *
+ * @since 2.0.0
+ */
+public final class RecordShape {
+
+    private final Map<String, BField> fields;
+    private final int fieldCount;
+    private final BString[] keys;
+    private final Map<String, Integer> slots;
+
+    RecordShape(Map<String, BField> fields) {
+        this.fields = fields;
+        this.fieldCount = fields.size();
+        this.keys = new BString[fieldCount];
+        this.slots = new HashMap<>(fieldCount * 2);
+        int slot = 0;
+        for (String fieldName : fields.keySet()) {
+            this.keys[slot] = StringUtils.fromString(fieldName);
+            this.slots.put(fieldName, slot++);
+        }
+    }
+
+    /**
+     * Returns the slot of the field with the given key.
+     *
+     * @param key field name
+     * @return slot index, or {@code -1} if the key is not a declared field
+     */
+    public int getSlot(Object key) {
+        if (!(key instanceof BString)) {
+            return -1;
+        }
+        Integer slot = slots.get(((BString) key).getValue());
+        return slot == null ? -1 : slot;
+    }
+
+    public BString getKey(int slot) {
+        return keys[slot];
+    }
+
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    boolean isShapeOf(Map<String, BField> fields) {
+        return this.fields == fields && this.fieldCount == fields.size();
+    }
+}
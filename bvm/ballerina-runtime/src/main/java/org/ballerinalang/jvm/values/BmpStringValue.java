@@ -50,12 +50,18 @@ package org.ballerinalang.jvm.values;
 
      @Override
      public BString concat(BString str) {
-         if (str instanceof BmpStringValue) {
+         if (value.length() + str.length() >= RopeStringValue.MIN_LENGTH) {
+             return new RopeStringValue(this, str);
+         } else if (str instanceof BmpStringValue) {
              return new BmpStringValue(this.value + ((BmpStringValue) str).value);
          } else if (str instanceof NonBmpStringValue) {
-             return new NonBmpStringValue(this.value + str.getValue(), ((NonBmpStringValue) str).getSurrogates());
+             int[] surrogates = ((NonBmpStringValue) str).getSurrogates();
+             for (int i = 0; i < surrogates.length; i++) {
+                 surrogates[i] += value.length();
+             }
+             return new NonBmpStringValue(this.value + str.getValue(), surrogates);
          } else {
-             throw new RuntimeException("not impl yet");
+             return new RopeStringValue(this, str);
          }
      }
 
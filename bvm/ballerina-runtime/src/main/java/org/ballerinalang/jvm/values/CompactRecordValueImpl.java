@@ -0,0 +1,677 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.values;
+
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.RecordShape;
+import org.ballerinalang.jvm.values.api.BString;
+
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Record value that is created at runtime (i.e. without a generated record class) and keeps the values of the
+ * declared fields in an array indexed by the {@link RecordShape} of the record type. Only the rest fields are kept in
+ * the underlying hash map.
+ * </p>
+ * <p>
+ * A declared field is a member of the mapping only after a value has been put to it, same as the optional fields
+ * of the generated record classes. Otherwise the value behaves as a {@link MapValueImpl} holding the same entries:
+ * the entries are iterated in the order they were inserted, and the views returned by {@link #entrySet()},
+ * {@link #keySet()} and {@link #values()} write through to the record.
+ * </p>
+ * <p>
+ * <i>Note: This is an internal API and may change in future versions.</i>
+ * </p>
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ *
+ * @since 2.0.0
+ */
+public class CompactRecordValueImpl<K, V> extends MapValueImpl<K, V> {
+
+    private static final long serialVersionUID = 1L;
+    private static final Object ABSENT = new Object();
+    // entry of the insertion order which stands for the next rest field in the underlying map
+    private static final int REST_FIELD = -1;
+
+    private final RecordShape shape;
+    private final Object[] fieldValues;
+    private int presentFieldCount;
+
+    // slots of the present declared fields, and REST_FIELD for each rest field, in the order they were inserted
+    private int[] order;
+    private int orderSize;
+    private int modifications;
+
+    public CompactRecordValueImpl(BRecordType type) {
+        super(type);
+        this.shape = type.getShape();
+        this.fieldValues = new Object[shape.getFieldCount()];
+        Arrays.fill(this.fieldValues, ABSENT);
+        this.order = new int[shape.getFieldCount()];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(Object key) {
+        int slot = shape.getSlot(key);
+        if (slot < 0) {
+            return super.get(key);
+        }
+        Object value = fieldValues[slot];
+        return value == ABSENT ? null : (V) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        int slot = shape.getSlot(key);
+        if (slot < 0) {
+            return super.getOrDefault(key, defaultValue);
+        }
+        Object value = fieldValues[slot];
+        return value == ABSENT ? defaultValue : (V) value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        int slot = shape.getSlot(key);
+        if (slot < 0) {
+            return super.containsKey(key);
+        }
+        return fieldValues[slot] != ABSENT;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (Object fieldValue : fieldValues) {
+            if (fieldValue != ABSENT && Objects.equals(fieldValue, value)) {
+                return true;
+            }
+        }
+        return super.containsValue(value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        int slot = shape.getSlot(key);
+        if (slot < 0) {
+            int restIndex = getRestIndex(key);
+            V oldValue = super.remove(key);
+            if (restIndex >= 0) {
+                removeFromOrder(getRestOrderIndex(restIndex));
+            }
+            return oldValue;
+        }
+        validateFreezeStatus();
+        return removeSlot(slot);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        int slot = shape.getSlot(key);
+        if (slot < 0) {
+            return updateRestField(key, () -> super.remove(key, value));
+        }
+        Object oldValue = fieldValues[slot];
+        if (oldValue == ABSENT || !Objects.equals(oldValue, value)) {
+            return false;
+        }
+        removeSlot(slot);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        Arrays.fill(fieldValues, ABSENT);
+        presentFieldCount = 0;
+        orderSize = 0;
+        modifications++;
+    }
+
+    @Override
+    public int size() {
+        return presentFieldCount + super.size();
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        int slot = shape.getSlot(key);
+        if (slot < 0) {
+            return updateRestField(key, () -> super.putIfAbsent(key, value));
+        }
+        V oldValue = get(key);
+        if (oldValue == null) {
+            setSlot(slot, value);
+        }
+        return oldValue;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map) {
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            putValue(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        int slot = shape.getSlot(key);
+        if (slot < 0) {
+            return updateRestField(key, () -> super.computeIfAbsent(key, mappingFunction));
+        }
+        V oldValue = get(key);
+        if (oldValue != null) {
+            return oldValue;
+        }
+        V value = mappingFunction.apply(key);
+        if (value != null) {
+            setSlot(slot, value);
+        }
+        return value;
+    }
+
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        int slot = shape.getSlot(key);
+        if (slot < 0) {
+            return updateRestField(key, () -> super.computeIfPresent(key, remappingFunction));
+        }
+        V oldValue = get(key);
+        if (oldValue == null) {
+            return null;
+        }
+        return setOrRemoveSlot(slot, remappingFunction.apply(key, oldValue));
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        int slot = shape.getSlot(key);
+        if (slot < 0) {
+            return updateRestField(key, () -> super.compute(key, remappingFunction));
+        }
+        return setOrRemoveSlot(slot, remappingFunction.apply(key, get(key)));
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(value);
+        Objects.requireNonNull(remappingFunction);
+        int slot = shape.getSlot(key);
+        if (slot < 0) {
+            return updateRestField(key, () -> super.merge(key, value, remappingFunction));
+        }
+        V oldValue = get(key);
+        return setOrRemoveSlot(slot, oldValue == null ? value : remappingFunction.apply(oldValue, value));
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        int slot = shape.getSlot(key);
+        if (slot < 0) {
+            return super.replace(key, value);
+        }
+        if (fieldValues[slot] == ABSENT) {
+            return null;
+        }
+        return setSlot(slot, value);
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        int slot = shape.getSlot(key);
+        if (slot < 0) {
+            return super.replace(key, oldValue, newValue);
+        }
+        Object value = fieldValues[slot];
+        if (value == ABSENT || !Objects.equals(value, oldValue)) {
+            return false;
+        }
+        setSlot(slot, newValue);
+        return true;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        Objects.requireNonNull(action);
+        for (Map.Entry<K, V> entry : entrySet()) {
+            action.accept(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+        Objects.requireNonNull(function);
+        for (Map.Entry<K, V> entry : entrySet()) {
+            entry.setValue(function.apply(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new EntrySet();
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return new KeySet();
+    }
+
+    @Override
+    public Collection<V> values() {
+        return new Values();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public K[] getKeys() {
+        K[] keys = (K[]) new BString[size()];
+        int i = 0;
+        for (K key : keySet()) {
+            keys[i++] = key;
+        }
+        return keys;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Object copy(Map<Object, Object> refs) {
+        if (isFrozen()) {
+            return this;
+        }
+
+        if (refs.containsKey(this)) {
+            return refs.get(this);
+        }
+
+        CompactRecordValueImpl<K, V> newRecord = new CompactRecordValueImpl<>((BRecordType) getType());
+        refs.put(this, newRecord);
+        for (Map.Entry<K, V> entry : this.entrySet()) {
+            V value = entry.getValue();
+            value = value instanceof RefValue ? (V) ((RefValue) value).copy(refs) : value;
+            newRecord.put(entry.getKey(), value);
+        }
+        return newRecord;
+    }
+
+    /**
+     * Returns a shallow copy of this record. The field arrays are not shared with the copy.
+     *
+     * @return shallow copy of the record
+     */
+    @Override
+    public Object clone() {
+        CompactRecordValueImpl<K, V> clone = new CompactRecordValueImpl<>((BRecordType) getType());
+        clone.putAll(this);
+        return clone;
+    }
+
+    @Override
+    protected V putValue(K key, V value) {
+        int slot = shape.getSlot(key);
+        if (slot < 0) {
+            int restFieldCount = super.size();
+            V oldValue = super.putValue(key, value);
+            if (super.size() != restFieldCount) {
+                addToOrder(REST_FIELD);
+            }
+            return oldValue;
+        }
+        return setSlot(slot, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V setSlot(int slot, Object value) {
+        Object oldValue = fieldValues[slot];
+        fieldValues[slot] = value;
+        if (oldValue == ABSENT) {
+            presentFieldCount++;
+            addToOrder(slot);
+            return null;
+        }
+        return (V) oldValue;
+    }
+
+    private V setOrRemoveSlot(int slot, V value) {
+        if (value == null) {
+            removeSlot(slot);
+        } else {
+            setSlot(slot, value);
+        }
+        return value;
+    }
+
+    private V removeSlot(int slot) {
+        if (fieldValues[slot] == ABSENT) {
+            return null;
+        }
+        for (int i = 0; i < orderSize; i++) {
+            if (order[i] == slot) {
+                removeFromOrder(i);
+                break;
+            }
+        }
+        return clearSlot(slot);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V clearSlot(int slot) {
+        Object oldValue = fieldValues[slot];
+        if (oldValue == ABSENT) {
+            return null;
+        }
+        fieldValues[slot] = ABSENT;
+        presentFieldCount--;
+        return (V) oldValue;
+    }
+
+    /**
+     * Applies an update to a rest field and keeps the insertion order in sync, in case the update adds or removes the
+     * field.
+     */
+    private <R> R updateRestField(Object key, Supplier<R> update) {
+        int restIndex = getRestIndex(key);
+        R result = update.get();
+        boolean present = super.containsKey(key);
+        if (restIndex < 0 && present) {
+            addToOrder(REST_FIELD);
+        } else if (restIndex >= 0 && !present) {
+            removeFromOrder(getRestOrderIndex(restIndex));
+        }
+        return result;
+    }
+
+    private int getRestIndex(Object key) {
+        if (!super.containsKey(key)) {
+            return -1;
+        }
+        int restIndex = 0;
+        for (K restKey : super.keySet()) {
+            if (Objects.equals(restKey, key)) {
+                return restIndex;
+            }
+            restIndex++;
+        }
+        return -1;
+    }
+
+    private int getRestOrderIndex(int restIndex) {
+        for (int i = 0; i < orderSize; i++) {
+            if (order[i] == REST_FIELD && restIndex-- == 0) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("insertion order of the record is out of sync");
+    }
+
+    private void addToOrder(int slot) {
+        if (orderSize == order.length) {
+            order = Arrays.copyOf(order, orderSize * 2 + 1);
+        }
+        order[orderSize++] = slot;
+        modifications++;
+    }
+
+    private void removeFromOrder(int index) {
+        System.arraycopy(order, index + 1, order, index, orderSize - index - 1);
+        orderSize--;
+        modifications++;
+    }
+
+    /**
+     * Removes a present entry through a view, which does not check whether the record is frozen, same as the views
+     * of the underlying map.
+     */
+    private void removeEntry(Object key) {
+        int slot = shape.getSlot(key);
+        if (slot >= 0) {
+            removeSlot(slot);
+            return;
+        }
+        int restIndex = getRestIndex(key);
+        super.keySet().remove(key);
+        removeFromOrder(getRestOrderIndex(restIndex));
+    }
+
+    /**
+     * Iterates the entries in the order they were inserted, reading the rest fields from the underlying map.
+     */
+    private abstract class OrderIterator<T> implements Iterator<T> {
+
+        private final Iterator<Map.Entry<K, V>> restFields = CompactRecordValueImpl.super.entrySet().iterator();
+        private int index;
+        private int lastIndex = -1;
+        private int expectedModifications = modifications;
+
+        @Override
+        public boolean hasNext() {
+            return index < orderSize;
+        }
+
+        Map.Entry<K, V> nextEntry() {
+            if (modifications != expectedModifications) {
+                throw new ConcurrentModificationException();
+            }
+            if (index >= orderSize) {
+                throw new NoSuchElementException();
+            }
+            lastIndex = index;
+            int slot = order[index++];
+            return slot == REST_FIELD ? restFields.next() : new SlotEntry(slot);
+        }
+
+        @Override
+        public void remove() {
+            if (lastIndex < 0) {
+                throw new IllegalStateException();
+            }
+            if (modifications != expectedModifications) {
+                throw new ConcurrentModificationException();
+            }
+            int slot = order[lastIndex];
+            if (slot == REST_FIELD) {
+                restFields.remove();
+            } else {
+                clearSlot(slot);
+            }
+            removeFromOrder(lastIndex);
+            index = lastIndex;
+            lastIndex = -1;
+            expectedModifications = modifications;
+        }
+    }
+
+    /**
+     * Entry of a declared field, which reads and writes the slot of the field.
+     */
+    private final class SlotEntry implements Map.Entry<K, V> {
+
+        private final int slot;
+
+        SlotEntry(int slot) {
+            this.slot = slot;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public K getKey() {
+            return (K) shape.getKey(slot);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public V getValue() {
+            Object value = fieldValues[slot];
+            return value == ABSENT ? null : (V) value;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public V setValue(V value) {
+            Object oldValue = fieldValues[slot];
+            if (oldValue == ABSENT) {
+                // the field has been removed since the entry was read
+                return null;
+            }
+            fieldValues[slot] = value;
+            return (V) oldValue;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            return Objects.equals(getKey(), entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new OrderIterator<Map.Entry<K, V>>() {
+                @Override
+                public Map.Entry<K, V> next() {
+                    return nextEntry();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return CompactRecordValueImpl.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            Object key = entry.getKey();
+            return containsKey(key) && Objects.equals(get(key), entry.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!contains(o)) {
+                return false;
+            }
+            removeEntry(((Map.Entry<?, ?>) o).getKey());
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            CompactRecordValueImpl.this.clear();
+        }
+    }
+
+    private final class KeySet extends AbstractSet<K> {
+
+        @Override
+        public Iterator<K> iterator() {
+            return new OrderIterator<K>() {
+                @Override
+                public K next() {
+                    return nextEntry().getKey();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return CompactRecordValueImpl.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!containsKey(o)) {
+                return false;
+            }
+            removeEntry(o);
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            CompactRecordValueImpl.this.clear();
+        }
+    }
+
+    private final class Values extends AbstractCollection<V> {
+
+        @Override
+        public Iterator<V> iterator() {
+            return new OrderIterator<V>() {
+                @Override
+                public V next() {
+                    return nextEntry().getValue();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return CompactRecordValueImpl.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return containsValue(o);
+        }
+
+        @Override
+        public void clear() {
+            CompactRecordValueImpl.this.clear();
+        }
+    }
+}
@@ -23,6 +23,7 @@ import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.util.BLangConstants;
 import org.ballerinalang.jvm.values.api.BFunctionPointer;
 
+import java.lang.invoke.MethodHandle;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -47,6 +48,12 @@ public class FPValue<T, R> implements BFunctionPointer<T, R>, RefValue {
     public boolean isConcurrent;
     public String strandName;
 
+    // handle of the method of the function, which takes the strand, the closure maps and the arguments, each followed
+    // by a boolean which indicates whether it is provided. The handle is shared by the function pointers of the
+    // function and is adapted once per call site, while the closure maps are passed to it on each call.
+    MethodHandle handle;
+    Object[] closures;
+
     @Deprecated
     public FPValue(Function<T, R> function, BType type, String strandName, boolean isConcurrent) {
         this.function = function;
@@ -73,6 +80,18 @@ public class FPValue<T, R> implements BFunctionPointer<T, R>, RefValue {
         return this.function;
     }
 
+    /**
+     * Sets the handle of the method of the function, which is called without boxing the arguments when the function
+     * pointer is invoked from the generated code.
+     *
+     * @param handle   handle of the method
+     * @param closures closure maps which are passed to the method after the strand, or null if there are none
+     */
+    public void setHandle(MethodHandle handle, Object[] closures) {
+        this.handle = handle;
+        this.closures = closures;
+    }
+
     @Deprecated
     public Consumer<T> getConsumer() {
         return val -> this.function.apply(val);
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.jvm.values;
+
+import org.ballerinalang.jvm.values.utils.MethodHandleUtils;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.lang.invoke.WrongMethodTypeException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Polymorphic inline cache of a function pointer call, which is linked through invokedynamic.
+ * <p>
+ * The type of the call site is {@code (FPValue, Strand, args...)R}, where each argument is followed by a boolean which
+ * indicates whether it is provided, and the arguments and the return value are of the types of the caller. For each
+ * method handle of a function seen at the call site ({@link FPValue#setHandle(MethodHandle, Object[])}), the handle
+ * is adapted to the type of the call site once and is called directly, guarded by a check of the handle of the
+ * function pointer. The closure maps of the function pointer are loaded from it and passed as the leading arguments of
+ * the method on each call, so function pointers which are created per call share the adapted handle. Function
+ * pointers without a compatible handle are applied with the arguments boxed into an {@code Object[]}. After the call
+ * site becomes megamorphic, the adapted handles are looked up from a map of the call site.
+ *
+ * @since 2.0.0
+ */
+public class FunctionPointerCallSite extends MutableCallSite {
+
+    private static final int MAX_CACHED_HANDLES = 4;
+
+    private static final MethodHandle CHECK_HANDLE;
+    private static final MethodHandle RELINK;
+    private static final MethodHandle LOOKUP;
+    private static final MethodHandle CALL;
+    private static final MethodHandle GET_CLOSURES;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            CHECK_HANDLE = lookup.findStatic(FunctionPointerCallSite.class, "checkHandle",
+                                             MethodType.methodType(boolean.class, MethodHandle.class,
+                                                                   FPValue.class));
+            RELINK = lookup.findVirtual(FunctionPointerCallSite.class, "relink",
+                                        MethodType.methodType(Object.class, Object[].class));
+            LOOKUP = lookup.findVirtual(FunctionPointerCallSite.class, "lookup",
+                                        MethodType.methodType(MethodHandle.class, FPValue.class));
+            CALL = lookup.findVirtual(FPValue.class, "call", MethodType.methodType(Object.class, Object.class));
+            GET_CLOSURES = lookup.findGetter(FPValue.class, "closures", Object[].class);
+        } catch (NoSuchMethodException | NoSuchFieldException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final MethodHandle genericCall;
+    // adapted handles of the megamorphic call site, where the handle of the generic call is the key of the function
+    // pointers without a handle
+    private final Map<MethodHandle, MethodHandle> megamorphicHandles = new ConcurrentHashMap<>();
+    private int cachedHandles = 0;
+
+    private FunctionPointerCallSite(MethodType type) {
+        super(type);
+        this.genericCall = createGenericCall(type);
+        setTarget(RELINK.bindTo(this).asCollector(Object[].class, type.parameterCount()).asType(type));
+    }
+
+    /**
+     * Bootstrap method of the invokedynamic instruction of a function pointer call.
+     *
+     * @param lookup lookup of the caller
+     * @param name   name of the invokedynamic instruction
+     * @param type   type of the call site
+     * @return the call site
+     */
+    public static CallSite bootstrap(MethodHandles.Lookup lookup, String name, MethodType type) {
+        return new FunctionPointerCallSite(type);
+    }
+
+    private static boolean checkHandle(MethodHandle handle, FPValue<?, ?> fpValue) {
+        return fpValue.handle == handle;
+    }
+
+    private static MethodHandle createGenericCall(MethodType type) {
+        // (FPValue, Object[]) -> (FPValue, Strand, args...)
+        return MethodHandleUtils.adapt(CALL.asCollector(Object[].class, type.parameterCount() - 1), type);
+    }
+
+    private Object relink(Object[] args) throws Throwable {
+        return link((FPValue<?, ?>) args[0]).invokeWithArguments(args);
+    }
+
+    /**
+     * Adds the handle of the given function pointer to the cache and returns the method handle which should be called
+     * for the function pointers of it.
+     */
+    private synchronized MethodHandle link(FPValue<?, ?> fpValue) {
+        if (cachedHandles == MAX_CACHED_HANDLES) {
+            // megamorphic call site, (MethodHandle, FPValue, Strand, args...) -> (FPValue, Strand, args...)
+            MethodHandle lookup = LOOKUP.bindTo(this).asType(MethodType.methodType(MethodHandle.class,
+                                                                                   type().parameterType(0)));
+            setTarget(MethodHandles.foldArguments(MethodHandles.exactInvoker(type()), lookup));
+            return lookup(fpValue);
+        }
+        MethodHandle method = adapt(fpValue);
+
+        MethodHandle test = MethodHandles.insertArguments(CHECK_HANDLE, 0, fpValue.handle).asType(
+                MethodType.methodType(boolean.class, type().parameterType(0)));
+        setTarget(MethodHandles.guardWithTest(test, method, getTarget()));
+        cachedHandles++;
+        return method;
+    }
+
+    private MethodHandle lookup(FPValue<?, ?> fpValue) {
+        MethodHandle handle = fpValue.handle;
+        return megamorphicHandles.computeIfAbsent(handle != null ? handle : genericCall, key -> adapt(fpValue));
+    }
+
+    /**
+     * Adapts the handle of the given function pointer to the type of the call site, where the closure maps are loaded
+     * from the function pointer which is called.
+     */
+    private MethodHandle adapt(FPValue<?, ?> fpValue) {
+        MethodHandle handle = fpValue.handle;
+        if (handle == null) {
+            return genericCall;
+        }
+        int closureCount = fpValue.closures == null ? 0 : fpValue.closures.length;
+        try {
+            // (Strand, closure, boolean, ..., args...) -> (Strand, closure, ..., args...)
+            for (int i = 0; i < closureCount; i++) {
+                handle = MethodHandles.insertArguments(handle, i + 2, true);
+            }
+
+            // (Strand, closure, ..., args...) -> (Strand, Object, ..., args of the call site...)
+            MethodType type = type();
+            MethodType closureType = type.dropParameterTypes(0, 1);
+            for (int i = 0; i < closureCount; i++) {
+                closureType = closureType.insertParameterTypes(1, Object.class);
+            }
+            handle = MethodHandleUtils.adapt(handle, closureType);
+            if (closureCount == 0) {
+                return MethodHandles.dropArguments(handle, 0, type.parameterType(0));
+            }
+
+            // (Strand, Object, ..., args...) -> (Strand, FPValue, ..., args...)
+            MethodHandle[] closureGetters = new MethodHandle[closureCount];
+            for (int i = 0; i < closureCount; i++) {
+                MethodHandle elementGetter = MethodHandles.insertArguments(
+                        MethodHandles.arrayElementGetter(Object[].class), 1, i);
+                closureGetters[i] = MethodHandles.filterArguments(elementGetter, 0, GET_CLOSURES)
+                        .asType(MethodType.methodType(Object.class, type.parameterType(0)));
+            }
+            handle = MethodHandles.filterArguments(handle, 1, closureGetters);
+
+            // (Strand, FPValue, ..., args...) -> (FPValue, Strand, args...)
+            int[] reorder = new int[handle.type().parameterCount()];
+            reorder[0] = 1;
+            for (int i = 1; i < reorder.length; i++) {
+                reorder[i] = i <= closureCount ? 0 : i - closureCount + 1;
+            }
+            return MethodHandles.permuteArguments(handle, type, reorder);
+        } catch (WrongMethodTypeException | ClassCastException | IllegalArgumentException e) {
+            // the function is of a subtype with different parameter types, hence applied with boxed arguments
+            return genericCall;
+        }
+    }
+}
@@ -69,16 +69,23 @@
 
     @Override
     public BString concat(BString str) {
-        if (str instanceof NonBmpStringValue) {
+        if (value.length() + str.length() >= RopeStringValue.MIN_LENGTH) {
+            return new RopeStringValue(this, str);
+        } else if (str instanceof NonBmpStringValue) {
             NonBmpStringValue other = (NonBmpStringValue) str;
             int[] both = Arrays.copyOf(surrogates, surrogates.length + other.surrogates.length);
             System.arraycopy(other.surrogates, 0, both, surrogates.length, other.surrogates.length);
+            // surrogate locations of the other string are moved past the code points of this one
+            int length = length();
+            for (int i = surrogates.length; i < both.length; i++) {
+                both[i] += length;
+            }
             return new NonBmpStringValue(this.value + other.value, both);
         } else if (str instanceof BmpStringValue) {
             BmpStringValue other = (BmpStringValue) str;
             return new NonBmpStringValue(this.value + other.getValue(), surrogates);
         } else {
-            throw new RuntimeException("not impl yet");
+            return new RopeStringValue(this, str);
         }
     }
 
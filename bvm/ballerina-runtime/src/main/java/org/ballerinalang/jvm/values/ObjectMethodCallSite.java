@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.jvm.values;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.utils.MethodHandleUtils;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Polymorphic inline cache of an object method call, which is linked through invokedynamic when the static type of
+ * the object is an abstract object type.
+ * <p>
+ * The type of the call site is {@code (ObjectValue, Strand, args...)Object}, where the arguments are followed by the
+ * booleans which indicate whether they are provided by the user. For each object class seen at the call site, the
+ * generated method of the class is called directly, guarded by a check of the class of the object. Classes which do
+ * not have such a method (e.g. mock objects) and the classes seen after the call site becomes megamorphic go through
+ * {@link ObjectValue#call(Strand, String, Object...)}.
+ *
+ * @since 2.0.0
+ */
+public class ObjectMethodCallSite extends MutableCallSite {
+
+    private static final int MAX_CACHED_CLASSES = 4;
+
+    private static final MethodHandle CHECK_CLASS;
+    private static final MethodHandle RELINK;
+    private static final MethodHandle CALL;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            CHECK_CLASS = lookup.findStatic(ObjectMethodCallSite.class, "checkClass",
+                                            MethodType.methodType(boolean.class, Class.class, Object.class));
+            RELINK = lookup.findVirtual(ObjectMethodCallSite.class, "relink",
+                                        MethodType.methodType(Object.class, Object[].class));
+            CALL = lookup.findVirtual(ObjectValue.class, "call",
+                                      MethodType.methodType(Object.class, Strand.class, String.class,
+                                                            Object[].class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final String jvmMethodName;
+    private final MethodHandle genericCall;
+    private int cachedClasses = 0;
+
+    private ObjectMethodCallSite(MethodType type, String methodName, String jvmMethodName) {
+        super(type);
+        this.jvmMethodName = jvmMethodName;
+        this.genericCall = createGenericCall(type, methodName);
+        setTarget(RELINK.bindTo(this).asCollector(Object[].class, type.parameterCount()).asType(type));
+    }
+
+    /**
+     * Bootstrap method of the invokedynamic instruction of an object method call.
+     *
+     * @param lookup        lookup of the caller
+     * @param name          name of the invokedynamic instruction
+     * @param type          type of the call site
+     * @param methodName    name of the Ballerina method
+     * @param jvmMethodName name of the method generated for the Ballerina method
+     * @return the call site
+     */
+    public static CallSite bootstrap(MethodHandles.Lookup lookup, String name, MethodType type, String methodName,
+                                     String jvmMethodName) {
+        return new ObjectMethodCallSite(type, methodName, jvmMethodName);
+    }
+
+    private static boolean checkClass(Class<?> objectClass, Object object) {
+        return object.getClass() == objectClass;
+    }
+
+    private static MethodHandle createGenericCall(MethodType type, String methodName) {
+        // (ObjectValue, Strand, Object[]) -> (ObjectValue, Strand, args...)
+        MethodHandle call = MethodHandles.insertArguments(CALL, 2, methodName);
+        return call.asCollector(Object[].class, type.parameterCount() - 2).asType(type);
+    }
+
+    private Object relink(Object[] args) throws Throwable {
+        return link(args[0].getClass()).invokeWithArguments(args);
+    }
+
+    /**
+     * Adds the given class to the cache and returns the method handle which should be called for objects of it.
+     */
+    private synchronized MethodHandle link(Class<?> objectClass) {
+        if (cachedClasses == MAX_CACHED_CLASSES) {
+            // megamorphic call site
+            setTarget(genericCall);
+            return genericCall;
+        }
+        MethodHandle method = findMethod(objectClass);
+        if (method == null) {
+            method = genericCall;
+        }
+
+        MethodHandle test = CHECK_CLASS.bindTo(objectClass).asType(MethodType.methodType(boolean.class,
+                                                                                         type().parameterType(0)));
+        setTarget(MethodHandles.guardWithTest(test, method, getTarget()));
+        cachedClasses++;
+        return method;
+    }
+
+    private MethodHandle findMethod(Class<?> objectClass) {
+        int paramCount = type().parameterCount() - 1;
+        for (Method method : objectClass.getDeclaredMethods()) {
+            if (!method.getName().equals(jvmMethodName) || method.getParameterCount() != paramCount ||
+                    method.getParameterTypes()[0] != Strand.class || !Modifier.isPublic(method.getModifiers()) ||
+                    Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            try {
+                return MethodHandleUtils.adapt(MethodHandles.publicLookup().unreflect(method), type());
+            } catch (IllegalAccessException | WrongMethodTypeException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm.values;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.values.api.BString;
+
+/**
+ * Represent ballerina strings which are the result of a concatenation.
+ * <p>
+ * The characters are kept in a buffer, which is shared by the strings built by appending to the same string. A
+ * string is a prefix of the buffer, so appending to the longest string of a buffer writes to the buffer in place,
+ * which makes building a string in a loop linear. A contiguous {@link BmpStringValue} or {@link NonBmpStringValue} is
+ * created only when the value, a code point or the hash of the string is needed.
+ *
+ * @since 2.0.0
+ */
+public class RopeStringValue implements StringValue {
+
+    /**
+     * Concatenations which result in strings shorter than this create contiguous strings.
+     */
+    static final int MIN_LENGTH = 64;
+
+    private final Buffer buffer;
+    private final int charLength;
+    private final int surrogateCount;
+    private volatile BString flattened;
+
+    RopeStringValue(BString prefix, BString suffix) {
+        String prefixValue = prefix.getValue();
+        String suffixValue = suffix.getValue();
+        this.charLength = prefixValue.length() + suffixValue.length();
+        this.surrogateCount = charLength - prefix.length() - suffix.length();
+        this.buffer = new Buffer(charLength);
+        buffer.append(0, prefixValue);
+        buffer.append(prefixValue.length(), suffixValue);
+    }
+
+    private RopeStringValue(Buffer buffer, int charLength, int surrogateCount) {
+        this.buffer = buffer;
+        this.charLength = charLength;
+        this.surrogateCount = surrogateCount;
+    }
+
+    @Override
+    public String getValue() {
+        return flatten().getValue();
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return flatten().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return charLength - surrogateCount;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        String suffix = str.getValue();
+        int newCharLength = charLength + suffix.length();
+        int newSurrogateCount = surrogateCount + suffix.length() - str.length();
+        if (buffer.append(charLength, suffix)) {
+            return new RopeStringValue(buffer, newCharLength, newSurrogateCount);
+        }
+        // another string has already been appended to this one, hence it is copied to a new buffer
+        Buffer newBuffer = buffer.copy(charLength, newCharLength);
+        newBuffer.append(charLength, suffix);
+        return new RopeStringValue(newBuffer, newCharLength, newSurrogateCount);
+    }
+
+    @Override
+    public String stringValue() {
+        return getValue();
+    }
+
+    @Override
+    public int hashCode() {
+        return getValue().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object str) {
+        if (str == this) {
+            return true;
+        }
+        if (str instanceof BString) {
+            return ((BString) str).getValue().equals(getValue());
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        return flatten().indexOf(str, fromIndex);
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        return flatten().lastIndexOf(str, fromIndex);
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return flatten().substring(beginIndex, endIndex);
+    }
+
+    private BString flatten() {
+        BString flattened = this.flattened;
+        if (flattened == null) {
+            String value = buffer.toString(charLength);
+            flattened = surrogateCount == 0 ? new BmpStringValue(value) : StringUtils.fromString(value);
+            this.flattened = flattened;
+        }
+        return flattened;
+    }
+
+    /**
+     * Growable buffer of the characters of the strings.
+     */
+    private static class Buffer {
+
+        private char[] chars;
+        private int length = 0;
+
+        Buffer(int capacity) {
+            this.chars = new char[capacity];
+        }
+
+        /**
+         * Appends the given string, if the buffer has not been appended to after the string of the given length.
+         */
+        synchronized boolean append(int expectedLength, String str) {
+            if (length != expectedLength) {
+                return false;
+            }
+            int newLength = length + str.length();
+            if (newLength > chars.length) {
+                char[] newChars = new char[Math.max(newLength, chars.length * 2)];
+                System.arraycopy(chars, 0, newChars, 0, length);
+                chars = newChars;
+            }
+            str.getChars(0, str.length(), chars, length);
+            length = newLength;
+            return true;
+        }
+
+        synchronized Buffer copy(int length, int capacity) {
+            Buffer buffer = new Buffer(capacity);
+            System.arraycopy(chars, 0, buffer.chars, 0, length);
+            buffer.length = length;
+            return buffer;
+        }
+
+        synchronized String toString(int length) {
+            return new String(chars, 0, length);
+        }
+    }
+}
@@ -37,10 +37,9 @@ import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.jvm.values.api.BString;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.function.Function;
 
@@ -56,6 +55,15 @@ public class Executor {
             new BType[]{BTypes.typeError, BTypes.typeNull},
             TypeFlags.asMask(TypeFlags.NILABLE, TypeFlags.PURETYPE));
 
+    // functions resolved from each class, against their names and parameter types
+    private static final ClassValue<Map<String, FunctionHandle>> FUNCTIONS =
+            new ClassValue<Map<String, FunctionHandle>>() {
+                @Override
+                protected Map<String, FunctionHandle> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
     private Executor() {
     }
 
@@ -125,33 +133,81 @@ public class Executor {
      * @param methodName  to be invokable unit
      * @param paramValues to be passed to invokable unit
      * @return return values
+     * @throws RuntimeException the panic of the function, if it panics
      */
     public static Object executeFunction(Scheduler scheduler, String strandName, StrandMetadata metaData,
                                          ClassLoader classLoader, final String orgName,
                                          String packageName, String version, String className, String methodName,
                                          Object... paramValues) {
+        Class<?>[] paramTypes = new Class[paramValues.length];
+        for (int i = 0; i < paramValues.length; i++) {
+            paramTypes[i] = getJvmType(paramValues[i]);
+        }
+        FunctionHandle function = getFunction(classLoader, orgName, packageName, version, className, methodName,
+                                              paramTypes);
+        return executeFunction(scheduler, strandName, metaData, function, paramValues);
+    }
+
+    /**
+     * Resolves a Ballerina function to a handle, which can be executed any number of times. Resolved functions are
+     * cached against their classes, so resolving the same function again is cheap as well.
+     *
+     * @param classLoader normal classLoader
+     * @param orgName     org which the package belongs to
+     * @param packageName package which the class belongs to
+     * @param version     version which the class belongs to
+     * @param className   which the function resides/ or file name
+     * @param methodName  to be invokable unit
+     * @param paramTypes  JVM types of the parameters of the function
+     * @return resolved function
+     */
+    public static FunctionHandle getFunction(ClassLoader classLoader, String orgName, String packageName,
+                                             String version, String className, String methodName,
+                                             Class<?>... paramTypes) {
         try {
             Class<?> clazz = classLoader.loadClass(
                     orgName + "." + packageName + "." + version.replace(".", "_") + "." + className);
-            int paramCount = paramValues.length * 2 + 1;
-            Class<?>[] jvmParamTypes = new Class[paramCount];
-            Object[] jvmArgs = new Object[paramCount];
-            jvmParamTypes[0] = Strand.class;
-            jvmArgs[0] = scheduler;
-            for (int i = 0, j = 1; i < paramValues.length; i++) {
-                jvmArgs[j] = paramValues[i];
-                jvmParamTypes[j++] = getJvmType(paramValues[i]);
-                jvmArgs[j] = true;
-                jvmParamTypes[j++] = boolean.class;
+            StringBuilder key = new StringBuilder(methodName);
+            for (Class<?> paramType : paramTypes) {
+                key.append(';').append(paramType.getName());
             }
-            Method method = clazz.getDeclaredMethod(methodName, jvmParamTypes);
-            Function<Object[], Object> func = args -> {
-                try {
-                    return method.invoke(null, args);
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    throw new BallerinaException(methodName + " function invocation failed: " + e.getMessage());
-                }
-            };
+            Map<String, FunctionHandle> functions = FUNCTIONS.get(clazz);
+            FunctionHandle function = functions.get(key.toString());
+            if (function == null) {
+                function = new FunctionHandle(clazz.getDeclaredMethod(methodName, getJvmParamTypes(paramTypes)));
+                functions.put(key.toString(), function);
+            }
+            return function;
+        } catch (NoSuchMethodException | ClassNotFoundException | IllegalAccessException e) {
+            throw new BallerinaException("invocation failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * This method will invoke a resolved Ballerina function in blocking manner.
+     *
+     * @param scheduler   current scheduler
+     * @param strandName  name for newly creating strand which is used to execute the function pointer.
+     * @param metaData    meta data of new strand.
+     * @param function    function resolved through {@link #getFunction}
+     * @param paramValues to be passed to invokable unit
+     * @return return values
+     * @throws RuntimeException the panic of the function, if it panics
+     */
+    public static Object executeFunction(Scheduler scheduler, String strandName, StrandMetadata metaData,
+                                         FunctionHandle function, Object... paramValues) {
+        int paramCount = paramValues.length * 2 + 1;
+        if (function.getParamCount() != paramCount) {
+            throw new BallerinaException("invocation failed: wrong number of arguments for " + function.getName());
+        }
+        Object[] jvmArgs = new Object[paramCount];
+        jvmArgs[0] = scheduler;
+        for (int i = 0, j = 1; i < paramValues.length; i++) {
+            jvmArgs[j++] = paramValues[i];
+            jvmArgs[j++] = true;
+        }
+        Function<Object[], Object> func = function::invoke;
+        try {
             CountDownLatch completeFunction = new CountDownLatch(1);
             FutureValue futureValue = scheduler.schedule(jvmArgs, func, null, new CallableUnitCallback() {
                 @Override
@@ -165,12 +221,34 @@ public class Executor {
                 }
             }, new HashMap<>(), BTypes.typeNull, strandName, metaData);
             completeFunction.await();
+            if (futureValue.panic != null) {
+                rethrowPanic(futureValue.panic);
+            }
             return futureValue.result;
-        } catch (NoSuchMethodException | ClassNotFoundException | InterruptedException e) {
+        } catch (InterruptedException e) {
             throw new BallerinaException("invocation failed: " + e.getMessage());
         }
     }
 
+    private static void rethrowPanic(Throwable panic) {
+        if (panic instanceof RuntimeException) {
+            throw (RuntimeException) panic;
+        } else if (panic instanceof Error) {
+            throw (Error) panic;
+        }
+        throw new BallerinaException(panic);
+    }
+
+    private static Class<?>[] getJvmParamTypes(Class<?>[] paramTypes) {
+        Class<?>[] jvmParamTypes = new Class[paramTypes.length * 2 + 1];
+        jvmParamTypes[0] = Strand.class;
+        for (int i = 0, j = 1; i < paramTypes.length; i++) {
+            jvmParamTypes[j++] = paramTypes[i];
+            jvmParamTypes[j++] = boolean.class;
+        }
+        return jvmParamTypes;
+    }
+
     private static Class<?> getJvmType(Object paramValue) {
         if (paramValue instanceof MapValue) {
             return MapValue.class;
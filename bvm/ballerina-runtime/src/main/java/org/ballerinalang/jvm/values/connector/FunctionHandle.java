@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm.values.connector;
+
+import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+/**
+ * {@code FunctionHandle} is a Ballerina function resolved to the JVM method that implements it. A handle is resolved
+ * once through {@link Executor#getFunction} and can then be executed any number of times, without loading the class
+ * or looking up the method again.
+ *
+ * @since 2.0.0
+ */
+public class FunctionHandle {
+
+    private final String name;
+    private final int paramCount;
+    // takes the JVM arguments of the method as an array and returns the boxed result
+    private final MethodHandle invoker;
+
+    FunctionHandle(Method method) throws IllegalAccessException {
+        this.name = method.getName();
+        this.paramCount = method.getParameterCount();
+        this.invoker = MethodHandles.lookup().unreflect(method)
+                .asType(MethodType.genericMethodType(paramCount))
+                .asSpreader(Object[].class, paramCount);
+    }
+
+    /**
+     * Returns the name of the function.
+     *
+     * @return function name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of JVM parameters of the function, which are the strand and a value and a boolean for each
+     * Ballerina parameter.
+     *
+     * @return number of JVM parameters
+     */
+    int getParamCount() {
+        return paramCount;
+    }
+
+    Object invoke(Object[] jvmArgs) {
+        try {
+            return invoker.invokeExact(jvmArgs);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new BallerinaException(name + " function invocation failed: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.jvm.values.utils;
+
+import org.ballerinalang.jvm.TypeChecker;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+
+/**
+ * Utility methods to adapt the method handles of the generated Ballerina methods to the types of the call sites.
+ *
+ * @since 2.0.0
+ */
+public class MethodHandleUtils {
+
+    private static final MethodHandle ANY_TO_INT;
+    private static final MethodHandle ANY_TO_FLOAT;
+    private static final MethodHandle ANY_TO_BOOLEAN;
+    private static final MethodHandle ANY_TO_BYTE;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        try {
+            ANY_TO_INT = lookup.findStatic(TypeChecker.class, "anyToInt",
+                                           MethodType.methodType(long.class, Object.class));
+            ANY_TO_FLOAT = lookup.findStatic(TypeChecker.class, "anyToFloat",
+                                             MethodType.methodType(double.class, Object.class));
+            ANY_TO_BOOLEAN = lookup.findStatic(TypeChecker.class, "anyToBoolean",
+                                               MethodType.methodType(boolean.class, Object.class));
+            ANY_TO_BYTE = lookup.findStatic(TypeChecker.class, "anyToByte",
+                                            MethodType.methodType(int.class, Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private MethodHandleUtils() {
+    }
+
+    /**
+     * Adapts the given method handle to the given type. Unlike {@link MethodHandle#asType(MethodType)}, references
+     * are converted to primitive values the same way as in the generated code, e.g. an int value which is a
+     * {@link Integer} (a byte) is converted to a long.
+     *
+     * @param handle method handle to be adapted
+     * @param type   required type
+     * @return the adapted method handle
+     * @throws WrongMethodTypeException if the method handle cannot be adapted to the type
+     */
+    public static MethodHandle adapt(MethodHandle handle, MethodType type) {
+        MethodType handleType = handle.type();
+        int paramCount = handleType.parameterCount();
+        if (paramCount != type.parameterCount()) {
+            throw new WrongMethodTypeException("cannot convert " + handleType + " to " + type);
+        }
+
+        MethodHandle[] filters = new MethodHandle[paramCount];
+        boolean filtered = false;
+        for (int i = 0; i < paramCount; i++) {
+            Class<?> paramType = handleType.parameterType(i);
+            if (paramType.isPrimitive() && !type.parameterType(i).isPrimitive()) {
+                filters[i] = getUnboxingFilter(paramType);
+                filtered |= filters[i] != null;
+            }
+        }
+        if (filtered) {
+            handle = MethodHandles.filterArguments(handle, 0, filters);
+        }
+
+        Class<?> returnType = type.returnType();
+        if (returnType.isPrimitive() && !handleType.returnType().isPrimitive()) {
+            MethodHandle filter = getUnboxingFilter(returnType);
+            if (filter != null) {
+                handle = MethodHandles.filterReturnValue(handle.asType(handle.type().changeReturnType(Object.class)),
+                                                         filter);
+            }
+        }
+        return handle.asType(type);
+    }
+
+    private static MethodHandle getUnboxingFilter(Class<?> type) {
+        if (type == long.class) {
+            return ANY_TO_INT;
+        } else if (type == double.class) {
+            return ANY_TO_FLOAT;
+        } else if (type == boolean.class) {
+            return ANY_TO_BOOLEAN;
+        } else if (type == int.class) {
+            return ANY_TO_BYTE;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.jvm.values.utils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.Function;
+
+/**
+ * Stable sort of Ballerina values, which are compared through comparators that may call back into Ballerina code.
+ * <p>
+ * The values are split into ascending runs, which are extended to a minimum length through binary insertion sort
+ * and merged as per the TimSort invariants, so already sorted or reversed inputs are sorted in linear time. Unlike
+ * {@link Arrays#sort(Object[], Comparator)}, an inconsistent comparator never fails the sort; the values
+ * are then left in an unspecified order.
+ *
+ * @since 2.0.0
+ */
+public class TimSort {
+
+    private static final int MIN_MERGE = 32;
+    private static final int MAX_RUNS = 49;
+
+    private final Object[] values;
+    private final Comparator<Object> comparator;
+    private Object[] tmp;
+
+    // start index and the length of the pending runs
+    private final int[] runBase = new int[MAX_RUNS];
+    private final int[] runLength = new int[MAX_RUNS];
+    private int runCount = 0;
+
+    private TimSort(Object[] values, Comparator<Object> comparator) {
+        this.values = values;
+        this.comparator = comparator;
+    }
+
+    /**
+     * Sorts the given values in place.
+     *
+     * @param values     values to be sorted
+     * @param size       number of values to be sorted, starting from the first one
+     * @param comparator comparator of the values
+     */
+    public static void sort(Object[] values, int size, Comparator<Object> comparator) {
+        if (size < 2) {
+            return;
+        }
+        if (size < MIN_MERGE) {
+            int runEnd = findRunAndMakeAscending(values, 0, size, comparator);
+            binaryInsertionSort(values, 0, size, runEnd, comparator);
+            return;
+        }
+
+        TimSort sorter = new TimSort(values, comparator);
+        int minRun = minRunLength(size);
+        int start = 0;
+        while (start < size) {
+            int runEnd = findRunAndMakeAscending(values, start, size, comparator);
+            if (runEnd - start < minRun) {
+                int forcedEnd = Math.min(size, start + minRun);
+                binaryInsertionSort(values, start, forcedEnd, runEnd, comparator);
+                runEnd = forcedEnd;
+            }
+            sorter.pushRun(start, runEnd - start);
+            sorter.mergeCollapse();
+            start = runEnd;
+        }
+        sorter.mergeForceCollapse();
+    }
+
+    /**
+     * Sorts the given values in place by the keys of the values. The key of each value is computed only once.
+     *
+     * @param values        values to be sorted
+     * @param size          number of values to be sorted, starting from the first one
+     * @param keyFunction   function which computes the key of a value
+     * @param keyComparator comparator of the keys
+     */
+    public static void sort(Object[] values, int size, Function<Object, Object> keyFunction,
+                            Comparator<Object> keyComparator) {
+        KeyedValue[] keyedValues = new KeyedValue[size];
+        for (int i = 0; i < size; i++) {
+            keyedValues[i] = new KeyedValue(keyFunction.apply(values[i]), values[i]);
+        }
+        sort(keyedValues, size, (a, b) -> keyComparator.compare(((KeyedValue) a).key, ((KeyedValue) b).key));
+        for (int i = 0; i < size; i++) {
+            values[i] = keyedValues[i].value;
+        }
+    }
+
+    /**
+     * Returns the end of the run which starts at the given index, after reversing the run if it is strictly
+     * descending. Reversing only strictly descending runs keeps the sort stable.
+     */
+    private static int findRunAndMakeAscending(Object[] values, int start, int end, Comparator<Object> comparator) {
+        int runEnd = start + 1;
+        if (runEnd == end) {
+            return runEnd;
+        }
+        if (comparator.compare(values[runEnd++], values[start]) < 0) {
+            while (runEnd < end && comparator.compare(values[runEnd], values[runEnd - 1]) < 0) {
+                runEnd++;
+            }
+            reverse(values, start, runEnd);
+        } else {
+            while (runEnd < end && comparator.compare(values[runEnd], values[runEnd - 1]) >= 0) {
+                runEnd++;
+            }
+        }
+        return runEnd;
+    }
+
+    private static void reverse(Object[] values, int start, int end) {
+        for (int i = start, j = end - 1; i < j; i++, j--) {
+            Object value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    /**
+     * Sorts the values from start to end, where the values from start to sortedEnd are already sorted.
+     */
+    private static void binaryInsertionSort(Object[] values, int start, int end, int sortedEnd,
+                                            Comparator<Object> comparator) {
+        for (int i = sortedEnd; i < end; i++) {
+            Object pivot = values[i];
+            // equal values are placed after the existing ones, to keep the sort stable
+            int position = upperBound(values, start, i, pivot, comparator);
+            System.arraycopy(values, position, values, position + 1, i - position);
+            values[position] = pivot;
+        }
+    }
+
+    /**
+     * Returns the index of the first value in the sorted range which is greater than the given value.
+     */
+    private static int upperBound(Object[] values, int start, int end, Object value, Comparator<Object> comparator) {
+        int low = start;
+        int high = end;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(value, values[mid]) < 0) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first value in the sorted range which is not less than the given value.
+     */
+    private static int lowerBound(Object[] values, int start, int end, Object value, Comparator<Object> comparator) {
+        int low = start;
+        int high = end;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(values[mid], value) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int minRunLength(int size) {
+        int lowBits = 0;
+        while (size >= MIN_MERGE) {
+            lowBits |= (size & 1);
+            size >>= 1;
+        }
+        return size + lowBits;
+    }
+
+    private void pushRun(int base, int length) {
+        runBase[runCount] = base;
+        runLength[runCount] = length;
+        runCount++;
+    }
+
+    /**
+     * Merges the pending runs until the lengths of the runs decrease faster than the Fibonacci numbers, which keeps
+     * the merges balanced and the number of pending runs logarithmic.
+     */
+    private void mergeCollapse() {
+        while (runCount > 1) {
+            int n = runCount - 2;
+            if (n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1] ||
+                    n > 1 && runLength[n - 2] <= runLength[n] + runLength[n - 1]) {
+                if (runLength[n - 1] < runLength[n + 1]) {
+                    n--;
+                }
+            } else if (runLength[n] > runLength[n + 1]) {
+                break;
+            }
+            mergeAt(n);
+        }
+    }
+
+    private void mergeForceCollapse() {
+        while (runCount > 1) {
+            int n = runCount - 2;
+            if (n > 0 && runLength[n - 1] < runLength[n + 1]) {
+                n--;
+            }
+            mergeAt(n);
+        }
+    }
+
+    /**
+     * Merges the runs at the given index and the next index of the run stack.
+     */
+    private void mergeAt(int i) {
+        int base1 = runBase[i];
+        int length1 = runLength[i];
+        int base2 = runBase[i + 1];
+        int length2 = runLength[i + 1];
+
+        runLength[i] = length1 + length2;
+        if (i == runCount - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLength[i + 1] = runLength[i + 2];
+        }
+        runCount--;
+
+        // values of the first run which are not greater than the first value of the second run are in place
+        int start = upperBound(values, base1, base1 + length1, values[base2], comparator);
+        length1 -= start - base1;
+        if (length1 == 0) {
+            return;
+        }
+        // values of the second run which are not less than the last value of the first run are in place
+        int end = lowerBound(values, base2, base2 + length2, values[base2 - 1], comparator);
+        if (end == base2) {
+            return;
+        }
+
+        if (tmp == null || tmp.length < length1) {
+            tmp = new Object[Math.max(length1, tmp == null ? MIN_MERGE : Math.min(tmp.length * 2, values.length))];
+        }
+        System.arraycopy(values, start, tmp, 0, length1);
+        int i1 = 0;
+        int i2 = base2;
+        int k = start;
+        while (i1 < length1 && i2 < end) {
+            // a value of the second run goes first only if it is less, to keep the sort stable
+            if (comparator.compare(values[i2], tmp[i1]) < 0) {
+                values[k++] = values[i2++];
+            } else {
+                values[k++] = tmp[i1++];
+            }
+        }
+        // the rest of the second run is already in place
+        System.arraycopy(tmp, i1, values, k, length1 - i1);
+    }
+
+    /**
+     * A value together with its precomputed sort key.
+     */
+    private static class KeyedValue {
+
+        final Object key;
+        final Object value;
+
+        KeyedValue(Object key, Object value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.ballerinalang.jvm.scheduling.ItemGroup.POISON_PILL;
+
+/**
+ * Test cases for the run queues selected by the {@code BALLERINA_SCHEDULER_QUEUE} environment variable.
+ */
+public class RunQueueTests {
+
+    private static final int ROUNDS = 50;
+
+    @DataProvider(name = "queueKinds")
+    public Object[][] queueKinds() {
+        return new Object[][]{{RunQueue.SHARED}, {RunQueue.WORK_STEALING}};
+    }
+
+    @Test(description = "Test the groups added by a worker are taken back in LIFO order when work stealing",
+          dataProvider = "queueKinds")
+    public void testLocalOrder(String kind) throws InterruptedException {
+        RunQueue queue = RunQueue.create(kind, 1);
+        queue.registerWorker();
+        ItemGroup[] groups = createGroups(3);
+        for (ItemGroup group : groups) {
+            queue.addLocal(group);
+        }
+        boolean lifo = RunQueue.WORK_STEALING.equals(kind);
+        for (int i = 0; i < groups.length; i++) {
+            Assert.assertSame(queue.take(), groups[lifo ? groups.length - 1 - i : i]);
+        }
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    @Test(description = "Test an idle worker takes the oldest group added by another worker",
+          dataProvider = "queueKinds")
+    public void testSteal(String kind) throws InterruptedException {
+        RunQueue queue = RunQueue.create(kind, 2);
+        ItemGroup[] groups = createGroups(3);
+        Thread owner = new Thread(() -> {
+            queue.registerWorker();
+            for (ItemGroup group : groups) {
+                queue.addLocal(group);
+            }
+        });
+        owner.start();
+        owner.join();
+
+        BlockingQueue<ItemGroup> taken = new LinkedBlockingQueue<>();
+        Thread thief = startWorker(queue, taken);
+        Assert.assertSame(taken.poll(5, TimeUnit.SECONDS), groups[0]);
+        queue.add(POISON_PILL);
+        thief.join(TimeUnit.SECONDS.toMillis(5));
+        Assert.assertFalse(thief.isAlive());
+    }
+
+    @Test(description = "Test parked workers are woken up when groups are added, instead of waiting for a timeout",
+          dataProvider = "queueKinds")
+    public void testWakeUp(String kind) throws InterruptedException {
+        RunQueue queue = RunQueue.create(kind, 2);
+        BlockingQueue<ItemGroup> taken = new LinkedBlockingQueue<>();
+        Thread[] workers = {startWorker(queue, taken), startWorker(queue, taken)};
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            waitUntilParked(workers);
+            ItemGroup[] groups = createGroups(2);
+            queue.add(groups[0]);
+            queue.add(groups[1]);
+            Assert.assertNotNull(taken.poll(5, TimeUnit.SECONDS));
+            Assert.assertNotNull(taken.poll(5, TimeUnit.SECONDS));
+        }
+        // a lost wake up leaves a group waiting for the 100 ms park timeout of the work stealing queue
+        Assert.assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(ROUNDS * 100 / 2));
+        stopWorkers(queue, workers);
+    }
+
+    @Test(description = "Test every worker stops on a POISON_PILL once the added groups are taken",
+          dataProvider = "queueKinds")
+    public void testPoisonPill(String kind) throws InterruptedException {
+        int numWorkers = 4;
+        RunQueue queue = RunQueue.create(kind, numWorkers);
+        BlockingQueue<ItemGroup> taken = new LinkedBlockingQueue<>();
+        Thread[] workers = new Thread[numWorkers];
+        for (int i = 0; i < numWorkers; i++) {
+            workers[i] = startWorker(queue, taken);
+        }
+        for (ItemGroup group : createGroups(100)) {
+            queue.add(group);
+        }
+        for (int i = 0; i < 100; i++) {
+            Assert.assertNotNull(taken.poll(5, TimeUnit.SECONDS));
+        }
+        stopWorkers(queue, workers);
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    private static ItemGroup[] createGroups(int count) {
+        ItemGroup[] groups = new ItemGroup[count];
+        for (int i = 0; i < count; i++) {
+            groups[i] = new ItemGroup(null);
+        }
+        return groups;
+    }
+
+    // takes groups the way the scheduler threads do, until a POISON_PILL is taken
+    private static Thread startWorker(RunQueue queue, BlockingQueue<ItemGroup> taken) {
+        Thread worker = new Thread(() -> {
+            queue.registerWorker();
+            try {
+                ItemGroup group;
+                while ((group = queue.take()) != POISON_PILL) {
+                    taken.add(group);
+                }
+            } catch (InterruptedException ignored) {
+                // stop the worker
+            }
+        });
+        worker.setDaemon(true);
+        worker.start();
+        return worker;
+    }
+
+    private static void waitUntilParked(Thread[] workers) throws InterruptedException {
+        List<Thread> running = new ArrayList<>();
+        for (Thread worker : workers) {
+            running.add(worker);
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!running.isEmpty() && System.nanoTime() < deadline) {
+            running.removeIf(worker -> worker.getState() == Thread.State.WAITING ||
+                    worker.getState() == Thread.State.TIMED_WAITING);
+            Thread.sleep(1);
+        }
+    }
+
+    private static void stopWorkers(RunQueue queue, Thread[] workers) throws InterruptedException {
+        for (int i = 0; i < workers.length; i++) {
+            queue.add(POISON_PILL);
+        }
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+            Assert.assertFalse(worker.isAlive());
+        }
+    }
+}
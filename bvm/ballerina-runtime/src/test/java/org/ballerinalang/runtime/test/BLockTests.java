@@ -0,0 +1,299 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.BLock;
+import org.ballerinalang.jvm.BLockStore;
+import org.ballerinalang.jvm.observability.metrics.MetricId;
+import org.ballerinalang.jvm.observability.metrics.MetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.PolledGauge;
+import org.ballerinalang.jvm.observability.metrics.Tag;
+import org.ballerinalang.jvm.observability.metrics.Tags;
+import org.ballerinalang.jvm.observability.metrics.noop.NoOpMetricProvider;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.State;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.scheduling.StrandMetadata;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Test cases for the {@link BLock} used by lock statements and the {@link BLockStore} of a module.
+ */
+public class BLockTests {
+
+    private static final StrandMetadata METADATA = new StrandMetadata("org", "ballerinalang", "runtime", "lock");
+    private static final int STRAND_COUNT = 200;
+    private static final int ITERATIONS = 50;
+
+    private Scheduler scheduler;
+
+    @BeforeClass
+    public void setup() {
+        scheduler = new Scheduler(4, true);
+        new Thread(scheduler::start).start();
+    }
+
+    @AfterClass
+    public void tearDown() {
+        scheduler.poison();
+    }
+
+    @Test
+    public void testReentrantLock() {
+        BLock lock = new BLock("counter");
+        Strand strand = new Strand("test", METADATA, null, null, null);
+
+        Assert.assertTrue(lock.lock(strand));
+        Assert.assertTrue(lock.lock(strand));
+        Assert.assertTrue(lock.lockedBySameContext(strand));
+        // a reentrant acquisition is recorded only once
+        Assert.assertEquals(strand.getAcquiredLocks().size(), 1);
+
+        lock.unlock();
+        Assert.assertFalse(lock.isLockFree());
+        Assert.assertTrue(lock.lockedBySameContext(strand));
+        lock.unlock();
+        Assert.assertTrue(lock.isLockFree());
+        Assert.assertTrue(strand.getAcquiredLocks().isEmpty());
+
+        Assert.assertEquals(lock.getAcquisitionCount(), 1);
+        Assert.assertEquals(lock.getParkCount(), 0);
+    }
+
+    @Test
+    public void testHandOffToWaitingStrand() {
+        RecordingScheduler recordingScheduler = new RecordingScheduler();
+        BLock lock = new BLock("counter");
+        Strand owner = new Strand("owner", METADATA, recordingScheduler, null, null);
+        Strand waiter = new Strand("waiter", METADATA, recordingScheduler, null, null);
+
+        Assert.assertTrue(lock.lock(owner));
+        Assert.assertFalse(lock.lock(waiter));
+        Assert.assertEquals(waiter.getState(), State.BLOCK_AND_YIELD);
+        Assert.assertTrue(recordingScheduler.unblocked.isEmpty());
+
+        // the lock is handed to the waiter and the waiter is resumed, without the lock becoming free in between
+        lock.unlock();
+        Assert.assertEquals(recordingScheduler.unblocked.size(), 1);
+        Assert.assertSame(recordingScheduler.unblocked.get(0), waiter);
+        Assert.assertTrue(lock.lockedBySameContext(waiter));
+        Assert.assertTrue(owner.getAcquiredLocks().isEmpty());
+        Assert.assertFalse(lock.lock(owner));
+
+        // the resumed waiter retries the lock and claims it
+        Assert.assertTrue(lock.lock(waiter));
+        Assert.assertEquals(waiter.getAcquiredLocks().size(), 1);
+        lock.unlock();
+        Assert.assertEquals(recordingScheduler.unblocked.size(), 2);
+        Assert.assertSame(recordingScheduler.unblocked.get(1), owner);
+        Assert.assertTrue(lock.lock(owner));
+        lock.unlock();
+
+        Assert.assertTrue(lock.isLockFree());
+        Assert.assertEquals(lock.getAcquisitionCount(), 3);
+        Assert.assertEquals(lock.getParkCount(), 2);
+    }
+
+    @Test
+    public void testParkedStrandIsResumed() throws InterruptedException {
+        BLock lock = new BLock("counter");
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        AtomicInteger waiterRuns = new AtomicInteger();
+        List<Boolean> waiterHeldLock = new ArrayList<>();
+
+        schedule(args -> {
+            Strand strand = (Strand) args[0];
+            Assert.assertTrue(lock.lock(strand));
+            held.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            lock.unlock();
+            return null;
+        }, done);
+        Assert.assertTrue(held.await(10, TimeUnit.SECONDS));
+
+        schedule(args -> {
+            Strand strand = (Strand) args[0];
+            waiterRuns.incrementAndGet();
+            if (!lock.lock(strand)) {
+                // yield, the scheduler runs the function again when the strand is unblocked
+                return null;
+            }
+            waiterHeldLock.add(lock.lockedBySameContext(strand));
+            lock.unlock();
+            return null;
+        }, done);
+        waitForParks(lock, 1);
+
+        release.countDown();
+        Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(waiterRuns.get(), 2);
+        Assert.assertEquals(waiterHeldLock.size(), 1);
+        Assert.assertTrue(waiterHeldLock.get(0));
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @Test
+    public void testContendedLockWakesAllStrands() throws InterruptedException {
+        BLock lock = new BLock("counter");
+        CountDownLatch done = new CountDownLatch(STRAND_COUNT);
+        int[] counter = new int[1];
+
+        for (int i = 0; i < STRAND_COUNT; i++) {
+            int[] completed = new int[1];
+            schedule(args -> {
+                Strand strand = (Strand) args[0];
+                while (completed[0] < ITERATIONS) {
+                    if (!lock.lock(strand)) {
+                        return null;
+                    }
+                    counter[0]++;
+                    lock.unlock();
+                    completed[0]++;
+                }
+                return null;
+            }, done);
+        }
+
+        // a lost wake up leaves a strand parked for ever
+        Assert.assertTrue(done.await(60, TimeUnit.SECONDS), "strands left waiting: " + done.getCount());
+        Assert.assertEquals(counter[0], STRAND_COUNT * ITERATIONS);
+        Assert.assertTrue(lock.isLockFree());
+        Assert.assertEquals(lock.getAcquisitionCount(), STRAND_COUNT * ITERATIONS);
+        Assert.assertTrue(lock.getParkCount() <= lock.getAcquisitionCount());
+    }
+
+    @Test
+    public void testLockStoreMetrics() {
+        MetricRegistry registry = new MetricRegistry(new PolledMetricProvider());
+        BLockStore store = new BLockStore("org/module", registry);
+        BLock lock = store.getLockFromMap("counter");
+        Assert.assertSame(store.getLockFromMap("counter"), lock);
+
+        RecordingScheduler recordingScheduler = new RecordingScheduler();
+        Strand owner = new Strand("owner", METADATA, recordingScheduler, null, null);
+        Strand waiter = new Strand("waiter", METADATA, recordingScheduler, null, null);
+        Assert.assertTrue(lock.lock(owner));
+        Assert.assertFalse(lock.lock(waiter));
+        lock.unlock();
+        Assert.assertTrue(lock.lock(waiter));
+        lock.unlock();
+        Assert.assertTrue(lock.lock(owner));
+        lock.unlock();
+
+        Assert.assertEquals(getGaugeValue(registry, "lock_acquisitions_total"), 3.0);
+        Assert.assertEquals(getGaugeValue(registry, "lock_parks_total"), 1.0);
+        Assert.assertEquals(getGaugeValue(registry, "lock_wait_time_nanoseconds_total"),
+                            (double) lock.getWaitTimeNanos());
+        Assert.assertTrue(lock.getWaitTimeNanos() >= 0);
+
+        // locks of the store are registered once
+        store.getLockFromMap("counter");
+        Assert.assertEquals(registry.getAllMetrics().length, 3);
+    }
+
+    private void schedule(Function<Object[], Object> function, CountDownLatch done) {
+        scheduler.schedule(new Object[1], function, null, new CallableUnitCallback() {
+            @Override
+            public void notifySuccess() {
+                done.countDown();
+            }
+
+            @Override
+            public void notifyFailure(ErrorValue error) {
+                // the latch is not released, so the failure is reported as a timeout
+            }
+        }, "lock", METADATA);
+    }
+
+    private static void waitForParks(BLock lock, long parks) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (lock.getParkCount() < parks && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        Assert.assertEquals(lock.getParkCount(), parks);
+    }
+
+    private static double getGaugeValue(MetricRegistry registry, String name) {
+        Set<Tag> tags = new HashSet<>();
+        Tags.tags(tags, "lock", "counter");
+        Tags.tags(tags, "module", "org/module");
+        PolledGauge gauge = (PolledGauge) registry.lookup(new MetricId(name, null, tags));
+        Assert.assertNotNull(gauge, name);
+        return gauge.getValue();
+    }
+
+    /**
+     * Scheduler which records the strands unblocked through it, instead of running them.
+     */
+    private static class RecordingScheduler extends Scheduler {
+
+        private final List<Strand> unblocked = new ArrayList<>();
+
+        RecordingScheduler() {
+            super(false);
+        }
+
+        @Override
+        public void unblockStrand(Strand strand) {
+            unblocked.add(strand);
+        }
+    }
+
+    /**
+     * Metric provider whose polled gauges read the value from the state object.
+     */
+    private static class PolledMetricProvider extends NoOpMetricProvider {
+
+        @Override
+        public <T> PolledGauge newPolledGauge(MetricId metricId, T obj, ToDoubleFunction<T> toDoubleFunction) {
+            return new PolledGauge() {
+                @Override
+                public double getValue() {
+                    return toDoubleFunction.applyAsDouble(obj);
+                }
+
+                @Override
+                public MetricId getId() {
+                    return metricId;
+                }
+            };
+        }
+    }
+}
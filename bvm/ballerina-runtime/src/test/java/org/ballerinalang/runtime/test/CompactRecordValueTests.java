@@ -0,0 +1,316 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.values.CompactRecordValueImpl;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.api.BString;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Test cases for {@link CompactRecordValueImpl}, which has to behave as a {@link MapValueImpl} holding the same
+ * entries.
+ */
+public class CompactRecordValueTests {
+
+    private static final BString NAME = StringUtils.fromString("name");
+    private static final BString AGE = StringUtils.fromString("age");
+    private static final BString CITY = StringUtils.fromString("city");
+    private static final BString REST = StringUtils.fromString("rest");
+    private static final BString OTHER_REST = StringUtils.fromString("otherRest");
+    private static final BString[] KEYS = {NAME, AGE, CITY, REST, OTHER_REST};
+
+    @Test
+    public void testInsertionOrder() {
+        assertParity(map -> {
+            map.put(REST, 1L);
+            map.put(AGE, 20L);
+            map.put(NAME, StringUtils.fromString("Bob"));
+            map.put(OTHER_REST, 2L);
+            map.put(AGE, 21L);
+        });
+        assertParity(map -> {
+            map.put(NAME, StringUtils.fromString("Bob"));
+            map.put(REST, 1L);
+            map.put(AGE, 20L);
+            map.remove(NAME);
+            map.remove(REST);
+            map.put(REST, 3L);
+            map.put(NAME, StringUtils.fromString("Alice"));
+        });
+    }
+
+    @Test
+    public void testGetOperations() {
+        for (BString key : KEYS) {
+            assertParity(map -> {
+                putAll(map);
+                map.remove(CITY);
+            }, map -> map.getOrDefault(key, -1L));
+            assertParity(map -> {
+                putAll(map);
+                map.remove(CITY);
+            }, map -> map.containsKey(key));
+        }
+        assertParity(CompactRecordValueTests::putAll, map -> map.containsValue(20L));
+        assertParity(CompactRecordValueTests::putAll, map -> map.containsValue(1L));
+        assertParity(CompactRecordValueTests::putAll, map -> map.containsValue(-1L));
+        assertParity(CompactRecordValueTests::putAll, map -> {
+            List<String> entries = new ArrayList<>();
+            map.forEach((key, value) -> entries.add(key + "=" + value));
+            return entries;
+        });
+    }
+
+    @Test
+    public void testUpdateOperations() {
+        for (BString key : KEYS) {
+            assertUpdateParity(map -> map.putIfAbsent(key, 5L));
+            assertUpdateParity(map -> map.computeIfAbsent(key, k -> 5L));
+            assertUpdateParity(map -> map.computeIfAbsent(key, k -> null));
+            assertUpdateParity(map -> map.computeIfPresent(key, (k, v) -> 5L));
+            assertUpdateParity(map -> map.computeIfPresent(key, (k, v) -> null));
+            assertUpdateParity(map -> map.compute(key, (k, v) -> v == null ? 5L : null));
+            assertUpdateParity(map -> map.compute(key, (k, v) -> 5L));
+            assertUpdateParity(map -> map.merge(key, 5L, (v1, v2) -> 6L));
+            assertUpdateParity(map -> map.merge(key, 5L, (v1, v2) -> null));
+            assertUpdateParity(map -> map.replace(key, 5L));
+            assertUpdateParity(map -> map.replace(key, 20L, 5L));
+            assertUpdateParity(map -> map.replace(key, 1L, 5L));
+            assertUpdateParity(map -> map.remove(key, 20L));
+            assertUpdateParity(map -> map.remove(key, 1L));
+            assertUpdateParity(map -> map.remove(key));
+            assertUpdateParity(map -> map.put(key, null));
+        }
+        assertUpdateParity(map -> {
+            map.replaceAll((key, value) -> key.getValue());
+            return null;
+        });
+        assertUpdateParity(map -> {
+            Map<BString, Object> values = new LinkedHashMap<>();
+            values.put(OTHER_REST, 7L);
+            values.put(CITY, StringUtils.fromString("Colombo"));
+            values.put(AGE, 30L);
+            map.putAll(values);
+            return null;
+        });
+        assertUpdateParity(map -> {
+            map.clear();
+            map.put(AGE, 1L);
+            return null;
+        });
+    }
+
+    @Test
+    public void testViewsWriteThrough() {
+        assertUpdateParity(map -> {
+            for (Map.Entry<BString, Object> entry : map.entrySet()) {
+                entry.setValue(entry.getKey().getValue() + "!");
+            }
+            return null;
+        });
+        for (BString key : KEYS) {
+            assertUpdateParity(map -> {
+                Iterator<Map.Entry<BString, Object>> iterator = map.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    if (iterator.next().getKey().equals(key)) {
+                        iterator.remove();
+                    }
+                }
+                return null;
+            });
+            assertUpdateParity(map -> map.keySet().remove(key));
+            assertUpdateParity(map -> map.entrySet().remove(new HashMap.SimpleEntry<>(key, 20L)));
+            assertUpdateParity(map -> map.keySet().contains(key));
+        }
+        assertUpdateParity(map -> map.values().removeIf(value -> value instanceof Long));
+        assertUpdateParity(map -> map.values().contains(20L));
+        assertUpdateParity(map -> map.keySet().retainAll(Arrays.asList(NAME, REST)));
+        assertUpdateParity(map -> map.entrySet().removeIf(entry -> entry.getKey().equals(AGE)));
+        assertUpdateParity(map -> {
+            map.keySet().clear();
+            return map.isEmpty();
+        });
+        assertUpdateParity(map -> {
+            Iterator<BString> iterator = map.keySet().iterator();
+            iterator.next();
+            iterator.remove();
+            iterator.next();
+            iterator.next();
+            iterator.remove();
+            return iterator.hasNext();
+        });
+    }
+
+    @Test
+    public void testConcurrentModification() {
+        for (BString key : new BString[]{CITY, OTHER_REST}) {
+            assertUpdateParity(map -> {
+                try {
+                    for (BString ignored : map.keySet()) {
+                        map.put(key, 1L);
+                    }
+                    return "no error";
+                } catch (ConcurrentModificationException e) {
+                    return "error";
+                }
+            });
+        }
+    }
+
+    @Test
+    public void testFrozenRecord() {
+        for (BString key : KEYS) {
+            assertFrozenParity(map -> map.put(key, 5L));
+            assertFrozenParity(map -> map.remove(key));
+            assertFrozenParity(map -> map.get(key));
+            assertFrozenParity(map -> map.containsKey(key));
+        }
+        assertFrozenParity(map -> {
+            map.clear();
+            return null;
+        });
+        assertFrozenParity(MapValueImpl::size);
+    }
+
+    @Test
+    public void testCopy() {
+        CompactRecordValueImpl<BString, Object> record = new CompactRecordValueImpl<>(createRecordType());
+        record.put(REST, 1L);
+        record.put(NAME, StringUtils.fromString("Bob"));
+        record.put(AGE, 20L);
+
+        @SuppressWarnings("unchecked")
+        CompactRecordValueImpl<BString, Object> copy = (CompactRecordValueImpl<BString, Object>) record.copy(
+                new HashMap<>());
+        Assert.assertEquals(getEntries(copy), getEntries(record));
+        Assert.assertEquals(copy, record);
+
+        @SuppressWarnings("unchecked")
+        CompactRecordValueImpl<BString, Object> clone = (CompactRecordValueImpl<BString, Object>) record.clone();
+        clone.put(AGE, 30L);
+        clone.remove(REST);
+        Assert.assertEquals(record.get(AGE), 20L);
+        Assert.assertEquals(record.get(REST), 1L);
+        Assert.assertEquals(getEntries(clone), Arrays.asList("name=Bob", "age=30"));
+        Assert.assertNotEquals(clone, record);
+    }
+
+    private static void putAll(Map<BString, Object> map) {
+        map.put(NAME, StringUtils.fromString("Bob"));
+        map.put(REST, 1L);
+        map.put(AGE, 20L);
+        map.put(CITY, null);
+    }
+
+    private static void assertParity(Consumer<MapValueImpl<BString, Object>> update) {
+        assertParity(update, map -> null);
+    }
+
+    private static void assertUpdateParity(Function<MapValueImpl<BString, Object>, Object> operation) {
+        assertParity(map -> {
+            putAll(map);
+            map.remove(CITY);
+            map.put(OTHER_REST, null);
+        }, operation);
+    }
+
+    private static void assertParity(Consumer<MapValueImpl<BString, Object>> setup,
+                                     Function<MapValueImpl<BString, Object>, Object> operation) {
+        BRecordType type = createRecordType();
+        MapValueImpl<BString, Object> expected = new MapValueImpl<>(type);
+        MapValueImpl<BString, Object> actual = new CompactRecordValueImpl<>(type);
+        setup.accept(expected);
+        setup.accept(actual);
+        Assert.assertEquals(operation.apply(actual), operation.apply(expected));
+        assertSameEntries(actual, expected);
+    }
+
+    private static void assertFrozenParity(Function<MapValueImpl<BString, Object>, Object> operation) {
+        BRecordType type = createRecordType();
+        MapValueImpl<BString, Object> expected = new MapValueImpl<>(type);
+        MapValueImpl<BString, Object> actual = new CompactRecordValueImpl<>(type);
+        putAll(expected);
+        putAll(actual);
+        expected.freezeDirect();
+        actual.freezeDirect();
+        Assert.assertEquals(applyOrGetError(operation, actual), applyOrGetError(operation, expected));
+        assertSameEntries(actual, expected);
+    }
+
+    private static Object applyOrGetError(Function<MapValueImpl<BString, Object>, Object> operation,
+                                          MapValueImpl<BString, Object> map) {
+        try {
+            return operation.apply(map);
+        } catch (RuntimeException e) {
+            return e.getClass().getName() + ": " + e.getMessage();
+        }
+    }
+
+    private static void assertSameEntries(MapValueImpl<BString, Object> actual,
+                                          MapValueImpl<BString, Object> expected) {
+        Assert.assertEquals(getEntries(actual), getEntries(expected));
+        Assert.assertEquals(new ArrayList<>(actual.keySet()), new ArrayList<>(expected.keySet()));
+        Assert.assertEquals(new ArrayList<>(actual.values()), new ArrayList<>(expected.values()));
+        Assert.assertEquals(actual.getKeys(), expected.getKeys());
+        Assert.assertEquals(actual.size(), expected.size());
+        Assert.assertEquals(actual.isEmpty(), expected.isEmpty());
+        Assert.assertEquals(actual.stringValue(), expected.stringValue());
+        Assert.assertEquals(actual.entrySet(), expected.entrySet());
+        for (BString key : KEYS) {
+            Assert.assertEquals(actual.containsKey(key), expected.containsKey(key));
+            Assert.assertEquals(actual.get(key), expected.get(key));
+        }
+    }
+
+    private static List<String> getEntries(Map<BString, Object> map) {
+        List<String> entries = new ArrayList<>();
+        for (Map.Entry<BString, Object> entry : map.entrySet()) {
+            entries.add(entry.getKey() + "=" + entry.getValue());
+        }
+        return entries;
+    }
+
+    private static BRecordType createRecordType() {
+        Map<String, BField> fields = new LinkedHashMap<>();
+        fields.put(NAME.getValue(), new BField(BTypes.typeString, NAME.getValue(), Flags.REQUIRED));
+        fields.put(AGE.getValue(), new BField(BTypes.typeInt, AGE.getValue(), Flags.REQUIRED));
+        fields.put(CITY.getValue(), new BField(BTypes.typeString, CITY.getValue(), Flags.OPTIONAL));
+        return new BRecordType("Person", new BPackage("org", "test", "1.0.0"), 0, fields, BTypes.typeAnydata,
+                               false, 0);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.BallerinaErrors;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.scheduling.StrandMetadata;
+import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.connector.Executor;
+import org.ballerinalang.jvm.values.connector.FunctionHandle;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for executing Ballerina functions through {@link Executor}.
+ */
+public class ExecutorTests {
+
+    // the functions class is looked up as <org>.<package>.<version>.<class>
+    private static final String ORG_NAME = "org";
+    private static final String PACKAGE_NAME = "ballerinalang";
+    private static final String VERSION = "runtime";
+    private static final String CLASS_NAME = "test.ExecutorTests$Functions";
+    private static final StrandMetadata METADATA = new StrandMetadata(ORG_NAME, PACKAGE_NAME, VERSION, "add");
+
+    private Scheduler scheduler;
+
+    @BeforeClass
+    public void setup() {
+        scheduler = new Scheduler(1, true);
+        new Thread(scheduler::start).start();
+    }
+
+    @AfterClass
+    public void tearDown() {
+        scheduler.poison();
+    }
+
+    @Test
+    public void testFunctionIsResolvedOnce() {
+        FunctionHandle function = Executor.getFunction(getClass().getClassLoader(), ORG_NAME, PACKAGE_NAME, VERSION,
+                                                       CLASS_NAME, "add", long.class, long.class);
+        Assert.assertEquals(function.getName(), "add");
+        Assert.assertSame(Executor.getFunction(getClass().getClassLoader(), ORG_NAME, PACKAGE_NAME, VERSION,
+                                               CLASS_NAME, "add", long.class, long.class), function);
+    }
+
+    @Test
+    public void testExecuteFunction() {
+        Object result = Executor.executeFunction(scheduler, "test", METADATA, getClass().getClassLoader(), ORG_NAME,
+                                                 PACKAGE_NAME, VERSION, CLASS_NAME, "add", 20L, 22L);
+        Assert.assertEquals(result, 42L);
+    }
+
+    @Test
+    public void testExecuteResolvedFunction() {
+        FunctionHandle function = Executor.getFunction(getClass().getClassLoader(), ORG_NAME, PACKAGE_NAME, VERSION,
+                                                       CLASS_NAME, "add", long.class, long.class);
+        for (long i = 0; i < 10; i++) {
+            Assert.assertEquals(Executor.executeFunction(scheduler, "test", METADATA, function, i, i), i * 2);
+        }
+    }
+
+    @Test(expectedExceptions = BallerinaException.class,
+          expectedExceptionsMessageRegExp = "invocation failed: wrong number of arguments for add")
+    public void testExecuteResolvedFunctionWithWrongArguments() {
+        FunctionHandle function = Executor.getFunction(getClass().getClassLoader(), ORG_NAME, PACKAGE_NAME, VERSION,
+                                                       CLASS_NAME, "add", long.class, long.class);
+        Executor.executeFunction(scheduler, "test", METADATA, function, 1L);
+    }
+
+    @Test(expectedExceptions = ErrorValue.class, expectedExceptionsMessageRegExp = "division by zero")
+    public void testExecutePanickingFunction() {
+        Executor.executeFunction(scheduler, "test", METADATA, getClass().getClassLoader(), ORG_NAME, PACKAGE_NAME,
+                                 VERSION, CLASS_NAME, "divide", 1L, 0L);
+    }
+
+    @Test
+    public void testExecuteResolvedPanickingFunction() {
+        FunctionHandle function = Executor.getFunction(getClass().getClassLoader(), ORG_NAME, PACKAGE_NAME, VERSION,
+                                                       CLASS_NAME, "divide", long.class, long.class);
+        try {
+            Executor.executeFunction(scheduler, "test", METADATA, function, 1L, 0L);
+            Assert.fail("the panic of the function is not thrown");
+        } catch (ErrorValue e) {
+            Assert.assertEquals(e.getMessage(), "division by zero");
+        }
+        // the scheduler keeps running the functions after a panic
+        Assert.assertEquals(Executor.executeFunction(scheduler, "test", METADATA, function, 9L, 3L), 3L);
+    }
+
+    @Test(expectedExceptions = BallerinaException.class, expectedExceptionsMessageRegExp = "invocation failed: .*")
+    public void testResolveMissingFunction() {
+        Executor.getFunction(getClass().getClassLoader(), ORG_NAME, PACKAGE_NAME, VERSION, CLASS_NAME, "subtract",
+                             long.class, long.class);
+    }
+
+    /**
+     * Functions in the form the Ballerina compiler generates them.
+     */
+    public static class Functions {
+
+        public static Object add(Strand strand, long a, boolean aIsDefault, long b, boolean bIsDefault) {
+            return a + b;
+        }
+
+        public static Object divide(Strand strand, long a, boolean aIsDefault, long b, boolean bIsDefault) {
+            if (b == 0) {
+                throw BallerinaErrors.createError("division by zero");
+            }
+            return a / b;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BFunctionType;
+import org.ballerinalang.jvm.values.FPValue;
+import org.ballerinalang.jvm.values.FunctionPointerCallSite;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.api.BString;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Test cases for {@link FunctionPointerCallSite}, which calls the method handles of the function pointers adapted to
+ * the types of the call sites.
+ */
+public class FunctionPointerCallSiteTests {
+
+    private static final BString STEP = StringUtils.fromString("step");
+    private static final MethodType CALL_TYPE = MethodType.methodType(long.class, FPValue.class, Strand.class,
+                                                                      long.class, boolean.class);
+    private static final MethodType FUNCTION_TYPE = MethodType.methodType(long.class, Strand.class, long.class,
+                                                                          boolean.class);
+
+    @Test(description = "Test the closure maps of each function pointer are passed to the shared handle")
+    public void testClosuresOfSharedHandle() throws Throwable {
+        MethodHandle call = createCallSite();
+        MethodHandle handle = MethodHandles.lookup().findStatic(FunctionPointerCallSiteTests.class, "addStep",
+                                                                FUNCTION_TYPE.insertParameterTypes(1, MapValue.class,
+                                                                                                   boolean.class));
+        for (long step = 1; step <= 3; step++) {
+            MapValue<BString, Object> closureMap = new MapValueImpl<>();
+            closureMap.put(STEP, step);
+            FPValue closure = createFunctionPointer(handle, new Object[]{closureMap}, -1);
+            Assert.assertEquals((long) call.invokeExact(closure, (Strand) null, 10L, true), 10 + step);
+        }
+    }
+
+    @Test(description = "Test a call site which calls more functions than it caches")
+    public void testMegamorphicCallSite() throws Throwable {
+        MethodHandle call = createCallSite();
+        FPValue[] functionPointers = new FPValue[6];
+        for (int i = 0; i < functionPointers.length; i++) {
+            MethodHandle handle = MethodHandles.lookup().findStatic(FunctionPointerCallSiteTests.class, "add" + i,
+                                                                    FUNCTION_TYPE);
+            functionPointers[i] = createFunctionPointer(handle, null, -1);
+        }
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < functionPointers.length; i++) {
+                Assert.assertEquals((long) call.invokeExact(functionPointers[i], (Strand) null, 10L, true), 10L + i);
+            }
+        }
+    }
+
+    @Test(description = "Test the function pointers without a compatible handle are applied with boxed arguments")
+    public void testFunctionPointersWithoutHandle() throws Throwable {
+        MethodHandle call = createCallSite();
+        FPValue withoutHandle = createFunctionPointer(null, null, 20L);
+        FPValue otherArity = createFunctionPointer(
+                MethodHandles.lookup().findStatic(FunctionPointerCallSiteTests.class, "addStep",
+                                                  FUNCTION_TYPE.insertParameterTypes(1, MapValue.class,
+                                                                                     boolean.class)), null, 30L);
+        FPValue withHandle = createFunctionPointer(
+                MethodHandles.lookup().findStatic(FunctionPointerCallSiteTests.class, "add1", FUNCTION_TYPE), null,
+                -1);
+        for (int round = 0; round < 2; round++) {
+            Assert.assertEquals((long) call.invokeExact(withoutHandle, (Strand) null, 10L, true), 20L);
+            Assert.assertEquals((long) call.invokeExact(otherArity, (Strand) null, 10L, true), 30L);
+            Assert.assertEquals((long) call.invokeExact(withHandle, (Strand) null, 10L, true), 11L);
+        }
+    }
+
+    private static MethodHandle createCallSite() {
+        return FunctionPointerCallSite.bootstrap(MethodHandles.lookup(), "call", CALL_TYPE).dynamicInvoker();
+    }
+
+    private static FPValue createFunctionPointer(MethodHandle handle, Object[] closures, long appliedResult) {
+        FPValue<Object, Object> functionPointer = new FPValue<>(args -> appliedResult, new BFunctionType(), null,
+                                                                false);
+        if (handle != null) {
+            functionPointer.setHandle(handle, closures);
+        }
+        return functionPointer;
+    }
+
+    public static long addStep(Strand strand, MapValue<BString, Object> closureMap, boolean closureMapIsProvided,
+                               long value, boolean valueIsProvided) {
+        return value + (Long) closureMap.get(STEP);
+    }
+
+    public static long add0(Strand strand, long value, boolean valueIsProvided) {
+        return value;
+    }
+
+    public static long add1(Strand strand, long value, boolean valueIsProvided) {
+        return value + 1;
+    }
+
+    public static long add2(Strand strand, long value, boolean valueIsProvided) {
+        return value + 2;
+    }
+
+    public static long add3(Strand strand, long value, boolean valueIsProvided) {
+        return value + 3;
+    }
+
+    public static long add4(Strand strand, long value, boolean valueIsProvided) {
+        return value + 4;
+    }
+
+    public static long add5(Strand strand, long value, boolean valueIsProvided) {
+        return value + 5;
+    }
+}
@@ -0,0 +1,309 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.JSONDataBinder;
+import org.ballerinalang.jvm.JSONParser;
+import org.ballerinalang.jvm.JSONUtils;
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.DecimalValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.ValueCreator;
+import org.ballerinalang.jvm.values.api.BString;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for {@link JSONDataBinder}, which binds JSON content to a type while it is being parsed.
+ */
+public class JSONDataBinderTests {
+
+    private static final BPackage PACKAGE = new BPackage("org", "binder", "1.0.0");
+
+    private BRecordType addressType;
+    private BRecordType personType;
+
+    @BeforeClass
+    public void setup() {
+        Map<String, BField> addressFields = new LinkedHashMap<>();
+        addressFields.put("street", new BField(BTypes.typeString, "street", Flags.REQUIRED));
+        addressFields.put("city", new BField(BTypes.typeString, "city", Flags.REQUIRED));
+        addressFields.put("zip", new BField(new BUnionType(Arrays.asList(BTypes.typeInt, BTypes.typeNull)), "zip",
+                                            Flags.OPTIONAL));
+        addressType = new BRecordType("Address", PACKAGE, 0, addressFields, null, true, 0);
+
+        Map<String, BField> personFields = new LinkedHashMap<>();
+        personFields.put("name", new BField(BTypes.typeString, "name", Flags.REQUIRED));
+        personFields.put("age", new BField(BTypes.typeInt, "age", Flags.REQUIRED));
+        personFields.put("weight", new BField(BTypes.typeFloat, "weight", Flags.OPTIONAL));
+        personFields.put("salary", new BField(BTypes.typeDecimal, "salary", Flags.OPTIONAL));
+        // a defaultable field, of which the default value is set by the value creator
+        personFields.put("active", new BField(BTypes.typeBoolean, "active", 0));
+        personFields.put("id", new BField(new BUnionType(Arrays.asList(BTypes.typeInt, BTypes.typeString)), "id",
+                                          Flags.OPTIONAL));
+        personFields.put("address", new BField(addressType, "address", Flags.OPTIONAL));
+        personFields.put("addresses", new BField(new BArrayType(new BArrayType(addressType)), "addresses",
+                                                 Flags.OPTIONAL));
+        personType = new BRecordType("Person", PACKAGE, 0, personFields, BTypes.typeAnydata, false, 0);
+
+        ValueCreator.addValueCreator(PACKAGE.getOrg(), PACKAGE.getName(), PACKAGE.getVersion(), new ValueCreator() {
+            @Override
+            public MapValue<BString, Object> createRecordValue(String recordTypeName) {
+                if ("Address".equals(recordTypeName)) {
+                    return new MapValueImpl<>(addressType);
+                }
+                MapValue<BString, Object> person = new MapValueImpl<>(personType);
+                person.put(StringUtils.fromString("active"), true);
+                return person;
+            }
+
+            @Override
+            public ObjectValue createObjectValue(String objectTypeName, Scheduler scheduler, Strand parent,
+                                                 Map<String, Object> properties, Object[] args) {
+                throw new UnsupportedOperationException();
+            }
+        });
+    }
+
+    @Test
+    public void testOptionalAndDefaultableFields() {
+        MapValue<?, ?> person = bindPerson("{\"name\": \"Alice\", \"age\": 30}");
+        Assert.assertEquals(person.size(), 3);
+        Assert.assertEquals(get(person, "name").toString(), "Alice");
+        Assert.assertEquals(get(person, "age"), 30L);
+        Assert.assertEquals(get(person, "active"), true);
+        Assert.assertFalse(person.containsKey(StringUtils.fromString("weight")));
+        Assert.assertFalse(person.containsKey(StringUtils.fromString("address")));
+
+        person = bindPerson("{\"name\": \"Alice\", \"age\": 30, \"active\": false, " +
+                                    "\"address\": {\"street\": \"Main\", \"city\": \"Colombo\", \"zip\": null}}");
+        Assert.assertEquals(get(person, "active"), false);
+        MapValue<?, ?> address = (MapValue<?, ?>) get(person, "address");
+        Assert.assertEquals(address.size(), 3);
+        Assert.assertTrue(address.containsKey(StringUtils.fromString("zip")));
+        Assert.assertNull(get(address, "zip"));
+
+        address = (MapValue<?, ?>) JSONDataBinder.bind("{\"street\": \"Main\", \"city\": \"Colombo\", \"zip\": 10}",
+                                                       addressType);
+        Assert.assertEquals(get(address, "zip"), 10L);
+    }
+
+    @Test
+    public void testOpenAndClosedRecords() {
+        MapValue<?, ?> person = bindPerson("{\"name\": \"Alice\", \"age\": 30, \"nick\": \"Al\", " +
+                                                   "\"scores\": [1, 2.5, {\"a\": null}]}");
+        Assert.assertEquals(get(person, "nick").toString(), "Al");
+        ArrayValue scores = (ArrayValue) get(person, "scores");
+        Assert.assertEquals(scores.size(), 3);
+        Assert.assertEquals(scores.getRefValue(0), 1L);
+        Assert.assertEquals(scores.getRefValue(1), 2.5);
+        MapValue<?, ?> score = (MapValue<?, ?>) scores.getRefValue(2);
+        Assert.assertTrue(score.containsKey(StringUtils.fromString("a")));
+        Assert.assertNull(get(score, "a"));
+        Assert.assertEquals(Arrays.toString(person.getKeys()), "[active, name, age, nick, scores]");
+
+        assertBindingError("{\"street\": \"Main\", \"city\": \"Colombo\", \"country\": \"LK\"}", addressType,
+                           "field 'country' cannot be added to the closed record 'binder:Address' at '$'");
+    }
+
+    @Test
+    public void testUnions() {
+        Assert.assertEquals(get(bindPerson("{\"name\": \"A\", \"age\": 1, \"id\": 10}"), "id"), 10L);
+        Assert.assertEquals(get(bindPerson("{\"name\": \"A\", \"age\": 1, \"id\": \"x10\"}"), "id").toString(),
+                            "x10");
+        assertBindingError("{\"name\": \"A\", \"age\": 1, \"id\": true}", personType,
+                           "'boolean' value cannot be converted to 'int|string' at '$.id'");
+
+        // members which are not bound directly are converted with the given converter
+        List<String> conversions = new ArrayList<>();
+        Object person = JSONDataBinder.bind("{\"name\": \"A\", \"age\": 1, \"id\": 10.5}", personType,
+                                            (json, type) -> {
+                                                conversions.add(json + " to " + type);
+                                                return StringUtils.fromString(json.toString());
+                                            });
+        Assert.assertEquals(conversions.toString(), "[10.5 to int|string]");
+        Assert.assertEquals(get((MapValue<?, ?>) person, "id").toString(), "10.5");
+
+        BType optionalInts = new BArrayType(new BUnionType(Arrays.asList(BTypes.typeInt, BTypes.typeNull)));
+        ArrayValue ints = (ArrayValue) JSONDataBinder.bind("[1, null, 3]", optionalInts);
+        Assert.assertEquals(ints.size(), 3);
+        Assert.assertEquals(ints.getRefValue(0), 1L);
+        Assert.assertNull(ints.getRefValue(1));
+        Assert.assertEquals(ints.getRefValue(2), 3L);
+    }
+
+    @Test
+    public void testNestedArraysOfRecords() {
+        BArrayType personsType = new BArrayType(personType);
+        ArrayValue persons = (ArrayValue) JSONDataBinder.bind(
+                "[{\"name\": \"A\", \"age\": 1, \"addresses\": [[{\"street\": \"S1\", \"city\": \"C1\"}], []]}, " +
+                        "{\"name\": \"B\", \"age\": 2, \"addresses\": [[], [{\"street\": \"S2\", \"city\": \"C2\"}, " +
+                        "{\"street\": \"S3\", \"city\": \"C3\", \"zip\": 3}]]}]", personsType);
+        Assert.assertEquals(persons.size(), 2);
+        ArrayValue addresses = (ArrayValue) get((MapValue<?, ?>) persons.getRefValue(1), "addresses");
+        Assert.assertEquals(addresses.size(), 2);
+        Assert.assertEquals(((ArrayValue) addresses.getRefValue(0)).size(), 0);
+        MapValue<?, ?> address = (MapValue<?, ?>) ((ArrayValue) addresses.getRefValue(1)).getRefValue(1);
+        Assert.assertEquals(address.getType(), addressType);
+        Assert.assertEquals(get(address, "city").toString(), "C3");
+        Assert.assertEquals(get(address, "zip"), 3L);
+
+        assertBindingError("[{\"name\": \"A\", \"age\": 1}, {\"name\": \"B\", \"age\": 2, \"addresses\": " +
+                                   "[[], [{\"street\": \"S2\", \"city\": 2}]]}]", personsType,
+                           "'int' value cannot be converted to 'string' at '$[1].addresses[1][0].city'");
+        assertBindingError("[{\"name\": \"A\", \"age\": 1, \"addresses\": [[{\"street\": \"S2\"}]]}]", personsType,
+                           "missing required field 'city' of type 'string' in record 'binder:Address' " +
+                                   "at '$[0].addresses[0][0]'");
+    }
+
+    @Test
+    public void testNumericWidening() {
+        MapValue<?, ?> person = bindPerson("{\"name\": \"A\", \"age\": 1, \"weight\": 70, \"salary\": 1000}");
+        Assert.assertEquals(get(person, "weight"), 70.0);
+        Assert.assertEquals(get(person, "salary"), new DecimalValue("1000"));
+
+        person = bindPerson("{\"name\": \"A\", \"age\": 1, \"weight\": 70.5, \"salary\": 0.1}");
+        Assert.assertEquals(get(person, "weight"), 70.5);
+        Assert.assertEquals(get(person, "salary"), new DecimalValue("0.1"));
+
+        MapValue<?, ?> floats = (MapValue<?, ?>) JSONDataBinder.bind("{\"a\": 1, \"b\": -2.5e1}",
+                                                                     new BMapType(BTypes.typeFloat));
+        Assert.assertEquals(get(floats, "a"), 1.0);
+        Assert.assertEquals(get(floats, "b"), -25.0);
+
+        // a float is not narrowed to an int
+        assertBindingError("{\"name\": \"A\", \"age\": 1.5}", personType,
+                           "'float' value cannot be converted to 'int' at '$.age'");
+    }
+
+    @Test
+    public void testErrors() {
+        assertBindingError("{\"age\": 1}", personType,
+                           "missing required field 'name' of type 'string' in record 'binder:Person' at '$'");
+        assertBindingError("{\"name\": \"A\", \"age\": null}", personType,
+                           "cannot convert '()' to type 'int' at '$.age'");
+        assertBindingError("[1, 2]", personType, "'json[]' value cannot be converted to 'binder:Person' at '$'");
+        assertBindingError("[1, 2, 3]", new BArrayType(BTypes.typeInt, 2),
+                           "array of length 2 cannot hold more than 2 members, expected 'int[2]' at '$'");
+    }
+
+    @Test
+    public void testErrorsOfTreeConversion() {
+        // the documents which the tree conversion rejects, are rejected for the same field
+        String[][] documents = {
+                {"{\"name\": \"A\", \"age\": \"one\"}", "age"},
+                {"{\"name\": \"A\", \"age\": 1, \"weight\": true}", "weight"},
+                {"{\"name\": \"A\", \"age\": 1, \"address\": \"S\"}", "address"},
+        };
+        for (String[] document : documents) {
+            String treeError = null;
+            try {
+                JSONUtils.convertJSONToRecord(JSONParser.parse(document[0]), personType);
+            } catch (BallerinaException e) {
+                treeError = e.getMessage();
+            }
+            Assert.assertNotNull(treeError, document[0]);
+            Assert.assertTrue(treeError.startsWith("error while mapping '" + document[1] + "'"), treeError);
+
+            try {
+                JSONDataBinder.bind(document[0], personType);
+                Assert.fail("binding should have failed: " + document[0]);
+            } catch (BallerinaException e) {
+                Assert.assertTrue(e.getMessage().contains(" at '$." + document[1]), e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void testSyntaxErrorsMatchParser() {
+        // the documents are of the target type up to the syntax error, otherwise the binding error is reported
+        String[] documents = {
+                "{\"name\" \"A\"}",
+                "{\"name\": \"A\",\n \"age\": 1 \"x\": 2}",
+                "{\"name\": \"A\", \"age\": 1}}",
+                "{\"name\": \"A\", \"age\": tru}",
+                "{\"name\": \"A\", \"age\": 1",
+                "[{\"name\": \"A\", \"age\": 1}",
+                "{\"name\": \"\\x\", \"age\": 1}",
+                "{\"name\": \"\\u12G4\", \"age\": 1}",
+                "{\"name\": \"A\", \"age\": 1, \"nick\": [1 2]}",
+                "{\"name\": \"A\", \"age\": 1, \"nick\": ballerina}",
+                "{\"name\": \"A\", \"age\": 1} x",
+                "",
+        };
+        for (String document : documents) {
+            String parserError = null;
+            try {
+                JSONParser.parse(document);
+            } catch (BallerinaException e) {
+                parserError = e.getMessage();
+            }
+            Assert.assertNotNull(parserError, document);
+            BType documentType = document.startsWith("[") ? new BArrayType(personType) : personType;
+            for (BType type : new BType[]{documentType, BTypes.typeJSON}) {
+                try {
+                    JSONDataBinder.bind(document, type);
+                    Assert.fail("binding should have failed: " + document);
+                } catch (BallerinaException e) {
+                    Assert.assertEquals(e.getMessage(), parserError, document);
+                }
+            }
+        }
+    }
+
+    private MapValue<?, ?> bindPerson(String json) {
+        return (MapValue<?, ?>) JSONDataBinder.bind(json, personType);
+    }
+
+    private static Object get(MapValue<?, ?> map, String key) {
+        return map.get(StringUtils.fromString(key));
+    }
+
+    private static void assertBindingError(String json, BType type, String expectedMessage) {
+        try {
+            JSONDataBinder.bind(json, type);
+        } catch (BallerinaException e) {
+            Assert.assertEquals(e.getMessage(), expectedMessage);
+            return;
+        }
+        Assert.fail("binding should have failed: " + json);
+    }
+}
@@ -0,0 +1,410 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.JSONParser;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.DecimalValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.api.BString;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Test cases for the parity of the UTF-8 byte parser, which parses input streams and byte buffers, with the character
+ * based parser. Each document is parsed by both parsers, which have to give the same value or the same error.
+ */
+public class JSONParserParityTests {
+
+    private static final int READ_BUFFER_SIZE = 8192;
+    private static final String[] MULTI_BYTE_CHARS = {"\u00e9", "\u20ac", "\ud83d\ude00"};
+
+    @Test
+    public void testMultiByteCharacters() {
+        for (String ch : MULTI_BYTE_CHARS) {
+            assertParity("\"" + ch + "\"");
+            assertParity("{\"" + ch + "\": \"a" + ch + "b" + ch + ch + "\"}");
+            assertParity("['" + ch + "', \"x" + ch + "\", {'k" + ch + "': '" + ch + "'}]");
+        }
+        assertParity("{\"name\": \"\u0dc1\u0dca\u200d\u0dbb\u0dd3 \u0dbd\u0d82\u0d9a\u0dcf\", " +
+                             "\"emoji\": \"\ud83d\udc69\u200d\ud83d\udcbb\", \"mixed\": \"a\u00e9\u20ac\ud83d\ude00z\"}");
+    }
+
+    @Test
+    public void testMultiByteCharactersAcrossRefill() {
+        for (String ch : MULTI_BYTE_CHARS) {
+            for (int padding = READ_BUFFER_SIZE - 8; padding <= READ_BUFFER_SIZE + 2; padding++) {
+                // the multi-byte character starts a few bytes before the end of the first read
+                assertParity("[\"" + repeat('a', padding - 2) + ch + "\", \"" + ch + "\"]");
+                assertParity("{\"" + repeat('k', padding - 2) + ch + "\": 1, \"" + ch + "\": " + ch.length() + "}");
+                assertParity("[\"" + repeat('a', padding - 2) + "\\u00e9" + ch + "\"]");
+                assertParity("[" + repeat(' ', padding - 1) + "\"" + ch + "\", tru]");
+            }
+        }
+    }
+
+    @Test
+    public void testMalformedUTF8() {
+        byte[][] sequences = {
+                {(byte) 0x80},
+                {(byte) 0xBF, (byte) 0x80},
+                {(byte) 0xC3},
+                {(byte) 0xC3, 'a'},
+                {(byte) 0xC0, (byte) 0xAF},
+                {(byte) 0xE2, (byte) 0x82},
+                {(byte) 0xE0, (byte) 0x80, (byte) 0xAF},
+                {(byte) 0xED, (byte) 0xA0, (byte) 0x80},
+                {(byte) 0xF0, (byte) 0x9F, (byte) 0x98},
+                {(byte) 0xF4, (byte) 0x90, (byte) 0x80, (byte) 0x80},
+                {(byte) 0xF8, (byte) 0x88, (byte) 0x80, (byte) 0x80, (byte) 0x80},
+                {(byte) 0xFF},
+                {(byte) 0xC1, (byte) 0xBF},
+                {(byte) 0xE0, (byte) 0x9F, (byte) 0x80},
+                {(byte) 0xF0, (byte) 0x8F, (byte) 0x80, (byte) 0x80},
+                {(byte) 0xF5, (byte) 0x80, (byte) 0x80, (byte) 0x80},
+                {(byte) 0xE2, (byte) 0x82, 'a'},
+                {(byte) 0xF0, (byte) 0x9F, 'a'},
+                {(byte) 0xF0},
+        };
+        for (byte[] sequence : sequences) {
+            assertParity(concat("[\"a", sequence, "b\", 1]"));
+            assertParity(concat("{\"", sequence, "\": \"", sequence, "\"}"));
+            assertParity(concat("[\"", sequence, "\"]"));
+            assertParity(concat("[\"", sequence, "\", tru]"));
+            assertParity(concat("[\"a\", \"", sequence, "\", x]"));
+        }
+    }
+
+    @Test
+    public void testEscapes() {
+        assertParity("[\"\\\"\", \"\\\\\", \"\\/\", \"\\b\", \"\\f\", \"\\n\", \"\\r\", \"\\t\"]");
+        assertParity("[\"\\u0041\", \"\\u00e9\", \"\\u20AC\", \"\\ud83d\\ude00\", \"\\u0000\", \"a\\u0062c\"]");
+        assertParity("{\"\\u0041\\n\": \"\\t\\\"\\u00e9\\\"\"}");
+        assertParity("['\\'']");
+        assertParity("[\"\\x\"]");
+        assertParity("[\"\\u00G0\"]");
+        assertParity("[\"\\u00e\"]");
+        assertParity("[\"\\u00e9\n\\q\"]");
+        assertParity("[\"\\\n\"]");
+        assertParity("[\"\\");
+        assertParity("[\"\\u00");
+    }
+
+    @Test
+    public void testNumbers() {
+        String[] numbers = {
+                "0", "-0", "1", "-1", "1.", ".5", "-.5", "-0.0", "0.0", "1.5", "-1.5", "0.1", "0.30000000000000004",
+                "123456789012345", "1234567890123456", "12345678901234567890", "1.234567890123456",
+                "1234567890.1234567890", "0.000000000000000000001", "100000000000000000000000.0", "1e5", "1E5",
+                "1.0e5", "1.5e-3", "-2.5E+10", "9223372036854775807", "-9223372036854775808", "9223372036854775808",
+                "-9223372036854775809", "1.2.3", "--1", "+1", "1-", "0x10", "01", "1..2", "-", ".", "1.e5", "Infinity",
+                "NaN", "1.7976931348623157E309", "4.9e-325"
+        };
+        for (String number : numbers) {
+            assertParity(number);
+            assertParity("[" + number + "]");
+            assertParity("[" + number + ", " + number + "]");
+            assertParity("{\"n\": " + number + "}");
+            assertParity("{\"n\": " + number + ", \"m\": [" + number + "]}");
+        }
+        assertParity("[true, false, null, tru, nul, fals, truex, True]");
+        assertParity("{\"a\": true, \"b\": null}");
+        assertParity("nulls");
+    }
+
+    @Test
+    public void testSingleQuotedStrings() {
+        assertParity("'abc'");
+        assertParity("{'a': 'b', \"c\": 'd\"e', 'f\"': \"g'h\"}");
+        assertParity("['\u00e9\u20ac\ud83d\ude00', 'a\\u0041', '']");
+        assertParity("{'a\": 1}");
+        assertParity("['abc]");
+    }
+
+    @Test
+    public void testKeyCacheCollisions() {
+        // "Aa" and "BB", and "AaAa", "AaBB", "BBAa" and "BBBB" have equal hash codes
+        StringBuilder document = new StringBuilder("[");
+        for (int i = 0; i < 100; i++) {
+            document.append("{\"Aa\": ").append(i).append(", \"BB\": ").append(-i)
+                    .append(", \"AaAa\": 1, \"BBBB\": 2, \"AaBB\": 3, \"BBAa\": 4},");
+        }
+        document.append("{\"BB\": \"Aa\", \"Aa\": \"BB\"}]");
+        assertParity(document.toString());
+
+        // keys of equal length which fill the cache
+        document = new StringBuilder("{");
+        for (int i = 0; i < 2000; i++) {
+            document.append("\"k").append(String.format("%04d", i)).append("\": ").append(i).append(", ");
+        }
+        document.append("\"k0000\": \"last\"}");
+        Object json = assertParity(document.toString());
+        Assert.assertEquals(((MapValueImpl<?, ?>) json).size(), 2000);
+
+        // keys longer than the cached keys, and keys with escapes and multi-byte characters
+        assertParity("[{\"" + repeat('x', 40) + "\": 1, \"a\\u0042\": 2, \"a\u00e9\": 3}, {\"" + repeat('x', 40) +
+                             "\": 4, \"aB\": 5, \"a\u00e9\": 6}]");
+    }
+
+    @Test
+    public void testDeepNesting() {
+        for (int depth : new int[]{15, 16, 17, 33, 1000}) {
+            assertParity(repeat('[', depth) + repeat(']', depth));
+            assertParity(repeat("{\"a\": [", depth) + "1" + repeat("]}", depth));
+            assertParity(repeat("{\"a\": [", depth) + "1" + repeat("]}", depth - 1) + "]");
+            assertParity(repeat("{\"a\": [", depth) + "1" + repeat("]}", depth - 1));
+        }
+    }
+
+    @Test
+    public void testErrorLocations() {
+        String[] documents = {
+                "",
+                "   ",
+                "\n\n",
+                "{\"\u00e9\": tru}",
+                "[\"\ud83d\ude00\", x]",
+                "{\n\"a\": \"\u20ac\",\n\"b\" 1}",
+                "[\"\u00e9\u00e9\",\n  \"\u20ac\" \"x\"]",
+                "{\"a\": 1]",
+                "[1}",
+                "[1, 2",
+                "{\"a\": 1",
+                "{\"a\": \"b",
+                "{\"a\"",
+                "{\"a\":",
+                "[",
+                "{",
+                "{a: 1}",
+                "{\"a\": 1,}",
+                "{,}",
+                "[1] x",
+                "[1]\n\n  x",
+                "{\"a\": 1}}",
+                "\"abc\" 1",
+                "1 2",
+                "{\"a\": {\"b\": [1, 2, {\"c\": tru\n}]}}",
+                "{\"a\": {\"b\": [1, 2, {\"c\": \"\u00e9\"\n x}]}}",
+                "[\"\u00e9\", \n\t\u00e9]",
+                "[\u00e9]",
+                "{\"\u20ac\u20ac\": 1\r\n, \"b\": [1 2]}",
+                "{\"a\": 1 \"b\": 2}",
+                "[\"a\"\n,\n\"b\"\n x]",
+                "[1{]",
+                "[1[]",
+                "{\"a\": 1{}",
+                "{\"a\": [}",
+                "[\"\ud83d\ude00\ud83d\ude00\", 1.2.3]",
+                "[\"\ud83d\ude00\", \ud83d\ude00]",
+                "{\"a\": {\"b\": 1]]",
+                "[{\"a\": 1]",
+                "[1, {\"a\": 1]]",
+                "[1{\"a\": 2}]",
+                "{\"a\": tru[1]}",
+        };
+        for (String document : documents) {
+            assertParity(document);
+        }
+    }
+
+    @Test
+    public void testByteBuffers() {
+        String document = "{\"a\": [1, 2.5, \"\u00e9\u20ac\ud83d\ude00\", {\"b\": null}], \"c\": true}";
+        byte[] bytes = document.getBytes(StandardCharsets.UTF_8);
+        Object expected = parseChars(bytes);
+
+        ByteBuffer heap = ByteBuffer.wrap(bytes);
+        assertJsonEquals(JSONParser.parse(heap), expected);
+        Assert.assertFalse(heap.hasRemaining());
+
+        // a slice of a larger buffer, which has an array offset, and a position and a limit within the slice
+        byte[] larger = concat("xxxx", bytes, "yyyy");
+        ByteBuffer slice = ByteBuffer.wrap(larger, 2, larger.length - 2).slice();
+        slice.position(2).limit(2 + bytes.length);
+        assertJsonEquals(JSONParser.parse(slice), expected);
+        Assert.assertEquals(slice.position(), 2 + bytes.length);
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(larger.length);
+        direct.put(larger).position(4).limit(4 + bytes.length);
+        assertJsonEquals(JSONParser.parse(direct), expected);
+        Assert.assertEquals(direct.position(), 4 + bytes.length);
+
+        // a direct buffer larger than the read buffer
+        String large = "[\"" + repeat('a', READ_BUFFER_SIZE * 3) + "\u20ac\", " + repeat("1.5, ", 5000) + "2]";
+        assertParity(large);
+    }
+
+    /**
+     * Parses the given document with both parsers, and with the different sources of the byte parser, and asserts
+     * that all of them give the same value or fail with the same error.
+     */
+    private static Object assertParity(String document) {
+        return assertParity(document.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Object assertParity(byte[] document) {
+        String description = new String(document, StandardCharsets.UTF_8);
+        if (description.length() > 100) {
+            description = description.substring(0, 100) + "...";
+        }
+
+        Object expected;
+        try {
+            expected = parseChars(document);
+        } catch (RuntimeException e) {
+            String expectedError = e.getClass().getName() + ": " + e.getMessage();
+            assertError(() -> JSONParser.parse(new ByteArrayInputStream(document), "UTF-8"), expectedError,
+                        description);
+            assertError(() -> JSONParser.parse(new SingleByteInputStream(document), "UTF-8"), expectedError,
+                        description);
+            assertError(() -> JSONParser.parse(ByteBuffer.wrap(document)), expectedError, description);
+            assertError(() -> JSONParser.parse(toDirectBuffer(document)), expectedError, description);
+            return null;
+        }
+
+        assertJsonEquals(JSONParser.parse(new ByteArrayInputStream(document), "UTF-8"), expected, description);
+        assertJsonEquals(JSONParser.parse(new SingleByteInputStream(document), "UTF-8"), expected, description);
+        assertJsonEquals(JSONParser.parse(ByteBuffer.wrap(document)), expected, description);
+        assertJsonEquals(JSONParser.parse(toDirectBuffer(document)), expected, description);
+        return expected;
+    }
+
+    private static Object parseChars(byte[] document) {
+        return JSONParser.parse(new InputStreamReader(new ByteArrayInputStream(document), StandardCharsets.UTF_8));
+    }
+
+    private static void assertError(Runnable parse, String expectedError, String description) {
+        try {
+            parse.run();
+        } catch (RuntimeException e) {
+            Assert.assertEquals(e.getClass().getName() + ": " + e.getMessage(), expectedError, description);
+            return;
+        }
+        Assert.fail("parsing should have failed with '" + expectedError + "': " + description);
+    }
+
+    private static void assertJsonEquals(Object actual, Object expected) {
+        assertJsonEquals(actual, expected, "");
+    }
+
+    private static void assertJsonEquals(Object actual, Object expected, String description) {
+        if (expected == null || actual == null) {
+            Assert.assertEquals(actual, expected, description);
+        } else if (expected instanceof MapValueImpl) {
+            Assert.assertTrue(actual instanceof MapValueImpl, description);
+            MapValueImpl<?, ?> expectedMap = (MapValueImpl<?, ?>) expected;
+            MapValueImpl<?, ?> actualMap = (MapValueImpl<?, ?>) actual;
+            Assert.assertEquals(actualMap.getType().toString(), expectedMap.getType().toString(), description);
+            Assert.assertEquals(actualMap.size(), expectedMap.size(), description);
+            Iterator<? extends Map.Entry<?, ?>> actualEntries = actualMap.entrySet().iterator();
+            for (Map.Entry<?, ?> expectedEntry : expectedMap.entrySet()) {
+                Map.Entry<?, ?> actualEntry = actualEntries.next();
+                assertJsonEquals(actualEntry.getKey(), expectedEntry.getKey(), description);
+                assertJsonEquals(actualEntry.getValue(), expectedEntry.getValue(), description);
+            }
+        } else if (expected instanceof ArrayValue) {
+            Assert.assertTrue(actual instanceof ArrayValue, description);
+            ArrayValue expectedArray = (ArrayValue) expected;
+            ArrayValue actualArray = (ArrayValue) actual;
+            Assert.assertEquals(actualArray.getType().toString(), expectedArray.getType().toString(), description);
+            Assert.assertEquals(actualArray.size(), expectedArray.size(), description);
+            for (int i = 0; i < expectedArray.size(); i++) {
+                assertJsonEquals(actualArray.getRefValue(i), expectedArray.getRefValue(i), description);
+            }
+        } else if (expected instanceof BString || expected instanceof String) {
+            Assert.assertTrue(actual instanceof BString, description);
+            Assert.assertEquals(((BString) actual).getValue(), expected.toString(), description);
+        } else if (expected instanceof DecimalValue) {
+            Assert.assertEquals(actual, expected, description);
+        } else {
+            // Double#equals tells -0.0 from 0.0 and Long from Double
+            Assert.assertEquals(actual.getClass(), expected.getClass(), description);
+            Assert.assertEquals(actual, expected, description);
+        }
+    }
+
+    private static ByteBuffer toDirectBuffer(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        return buffer;
+    }
+
+    private static byte[] concat(Object... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (Object part : parts) {
+            byte[] bytes = part instanceof String ? ((String) part).getBytes(StandardCharsets.UTF_8) : (byte[]) part;
+            out.write(bytes, 0, bytes.length);
+        }
+        return out.toByteArray();
+    }
+
+    private static String repeat(char ch, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, ch);
+        return new String(chars);
+    }
+
+    private static String repeat(String str, int count) {
+        StringBuilder builder = new StringBuilder(str.length() * count);
+        for (int i = 0; i < count; i++) {
+            builder.append(str);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Input stream which returns a single byte on every read, so that every character spans reads.
+     */
+    private static class SingleByteInputStream extends InputStream {
+
+        private final byte[] bytes;
+        private int pos;
+
+        SingleByteInputStream(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public int read() {
+            return pos < bytes.length ? bytes[pos++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (pos == bytes.length) {
+                return -1;
+            }
+            if (len == 0) {
+                return 0;
+            }
+            b[off] = bytes[pos++];
+            return 1;
+        }
+    }
+}
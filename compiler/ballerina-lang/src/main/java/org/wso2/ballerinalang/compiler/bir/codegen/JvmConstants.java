@@ -35,6 +35,7 @@ public class JvmConstants {
     public static final String ARRAY_VALUE = "org/ballerinalang/jvm/values/ArrayValue";
     public static final String OBJECT_VALUE = "org/ballerinalang/jvm/values/ObjectValue";
     public static final String ABSTRACT_OBJECT_VALUE = "org/ballerinalang/jvm/values/AbstractObjectValue";
+    public static final String OBJECT_METHOD_CALL_SITE = "org/ballerinalang/jvm/values/ObjectMethodCallSite";
     public static final String REF_VALUE = "org/ballerinalang/jvm/values/RefValue";
     public static final String ERROR_VALUE = "org/ballerinalang/jvm/values/ErrorValue";
     public static final String B_ERROR = "org/ballerinalang/jvm/values/api/BError";
@@ -59,6 +60,7 @@ public class JvmConstants {
     public static final String LOCK_VALUE = "org/ballerinalang/jvm/BLock";
     public static final String LOCK_STORE = "org/ballerinalang/jvm/BLockStore";
     public static final String FUNCTION_POINTER = "org/ballerinalang/jvm/values/FPValue";
+    public static final String FUNCTION_POINTER_CALL_SITE = "org/ballerinalang/jvm/values/FunctionPointerCallSite";
     public static final String ARRAY_VALUE_IMPL = "org/ballerinalang/jvm/values/ArrayValueImpl";
     public static final String TUPLE_VALUE_IMPL = "org/ballerinalang/jvm/values/TupleValueImpl";
     public static final String TABLE_VALUE_IMPL = "org/ballerinalang/jvm/values/TableValueImpl";
@@ -139,6 +141,7 @@ public class JvmConstants {
     public static final String STRING_BUILDER = "java/lang/StringBuilder";
     public static final String COMPARABLE = "java/lang/Comparable";
     public static final String FUNCTION = "java/util/function/Function";
+    public static final String METHOD_HANDLE = "java/lang/invoke/MethodHandle";
     public static final String LONG_STREAM = "java/util/stream/LongStream";
     public static final String JAVA_THREAD = "java/lang/Thread";
     public static final String JAVA_RUNTIME = "java/lang/Runtime";
@@ -165,6 +168,7 @@ public class JvmConstants {
     public static final String TRAP_ERROR_METHOD = "trapError";
     public static final String BLOCKED_ON_EXTERN_FIELD = "blockedOnExtern";
     public static final String IS_BLOCKED_ON_EXTERN_FIELD = "isBlockedOnExtern";
+    public static final String CALLER_MODULE_FIELD = "callerModule";
 
     // Immutable type related constants.
     public static final String SET_IMMUTABLE_TYPE_METHOD = "setImmutableType";
@@ -194,6 +198,7 @@ public class JvmConstants {
     public static final String TYPEDESC_CLASS_PREFIX = "$typedesc$";
     public static final String BALLERINA = "ballerina";
     public static final String BUILT_IN_PACKAGE_NAME = "lang.annotations";
+    public static final String LOG_PACKAGE_NAME = "log";
     public static final String MODULE_START_ATTEMPTED = "$moduleStartAttempted";
     public static final String MODULE_STARTED = "$moduleStarted";
     public static final String DESUGARED_BB_ID_NAME = "desugaredBB";
@@ -19,6 +19,7 @@ package org.wso2.ballerinalang.compiler.bir.codegen;
 
 import org.ballerinalang.compiler.BLangCompilerException;
 import org.ballerinalang.model.elements.PackageID;
+import org.objectweb.asm.Handle;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.AsyncDataCollector;
@@ -149,6 +150,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAPPING_I
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_UTILS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MATH_UTILS;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.METHOD_HANDLE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_INIT_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT_TYPE;
@@ -189,15 +191,17 @@ public class JvmInstructionGen {
     private final String currentPackageName;
     private final BIRNode.BIRPackage currentPackage;
     private final JvmPackageGen jvmPackageGen;
+    private final JvmMethodGen jvmMethodGen;
     private final SymbolTable symbolTable;
 
     public JvmInstructionGen(MethodVisitor mv, BIRVarToJVMIndexMap indexMap, BIRNode.BIRPackage currentPackage,
-                             JvmPackageGen jvmPackageGen) {
+                             JvmPackageGen jvmPackageGen, JvmMethodGen jvmMethodGen) {
 
         this.mv = mv;
         this.indexMap = indexMap;
         this.currentPackage = currentPackage;
         this.jvmPackageGen = jvmPackageGen;
+        this.jvmMethodGen = jvmMethodGen;
         this.symbolTable = jvmPackageGen.symbolTable;
         this.currentPackageName = JvmCodeGenUtil.getPackageName(currentPackage);
     }
@@ -1671,6 +1675,16 @@ public class JvmInstructionGen {
         this.mv.visitMethodInsn(INVOKESPECIAL, FUNCTION_POINTER, JVM_INIT_METHOD,
                                 String.format("(L%s;L%s;L%s;Z)V", FUNCTION, BTYPE, STRING_VALUE), false);
 
+        // Set the handle of the function, which is called when the function pointer is called with typed args.
+        Handle functionHandle = jvmMethodGen.getFunctionPointerHandle(inst);
+        if (functionHandle != null) {
+            this.mv.visitInsn(DUP);
+            this.mv.visitLdcInsn(functionHandle);
+            this.loadClosureMaps(inst.closureMaps);
+            this.mv.visitMethodInsn(INVOKEVIRTUAL, FUNCTION_POINTER, "setHandle",
+                                    String.format("(L%s;[L%s;)V", METHOD_HANDLE, OBJECT), false);
+        }
+
         // Set annotations if available.
         this.mv.visitInsn(DUP);
         String pkgClassName = pkgName.equals(".") || pkgName.equals("") ? MODULE_INIT_CLASS_NAME :
@@ -1684,6 +1698,24 @@ public class JvmInstructionGen {
         asyncDataCollector.add(lambdaName, inst);
     }
 
+    private void loadClosureMaps(List<BIROperand> closureMaps) {
+
+        if (closureMaps.isEmpty()) {
+            this.mv.visitInsn(ACONST_NULL);
+            return;
+        }
+
+        this.mv.visitIntInsn(BIPUSH, closureMaps.size());
+        this.mv.visitTypeInsn(ANEWARRAY, OBJECT);
+        int index = 0;
+        for (BIROperand operand : closureMaps) {
+            this.mv.visitInsn(DUP);
+            this.mv.visitIntInsn(BIPUSH, index++);
+            this.loadVar(operand.variableDcl);
+            this.mv.visitInsn(AASTORE);
+        }
+    }
+
     void generateNewXMLElementIns(BIRNonTerminator.NewXMLElement newXMLElement) {
 
         this.loadVar(newXMLElement.startTagOp.variableDcl);
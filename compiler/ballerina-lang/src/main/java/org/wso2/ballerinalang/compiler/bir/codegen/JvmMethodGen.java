@@ -22,6 +22,7 @@ import org.ballerinalang.compiler.BLangCompilerException;
 import org.ballerinalang.model.elements.PackageID;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Handle;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
@@ -99,7 +100,6 @@ import static org.objectweb.asm.Opcodes.FSTORE;
 import static org.objectweb.asm.Opcodes.GETFIELD;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.GOTO;
-import static org.objectweb.asm.Opcodes.IADD;
 import static org.objectweb.asm.Opcodes.ICONST_0;
 import static org.objectweb.asm.Opcodes.ICONST_1;
 import static org.objectweb.asm.Opcodes.IFEQ;
@@ -195,6 +195,7 @@ public class JvmMethodGen {
     public static final String STATE = "state";
     public static final String FRAMES = "frames";
     public static final String RESUME_INDEX = "resumeIndex";
+    public static final String PUSH_FRAME_METHOD = "pushFrame";
     private int nextId = -1;
     private int nextVarId = -1;
     private final JvmPackageGen jvmPackageGen;
@@ -268,7 +269,7 @@ public class JvmMethodGen {
 
         addCasesForBasicBlocks(func, funcName, labelGen, labels, states);
 
-        JvmInstructionGen instGen = new JvmInstructionGen(mv, indexMap, module, jvmPackageGen);
+        JvmInstructionGen instGen = new JvmInstructionGen(mv, indexMap, module, jvmPackageGen, this);
         JvmErrorGen errorGen = new JvmErrorGen(mv, indexMap, instGen);
         JvmTerminatorGen termGen = new JvmTerminatorGen(mv, indexMap, labelGen, errorGen, module, instGen,
                                                         jvmPackageGen);
@@ -318,16 +319,8 @@ public class JvmMethodGen {
         int frameVarIndex = indexMap.addToMapIfNotFoundAndGetIndex(frameVar);
         mv.visitVarInsn(ASTORE, frameVarIndex);
         mv.visitVarInsn(ALOAD, localVarOffset);
-        mv.visitFieldInsn(GETFIELD, STRAND_CLASS, FRAMES, "[Ljava/lang/Object;");
-        mv.visitVarInsn(ALOAD, localVarOffset);
-        mv.visitInsn(DUP);
-        mv.visitFieldInsn(GETFIELD, STRAND_CLASS, RESUME_INDEX, "I");
-        mv.visitInsn(DUP_X1);
-        mv.visitInsn(ICONST_1);
-        mv.visitInsn(IADD);
-        mv.visitFieldInsn(PUTFIELD, STRAND_CLASS, RESUME_INDEX, "I");
         mv.visitVarInsn(ALOAD, frameVarIndex);
-        mv.visitInsn(AASTORE);
+        mv.visitMethodInsn(INVOKEVIRTUAL, STRAND_CLASS, PUSH_FRAME_METHOD, String.format("(L%s;)V", OBJECT), false);
     }
 
     private void createLocalVariableTable(BIRFunction func, BIRVarToJVMIndexMap indexMap, int localVarOffset,
@@ -1071,13 +1064,6 @@ public class JvmMethodGen {
         submitToScheduler(mv, initClass, "stop", asyncDataCollector);
         mv.visitVarInsn(ASTORE, futureIndex);
 
-        mv.visitVarInsn(ALOAD, futureIndex);
-
-        mv.visitFieldInsn(GETFIELD, FUTURE_VALUE, STRAND, String.format("L%s;", STRAND_CLASS));
-        mv.visitIntInsn(BIPUSH, 100);
-        mv.visitTypeInsn(ANEWARRAY, OBJECT);
-        mv.visitFieldInsn(PUTFIELD, STRAND_CLASS, FRAMES, String.format("[L%s;", OBJECT));
-
         mv.visitVarInsn(ALOAD, futureIndex);
         mv.visitFieldInsn(GETFIELD, FUTURE_VALUE, STRAND, String.format("L%s;", STRAND_CLASS));
         mv.visitFieldInsn(GETFIELD, STRAND_CLASS, "scheduler", String.format("L%s;", SCHEDULER));
@@ -1482,32 +1468,8 @@ public class JvmMethodGen {
             String methodDesc = String.format("(L%s;L%s;[L%s;)L%s;", STRAND_CLASS, STRING_VALUE, OBJECT, OBJECT);
             mv.visitMethodInsn(INVOKEINTERFACE, OBJECT_VALUE, "call", methodDesc, true);
         } else {
-            String jvmClass;
-            String lookupKey = JvmCodeGenUtil.getPackageName(orgName, moduleName, version) + funcName;
-            BIRFunctionWrapper functionWrapper = jvmPackageGen.lookupBIRFunctionWrapper(lookupKey);
             String methodDesc = getLambdaMethodDesc(paramBTypes, returnType, closureMapsCount);
-            if (functionWrapper != null) {
-                jvmClass = functionWrapper.fullQualifiedClassName;
-            } else {
-                BPackageSymbol symbol = jvmPackageGen.packageCache.getSymbol(orgName + "/" + moduleName);
-                BInvokableSymbol funcSymbol = (BInvokableSymbol) symbol.scope.lookup(new Name(funcName)).symbol;
-                BInvokableType type = (BInvokableType) funcSymbol.type;
-                ArrayList<BType> params = new ArrayList<>(type.paramTypes);
-                if (type.restType != null) {
-                    params.add(type.restType);
-                }
-                for (int j = params.size() - 1; j >= 0; j--) {
-                    params.add(j + 1, symbolTable.booleanType);
-                }
-                String balFileName = funcSymbol.source;
-
-                if (balFileName == null || !balFileName.endsWith(BAL_EXTENSION)) {
-                    balFileName = MODULE_INIT_CLASS_NAME;
-                }
-
-                jvmClass = JvmCodeGenUtil.getModuleLevelClassName(orgName, moduleName, version, JvmCodeGenUtil
-                        .cleanupPathSeparators(balFileName));
-            }
+            String jvmClass = getFunctionClassName(orgName, moduleName, version, funcName);
 
             mv.visitMethodInsn(INVOKESTATIC, jvmClass, funcName, methodDesc, false);
         }
@@ -1520,6 +1482,59 @@ public class JvmMethodGen {
         mv.visitEnd();
     }
 
+    /**
+     * Returns the handle of the method of the function loaded as a function pointer, which is called with typed
+     * arguments when the function pointer is called from the generated code. Extern functions do not have a handle,
+     * since they are called only through the lambda.
+     *
+     * @param fpLoad function pointer load instruction
+     * @return the method handle or null if there is none
+     */
+    Handle getFunctionPointerHandle(FPLoad fpLoad) {
+
+        if (isExternStaticFunctionCall(fpLoad)) {
+            return null;
+        }
+        String orgName = fpLoad.pkgId.orgName.value;
+        String moduleName = fpLoad.pkgId.name.value;
+        String version = fpLoad.pkgId.version.value;
+        String funcName = fpLoad.funcName.getValue();
+        boolean isBuiltinModule = JvmCodeGenUtil.isBallerinaBuiltinModule(orgName, moduleName);
+
+        List<BType> paramBTypes = new ArrayList<>();
+        for (BIRVariableDcl dcl : fpLoad.params) {
+            paramBTypes.add(dcl.type);
+            if (!isBuiltinModule) {
+                paramBTypes.add(symbolTable.booleanType);
+            }
+        }
+        BType returnType = fpLoad.retType;
+        if (returnType.tag == TypeTags.INVOKABLE) {
+            returnType = ((BInvokableType) returnType).retType;
+        }
+        String methodDesc = getLambdaMethodDesc(paramBTypes, returnType, fpLoad.closureMaps.size());
+        return new Handle(Opcodes.H_INVOKESTATIC, getFunctionClassName(orgName, moduleName, version, funcName),
+                          funcName, methodDesc, false);
+    }
+
+    private String getFunctionClassName(String orgName, String moduleName, String version, String funcName) {
+
+        String lookupKey = JvmCodeGenUtil.getPackageName(orgName, moduleName, version) + funcName;
+        BIRFunctionWrapper functionWrapper = jvmPackageGen.lookupBIRFunctionWrapper(lookupKey);
+        if (functionWrapper != null) {
+            return functionWrapper.fullQualifiedClassName;
+        }
+
+        BPackageSymbol symbol = jvmPackageGen.packageCache.getSymbol(orgName + "/" + moduleName);
+        BInvokableSymbol funcSymbol = (BInvokableSymbol) symbol.scope.lookup(new Name(funcName)).symbol;
+        String balFileName = funcSymbol.source;
+        if (balFileName == null || !balFileName.endsWith(BAL_EXTENSION)) {
+            balFileName = MODULE_INIT_CLASS_NAME;
+        }
+        return JvmCodeGenUtil.getModuleLevelClassName(orgName, moduleName, version,
+                                                      JvmCodeGenUtil.cleanupPathSeparators(balFileName));
+    }
+
     private void generateBlockedOnExtern(int closureMapsCount, MethodVisitor mv) {
 
         Label blockedOnExternLabel = new Label();
@@ -1680,11 +1695,6 @@ public class JvmMethodGen {
             // submit to scheduler
             submitToScheduler(mv, initClass, "<init>", asyncDataCollector);
             mv.visitInsn(DUP);
-            mv.visitInsn(DUP);
-            mv.visitFieldInsn(GETFIELD, FUTURE_VALUE, STRAND, String.format("L%s;", STRAND_CLASS));
-            mv.visitIntInsn(BIPUSH, 100);
-            mv.visitTypeInsn(ANEWARRAY, OBJECT);
-            mv.visitFieldInsn(PUTFIELD, STRAND_CLASS, FRAMES, String.format("[L%s;", OBJECT));
             handleErrorFromFutureValue(mv);
 
             BIRVariableDcl futureVar = new BIRVariableDcl(symbolTable.anyType, new Name("initdummy"),
@@ -1715,12 +1725,6 @@ public class JvmMethodGen {
             JvmTypeGen.loadType(mv, anyType);
             submitToScheduler(mv, initClass, "main", asyncDataCollector);
             mv.visitInsn(DUP);
-
-            mv.visitInsn(DUP);
-            mv.visitFieldInsn(GETFIELD, FUTURE_VALUE, STRAND, String.format("L%s;", STRAND_CLASS));
-            mv.visitIntInsn(BIPUSH, 100);
-            mv.visitTypeInsn(ANEWARRAY, OBJECT);
-            mv.visitFieldInsn(PUTFIELD, STRAND_CLASS, FRAMES, String.format("[L%s;", OBJECT));
             handleErrorFromFutureValue(mv);
 
             // At this point we are done executing all the functions including asyncs
@@ -1782,11 +1786,6 @@ public class JvmMethodGen {
         submitToScheduler(mv, initClass, "start", asyncDataCollector);
 
         mv.visitInsn(DUP);
-        mv.visitInsn(DUP);
-        mv.visitFieldInsn(GETFIELD, FUTURE_VALUE, STRAND, String.format("L%s;", STRAND_CLASS));
-        mv.visitIntInsn(BIPUSH, 100);
-        mv.visitTypeInsn(ANEWARRAY, OBJECT);
-        mv.visitFieldInsn(PUTFIELD, STRAND_CLASS, FRAMES, String.format("[L%s;", OBJECT));
         handleErrorFromFutureValue(mv);
 
         BIRVariableDcl futureVar = new BIRVariableDcl(symbolTable.anyType, new Name("startdummy"), VarScope.FUNCTION,
@@ -19,6 +19,7 @@ package org.wso2.ballerinalang.compiler.bir.codegen;
 
 import org.ballerinalang.compiler.BLangCompilerException;
 import org.ballerinalang.model.elements.PackageID;
+import org.objectweb.asm.Handle;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.wso2.ballerinalang.compiler.PackageCache;
@@ -38,15 +39,20 @@ import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarScope;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BAttachedFunction;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BObjectTypeSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BFutureType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BInvokableType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BObjectType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.ResolvedTypeBuilder;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.util.Flags;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -69,6 +75,7 @@ import static org.objectweb.asm.Opcodes.FCONST_0;
 import static org.objectweb.asm.Opcodes.GETFIELD;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.H_INVOKESTATIC;
 import static org.objectweb.asm.Opcodes.ICONST_0;
 import static org.objectweb.asm.Opcodes.ICONST_1;
 import static org.objectweb.asm.Opcodes.IFEQ;
@@ -77,6 +84,7 @@ import static org.objectweb.asm.Opcodes.IFNE;
 import static org.objectweb.asm.Opcodes.IFNONNULL;
 import static org.objectweb.asm.Opcodes.IFNULL;
 import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
@@ -98,27 +106,32 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BLANG_EXC
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BLOCKED_ON_EXTERN_FIELD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BTYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BUILT_IN_PACKAGE_NAME;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CALLER_MODULE_FIELD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_ERROR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CHANNEL_DETAILS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.DEFAULT_STRAND_DISPATCHER;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ERROR_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION_POINTER;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION_POINTER_CALL_SITE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUTURE_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GET_VALUE_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GLOBAL_LOCK_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.HANDLE_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.HASH_MAP;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.IS_BLOCKED_ON_EXTERN_FIELD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JAVA_PACKAGE_SEPERATOR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LIST;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_STORE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_STORE_VAR_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOG_PACKAGE_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_INIT_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT_METHOD_CALL_SITE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.PANIC_FIELD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.REF_VALUE;
@@ -140,6 +153,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.WORKER_DA
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.WORKER_UTILS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmInstructionGen.addJUnboxInsn;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen.loadType;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.getTypeValueClassName;
 import static org.wso2.ballerinalang.compiler.bir.codegen.interop.InteropMethodGen.genVarArg;
 
 /**
@@ -154,6 +168,7 @@ public class JvmTerminatorGen {
     private LabelGenerator labelGen;
     private JvmErrorGen errorGen;
     private String currentPackageName;
+    private String currentModuleName;
     private JvmPackageGen jvmPackageGen;
     private JvmInstructionGen jvmInstructionGen;
     private PackageCache packageCache;
@@ -173,6 +188,7 @@ public class JvmTerminatorGen {
         this.jvmInstructionGen = jvmInstructionGen;
         this.symbolTable = jvmPackageGen.symbolTable;
         this.currentPackageName = JvmCodeGenUtil.getPackageName(module);
+        this.currentModuleName = getLogModuleName(module);
         this.typeBuilder = new ResolvedTypeBuilder();
     }
 
@@ -670,6 +686,13 @@ public class JvmTerminatorGen {
     private void genStaticCall(BIRTerminator.Call callIns, String orgName, String moduleName,
                                String version, int localVarOffset,
                                String methodName, String methodLookupName) {
+        if (BALLERINA.equals(orgName) && LOG_PACKAGE_NAME.equals(moduleName)) {
+            // let the log functions know the calling module without walking the stack
+            this.mv.visitVarInsn(ALOAD, localVarOffset);
+            this.mv.visitLdcInsn(this.currentModuleName);
+            this.mv.visitFieldInsn(PUTFIELD, STRAND_CLASS, CALLER_MODULE_FIELD, String.format("L%s;", STRING_VALUE));
+        }
+
         // load strand
         this.mv.visitVarInsn(ALOAD, localVarOffset);
         String lookupKey = JvmCodeGenUtil.getPackageName(orgName, moduleName, version) + methodLookupName;
@@ -716,7 +739,110 @@ public class JvmTerminatorGen {
         this.mv.visitMethodInsn(INVOKESTATIC, jvmClass, cleanMethodName, methodDesc, false);
     }
 
+    /**
+     * Returns the name by which the log module identifies the given module, i.e. {@code org/module} with the module
+     * name cleaned up as in the class names, or {@code .} for the modules without an organization.
+     */
+    private static String getLogModuleName(BIRNode.BIRPackage module) {
+        String[] names = JvmCodeGenUtil.getPackageName(module).split(JAVA_PACKAGE_SEPERATOR);
+        if (names.length > 1) {
+            return names[0] + "/" + names[1];
+        }
+        return ".";
+    }
+
     private void genVirtualCall(BIRTerminator.Call callIns, String orgName, String moduleName, int localVarOffset) {
+
+        BIRNode.BIRVariableDcl selfArg = callIns.args.get(0).variableDcl;
+        BObjectType objectType = (BObjectType) selfArg.type;
+        String methodName = JvmCodeGenUtil.cleanupObjectTypeName(callIns.name.value);
+        if (JvmCodeGenUtil.isBallerinaBuiltinModule(orgName, moduleName) ||
+                Symbols.isFlagOn(objectType.tsymbol.flags, Flags.SERVICE)) {
+            this.genObjectValueCall(callIns, orgName, moduleName, localVarOffset, methodName);
+            return;
+        }
+
+        if (Symbols.isFlagOn(objectType.tsymbol.flags, Flags.ABSTRACT)) {
+            this.genInvokeDynamicObjectCall(callIns, orgName, moduleName, localVarOffset, methodName);
+            return;
+        }
+
+        BAttachedFunction attachedFunc = getAttachedFunction(objectType, methodName);
+        List<BType> paramTypes = attachedFunc == null ? null : getParamTypes(attachedFunc.type);
+        if (paramTypes == null || Symbols.isNative(attachedFunc.symbol) ||
+                paramTypes.size() != callIns.args.size() - 1) {
+            this.genObjectValueCall(callIns, orgName, moduleName, localVarOffset, methodName);
+            return;
+        }
+
+        // Object types are structural, hence the value may not be of the class generated for the object type. If it
+        // is, the method of the class is called directly, without boxing the arguments.
+        String className = getTypeValueClassName(objectType.tsymbol.pkgID, JvmCodeGenUtil.toNameString(objectType));
+        Label notInstanceLabel = new Label();
+        Label endLabel = new Label();
+        this.loadVar(selfArg);
+        this.mv.visitTypeInsn(INSTANCEOF, className);
+        this.mv.visitJumpInsn(IFEQ, notInstanceLabel);
+
+        this.loadVar(selfArg);
+        this.mv.visitTypeInsn(CHECKCAST, className);
+        this.mv.visitVarInsn(ALOAD, localVarOffset);
+        List<BType> methodParamTypes = new ArrayList<>();
+        for (int i = 0; i < paramTypes.size(); i++) {
+            BIROperand arg = callIns.args.get(i + 1);
+            BType paramType = paramTypes.get(i);
+            boolean userProvidedArg = this.visitArg(arg);
+            genCastIfRequired(arg.variableDcl.type, paramType);
+            this.loadBooleanArgToIndicateUserProvidedArg(orgName, moduleName, userProvidedArg);
+            methodParamTypes.add(paramType);
+            methodParamTypes.add(symbolTable.booleanType);
+        }
+        BType returnType = attachedFunc.type.retType;
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, className, JvmCodeGenUtil.cleanupFunctionName(methodName),
+                                JvmCodeGenUtil.getMethodDesc(methodParamTypes, returnType), false);
+        genCastIfRequired(returnType, callIns.lhsOp.variableDcl.type);
+        this.mv.visitJumpInsn(GOTO, endLabel);
+
+        this.mv.visitLabel(notInstanceLabel);
+        this.genObjectValueCall(callIns, orgName, moduleName, localVarOffset, methodName);
+        this.mv.visitLabel(endLabel);
+    }
+
+    private void genInvokeDynamicObjectCall(BIRTerminator.Call callIns, String orgName, String moduleName,
+                                            int localVarOffset, String methodName) {
+        // load self
+        BIRNode.BIRVariableDcl selfArg = callIns.args.get(0).variableDcl;
+        this.loadVar(selfArg);
+        this.mv.visitTypeInsn(CHECKCAST, OBJECT_VALUE);
+
+        // load the strand
+        this.mv.visitVarInsn(ALOAD, localVarOffset);
+
+        StringBuilder desc = new StringBuilder();
+        desc.append("(L").append(OBJECT_VALUE).append(";L").append(STRAND_CLASS).append(";");
+        int argsCount = callIns.args.size();
+        for (int i = 1; i < argsCount; i++) {
+            BIROperand arg = callIns.args.get(i);
+            boolean userProvidedArg = this.visitArg(arg);
+            this.loadBooleanArgToIndicateUserProvidedArg(orgName, moduleName, userProvidedArg);
+            desc.append(JvmCodeGenUtil.getArgTypeSignature(arg.variableDcl.type)).append("Z");
+        }
+        desc.append(")L").append(OBJECT).append(";");
+
+        // the call site is linked to the methods of the object classes at runtime
+        Handle bootstrap = new Handle(H_INVOKESTATIC, OBJECT_METHOD_CALL_SITE, "bootstrap",
+                                      "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;" +
+                                              "Ljava/lang/invoke/MethodType;Ljava/lang/String;Ljava/lang/String;)" +
+                                              "Ljava/lang/invoke/CallSite;", false);
+        this.mv.visitInvokeDynamicInsn("call", desc.toString(), bootstrap, methodName,
+                                       JvmCodeGenUtil.cleanupFunctionName(methodName));
+
+        BType returnType = callIns.lhsOp.variableDcl.type;
+        JvmCastGen.addUnboxInsn(this.mv, returnType);
+    }
+
+    private void genObjectValueCall(BIRTerminator.Call callIns, String orgName, String moduleName,
+                                    int localVarOffset, String methodName) {
         // load self
         BIRNode.BIRVariableDcl selfArg = callIns.args.get(0).variableDcl;
         this.loadVar(selfArg);
@@ -726,7 +852,7 @@ public class JvmTerminatorGen {
         this.mv.visitVarInsn(ALOAD, localVarOffset);
 
         // load the function name as the second argument
-        this.mv.visitLdcInsn(JvmCodeGenUtil.cleanupObjectTypeName(callIns.name.value));
+        this.mv.visitLdcInsn(methodName);
 
         // create an Object[] for the rest params
         int argsCount = callIns.args.size() - 1;
@@ -770,6 +896,40 @@ public class JvmTerminatorGen {
         JvmCastGen.addUnboxInsn(this.mv, returnType);
     }
 
+    private static BAttachedFunction getAttachedFunction(BObjectType objectType, String methodName) {
+
+        BObjectTypeSymbol objectTypeSymbol = (BObjectTypeSymbol) objectType.tsymbol;
+        for (BAttachedFunction attachedFunc : objectTypeSymbol.attachedFuncs) {
+            if (JvmCodeGenUtil.cleanupObjectTypeName(attachedFunc.funcName.value).equals(methodName)) {
+                return attachedFunc;
+            }
+        }
+        BAttachedFunction initializerFunc = objectTypeSymbol.initializerFunc;
+        if (initializerFunc != null &&
+                JvmCodeGenUtil.cleanupObjectTypeName(initializerFunc.funcName.value).equals(methodName)) {
+            return initializerFunc;
+        }
+        return null;
+    }
+
+    private static List<BType> getParamTypes(BInvokableType type) {
+
+        List<BType> paramTypes = new ArrayList<>(type.paramTypes);
+        if (type.restType != null) {
+            paramTypes.add(type.restType);
+        }
+        return paramTypes;
+    }
+
+    private void genCastIfRequired(BType sourceType, BType targetType) {
+
+        if (JvmCodeGenUtil.getArgTypeSignature(sourceType).equals(JvmCodeGenUtil.getArgTypeSignature(targetType))) {
+            return;
+        }
+        JvmCastGen.addBoxInsn(this.mv, sourceType);
+        JvmCastGen.addUnboxInsn(this.mv, targetType);
+    }
+
     private void loadBooleanArgToIndicateUserProvidedArg(String orgName, String moduleName, boolean userProvided) {
 
         if (JvmCodeGenUtil.isBallerinaBuiltinModule(orgName, moduleName)) {
@@ -983,26 +1143,24 @@ public class JvmTerminatorGen {
     private void genFPCallIns(BIRTerminator.FPCall fpCall, String moduleClassName, BType attachedType, String funcName,
                               AsyncDataCollector asyncDataCollector, int localVarOffset) {
 
-        if (fpCall.isAsync) {
-            // Check if already locked before submitting to scheduler.
-            String lockStore = "L" + LOCK_STORE + ";";
-            String initClassName = jvmPackageGen.lookupGlobalVarClassName(this.currentPackageName, LOCK_STORE_VAR_NAME);
-            this.mv.visitFieldInsn(GETSTATIC, initClassName, LOCK_STORE_VAR_NAME, lockStore);
-            this.mv.visitLdcInsn(GLOBAL_LOCK_NAME);
-            this.mv.visitVarInsn(ALOAD, localVarOffset);
-            this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_STORE, "panicIfInLock",
-                                    String.format("(L%s;L%s;)V", STRING_VALUE, STRAND_CLASS), false);
-
-            // Load the scheduler from strand
-            this.mv.visitVarInsn(ALOAD, localVarOffset);
-            this.mv.visitFieldInsn(GETFIELD, STRAND_CLASS, "scheduler", String.format("L%s;", SCHEDULER));
-        } else {
-            // load function ref, going to directly call the fp
-            this.loadVar(fpCall.fp.variableDcl);
-            this.mv.visitMethodInsn(INVOKEVIRTUAL, FUNCTION_POINTER, "getFunction",
-                    String.format("()L%s;", FUNCTION), false);
+        if (!fpCall.isAsync) {
+            this.genSyncFPCallIns(fpCall, localVarOffset);
+            return;
         }
 
+        // Check if already locked before submitting to scheduler.
+        String lockStore = "L" + LOCK_STORE + ";";
+        String initClassName = jvmPackageGen.lookupGlobalVarClassName(this.currentPackageName, LOCK_STORE_VAR_NAME);
+        this.mv.visitFieldInsn(GETSTATIC, initClassName, LOCK_STORE_VAR_NAME, lockStore);
+        this.mv.visitLdcInsn(GLOBAL_LOCK_NAME);
+        this.mv.visitVarInsn(ALOAD, localVarOffset);
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_STORE, "panicIfInLock",
+                                String.format("(L%s;L%s;)V", STRING_VALUE, STRAND_CLASS), false);
+
+        // Load the scheduler from strand
+        this.mv.visitVarInsn(ALOAD, localVarOffset);
+        this.mv.visitFieldInsn(GETFIELD, STRAND_CLASS, "scheduler", String.format("L%s;", SCHEDULER));
+
         // create an object array of args
         this.mv.visitIntInsn(BIPUSH, fpCall.args.size() * 2 + 1);
         this.mv.visitTypeInsn(ANEWARRAY, OBJECT);
@@ -1031,64 +1189,81 @@ public class JvmTerminatorGen {
             paramIndex += 1;
         }
 
-        // if async, we submit this to sceduler (worker scenario)
+        // submit this to the scheduler (worker scenario)
+        String workerName = fpCall.lhsOp.variableDcl.metaVarName;
+
+        // load function ref now
+        this.loadVar(fpCall.fp.variableDcl);
+        this.mv.visitMethodInsn(INVOKESTATIC, ANNOTATION_UTILS, "isConcurrent", String.format("(L%s;)Z",
+                FUNCTION_POINTER), false);
+        Label notConcurrent = new Label();
+        this.mv.visitJumpInsn(IFEQ, notConcurrent);
+        Label concurrent = new Label();
+        this.mv.visitLabel(concurrent);
+        this.loadVar(fpCall.fp.variableDcl);
+        this.mv.visitVarInsn(ALOAD, localVarOffset);
+        loadFpReturnType(fpCall.lhsOp);
+        this.loadVar(fpCall.fp.variableDcl);
+        if (workerName == null) {
+            this.mv.visitInsn(ACONST_NULL);
+        } else {
+            this.mv.visitLdcInsn(workerName);
+        }
+        this.mv.visitMethodInsn(INVOKESTATIC, ANNOTATION_UTILS, "getStrandName",
+                                String.format("(L%s;L%s;)L%s;", FUNCTION_POINTER, STRING_VALUE, STRING_VALUE),
+                                false);
+        this.submitToScheduler(fpCall.lhsOp, moduleClassName, attachedType, funcName, asyncDataCollector, true);
+        Label afterSubmit = new Label();
+        this.mv.visitJumpInsn(GOTO, afterSubmit);
+        this.mv.visitLabel(notConcurrent);
+        this.loadVar(fpCall.fp.variableDcl);
+        this.mv.visitVarInsn(ALOAD, localVarOffset);
+        loadFpReturnType(fpCall.lhsOp);
+        this.loadVar(fpCall.fp.variableDcl);
+        if (workerName == null) {
+            this.mv.visitInsn(ACONST_NULL);
+        } else {
+            this.mv.visitLdcInsn(workerName);
+        }
+        this.mv.visitMethodInsn(INVOKESTATIC, ANNOTATION_UTILS, "getStrandName",
+                                String.format("(L%s;L%s;)L%s;", FUNCTION_POINTER, STRING_VALUE, STRING_VALUE),
+                                false);
+        this.submitToScheduler(fpCall.lhsOp, moduleClassName, attachedType, funcName, asyncDataCollector, false);
+        this.mv.visitLabel(afterSubmit);
+    }
 
-        if (fpCall.isAsync) {
-            String workerName = fpCall.lhsOp.variableDcl.metaVarName;
+    private void genSyncFPCallIns(BIRTerminator.FPCall fpCall, int localVarOffset) {
 
-            // load function ref now
-            this.loadVar(fpCall.fp.variableDcl);
-            this.mv.visitMethodInsn(INVOKESTATIC, ANNOTATION_UTILS, "isConcurrent", String.format("(L%s;)Z",
-                    FUNCTION_POINTER), false);
-            Label notConcurrent = new Label();
-            this.mv.visitJumpInsn(IFEQ, notConcurrent);
-            Label concurrent = new Label();
-            this.mv.visitLabel(concurrent);
-            this.loadVar(fpCall.fp.variableDcl);
-            this.mv.visitVarInsn(ALOAD, localVarOffset);
-            loadFpReturnType(fpCall.lhsOp);
-            this.loadVar(fpCall.fp.variableDcl);
-            if (workerName == null) {
-                this.mv.visitInsn(ACONST_NULL);
-            } else {
-                this.mv.visitLdcInsn(workerName);
-            }
-            this.mv.visitMethodInsn(INVOKESTATIC, ANNOTATION_UTILS, "getStrandName",
-                                    String.format("(L%s;L%s;)L%s;", FUNCTION_POINTER, STRING_VALUE, STRING_VALUE),
-                                    false);
-            this.submitToScheduler(fpCall.lhsOp, moduleClassName, attachedType, funcName, asyncDataCollector, true);
-            Label afterSubmit = new Label();
-            this.mv.visitJumpInsn(GOTO, afterSubmit);
-            this.mv.visitLabel(notConcurrent);
-            this.loadVar(fpCall.fp.variableDcl);
-            this.mv.visitVarInsn(ALOAD, localVarOffset);
-            loadFpReturnType(fpCall.lhsOp);
-            this.loadVar(fpCall.fp.variableDcl);
-            if (workerName == null) {
-                this.mv.visitInsn(ACONST_NULL);
-            } else {
-                this.mv.visitLdcInsn(workerName);
-            }
-            this.mv.visitMethodInsn(INVOKESTATIC, ANNOTATION_UTILS, "getStrandName",
-                                    String.format("(L%s;L%s;)L%s;", FUNCTION_POINTER, STRING_VALUE, STRING_VALUE),
-                                    false);
-            this.submitToScheduler(fpCall.lhsOp, moduleClassName, attachedType, funcName, asyncDataCollector, false);
-            this.mv.visitLabel(afterSubmit);
-        } else {
-            this.mv.visitMethodInsn(INVOKEINTERFACE, FUNCTION, "apply",
-                    String.format("(L%s;)L%s;", OBJECT, OBJECT), true);
-            // store result
-            BType lhsType = fpCall.lhsOp.variableDcl.type;
-            if (lhsType != null) {
-                JvmCastGen.addUnboxInsn(this.mv, lhsType);
-            }
+        // load function ref and the strand, going to directly call the fp
+        this.loadVar(fpCall.fp.variableDcl);
+        this.mv.visitVarInsn(ALOAD, localVarOffset);
 
-            BIRNode.BIRVariableDcl lhsVar = fpCall.lhsOp.variableDcl;
-            if (lhsVar != null) {
-                this.storeToVar(lhsVar);
-            } else {
-                this.mv.visitInsn(POP);
-            }
+        // load args, where each arg is followed by 'true' to indicate that it is provided
+        StringBuilder desc = new StringBuilder();
+        desc.append("(L").append(FUNCTION_POINTER).append(";L").append(STRAND_CLASS).append(";");
+        for (BIROperand arg : fpCall.args) {
+            this.loadVar(arg.variableDcl);
+            this.mv.visitInsn(ICONST_1);
+            desc.append(JvmCodeGenUtil.getArgTypeSignature(arg.variableDcl.type)).append("Z");
+        }
+
+        // the call site calls the method of the function with the args as they are, without boxing them
+        BIRNode.BIRVariableDcl lhsVar = fpCall.lhsOp.variableDcl;
+        if (lhsVar != null) {
+            desc.append(JvmCodeGenUtil.generateReturnType(lhsVar.type));
+        } else {
+            desc.append(")L").append(OBJECT).append(";");
+        }
+        Handle bootstrap = new Handle(H_INVOKESTATIC, FUNCTION_POINTER_CALL_SITE, "bootstrap",
+                                      "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;" +
+                                              "Ljava/lang/invoke/MethodType;)Ljava/lang/invoke/CallSite;", false);
+        this.mv.visitInvokeDynamicInsn("call", desc.toString(), bootstrap);
+
+        // store result
+        if (lhsVar != null) {
+            this.storeToVar(lhsVar);
+        } else {
+            this.mv.visitInsn(POP);
         }
     }
 
@@ -1107,7 +1282,8 @@ public class JvmTerminatorGen {
         if (!ins.isSameStrand) {
             this.mv.visitFieldInsn(GETFIELD, STRAND_CLASS, "parent", String.format("L%s;", STRAND_CLASS));
         }
-        this.mv.visitFieldInsn(GETFIELD, STRAND_CLASS, "wdChannels", String.format("L%s;", WD_CHANNELS));
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, STRAND_CLASS, "getWDChannels", String.format("()L%s;", WD_CHANNELS),
+                                false);
         this.mv.visitLdcInsn(ins.channel.value);
         this.mv.visitMethodInsn(INVOKEVIRTUAL, WD_CHANNELS, "getWorkerDataChannel", String.format("(L%s;)L%s;",
                 STRING_VALUE, WORKER_DATA_CHANNEL), false);
@@ -1134,7 +1310,8 @@ public class JvmTerminatorGen {
         if (!ins.isSameStrand) {
             this.mv.visitFieldInsn(GETFIELD, STRAND_CLASS, "parent", String.format("L%s;", STRAND_CLASS));
         }
-        this.mv.visitFieldInsn(GETFIELD, STRAND_CLASS, "wdChannels", String.format("L%s;", WD_CHANNELS));
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, STRAND_CLASS, "getWDChannels", String.format("()L%s;", WD_CHANNELS),
+                                false);
         this.mv.visitLdcInsn(ins.workerName.value);
         this.mv.visitMethodInsn(INVOKEVIRTUAL, WD_CHANNELS, "getWorkerDataChannel", String.format("(L%s;)L%s;",
                 STRING_VALUE, WORKER_DATA_CHANNEL), false);
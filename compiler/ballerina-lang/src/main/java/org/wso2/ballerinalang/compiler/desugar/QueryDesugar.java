@@ -20,6 +20,7 @@ import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.clauses.OrderKeyNode;
 import org.ballerinalang.model.tree.IdentifierNode;
 import org.ballerinalang.model.tree.NodeKind;
+import org.ballerinalang.model.tree.OperatorKind;
 import org.ballerinalang.model.tree.expressions.RecordLiteralNode;
 import org.ballerinalang.model.tree.statements.VariableDefinitionNode;
 import org.ballerinalang.model.tree.types.TypeNode;
@@ -29,6 +30,7 @@ import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolEnv;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BOperatorSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BRecordTypeSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BVarSymbol;
@@ -164,6 +166,7 @@ import org.wso2.ballerinalang.compiler.tree.types.BLangLetVariable;
 import org.wso2.ballerinalang.compiler.tree.types.BLangRecordTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangUnionTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangValueType;
+import org.wso2.ballerinalang.compiler.util.BArrayState;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
@@ -174,8 +177,10 @@ import org.wso2.ballerinalang.util.Lists;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.Stack;
 
 /**
@@ -195,6 +200,7 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_CREATE_SELECT_FUNCTION = new Name("createSelectFunction");
     private static final Name QUERY_CREATE_DO_FUNCTION = new Name("createDoFunction");
     private static final Name QUERY_CREATE_LIMIT_FUNCTION = new Name("createLimitFunction");
+    private static final Name QUERY_CHECK_LIMIT_FUNCTION = new Name("checkLimit");
     private static final Name QUERY_SORT_STREAM_FUNCTION = new Name("sortStream");
     private static final Name QUERY_ADD_STREAM_FUNCTION = new Name("addStreamFunction");
     private static final Name QUERY_CONSUME_STREAM_FUNCTION = new Name("consumeStream");
@@ -204,6 +210,8 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_ADD_TO_TABLE_FUNCTION = new Name("addToTable");
     private static final Name QUERY_GET_STREAM_FROM_PIPELINE_FUNCTION = new Name("getStreamFromPipeline");
     private static final String FRAME_PARAMETER_NAME = "$frame$";
+    private static final String JOIN_LHS_KEY = "$lhsKey$";
+    private static final String JOIN_RHS_KEY = "$rhsKey$";
     private static final CompilerContext.Key<QueryDesugar> QUERY_DESUGAR_KEY = new CompilerContext.Key<>();
     private BLangExpression onConflictExpr;
     private Stack<BLangOrderByClause> orderByClauses;
@@ -244,26 +252,32 @@ public class QueryDesugar extends BLangNodeVisitor {
      * @return desugared query expression.
      */
     BLangStatementExpression desugar(BLangQueryExpr queryExpr, SymbolEnv env) {
+        if (isFusibleQuery(queryExpr)) {
+            return desugarToLoop(queryExpr, env);
+        }
         List<BLangNode> clauses = queryExpr.getQueryClauses();
         DiagnosticPos pos = clauses.get(0).pos;
         BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
-        BLangVariableReference streamRef = buildStream(clauses, queryExpr.type, env, queryBlock);
+        BLangVariableReference pipelineRef = buildPipeline(clauses, queryExpr.type, env, queryBlock);
+        BLangVariableReference streamRef;
         BLangStatementExpression streamStmtExpr;
         if (!orderByClauses.empty()) {
-            // Type[] arr passed to stream ordering helper.
+            // Type[] arr passed to stream ordering helper, which sorts the frames of the pipeline into it.
             BLangArrayLiteral orderArr = (BLangArrayLiteral) TreeBuilder.createArrayLiteralExpressionNode();
             orderArr.exprs = new ArrayList<>();
             orderArr.type = new BArrayType(types.resolveExprType(queryExpr.type));
             if (!limitClauses.empty()) {
                 // should limit after ordering the stream
                 streamRef = getStreamFunctionVariableRef(queryBlock, QUERY_SORT_STREAM_FUNCTION,
-                        Lists.of(streamRef, orderArr, limitClauses.pop().expression), orderByClauses.peek().pos);
+                        Lists.of(pipelineRef, orderArr, limitClauses.pop().expression), orderByClauses.peek().pos);
             } else {
                 // if no limit given order the entire stream
                 streamRef = getStreamFunctionVariableRef(queryBlock, QUERY_SORT_STREAM_FUNCTION,
-                        Lists.of(streamRef, orderArr, ASTBuilderUtil.createLiteral(orderByClauses.peek().pos,
+                        Lists.of(pipelineRef, orderArr, ASTBuilderUtil.createLiteral(orderByClauses.peek().pos,
                                 symTable.intType, (long) 0)), orderByClauses.peek().pos);
             }
+        } else {
+            streamRef = addGetStreamFromPipeline(queryBlock, pipelineRef);
         }
         if (queryExpr.isStream) {
             streamStmtExpr = ASTBuilderUtil.createStatementExpression(queryBlock, streamRef);
@@ -303,6 +317,275 @@ public class QueryDesugar extends BLangNodeVisitor {
         return streamStmtExpr;
     }
 
+    /**
+     * Checks whether the query expression can be desugared into a loop, instead of a pipeline of stream functions.
+     * That is, the query expression creates a list from an array or a map, through only let, where, select and limit
+     * clauses, and the expressions of those clauses are evaluated in the same way within a loop as within the lambda
+     * functions of the pipeline.
+     *
+     * @param queryExpr query expression to be checked.
+     * @return true if the query expression can be desugared into a loop.
+     */
+    private boolean isFusibleQuery(BLangQueryExpr queryExpr) {
+        if (queryExpr.isStream || queryExpr.isTable || queryExpr.type.tag != TypeTags.ARRAY
+                || ((BArrayType) queryExpr.type).state != BArrayState.UNSEALED) {
+            return false;
+        }
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        int collectionTag = fromClause.collection.type.tag;
+        if (collectionTag != TypeTags.ARRAY && collectionTag != TypeTags.MAP) {
+            return false;
+        }
+        boolean limited = false;
+        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+            switch (clause.getKind()) {
+                case LET_CLAUSE:
+                    for (BLangLetVariable letVariable : ((BLangLetClause) clause).letVarDeclarations) {
+                        if (!isFusibleExpr(((BLangVariable) letVariable.definitionNode.getVariable()).expr)) {
+                            return false;
+                        }
+                    }
+                    break;
+                case WHERE:
+                    if (!isFusibleExpr(((BLangWhereClause) clause).expression)) {
+                        return false;
+                    }
+                    break;
+                case SELECT:
+                    if (!isFusibleExpr(((BLangSelectClause) clause).expression)) {
+                        return false;
+                    }
+                    break;
+                case LIMIT:
+                    if (limited) {
+                        return false;
+                    }
+                    limited = true;
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the given expression is of a kind which is evaluated in the same way within a loop as within a
+     * lambda function. For example, a check expression returns from the lambda function, but would return from the
+     * enclosing function of a loop, so it is not fusible.
+     *
+     * @param expr expression to be checked.
+     * @return true if the expression can be evaluated within a loop.
+     */
+    private boolean isFusibleExpr(BLangExpression expr) {
+        if (expr == null) {
+            return true;
+        }
+        switch (expr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+            case CONSTANT_REF:
+            case SIMPLE_VARIABLE_REF:
+                return true;
+            case FIELD_BASED_ACCESS_EXPR:
+                return isFusibleExpr(((BLangFieldBasedAccess) expr).expr);
+            case INDEX_BASED_ACCESS_EXPR:
+                BLangIndexBasedAccess indexAccessExpr = (BLangIndexBasedAccess) expr;
+                return isFusibleExpr(indexAccessExpr.expr) && isFusibleExpr(indexAccessExpr.indexExpr);
+            case GROUP_EXPR:
+                return isFusibleExpr(((BLangGroupExpr) expr).expression);
+            case TYPE_CONVERSION_EXPR:
+                return isFusibleExpr(((BLangTypeConversionExpr) expr).expr);
+            case TYPE_TEST_EXPR:
+                return isFusibleExpr(((BLangTypeTestExpr) expr).expr);
+            case UNARY_EXPR:
+                return isFusibleExpr(((BLangUnaryExpr) expr).expr);
+            case BINARY_EXPR:
+                BLangBinaryExpr binaryExpr = (BLangBinaryExpr) expr;
+                return isFusibleExpr(binaryExpr.lhsExpr) && isFusibleExpr(binaryExpr.rhsExpr);
+            case ELVIS_EXPR:
+                BLangElvisExpr elvisExpr = (BLangElvisExpr) expr;
+                return isFusibleExpr(elvisExpr.lhsExpr) && isFusibleExpr(elvisExpr.rhsExpr);
+            case TERNARY_EXPR:
+                BLangTernaryExpr ternaryExpr = (BLangTernaryExpr) expr;
+                return isFusibleExpr(ternaryExpr.expr) && isFusibleExpr(ternaryExpr.thenExpr)
+                        && isFusibleExpr(ternaryExpr.elseExpr);
+            case NAMED_ARGS_EXPR:
+                return isFusibleExpr(((BLangNamedArgsExpression) expr).expr);
+            case STRING_TEMPLATE_LITERAL:
+                return isFusibleExprs(((BLangStringTemplateLiteral) expr).exprs);
+            case LIST_CONSTRUCTOR_EXPR:
+            case ARRAY_LITERAL_EXPR:
+            case TUPLE_LITERAL_EXPR:
+                return isFusibleExprs(((BLangListConstructorExpr) expr).exprs);
+            case INVOCATION:
+                BLangInvocation invocation = (BLangInvocation) expr;
+                return isFusibleExpr(invocation.expr) && isFusibleExprs(invocation.requiredArgs)
+                        && isFusibleExprs(invocation.restArgs);
+            case RECORD_LITERAL_EXPR:
+                for (RecordLiteralNode.RecordField field : ((BLangRecordLiteral) expr).fields) {
+                    if (field.isKeyValueField()) {
+                        BLangRecordKeyValueField keyValueField = (BLangRecordKeyValueField) field;
+                        if (!isFusibleExpr(keyValueField.key.expr) || !isFusibleExpr(keyValueField.valueExpr)) {
+                            return false;
+                        }
+                    } else if (field.getKind() == NodeKind.RECORD_LITERAL_SPREAD_OP) {
+                        if (!isFusibleExpr(((BLangRecordSpreadOperatorField) field).expr)) {
+                            return false;
+                        }
+                    } else if (!isFusibleExpr((BLangExpression) field)) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private boolean isFusibleExprs(List<BLangExpression> exprs) {
+        for (BLangExpression expr : exprs) {
+            if (!isFusibleExpr(expr)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Desugar a fusible query expression into a loop over the collection, which does not create any frame or stream
+     * function;
+     * T[] result = [];
+     * int index = 0;
+     * int lmt = checkLimit(limit);
+     * int count = 0;
+     * foreach var x in collection {
+     * if (count >= lmt) {
+     * break;
+     * }
+     * int y = ...; // let
+     * if (x > y) { // where
+     * result[index] = ...; // select
+     * index = index + 1;
+     * count = count + 1; // limit
+     * }
+     * }
+     *
+     * @param queryExpr query expression to be desugared.
+     * @param env       symbol env.
+     * @return desugared query expression.
+     */
+    private BLangStatementExpression desugarToLoop(BLangQueryExpr queryExpr, SymbolEnv env) {
+        this.env = env;
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        DiagnosticPos pos = fromClause.pos;
+        BArrayType resultType = (BArrayType) queryExpr.type;
+        BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
+        BVarSymbol resultSymbol = addLocalVariable(queryBlock, pos, resultType,
+                ASTBuilderUtil.createEmptyArrayLiteral(pos, resultType));
+        BVarSymbol indexSymbol = addLocalVariable(queryBlock, pos, symTable.intType,
+                ASTBuilderUtil.createLiteral(pos, symTable.intType, 0L));
+
+        BLangForeach foreach = (BLangForeach) TreeBuilder.createForeachNode();
+        foreach.pos = pos;
+        foreach.collection = fromClause.collection;
+        foreach.variableDefinitionNode = fromClause.variableDefinitionNode;
+        foreach.varType = fromClause.varType;
+        foreach.resultType = fromClause.resultType;
+        foreach.nillableResultType = fromClause.nillableResultType;
+        foreach.isDeclaredWithVar = fromClause.isDeclaredWithVar;
+        foreach.body = ASTBuilderUtil.createBlockStmt(pos);
+
+        BLangBlockStmt body = foreach.body;
+        BLangLimitClause limitClause = null;
+        BVarSymbol countSymbol = null;
+        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+            switch (clause.getKind()) {
+                case LET_CLAUSE:
+                    for (BLangLetVariable letVariable : ((BLangLetClause) clause).letVarDeclarations) {
+                        body.addStatement((BLangStatement) letVariable.definitionNode);
+                    }
+                    break;
+                case WHERE:
+                    BLangWhereClause whereClause = (BLangWhereClause) clause;
+                    BLangBlockStmt whereBody = ASTBuilderUtil.createBlockStmt(whereClause.pos);
+                    body.addStatement(ASTBuilderUtil.createIfElseStmt(whereClause.pos, whereClause.expression,
+                            whereBody, null));
+                    body = whereBody;
+                    break;
+                case LIMIT:
+                    limitClause = (BLangLimitClause) clause;
+                    countSymbol = addLocalVariable(queryBlock, limitClause.pos, symTable.intType,
+                            ASTBuilderUtil.createLiteral(limitClause.pos, symTable.intType, 0L));
+                    body.addStatement(createIncrement(limitClause.pos, countSymbol));
+                    break;
+                case SELECT:
+                    BLangSelectClause selectClause = (BLangSelectClause) clause;
+                    BLangIndexBasedAccess resultAccessExpr = ASTBuilderUtil.createIndexBasesAccessExpr(
+                            selectClause.pos, resultType.eType, resultSymbol,
+                            ASTBuilderUtil.createVariableRef(selectClause.pos, indexSymbol));
+                    resultAccessExpr.lhsVar = true;
+                    body.addStatement(ASTBuilderUtil.createAssignmentStmt(selectClause.pos, resultAccessExpr,
+                            desugar.addConversionExprIfRequired(selectClause.expression, resultType.eType)));
+                    body.addStatement(createIncrement(selectClause.pos, indexSymbol));
+                    break;
+            }
+        }
+
+        if (limitClause != null) {
+            // the limit is evaluated once, before the loop, as when it is passed to the limit function
+            DiagnosticPos limitPos = limitClause.pos;
+            BLangVariableReference limitRef = getStreamFunctionVariableRef(queryBlock, QUERY_CHECK_LIMIT_FUNCTION,
+                    Lists.of(limitClause.expression), limitPos);
+            BLangBlockStmt breakBody = ASTBuilderUtil.createBlockStmt(limitPos);
+            BLangBreak breakNode = (BLangBreak) TreeBuilder.createBreakNode();
+            breakNode.pos = limitPos;
+            breakBody.addStatement(breakNode);
+            BLangBinaryExpr limitReachedExpr = ASTBuilderUtil.createBinaryExpr(limitPos,
+                    ASTBuilderUtil.createVariableRef(limitPos, countSymbol), limitRef, symTable.booleanType,
+                    OperatorKind.GREATER_EQUAL, (BOperatorSymbol) symResolver.resolveBinaryOperator(
+                            OperatorKind.GREATER_EQUAL, symTable.intType, symTable.intType));
+            // no more elements are read once the limit is reached
+            foreach.body.stmts.add(0, ASTBuilderUtil.createIfElseStmt(limitPos, limitReachedExpr, breakBody, null));
+        }
+        queryBlock.addStatement(foreach);
+
+        BLangStatementExpression stmtExpr = ASTBuilderUtil.createStatementExpression(queryBlock,
+                ASTBuilderUtil.createVariableRef(pos, resultSymbol));
+        stmtExpr.type = resultType;
+        return stmtExpr;
+    }
+
+    private BVarSymbol addLocalVariable(BLangBlockStmt blockStmt, DiagnosticPos pos, BType type,
+                                        BLangExpression initExpr) {
+        String name = getNewVarName();
+        BVarSymbol symbol = new BVarSymbol(0, names.fromString(name), env.scope.owner.pkgID, type,
+                this.env.scope.owner);
+        BLangSimpleVariable variable = ASTBuilderUtil.createVariable(pos, name, type, initExpr, symbol);
+        blockStmt.addStatement(ASTBuilderUtil.createVariableDef(pos, variable));
+        return symbol;
+    }
+
+    /**
+     * Create `x = x + 1;`.
+     *
+     * @param pos    diagnostic pos.
+     * @param symbol symbol of the int variable.
+     * @return created assignment.
+     */
+    private BLangAssignment createIncrement(DiagnosticPos pos, BVarSymbol symbol) {
+        BLangSimpleVarRef varRef = ASTBuilderUtil.createVariableRef(pos, symbol);
+        varRef.lhsVar = true;
+        BLangBinaryExpr incrementExpr = ASTBuilderUtil.createBinaryExpr(pos,
+                ASTBuilderUtil.createVariableRef(pos, symbol),
+                ASTBuilderUtil.createLiteral(pos, symTable.intType, 1L), symTable.intType, OperatorKind.ADD,
+                (BOperatorSymbol) symResolver.resolveBinaryOperator(OperatorKind.ADD, symTable.intType,
+                        symTable.intType));
+        return ASTBuilderUtil.createAssignmentStmt(pos, varRef, incrementExpr);
+    }
+
     /**
      * Desugar query action.
      *
@@ -329,9 +612,24 @@ public class QueryDesugar extends BLangNodeVisitor {
      * @param resultType result type of the query output.
      * @param env symbol env.
      * @param block parent block to write to.
-     * @return variableReference to created _StreamPipeline.
+     * @return variableReference to the stream of the created _StreamPipeline.
      */
     BLangVariableReference buildStream(List<BLangNode> clauses, BType resultType, SymbolEnv env, BLangBlockStmt block) {
+        BLangVariableReference initPipeline = buildPipeline(clauses, resultType, env, block);
+        return addGetStreamFromPipeline(block, initPipeline);
+    }
+
+    /**
+     * Write the pipeline to the given `block` and return the reference to the pipeline.
+     *
+     * @param clauses list of query clauses.
+     * @param resultType result type of the query output.
+     * @param env symbol env.
+     * @param block parent block to write to.
+     * @return variableReference to created _StreamPipeline.
+     */
+    BLangVariableReference buildPipeline(List<BLangNode> clauses, BType resultType, SymbolEnv env,
+                                         BLangBlockStmt block) {
         this.env = env;
         BLangFromClause initFromClause = (BLangFromClause) clauses.get(0);
         final BLangVariableReference initPipeline = addPipeline(block, initFromClause.pos,
@@ -393,7 +691,7 @@ public class QueryDesugar extends BLangNodeVisitor {
                     break;
             }
         }
-        return addGetStreamFromPipeline(block, initPipeline);
+        return initPipeline;
     }
 
     // ---- Util methods to create the stream pipeline. ---- //
@@ -505,7 +803,16 @@ public class QueryDesugar extends BLangNodeVisitor {
 
     /**
      * Desugar joinClauses / nested fromClauses to below and return a reference to created join _StreamFunction.
-     * _StreamFunction joinFunc = createJoinFunction(joinPipeline);
+     * _StreamFunction joinFunc = createJoinFunction(joinPipeline, onCondition, keyFunctions);
+     * <p>
+     * When the join condition is `on lhs equals rhs`, where `lhs` does not refer to the variables of the join clause
+     * and `rhs` refers only to the variables of the join clause, `lhs` and `rhs` are desugared into key functions,
+     * so that the joined frames can be looked up by the value of `lhs`. The join condition then compares the keys;
+     * _JoinKeyFunctions keyFunctions = {
+     * lhs: function(_Frame frame) returns any|error? { return lhs; },
+     * rhs: function(_Frame frame) returns any|error? { return rhs; }
+     * };
+     * function(_Frame frame) returns boolean { return <T1>frame["$lhsKey$"] == <T2>frame["$rhsKey$"]; }
      *
      * @param blockStmt    parent block to write to.
      * @param joinClause   to be desugared.
@@ -525,9 +832,21 @@ public class QueryDesugar extends BLangNodeVisitor {
         BLangBlockFunctionBody filterBody = (BLangBlockFunctionBody) filterLambda.function.body;
         BLangReturn filterReturnNode = (BLangReturn) TreeBuilder.createReturnNode();
         filterReturnNode.pos = filterPos;
+        BLangExpression keyFunctions = ASTBuilderUtil.createLiteral(joinPos, symTable.nilType, Names.NIL_VALUE);
         if (filtered) {
+            BLangExpression onCondition = (BLangExpression) joinClause.onClause.getExpression();
+            if (isEquiJoinCondition(onCondition, joinClause)) {
+                BLangBinaryExpr equalityExpr = (BLangBinaryExpr) onCondition;
+                keyFunctions = createJoinKeyFunctions(filterPos, equalityExpr);
+                // return <T1>frame["$lhsKey$"] == <T2>frame["$rhsKey$"];
+                BVarSymbol frameSymbol = filterLambda.function.requiredParams.get(0).symbol;
+                equalityExpr.lhsExpr = getFrameFieldAccessExpr(filterPos, JOIN_LHS_KEY, frameSymbol,
+                        equalityExpr.lhsExpr.type);
+                equalityExpr.rhsExpr = getFrameFieldAccessExpr(filterPos, JOIN_RHS_KEY, frameSymbol,
+                        equalityExpr.rhsExpr.type);
+            }
             // return <int>frame["x"] > 0;
-            filterReturnNode.setExpression(joinClause.onClause.getExpression());
+            filterReturnNode.setExpression(onCondition);
         } else {
             // return true;
             filterReturnNode.setExpression(ASTBuilderUtil.createLiteral(filterPos, symTable.booleanType, true));
@@ -538,7 +857,131 @@ public class QueryDesugar extends BLangNodeVisitor {
                 ? QUERY_CREATE_OUTER_JOIN_FUNCTION
                 : QUERY_CREATE_INNER_JOIN_FUNCTION;
         return getStreamFunctionVariableRef(blockStmt, joinFunctionName,
-                Lists.of(joinPipeline, filterLambda), joinPipeline.pos);
+                Lists.of(joinPipeline, filterLambda, keyFunctions), joinPipeline.pos);
+    }
+
+    /**
+     * Checks whether the given join condition is `lhs equals rhs`, where `lhs` can be evaluated over the frames to
+     * be joined into and `rhs` can be evaluated over the frames of the join clause.
+     *
+     * @param onCondition join condition.
+     * @param joinClause  join clause of the condition.
+     * @return true if the join condition can be evaluated through the keys of the frames.
+     */
+    private boolean isEquiJoinCondition(BLangExpression onCondition, BLangJoinClause joinClause) {
+        if (onCondition.getKind() != NodeKind.BINARY_EXPR
+                || ((BLangBinaryExpr) onCondition).opKind != OperatorKind.EQUALS) {
+            return false;
+        }
+        BLangBinaryExpr equalityExpr = (BLangBinaryExpr) onCondition;
+        Set<BSymbol> lhsSymbols = new HashSet<>();
+        Set<BSymbol> rhsSymbols = new HashSet<>();
+        if (!collectFrameSymbols(equalityExpr.lhsExpr, lhsSymbols)
+                || !collectFrameSymbols(equalityExpr.rhsExpr, rhsSymbols)) {
+            return false;
+        }
+        List<BVarSymbol> joinSymbols = getIntroducedSymbols((BLangVariable)
+                joinClause.variableDefinitionNode.getVariable());
+        for (BSymbol symbol : lhsSymbols) {
+            if (joinSymbols.contains(symbol)) {
+                return false;
+            }
+        }
+        return joinSymbols.containsAll(rhsSymbols);
+    }
+
+    /**
+     * Collects the symbols of the query variables which are referred in the given expression.
+     *
+     * @param expr    expression to be checked.
+     * @param symbols set to collect the symbols into.
+     * @return false if the expression is of a kind which is not checked for query variables.
+     */
+    private boolean collectFrameSymbols(BLangExpression expr, Set<BSymbol> symbols) {
+        switch (expr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+                return true;
+            case SIMPLE_VARIABLE_REF:
+                BLangSimpleVarRef varRef = (BLangSimpleVarRef) expr;
+                BSymbol resolvedSymbol = symResolver.lookupClosureVarSymbol(env,
+                        names.fromIdNode(varRef.variableName), SymTag.VARIABLE);
+                // same as in visit(BLangSimpleVarRef), query variables are the ones which can not be resolved
+                if (varRef.symbol != null && varRef.symbol != resolvedSymbol) {
+                    symbols.add(varRef.symbol);
+                }
+                return true;
+            case FIELD_BASED_ACCESS_EXPR:
+                return collectFrameSymbols(((BLangFieldBasedAccess) expr).expr, symbols);
+            case INDEX_BASED_ACCESS_EXPR:
+                BLangIndexBasedAccess indexAccessExpr = (BLangIndexBasedAccess) expr;
+                return collectFrameSymbols(indexAccessExpr.expr, symbols)
+                        && collectFrameSymbols(indexAccessExpr.indexExpr, symbols);
+            case GROUP_EXPR:
+                return collectFrameSymbols(((BLangGroupExpr) expr).expression, symbols);
+            case TYPE_CONVERSION_EXPR:
+                return collectFrameSymbols(((BLangTypeConversionExpr) expr).expr, symbols);
+            case UNARY_EXPR:
+                return collectFrameSymbols(((BLangUnaryExpr) expr).expr, symbols);
+            case BINARY_EXPR:
+                BLangBinaryExpr binaryExpr = (BLangBinaryExpr) expr;
+                return collectFrameSymbols(binaryExpr.lhsExpr, symbols)
+                        && collectFrameSymbols(binaryExpr.rhsExpr, symbols);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Desugar the operands of `lhs equals rhs` into a _JoinKeyFunctions record.
+     * _JoinKeyFunctions keyFunctions = {
+     * lhs: function(_Frame frame) returns any|error? { return lhs; },
+     * rhs: function(_Frame frame) returns any|error? { return rhs; }
+     * };
+     *
+     * @param pos          diagnostic pos of the join condition.
+     * @param equalityExpr join condition.
+     * @return created _JoinKeyFunctions record.
+     */
+    private BLangRecordLiteral createJoinKeyFunctions(DiagnosticPos pos, BLangBinaryExpr equalityExpr) {
+        BType keyFunctionsType = symTable.langQueryModuleSymbol.scope
+                .lookup(names.fromString("_JoinKeyFunctions")).symbol.type;
+        BLangRecordLiteral keyFunctions = ASTBuilderUtil.createEmptyRecordLiteral(pos, keyFunctionsType);
+        keyFunctions.fields.add(ASTBuilderUtil.createBLangRecordKeyValue(
+                ASTBuilderUtil.createLiteral(pos, symTable.stringType, "lhs"),
+                createJoinKeyFunction(pos, equalityExpr.lhsExpr)));
+        keyFunctions.fields.add(ASTBuilderUtil.createBLangRecordKeyValue(
+                ASTBuilderUtil.createLiteral(pos, symTable.stringType, "rhs"),
+                createJoinKeyFunction(pos, equalityExpr.rhsExpr)));
+        return keyFunctions;
+    }
+
+    private BLangLambdaFunction createJoinKeyFunction(DiagnosticPos pos, BLangExpression keyExpr) {
+        // function(_Frame frame) returns any|error? { return key; }
+        BLangReturn returnNode = (BLangReturn) TreeBuilder.createReturnNode();
+        returnNode.expr = keyExpr;
+        returnNode.pos = pos;
+        BLangLambdaFunction lambda = createLambdaFunction(pos, getAnyErrorNilTypeNode(), returnNode, false);
+        lambda.accept(this);
+        return lambda;
+    }
+
+    /**
+     * Create `<T>frame["name"]`.
+     *
+     * @param pos         diagnostic pos.
+     * @param name        name of the frame field.
+     * @param frameSymbol symbol of the frame.
+     * @param type        type of the frame field.
+     * @return created frame field access.
+     */
+    private BLangExpression getFrameFieldAccessExpr(DiagnosticPos pos, String name, BVarSymbol frameSymbol,
+                                                    BType type) {
+        BLangFieldBasedAccess frameAccessExpr = desugar.getFieldAccessExpression(pos, name,
+                symTable.anyOrErrorType, frameSymbol);
+        frameAccessExpr.expr = desugar.addConversionExprIfRequired(frameAccessExpr.expr,
+                types.getSafeType(frameAccessExpr.expr.type, true, false));
+        return desugar.addConversionExprIfRequired(frameAccessExpr, type);
     }
 
     /**
@@ -19,10 +19,11 @@
 package org.ballerinalang.langlib.array;
 
 import org.ballerinalang.jvm.scheduling.Strand;
-import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.values.ArrayValue;
-import org.ballerinalang.jvm.values.ArrayValueImpl;
 import org.ballerinalang.jvm.values.FPValue;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.jvm.values.utils.TimSort;
 import org.ballerinalang.model.types.TypeKind;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
@@ -46,45 +47,56 @@ public class Sort {
 
     public static ArrayValue sort(Strand strand, ArrayValue arr, FPValue<Object, Long> func) {
         checkIsArrayOnlyOperation(arr.getType(), "sort()");
-        ArrayValue aux = new ArrayValueImpl((BArrayType) arr.getType());
-        mergesort(arr, aux, 0, arr.size() - 1, strand, func);
-        return arr;
-    }
-
-    // Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html
-    private static void mergesort(ArrayValue input, ArrayValue aux, int lo, int hi, Strand strand,
-                                  FPValue<Object, Long> comparator) {
-        if (hi <= lo) {
-            return;
+        int size = arr.size();
+        if (size < 2) {
+            return arr;
         }
 
-        int mid = lo + (hi - lo) / 2;
-
-        mergesort(input, aux, lo, mid, strand, comparator);
-        mergesort(input, aux, mid + 1, hi, strand, comparator);
-
-        merge(input, aux, lo, mid, hi, strand, comparator);
-    }
-
-    private static void merge(ArrayValue input, ArrayValue aux, int lo, int mid, int hi, Strand strand,
-                              FPValue<Object, Long> comparator) {
-        int elemTypeTag = input.getElementType().getTag();
-
-        for (int i = lo; i <= hi; i++) {
-            aux.add(i, input.get(i));
+        // members are boxed once, rather than at each comparison
+        Object[] members = new Object[size];
+        for (int i = 0; i < size; i++) {
+            members[i] = arr.get(i);
         }
 
-        for (int i = lo, j = mid + 1, k = lo; k <= hi; k++) {
-            if (i > mid) {
-                input.add(k, aux.get(j++));
-            } else if (j > hi) {
-                input.add(k, aux.get(i++));
-            } else if (comparator.call(new Object[]{strand, aux.get(j), true, aux.get(i), true}) < 0) {
-                input.add(k, aux.get(j++));
-            } else {
-                input.add(k, aux.get(i++));
+        // the callee unpacks the arguments, so a single argument array is used for all the comparisons
+        Object[] args = new Object[]{strand, null, true, null, true};
+        TimSort.sort(members, size, (x, y) -> {
+            args[1] = x;
+            args[3] = y;
+            return Long.signum(func.call(args));
+        });
+
+        int elemTypeTag = arr.getElementType().getTag();
+        for (int i = 0; i < size; i++) {
+            Object member = members[i];
+            switch (elemTypeTag) {
+                case TypeTags.INT_TAG:
+                case TypeTags.SIGNED32_INT_TAG:
+                case TypeTags.SIGNED16_INT_TAG:
+                case TypeTags.SIGNED8_INT_TAG:
+                case TypeTags.UNSIGNED32_INT_TAG:
+                case TypeTags.UNSIGNED16_INT_TAG:
+                case TypeTags.UNSIGNED8_INT_TAG:
+                    arr.add(i, (long) member);
+                    break;
+                case TypeTags.FLOAT_TAG:
+                    arr.add(i, (double) member);
+                    break;
+                case TypeTags.BOOLEAN_TAG:
+                    arr.add(i, (boolean) member);
+                    break;
+                case TypeTags.BYTE_TAG:
+                    arr.add(i, ((Integer) member).byteValue());
+                    break;
+                case TypeTags.STRING_TAG:
+                case TypeTags.CHAR_STRING_TAG:
+                    arr.add(i, (BString) member);
+                    break;
+                default:
+                    arr.add(i, member);
+                    break;
             }
         }
+        return arr;
     }
-
 }
@@ -38,15 +38,17 @@ function createLetFunction(function(_Frame _frame) returns _Frame|error? letFunc
 }
 
 function createInnerJoinFunction(_StreamPipeline joinedPipeline,
-                                        function(_Frame _frame) returns boolean onCondition)
+                                        function(_Frame _frame) returns boolean onCondition,
+                                        _JoinKeyFunctions? keyFunctions)
         returns _StreamFunction {
-    return new _InnerJoinFunction(joinedPipeline, onCondition);
+    return new _InnerJoinFunction(joinedPipeline, onCondition, keyFunctions);
 }
 
 function createOuterJoinFunction(_StreamPipeline joinedPipeline,
-                                        function(_Frame _frame) returns boolean onCondition)
+                                        function(_Frame _frame) returns boolean onCondition,
+                                        _JoinKeyFunctions? keyFunctions)
         returns _StreamFunction {
-    return new _OuterJoinFunction(joinedPipeline, onCondition);
+    return new _OuterJoinFunction(joinedPipeline, onCondition, keyFunctions);
 }
 
 function createFilterFunction(function(_Frame _frame) returns boolean filterFunc)
@@ -72,6 +74,13 @@ function createLimitFunction(int lmt) returns _StreamFunction {
     return new _LimitFunction(lmt);
 }
 
+function checkLimit(int lmt) returns int {
+    if (lmt < 0) {
+        panic error("Unable to assign limit", message = "limit cannot be < 0.");
+    }
+    return lmt;
+}
+
 function addStreamFunction(@tainted _StreamPipeline pipeline, @tainted _StreamFunction streamFunction) {
     pipeline.addStreamFunction(streamFunction);
 }
@@ -80,40 +89,21 @@ function getStreamFromPipeline(_StreamPipeline pipeline) returns stream<Type, er
     return pipeline.getStream();
 }
 
-function sortStream(stream<Type, error?> strm, @tainted Type[] arr, int lmt) returns stream<Type, error?> {
-    Type[] streamValArr = [];
-    record {| Type value; |}|error? v = strm.next();
-    while (v is record {| Type value; |}) {
-        streamValArr.push(v.value);
-        v = strm.next();
+function sortStream(_StreamPipeline pipeline, @tainted Type[] arr, int lmt) returns stream<Type, error?> {
+    anydata[][] orderKeys = [];
+    boolean[] orderDirections = [];
+    _Frame|error? f = pipeline.next();
+    while (f is _Frame) {
+        arr.push(<Type>f["$value$"]);
+        orderKeys.push(<anydata[]>f["$orderKey$"]);
+        orderDirections = <boolean[]>f["$orderDirection$"];
+        f = pipeline.next();
     }
 
-    StreamOrderBy streamOrderByObj = new StreamOrderBy();
-    var sortedArr = <@untainted>streamOrderByObj.topDownMergeSort();
-
-    int i = 0;
-    int k = 0;
-    // Add the sorted stream values to arr
-    foreach var e in sortedArr {
-        if (!(lmt == 0) && (k == lmt)) {
-            break;
-        }
-        int j = 0;
-        while (j < streamValArr.length()) {
-            if (e is anydata[]) {
-                if (streamValArr[j] is map<anydata>|string|xml) {
-                    if (e[e.length()-1] == <map<anydata>|string|xml>streamValArr[j]) {
-                        arr[i] = streamValArr[j];
-                        var val = streamValArr.remove(j);
-                        i += 1;
-                    }
-                }
-            }
-            j += 1;
-        }
-        k += 1;
+    sortByOrderKeys(arr, orderKeys, orderDirections);
+    if (lmt > 0 && arr.length() > lmt) {
+        arr.setLength(lmt);
     }
-
     return arr.toStream();
 }
 
@@ -184,8 +174,11 @@ function consumeStream(stream<Type, error?> strm) returns error? {
     }
 }
 
-// Check whether a float is NaN
-function checkNaN(float x) returns boolean = external;
+// Returns the hash key of a join key, which is nil if the join key can not be hashed
+function getJoinHashKey(any|error key) returns string? = external;
+
+// Sorts the values as per the order keys and the directions of the order keys in place
+function sortByOrderKeys(Type[] values, anydata[][] orderKeys, boolean[] orderDirections) = external;
 
 // TODO: This for debugging purposes, remove once completed.
 function print(any|error? data) = external;
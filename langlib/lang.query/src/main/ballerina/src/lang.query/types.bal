@@ -34,9 +34,6 @@ type Type any|error;
 @typeParam
 type ErrorType error?;
 
-anydata[][] orderFieldValsArr = [];
-boolean[] orderDirectionsArr = [];
-
 type _Iterator abstract object {
     public function next() returns record {|Type value;|}|error?;
 };
@@ -100,14 +97,6 @@ type _StreamPipeline object {
                 _Frame|error? f = p.next();
                 if (f is _Frame) {
                     Type v = <Type>f["$value$"];
-                    // Add orderKey and orderDirection values to respective arrays.
-                    if ((!(f["$orderKey$"] is ())) && (!(f["$orderDirection$"] is ()))) {
-                        anydata[] orKey = <anydata[]>f["$orderKey$"];
-                        // Need to keep the stream value to sort the stream.
-                        orKey.push(<anydata>v);
-                        orderFieldValsArr.push(orKey);
-                        orderDirectionsArr = <boolean[]>f["$orderDirection$"];
-                    }
                     return internal:setNarrowType(self.outputType, {value: v});
                 } else {
                     return f;
@@ -324,18 +313,151 @@ type _LetFunction object {
     }
 };
 
+type _JoinKeyFunctions record {|
+    # Desugared function of the left hand side of `on lhs equals rhs`
+    function (_Frame _frame) returns any|error? lhs;
+    # Desugared function of the right hand side of `on lhs equals rhs`
+    function (_Frame _frame) returns any|error? rhs;
+|};
+
+# Frames of the pipeline to be joined, which are read once, when the first frame is joined.
+#
+# When the join condition is `on lhs equals rhs`, the frames are also indexed by the hash key of `rhs`. Only the
+# frames with the same hash key as `lhs`, and the frames of which `rhs` has no hash key, are then joined with a frame.
+# The join condition of such a join is evaluated over a frame of `{"$lhsKey$": lhs, "$rhsKey$": rhs}`.
+type _JoinTable object {
+    _StreamPipeline pipelineToJoin;
+    _JoinKeyFunctions? keyFunctions;
+    boolean loaded = false;
+
+    _Frame[] frames = [];
+    int[] allIndexes = [];
+    any[] rhsKeys = [];
+    (string?)[] rhsHashKeys = [];
+    map<int[]> hashedIndexes = {};
+    int[] unhashedIndexes = [];
+
+    any lhsKey = ();
+    string? lhsHashKey = ();
+
+    function init(_StreamPipeline pipelineToJoin, _JoinKeyFunctions? keyFunctions) {
+        self.pipelineToJoin = pipelineToJoin;
+        self.keyFunctions = keyFunctions;
+    }
+
+    function load() returns error? {
+        if (self.loaded) {
+            return;
+        }
+        self.loaded = true;
+        _StreamPipeline p = self.pipelineToJoin;
+        _JoinKeyFunctions? keyFunctions = self.keyFunctions;
+        _Frame|error? f = p.next();
+        while (f is _Frame) {
+            int index = self.frames.length();
+            self.frames.push(f);
+            self.allIndexes.push(index);
+            if (keyFunctions is _JoinKeyFunctions) {
+                function (_Frame _frame) returns any|error? rhs = keyFunctions.rhs;
+                any|error rhsKey = rhs(f);
+                if (rhsKey is error) {
+                    return rhsKey;
+                }
+                string? hashKey = getJoinHashKey(rhsKey);
+                self.rhsKeys.push(rhsKey);
+                self.rhsHashKeys.push(hashKey);
+                if (hashKey is string) {
+                    int[]? indexes = self.hashedIndexes[hashKey];
+                    if (indexes is int[]) {
+                        indexes.push(index);
+                    } else {
+                        self.hashedIndexes[hashKey] = [index];
+                    }
+                } else {
+                    self.unhashedIndexes.push(index);
+                }
+            }
+            f = p.next();
+        }
+        if (f is error) {
+            return f;
+        }
+    }
+
+    function isEquiJoin() returns boolean {
+        return self.keyFunctions is _JoinKeyFunctions;
+    }
+
+    # Evaluates `lhs` of the join condition for the given frame.
+    # + return - error if `lhs` could not be evaluated
+    function setFrame(_Frame f) returns error? {
+        _JoinKeyFunctions? keyFunctions = self.keyFunctions;
+        if (keyFunctions is _JoinKeyFunctions) {
+            function (_Frame _frame) returns any|error? lhs = keyFunctions.lhs;
+            any|error lhsKey = lhs(f);
+            if (lhsKey is error) {
+                return lhsKey;
+            }
+            self.lhsKey = lhsKey;
+            self.lhsHashKey = getJoinHashKey(lhsKey);
+        }
+    }
+
+    # Returns the indexes of the frames which could be joined with the current frame, in the order of the frames.
+    function getCandidates() returns int[] {
+        string? lhsHashKey = self.lhsHashKey;
+        if (lhsHashKey is ()) {
+            return self.allIndexes;
+        }
+        int[] hashed = self.hashedIndexes[lhsHashKey] ?: [];
+        int[] unhashed = self.unhashedIndexes;
+        if (unhashed.length() == 0) {
+            return hashed;
+        }
+        int[] candidates = [];
+        int i = 0;
+        int j = 0;
+        while (i < hashed.length() || j < unhashed.length()) {
+            if (j == unhashed.length() || (i < hashed.length() && hashed[i] < unhashed[j])) {
+                candidates.push(hashed[i]);
+                i += 1;
+            } else {
+                candidates.push(unhashed[j]);
+                j += 1;
+            }
+        }
+        return candidates;
+    }
+
+    # Checks whether `lhs equals rhs` is true for the current frame and the frame at the given index.
+    function matches(int index, function (_Frame _frame) returns boolean onCondition) returns boolean {
+        string? lhsHashKey = self.lhsHashKey;
+        string? rhsHashKey = self.rhsHashKeys[index];
+        if (lhsHashKey is string && rhsHashKey is string) {
+            return lhsHashKey == rhsHashKey;
+        }
+        _Frame keyFrame = {"$lhsKey$": self.lhsKey, "$rhsKey$": self.rhsKeys[index]};
+        return onCondition(keyFrame);
+    }
+};
+
 type _InnerJoinFunction object {
     *_StreamFunction;
 
     function (_Frame _frame) returns boolean onCondition;
-    _StreamPipeline pipelineToJoin;
+    _JoinTable joinTable;
     _Frame|error? currentFrame;
+    int[] candidates;
+    int candidateIndex;
 
-    function init(_StreamPipeline pipelineToJoin, function (_Frame _frame) returns boolean onCondition) {
-        self.pipelineToJoin = pipelineToJoin;
+    function init(_StreamPipeline pipelineToJoin, function (_Frame _frame) returns boolean onCondition,
+            _JoinKeyFunctions? keyFunctions) {
+        self.joinTable = new (pipelineToJoin, keyFunctions);
         self.onCondition = onCondition;
         self.prevFunc = ();
         self.currentFrame = ();
+        self.candidates = [];
+        self.candidateIndex = 0;
     }
 
     # Desugared function to do;
@@ -345,29 +467,52 @@ type _InnerJoinFunction object {
     public function process() returns _Frame|error? {
         function (_Frame _frame) returns boolean onCondition = self.onCondition;
         _StreamFunction pf = <_StreamFunction>self.prevFunc;
-        _StreamPipeline j = self.pipelineToJoin;
+        _JoinTable jt = self.joinTable;
+        error? err = jt.load();
+        if (err is error) {
+            return err;
+        }
         _Frame|error? cf = self.currentFrame;
         if (cf is ()) {
-            cf = pf.process();
-            self.currentFrame = cf;
+            cf = self.nextFrame(pf);
+        }
+        while (cf is _Frame) {
+            int[] candidates = self.candidates;
+            while (self.candidateIndex < candidates.length()) {
+                int index = candidates[self.candidateIndex];
+                self.candidateIndex += 1;
+                _Frame f = jt.frames[index];
+                if (jt.isEquiJoin()) {
+                    if (jt.matches(index, onCondition)) {
+                        _Frame jf = {...f, ...cf};
+                        return jf;
+                    }
+                } else {
+                    _Frame jf = {...f, ...cf};
+                    if (onCondition(jf)) {
+                        return jf;
+                    }
+                }
+            }
+            // Move to next frame
+            cf = self.nextFrame(pf);
         }
+        return cf;
+    }
+
+    function nextFrame(_StreamFunction pf) returns _Frame|error? {
+        _JoinTable jt = self.joinTable;
+        _Frame|error? cf = pf.process();
         if (cf is _Frame) {
-            _Frame|error? f = j.next();
-            if (f is _Frame) {
-                _Frame jf = {...f, ...cf};
-                if (onCondition(jf)) {
-                    return jf;
-                }
-                return self.process();
-            } else if (f is error) {
-                return f;
+            error? err = jt.setFrame(cf);
+            if (err is error) {
+                cf = err;
             } else {
-                // Move to next frame
-                self.currentFrame = pf.process();
-                j.reset();
-                return self.process();
+                self.candidates = jt.getCandidates();
+                self.candidateIndex = 0;
             }
         }
+        self.currentFrame = cf;
         return cf;
     }
 
@@ -385,14 +530,17 @@ type _OuterJoinFunction object {
     *_StreamFunction;
 
     function (_Frame _frame) returns boolean onCondition;
-    _StreamPipeline pipelineToJoin;
+    _JoinTable joinTable;
     _Frame|error? currentFrame;
+    int frameIndex;
 
-    function init(_StreamPipeline pipelineToJoin, function (_Frame _frame) returns boolean onCondition) {
-        self.pipelineToJoin = pipelineToJoin;
+    function init(_StreamPipeline pipelineToJoin, function (_Frame _frame) returns boolean onCondition,
+            _JoinKeyFunctions? keyFunctions) {
+        self.joinTable = new (pipelineToJoin, keyFunctions);
         self.onCondition = onCondition;
         self.prevFunc = ();
         self.currentFrame = ();
+        self.frameIndex = 0;
     }
 
     # Desugared function to do;
@@ -402,29 +550,52 @@ type _OuterJoinFunction object {
     public function process() returns _Frame|error? {
         function (_Frame _frame) returns boolean onCondition = self.onCondition;
         _StreamFunction pf = <_StreamFunction>self.prevFunc;
-        _StreamPipeline j = self.pipelineToJoin;
+        _JoinTable jt = self.joinTable;
+        error? err = jt.load();
+        if (err is error) {
+            return err;
+        }
         _Frame|error? cf = self.currentFrame;
         if (cf is ()) {
-            cf = pf.process();
-            self.currentFrame = cf;
+            cf = self.nextFrame(pf);
+        }
+        while (cf is _Frame) {
+            if (self.frameIndex < jt.frames.length()) {
+                int index = self.frameIndex;
+                self.frameIndex += 1;
+                _Frame f = jt.frames[index];
+                if (jt.isEquiJoin()) {
+                    if (jt.matches(index, onCondition)) {
+                        _Frame jf = {...cf, ...f};
+                        return jf;
+                    }
+                } else {
+                    _Frame jf = {...cf, ...f};
+                    if (onCondition(jf)) {
+                        return jf;
+                    }
+                }
+                _Frame nf = {...cf, ...self.getNilFrame(f)};
+                return nf;
+            }
+            // Move to next frame
+            cf = self.nextFrame(pf);
         }
+        return cf;
+    }
+
+    function nextFrame(_StreamFunction pf) returns _Frame|error? {
+        _JoinTable jt = self.joinTable;
+        _Frame|error? cf = pf.process();
         if (cf is _Frame) {
-            _Frame|error? f = j.next();
-            if (f is _Frame) {
-                _Frame jf = {...cf, ...f};
-                if (!onCondition(jf)) {
-                    jf = {...cf, ...self.getNilFrame(f)};
-                }
-                return jf;
-            } else if (f is error) {
-                return f;
+            error? err = jt.setFrame(cf);
+            if (err is error) {
+                cf = err;
             } else {
-                // Move to next frame
-                self.currentFrame = pf.process();
-                j.reset();
-                return self.process();
+                self.frameIndex = 0;
             }
         }
+        self.currentFrame = cf;
         return cf;
     }
 
@@ -493,8 +664,6 @@ type _OrderByFunction object {
     function init(function(_Frame _frame) orderFunc) {
         self.orderFunc = orderFunc;
         self.prevFunc = ();
-        orderFieldValsArr = [];
-        orderDirectionsArr = [];
     }
 
     public function process() returns _Frame|error? {
@@ -595,11 +764,8 @@ type _LimitFunction object {
     public int count = 0;
 
     function init(int lmt) {
-        self.lmt = lmt;
+        self.lmt = checkLimit(lmt);
         self.prevFunc = ();
-        if (lmt < 0) {
-            panic error("Unable to assign limit", message = "limit cannot be < 0.");
-        }
     }
 
     public function process() returns _Frame|error? {
@@ -619,168 +785,3 @@ type _LimitFunction object {
         }
     }
 };
-
-type StreamOrderBy object {
-    anydata[][] sortFields = [];
-    boolean[] sortTypes = [];
-
-    function init() {
-        self.sortFields = orderFieldValsArr;
-        self.sortTypes = orderDirectionsArr;
-    }
-
-    function topDownMergeSort() returns @tainted Type[] {
-        anydata[][] sortFieldsClone = self.sortFields.clone();
-        self.topDownSplitMerge(sortFieldsClone, 0, self.sortFields.length(), self.sortFields);
-        return self.sortFields;
-    }
-
-    function topDownSplitMerge(@tainted anydata[][] sortArrClone, int iBegin, int iEnd, @tainted anydata[][] sortArr) {
-        if (iEnd - iBegin < 2) {
-            return;
-        }
-        int iMiddle = (iEnd + iBegin) / 2;
-        self.topDownSplitMerge(sortArr, iBegin, iMiddle, sortArrClone);
-        self.topDownSplitMerge(sortArr, iMiddle, iEnd, sortArrClone);
-        self.topDownMerge(sortArrClone, iBegin, iMiddle, iEnd, sortArr);
-    }
-
-    function topDownMerge(@tainted anydata[][] sortArrClone, int iBegin, int iMiddle, int iEnd,
-    @tainted anydata[][] sortArr) {
-        int i = iBegin;
-        int j = iMiddle;
-        int k = iBegin;
-
-        while (k < iEnd) {
-            if (i < iMiddle && (j >= iEnd || self.sortFunc(sortArrClone[i], sortArrClone[j], 0) < 0)) {
-                sortArr[k] = sortArrClone[i];
-                i = i + 1;
-            } else {
-                sortArr[k] = sortArrClone[j];
-                j = j + 1;
-            }
-            k += 1;
-        }
-    }
-
-    function sortFunc(anydata[] x, anydata[] y, int i) returns @tainted int {
-        // () should always come last irrespective of the order direction.
-        if (x[i] is ()) {
-            if (y[i] is ()) {
-                return self.callNextSortFunc(x, y, 0, i + 1);
-            }
-            return 1;
-        } else if (y[i] is ()) {
-            return -1;
-        } else if (x[i] is string) {
-            if (y[i] is string) {
-                int c;
-                if (self.sortTypes[i]) {
-                    c = self.stringSort(<string>x[i], <string>y[i]);
-                } else {
-                    c = self.stringSort(<string>y[i], <string>x[i]);
-                }
-                return self.callNextSortFunc(x, y, c, i + 1);
-            } else {
-                panic error("Inconsistent order field value", message = "order field contain non-string type values");
-            }
-        } else if (x[i] is (int|float|decimal)) {
-             if (y[i] is (int|float|decimal)) {
-                 int c;
-                 if (self.sortTypes[i]) {
-                     c = self.numberSort(<int|float|decimal>x[i], <int|float|decimal>y[i], self.sortTypes[i]);
-                 } else {
-                     c = self.numberSort(<int|float|decimal>y[i], <int|float|decimal>x[i], self.sortTypes[i]);
-                 }
-                 return self.callNextSortFunc(x, y, c, i + 1);
-             } else {
-                 panic error("Inconsistent order field value", message = "order field contain non-numeric values");
-             }
-        } else if (x[i] is boolean) {
-            if (y[i] is boolean) {
-                int c;
-                if (self.sortTypes[i]) {
-                    c = self.booleanSort(<boolean>x[i], <boolean>y[i]);
-                } else {
-                    c = self.booleanSort(<boolean>y[i], <boolean>x[i]);
-                }
-                return self.callNextSortFunc(x, y, c, i + 1);
-            } else {
-                panic error("Inconsistent order field value", message = "order field contain non-boolean type values");
-            }
-        } else {
-            panic error("Unable to perform order by", message = "order field type incorrect");
-        }
-    }
-
-    public function numberSort(int|float|decimal val1, int|float|decimal val2, boolean dir) returns int {
-        if (val1 is int) {
-            if (val2 is int) {
-                return val1 - val2;
-            } else if (val2 is float) {
-                return <float>val1 < val2 ? -1 : <float>val1 == val2 ? 0 : 1;
-            } else {
-                return <decimal>val1 < val2 ? -1 : <decimal>val1 == val2 ? 0 : 1;
-            }
-        } else if (val1 is float) {
-            if (checkNaN(val1)) {
-                // need to check the direction because NaN should always come last.
-                if (dir) {
-                    return 1;
-                }
-                return -1;
-            } else if (val2 is int) {
-                return val1 < <float>val2 ? -1 : val1 == <float>val2 ? 0 : 1;
-            } else if (val2 is float){
-                if (checkNaN(val1)) {
-                    if (checkNaN(val2)) {
-                        return 0;
-                    }
-                } else if (checkNaN(val2)) {
-                    // need to check the direction because NaN should always come last.
-                    if (dir) {
-                        return -1;
-                    }
-                    return 1;
-                }
-                return val1 < val2 ? -1 : val1 == val2 ? 0 : 1;
-            } else {
-                return <decimal>val1 < val2 ? -1 : <decimal>val1 == val2 ? 0 : 1;
-            }
-        } else {
-             if (val2 is (int|float)) {
-                 return val1 < <decimal>val2 ? -1 : val1 == <decimal>val2 ? 0 : 1;
-             } else {
-                return val1 < val2 ? -1 : val1 == val2 ? 0 : 1;
-             }
-        }
-    }
-
-    public function stringSort(string st1, string st2) returns int {
-        return lang_string:codePointCompare(st1, st2);
-    }
-
-    public function booleanSort(boolean b1, boolean b2) returns int {
-        if (b1) {
-            if (b2) {
-                return 0;
-            } else {
-                return 1;
-            }
-        } else {
-            if (b2) {
-                return -1;
-            } else {
-                return 0;
-            }
-        }
-    }
-
-    function callNextSortFunc(anydata[] x, anydata[] y, int c, int i) returns @tainted int {
-        int result = c;
-        if (result == 0 && (self.sortTypes.length() > i) && (i < self.sortFields.length()-1)) {
-            result = self.sortFunc(x, y, i);
-        }
-        return result;
-    }
-};
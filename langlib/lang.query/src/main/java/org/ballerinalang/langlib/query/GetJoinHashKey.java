@@ -17,7 +17,9 @@
  */
 package org.ballerinalang.langlib.query;
 
+import org.ballerinalang.jvm.StringUtils;
 import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.api.BString;
 import org.ballerinalang.model.types.TypeKind;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
@@ -26,18 +28,32 @@ import org.ballerinalang.natives.annotations.ReturnType;
 import static org.ballerinalang.util.BLangCompilerConstants.QUERY_VERSION;
 
 /**
- * Implementation of lang.query:checkNaN(float).
+ * Implementation of lang.query:getJoinHashKey(any|error).
+ * <p>
+ * Returns the key by which the frames of a join are hashed. Only int, string and boolean values have a hash key, as
+ * two such values are equal only if their hash keys are equal. The frames of other values are compared through the
+ * join condition.
  *
- * @since Swan Lake
+ * @since 2.0.0
  */
 @BallerinaFunction(
-        orgName = "ballerina", packageName = "lang.query", version = QUERY_VERSION, functionName = "checkNaN",
-        args = {@Argument(name = "x", type = TypeKind.FLOAT)},
-        returnType = {@ReturnType(type = TypeKind.BOOLEAN)}
+        orgName = "ballerina", packageName = "lang.query", version = QUERY_VERSION, functionName = "getJoinHashKey",
+        args = {@Argument(name = "key", type = TypeKind.ANY)},
+        returnType = {@ReturnType(type = TypeKind.UNION)}
 )
-public class CheckNaN {
+public class GetJoinHashKey {
 
-    public static boolean checkNaN(Strand strand, double x) {
-        return Double.isNaN(x);
+    public static BString getJoinHashKey(Strand strand, Object key) {
+        // int values are always boxed as Long, whereas byte values are boxed as Integer
+        if (key instanceof Long) {
+            return StringUtils.fromString("i" + key);
+        }
+        if (key instanceof BString) {
+            return StringUtils.fromString("s" + ((BString) key).getValue());
+        }
+        if (key instanceof Boolean) {
+            return StringUtils.fromString("b" + key);
+        }
+        return null;
     }
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import org.ballerinalang.jvm.BallerinaErrors;
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.values.DecimalValue;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.api.BString;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Comparator;
+
+/**
+ * Compares the order keys of two values of a query expression, as per the directions of the order by clause.
+ * <p>
+ * Order keys are compared one after the other, until a pair of keys which are not equal is found. () and NaN keys
+ * always come last, irrespective of the order direction.
+ *
+ * @since 2.0.0
+ */
+class OrderKeyComparator implements Comparator<Object> {
+
+    private static final BString INCONSISTENT_ORDER_FIELD = StringUtils.fromString("Inconsistent order field value");
+
+    private final boolean[] ascending;
+
+    OrderKeyComparator(boolean[] ascending) {
+        this.ascending = ascending;
+    }
+
+    @Override
+    public int compare(Object keys1, Object keys2) {
+        Object[] x = (Object[]) keys1;
+        Object[] y = (Object[]) keys2;
+        for (int i = 0; i < ascending.length; i++) {
+            int c = compare(x[i], y[i], ascending[i]);
+            if (c != 0) {
+                return c;
+            }
+        }
+        return 0;
+    }
+
+    private static int compare(Object x, Object y, boolean ascending) {
+        if (x == null) {
+            return y == null ? 0 : 1;
+        } else if (y == null) {
+            return -1;
+        }
+
+        int c;
+        if (x instanceof BString) {
+            if (!(y instanceof BString)) {
+                throw createError(INCONSISTENT_ORDER_FIELD, "order field contain non-string type values");
+            }
+            c = codePointCompare(((BString) x).getValue(), ((BString) y).getValue());
+        } else if (isNumber(x)) {
+            if (!isNumber(y)) {
+                throw createError(INCONSISTENT_ORDER_FIELD, "order field contain non-numeric values");
+            }
+            boolean xIsNaN = isNaN(x);
+            if (xIsNaN || isNaN(y)) {
+                return xIsNaN ? (isNaN(y) ? 0 : 1) : -1;
+            }
+            c = compareNumbers(x, y);
+        } else if (x instanceof Boolean) {
+            if (!(y instanceof Boolean)) {
+                throw createError(INCONSISTENT_ORDER_FIELD, "order field contain non-boolean type values");
+            }
+            c = Boolean.compare((Boolean) x, (Boolean) y);
+        } else {
+            throw createError(StringUtils.fromString("Unable to perform order by"), "order field type incorrect");
+        }
+        return ascending ? c : -c;
+    }
+
+    private static boolean isNumber(Object value) {
+        // byte values are boxed as Integer
+        return value instanceof Long || value instanceof Integer || value instanceof Double ||
+                value instanceof DecimalValue;
+    }
+
+    private static boolean isNaN(Object value) {
+        return value instanceof Double && Double.isNaN((Double) value);
+    }
+
+    private static int compareNumbers(Object x, Object y) {
+        if (x instanceof DecimalValue || y instanceof DecimalValue) {
+            if (isInfinite(x) || isInfinite(y)) {
+                return Double.compare(toDouble(x), toDouble(y));
+            }
+            return toBigDecimal(x).compareTo(toBigDecimal(y));
+        }
+        if (x instanceof Double || y instanceof Double) {
+            double a = ((Number) x).doubleValue();
+            double b = ((Number) y).doubleValue();
+            return a < b ? -1 : a == b ? 0 : 1;
+        }
+        return Long.compare(((Number) x).longValue(), ((Number) y).longValue());
+    }
+
+    private static boolean isInfinite(Object value) {
+        return value instanceof Double && Double.isInfinite((Double) value);
+    }
+
+    private static double toDouble(Object value) {
+        if (value instanceof DecimalValue) {
+            return ((DecimalValue) value).floatValue();
+        }
+        return ((Number) value).doubleValue();
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value instanceof DecimalValue) {
+            return ((DecimalValue) value).decimalValue();
+        }
+        if (value instanceof Double) {
+            return new BigDecimal((Double) value, MathContext.DECIMAL128);
+        }
+        return BigDecimal.valueOf(((Number) value).longValue());
+    }
+
+    private static int codePointCompare(String str1, String str2) {
+        int i = 0;
+        int j = 0;
+        while (i < str1.length() && j < str2.length()) {
+            int codePoint1 = str1.codePointAt(i);
+            int codePoint2 = str2.codePointAt(j);
+            if (codePoint1 != codePoint2) {
+                return Integer.compare(codePoint1, codePoint2);
+            }
+            i += Character.charCount(codePoint1);
+            j += Character.charCount(codePoint2);
+        }
+        return Boolean.compare(i < str1.length(), j < str2.length());
+    }
+
+    private static ErrorValue createError(BString reason, String detail) {
+        return BallerinaErrors.createError(reason, StringUtils.fromString(detail));
+    }
+}
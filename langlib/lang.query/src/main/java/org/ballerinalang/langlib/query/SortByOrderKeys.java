@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.utils.TimSort;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+
+import static org.ballerinalang.util.BLangCompilerConstants.QUERY_VERSION;
+
+/**
+ * Implementation of lang.query:sortByOrderKeys(Type[], anydata[][], boolean[]), which sorts the values of a query
+ * expression with an order by clause.
+ *
+ * @since 2.0.0
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "lang.query", version = QUERY_VERSION, functionName = "sortByOrderKeys",
+        args = {@Argument(name = "values", type = TypeKind.ARRAY),
+                @Argument(name = "orderKeys", type = TypeKind.ARRAY),
+                @Argument(name = "orderDirections", type = TypeKind.ARRAY)}
+)
+public class SortByOrderKeys {
+
+    public static void sortByOrderKeys(Strand strand, ArrayValue values, ArrayValue orderKeys,
+                                       ArrayValue orderDirections) {
+        int size = values.size();
+        int keyCount = orderDirections.size();
+        boolean[] ascending = new boolean[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            ascending[i] = orderDirections.getBoolean(i);
+        }
+
+        // the indexes of the values are sorted, so that the order keys of each value are read only once
+        Object[] members = new Object[size];
+        Object[] indexes = new Object[size];
+        for (int i = 0; i < size; i++) {
+            members[i] = values.get(i);
+            indexes[i] = i;
+        }
+        TimSort.sort(indexes, size, index -> getOrderKeys((ArrayValue) orderKeys.get((Integer) index), keyCount),
+                     new OrderKeyComparator(ascending));
+
+        for (int i = 0; i < size; i++) {
+            values.add(i, members[(Integer) indexes[i]]);
+        }
+    }
+
+    private static Object[] getOrderKeys(ArrayValue orderKeys, int keyCount) {
+        Object[] keys = new Object[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            keys[i] = orderKeys.get(i);
+        }
+        return keys;
+    }
+}
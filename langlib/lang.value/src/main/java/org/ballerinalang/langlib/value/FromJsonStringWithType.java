@@ -18,7 +18,7 @@
 package org.ballerinalang.langlib.value;
 
 import org.ballerinalang.jvm.BallerinaErrors;
-import org.ballerinalang.jvm.JSONParser;
+import org.ballerinalang.jvm.JSONDataBinder;
 import org.ballerinalang.jvm.StringUtils;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.util.exceptions.BallerinaException;
@@ -56,14 +56,10 @@ public class FromJsonStringWithType {
 
     public static Object fromJsonStringWithType(Strand strand, BString value, TypedescValue t) {
 
-        String str = value.getValue();
         try {
-            if (str.equals("null")) {
-                return FromJsonWithType.fromJsonWithType(strand, null, t);
-            } else {
-                Object jsonFromString = JSONParser.parse(str);
-                return FromJsonWithType.fromJsonWithType(strand, jsonFromString, t);
-            }
+            // the value is bound to the target type while it is being parsed, without building a json value first
+            return JSONDataBinder.bind(value.getValue(), t.getDescribingType(),
+                                       (json, type) -> FromJsonWithType.convert(json, type, t, strand));
         } catch (BallerinaException e) {
             return BallerinaErrors.createError(StringUtils.fromString(VALUE_LANG_LIB_CONVERSION_ERROR),
                     StringUtils.fromString(e.getMessage()));
@@ -85,6 +85,19 @@ public class FromJsonWithType {
         }
     }
 
+    /**
+     * Converts a json value to the given type, the same way as {@code fromJsonWithType}.
+     *
+     * @param value      json value
+     * @param targetType type to convert the value to
+     * @param t          typedesc given to the langlib function
+     * @param strand     current strand
+     * @return the converted value
+     */
+    static Object convert(Object value, BType targetType, TypedescValue t, Strand strand) {
+        return convert(value, targetType, new ArrayList<>(), t, strand);
+    }
+
     private static Object convert(Object value, BType targetType, List<TypeValuePair> unresolvedValues,
                                   TypedescValue t, Strand strand) {
 
@@ -227,6 +227,39 @@ public class LangLibArrayTest {
         }
     }
 
+    @Test
+    public void testSortStability() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testSortStability");
+        BValueArray arr = (BValueArray) returns[0];
+        assertEquals(arr.size(), 100);
+
+        // students with the same grade must be in the insertion order
+        int index = 0;
+        for (int grade = 0; grade < 5; grade++) {
+            for (int i = 0; i < 100; i++) {
+                if ((i * 7) % 5 == grade) {
+                    assertEquals(arr.getString(index++), "s" + i);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSortFloats() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testSortFloats");
+        BValueArray arr = (BValueArray) returns[0];
+
+        assertEquals(arr.elementType.getTag(), TypeTags.FLOAT_TAG);
+        assertEquals(arr.size(), 7);
+        assertEquals(arr.getFloat(0), -7.75);
+        assertEquals(arr.getFloat(1), -1.25);
+        assertEquals(arr.getFloat(2), 0.0);
+        assertEquals(arr.getFloat(3), 2.0);
+        assertEquals(arr.getFloat(4), 3.5);
+        assertEquals(arr.getFloat(5), 3.5);
+        assertEquals(arr.getFloat(6), 10.0);
+    }
+
     @Test
     public void testReduce() {
         BValue[] returns = BRunUtil.invoke(compileResult, "testReduce");
@@ -414,6 +447,19 @@ public class LangLibArrayTest {
 
     }
 
+    @Test
+    public void testMapWithYieldingElements() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testMapWithYieldingElements");
+        BValueArray arr = (BValueArray) returns[0];
+        assertEquals(arr.size(), 6L);
+        assertEquals(arr.getInt(0), 10);
+        assertEquals(arr.getInt(1), 20);
+        assertEquals(arr.getInt(2), 5);
+        assertEquals(arr.getInt(3), 40);
+        assertEquals(arr.getInt(4), 50);
+        assertEquals(arr.getInt(5), 8);
+    }
+
     public void callingLengthModificationFunctionsOnFixedLengthLists() {
         CompileResult negativeResult = BCompileUtil.compile("test-src/arraylib_test_negative.bal");
         int errorIndex = 0;
@@ -259,6 +259,8 @@ public class LangLibValueTest {
                 { "testFromJsonStringWithTypeStringArray" },
                 { "testFromJsonStringWithTypeArrayNegative" },
                 { "testFromJsonStringWithTypeIntArray" },
+                { "testFromJsonStringWithTypeNestedRecord" },
+                { "testFromJsonStringWithTypeErrorPath" },
         };
     }
 
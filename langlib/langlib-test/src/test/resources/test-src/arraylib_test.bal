@@ -375,6 +375,31 @@ function testSort2() returns int[] {
     return sorted;
 }
 
+type Student record {|
+    string name;
+    int grade;
+|};
+
+function testSortStability() returns string[] {
+    Student[] students = [];
+    foreach int i in 0 ..< 100 {
+        students.push({name: "s" + i.toString(), grade: (i * 7) % 5});
+    }
+
+    Student[] sorted = students.sort(function (Student x, Student y) returns int {
+        return x.grade - y.grade;
+    });
+
+    return sorted.'map(student => student.name);
+}
+
+function testSortFloats() returns float[] {
+    float[] arr = [3.5, -1.25, 10.0, 0.0, 3.5, -7.75, 2.0];
+    return arr.sort(function (float x, float y) returns int {
+        return x < y ? -1 : x == y ? 0 : 1;
+    });
+}
+
 function testPush() {
     testBooleanPush();
     testBytePush();
@@ -603,3 +628,14 @@ function testAsyncFpArgsWithArrays() returns [int, int[]] {
 function getRandomNumber(int i) returns int {
     return i + 2;
 }
+
+function testMapWithYieldingElements() returns int[] {
+    int[] numbers = [1, 2, 3, 4, 5, 6];
+    return numbers.'map(function (int i) returns int {
+        if (i % 3 == 0) {
+            future<int> f1 = start getRandomNumber(i);
+            return wait f1;
+        }
+        return i * 10;
+    });
+}
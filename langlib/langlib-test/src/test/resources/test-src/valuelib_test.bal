@@ -843,6 +843,36 @@ function testFromJsonStringWithTypeIntArray() {
     assert(intArr[1], 2);
 }
 
+type PersonArray Person[];
+
+function testFromJsonStringWithTypeNestedRecord() {
+    string s = "{\"name\":\"Alice\", \"age\":30, " +
+                "\"address\":{\"country\":\"LK\", \"city\":\"Colombo\", \"street\":\"Main\"}}";
+    Person|error p = s.fromJsonStringWithType(Person);
+
+    assert(p is Person, true);
+    Person person = <Person> p;
+    assert(person.age, 30);
+    assert(person.address.city, "Colombo");
+}
+
+function testFromJsonStringWithTypeErrorPath() {
+    string s = "[{\"name\":\"A\", \"age\":1, \"address\":{\"country\":\"LK\", \"city\":\"C\", \"street\":\"S\"}}, " +
+                "{\"name\":\"B\", \"age\":\"two\", \"address\":{\"country\":\"LK\", \"city\":\"C\", \"street\":\"S\"}}]";
+    Person[]|error p = s.fromJsonStringWithType(PersonArray);
+
+    assert(p is error, true);
+    error err = <error> p;
+    assert(err.detail()[MESSAGE].toString(), "'string' value cannot be converted to 'int' at '$[1].age'");
+
+    s = "{\"name\":\"A\", \"age\":1, \"address\":{\"country\":\"LK\", \"city\":\"C\"}}";
+    Person|error q = s.fromJsonStringWithType(Person);
+
+    assert(q is error, true);
+    err = <error> q;
+    assert(err.detail()[MESSAGE].toString().endsWith("at '$.address'"), true);
+}
+
 /////////////////////////// Tests for `toJson()` ///////////////////////////
 
 function testToJsonWithRecord1() {
@@ -15,6 +15,7 @@
 // under the License.
 
 import ballerina/java;
+import ballerina/log;
 import ballerina/task;
 import ballerina/time;
 
@@ -35,6 +36,18 @@ public type CacheConfig record {|
     int cleanupIntervalInSeconds?;
 |};
 
+# Represents the statistics of a `cache:Cache` object. The statistics are collected only when one of the built-in
+# eviction policies is used.
+#
+# + hitCount - Number of `get` calls, which returned a cached value
+# + missCount - Number of `get` calls, which did not find a valid cached value
+# + evictionCount - Number of entries evicted since the cache was full
+public type CacheStats record {|
+    int hitCount;
+    int missCount;
+    int evictionCount;
+|};
+
 type CacheEntry record {|
     string key;
     any data;
@@ -50,14 +63,20 @@ service cleanupService = service {
         // This check will skip the processes triggered while the clean up in progress.
         if (!cleanupInProgress) {
             cleanupInProgress = true;
-            cleanup(cache, list, evictionPolicy);
+            if (cache.nativeEviction) {
+                externCleanUp(cache);
+            } else {
+                cleanup(cache, list, evictionPolicy);
+            }
             cleanupInProgress = false;
         }
     }
 };
 
 # The `cache:Cache` object, which is used for all the cache-related operations. It is not recommended to insert `()`
-# as the value of the cache since it doesn't make any sense to cache a nil.
+# as the value of the cache since it doesn't make any sense to cache a nil. The built-in eviction policies
+# (`cache:LruEvictionPolicy` and `cache:TinyLfuEvictionPolicy`) are run natively, while a custom eviction policy
+# maintains the `cache:LinkedList` of the cache.
 public type Cache object {
 
     *AbstractCache;
@@ -67,6 +86,7 @@ public type Cache object {
     private float evictionFactor;
     private int defaultMaxAgeInSeconds;
     private LinkedList list;
+    boolean nativeEviction;
 
     # Called when a new `cache:Cache` object is created.
     #
@@ -96,7 +116,7 @@ public type Cache object {
             tail: ()
         };
 
-        externInit(self, self.capacity);
+        self.nativeEviction = externInit(self, self.capacity, self.evictionFactor, self.evictionPolicy);
 
         int? cleanupIntervalInSeconds = cacheConfig?.cleanupIntervalInSeconds;
         if (cleanupIntervalInSeconds is int) {
@@ -129,6 +149,11 @@ public type Cache object {
             return prepareError("Unsupported cache value '()' for the key: " + key + ".",
                                 logLevel = LOG_LEVEL_DEBUG);
         }
+        if (self.nativeEviction) {
+            externPut(self, key, value, maxAgeInSeconds > 0 ? maxAgeInSeconds : self.defaultMaxAgeInSeconds);
+            return;
+        }
+
         // If the current cache is full (i.e. size = capacity), evict cache.
         if (self.size() == self.capacity) {
             evict(self, self.list, self.evictionPolicy, self.capacity, self.evictionFactor);
@@ -153,12 +178,12 @@ public type Cache object {
         Node newNode = { value: entry };
 
         if (self.hasKey(key)) {
-            Node oldNode = externGet(self, key);
+            Node oldNode = <Node>checkpanic externGet(self, key);
             self.evictionPolicy.replace(self.list, newNode, oldNode);
         } else {
             self.evictionPolicy.put(self.list, newNode);
         }
-        externPut(self, key, newNode);
+        externPut(self, key, newNode, -1);
     }
 
     # Returns the cached value associated with the provided key.
@@ -167,12 +192,19 @@ public type Cache object {
     # + return - The cached value associated with the provided key or an `Error` if the provided cache key is not
     #            exisiting in the cache or any error occurred while retrieving the value from the cache.
     public function get(string key) returns any|Error {
-        if (!self.hasKey(key)) {
-            return prepareError("Cache entry from the given key: " + key + ", is not available.",
-                                logLevel = LOG_LEVEL_DEBUG);
+        // The result and the hit or the miss recorded by the native storage come from a single lookup, so that they
+        // agree even if the entry is changed concurrently.
+        any|Error value = externGet(self, key);
+        if (value is Error) {
+            log:printDebug(value.message());
+            return value;
+        }
+        if (self.nativeEviction) {
+            // The native storage removes the expired entries and returns `()` for them.
+            return value;
         }
 
-        Node node = externGet(self, key);
+        Node node = <Node>value;
         CacheEntry entry = <CacheEntry>node.value;
 
         // Check whether the cache entry is already expired. Even though the cache cleaning task is configured
@@ -199,8 +231,10 @@ public type Cache object {
                                 logLevel = LOG_LEVEL_DEBUG);
         }
 
-        Node node = externGet(self, key);
-        self.evictionPolicy.remove(self.list, node);
+        if (!self.nativeEviction) {
+            Node node = <Node>checkpanic externGet(self, key);
+            self.evictionPolicy.remove(self.list, node);
+        }
         externRemove(self, key);
     }
 
@@ -209,7 +243,9 @@ public type Cache object {
     # + return - `()` if successfully discarded all the values from the cache or an `Error` if any error occurred while
     # discarding all the values from the cache.
     public function invalidateAll() returns Error? {
-        self.evictionPolicy.clear(self.list);
+        if (!self.nativeEviction) {
+            self.evictionPolicy.clear(self.list);
+        }
         externRemoveAll(self);
     }
 
@@ -242,6 +278,13 @@ public type Cache object {
     public function capacity() returns int {
         return self.capacity;
     }
+
+    # Returns the hit, miss and eviction counts of the cache.
+    #
+    # + return - The statistics of the cache
+    public function stats() returns CacheStats {
+        return externStats(self);
+    }
 };
 
 function evict(Cache cache, LinkedList list, AbstractEvictionPolicy evictionPolicy, int capacity, float evictionFactor) {
@@ -264,7 +307,7 @@ function cleanup(Cache cache, LinkedList list, AbstractEvictionPolicy evictionPo
         return;
     }
     foreach string key in externKeys(cache) {
-        Node node = externGet(cache, key);
+        Node node = <Node>checkpanic externGet(cache, key);
         CacheEntry entry = <CacheEntry>node.value;
         if (entry.expTime != -1 && entry.expTime < time:nanoTime()) {
             evictionPolicy.remove(list, node);
@@ -276,15 +319,16 @@ function cleanup(Cache cache, LinkedList list, AbstractEvictionPolicy evictionPo
     }
 }
 
-function externInit(Cache cache, int capacity) = @java:Method {
+function externInit(Cache cache, int capacity, float evictionFactor, AbstractEvictionPolicy evictionPolicy)
+                    returns boolean = @java:Method {
     class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
 
-function externPut(Cache cache, string key, Node value) = @java:Method {
+function externPut(Cache cache, string key, any value, int maxAgeInSeconds) = @java:Method {
     class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
 
-function externGet(Cache cache, string key) returns Node = @java:Method {
+function externGet(Cache cache, string key) returns any|Error = @java:Method {
     class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
 
@@ -296,6 +340,10 @@ function externRemoveAll(Cache cache) = @java:Method {
     class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
 
+function externCleanUp(Cache cache) = @java:Method {
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
+
 function externHasKey(Cache cache, string key) returns boolean = @java:Method {
     class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
@@ -307,3 +355,7 @@ function externKeys(Cache cache) returns string[] = @java:Method {
 function externSize(Cache cache) returns int = @java:Method {
     class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
+
+function externStats(Cache cache) returns CacheStats = @java:Method {
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
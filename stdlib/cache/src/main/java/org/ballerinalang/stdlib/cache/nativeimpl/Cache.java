@@ -18,15 +18,20 @@
 
 package org.ballerinalang.stdlib.cache.nativeimpl;
 
+import org.ballerinalang.jvm.BallerinaErrors;
+import org.ballerinalang.jvm.BallerinaValues;
+import org.ballerinalang.jvm.types.BPackage;
 import org.ballerinalang.jvm.values.ArrayValueImpl;
 import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.jvm.values.api.BString;
 
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.ballerinalang.jvm.util.BLangConstants.BALLERINA_BUILTIN_PKG_PREFIX;
 
 /**
- * Ballerina function to cache with java.util.concurrent.ConcurrentHashMap.
+ * Ballerina functions of the `cache:Cache` object, which are backed by a {@link CacheEngine}.
  *
  * @since 2.0.0
  */
@@ -34,50 +39,91 @@ public class Cache {
 
     public static final String CACHE_MAP = "CACHE_MAP";
 
-    public static void externInit(ObjectValue cache, int capacity) {
-        ConcurrentHashMap<BString, MapValue<BString, Object>> map = new ConcurrentHashMap<>(capacity);
-        cache.addNativeData(CACHE_MAP, map);
+    private static final String PACKAGE_NAME = "cache";
+    private static final BPackage CACHE_PACKAGE_ID = new BPackage(BALLERINA_BUILTIN_PKG_PREFIX, PACKAGE_NAME,
+                                                                  "2.0.0");
+    private static final String LRU_EVICTION_POLICY = "LruEvictionPolicy";
+    private static final String TINY_LFU_EVICTION_POLICY = "TinyLfuEvictionPolicy";
+    private static final String CACHE_STATS = "CacheStats";
+    private static final String CACHE_ERROR = "CacheError";
+
+    // marks a key which has no entry, as the cached values are never nil
+    private static final Object ABSENT = new Object();
+
+    /**
+     * Initializes the storage of the given cache.
+     *
+     * @param cache          cache object
+     * @param capacity       capacity of the cache
+     * @param evictionFactor factor of the capacity that is evicted when the cache is full
+     * @param evictionPolicy eviction policy of the cache
+     * @return true if the eviction policy is one of the built-in policies, which are run by the storage itself
+     */
+    public static boolean externInit(ObjectValue cache, int capacity, double evictionFactor,
+                                     ObjectValue evictionPolicy) {
+        CacheEngine engine;
+        String policyName = evictionPolicy.getType().getName();
+        boolean builtInPolicy = isCachePackage(evictionPolicy.getType().getPackage()) &&
+                (LRU_EVICTION_POLICY.equals(policyName) || TINY_LFU_EVICTION_POLICY.equals(policyName));
+        if (builtInPolicy) {
+            engine = new CacheEngine(capacity, evictionFactor, TINY_LFU_EVICTION_POLICY.equals(policyName));
+        } else {
+            engine = new CacheEngine(capacity);
+        }
+        cache.addNativeData(CACHE_MAP, engine);
+        return builtInPolicy;
     }
 
-    public static void externPut(ObjectValue cache, BString key, MapValue<BString, Object> value) {
-        ConcurrentHashMap<BString, MapValue<BString, Object>> map =
-                (ConcurrentHashMap<BString, MapValue<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        map.put(key, value);
+    public static void externPut(ObjectValue cache, BString key, Object value, int maxAgeInSeconds) {
+        long maxAge = maxAgeInSeconds > 0 ? TimeUnit.SECONDS.toNanos(maxAgeInSeconds) : CacheNode.NO_EXPIRY;
+        getEngine(cache).put(key, value, maxAge);
     }
 
-    public static MapValue<BString, Object> externGet(ObjectValue cache, BString key) {
-        ConcurrentHashMap<BString, MapValue<BString, Object>> map =
-                (ConcurrentHashMap<BString, MapValue<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        return map.get(key);
+    public static Object externGet(ObjectValue cache, BString key) {
+        Object value = getEngine(cache).get(key, ABSENT);
+        if (value == ABSENT) {
+            return BallerinaErrors.createDistinctError(CACHE_ERROR, CACHE_PACKAGE_ID, "Cache entry from the given key: "
+                    + key.getValue() + ", is not available.");
+        }
+        return value;
     }
 
     public static void externRemove(ObjectValue cache, BString key) {
-        ConcurrentHashMap<BString, MapValue<BString, Object>> map =
-                (ConcurrentHashMap<BString, MapValue<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        map.remove(key);
+        getEngine(cache).remove(key);
     }
 
     public static void externRemoveAll(ObjectValue cache) {
-        ConcurrentHashMap<BString, MapValue<BString, Object>> map =
-                (ConcurrentHashMap<BString, MapValue<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        map.clear();
+        getEngine(cache).clear();
+    }
+
+    public static void externCleanUp(ObjectValue cache) {
+        getEngine(cache).cleanUp();
     }
 
     public static boolean externHasKey(ObjectValue cache, BString key) {
-        ConcurrentHashMap<BString, MapValue<BString, Object>> map =
-                (ConcurrentHashMap<BString, MapValue<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        return map.containsKey(key);
+        return getEngine(cache).containsKey(key);
     }
 
     public static ArrayValueImpl externKeys(ObjectValue cache) {
-        ConcurrentHashMap<BString, MapValue<BString, Object>> map =
-                (ConcurrentHashMap<BString, MapValue<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        return new ArrayValueImpl(map.keySet().toArray(new BString[0]));
+        return new ArrayValueImpl(getEngine(cache).keys().toArray(new BString[0]));
     }
 
     public static int externSize(ObjectValue cache) {
-        ConcurrentHashMap<BString, MapValue<BString, Object>> map =
-                (ConcurrentHashMap<BString, MapValue<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        return map.size();
+        return getEngine(cache).size();
+    }
+
+    public static MapValue<BString, Object> externStats(ObjectValue cache) {
+        CacheEngine engine = getEngine(cache);
+        MapValue<BString, Object> stats = BallerinaValues.createRecordValue(CACHE_PACKAGE_ID, CACHE_STATS);
+        return BallerinaValues.createRecord(stats, engine.getHitCount(), engine.getMissCount(),
+                                            engine.getEvictionCount());
+    }
+
+    private static CacheEngine getEngine(ObjectValue cache) {
+        return (CacheEngine) cache.getNativeData(CACHE_MAP);
+    }
+
+    private static boolean isCachePackage(BPackage pkg) {
+        return pkg != null && BALLERINA_BUILTIN_PKG_PREFIX.equals(pkg.getOrg()) && PACKAGE_NAME.equals(pkg.getName());
     }
 }
@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import org.ballerinalang.jvm.values.api.BString;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrent storage of the `cache:Cache` entries.
+ * <p>
+ * The entries are kept in a {@link ConcurrentHashMap}. When the engine manages the eviction (i.e. one of the
+ * built-in eviction policies is used), the entries are also linked in access order and the ones with a max age are
+ * kept in a {@link TimerWheel}. Reads never block; they are recorded in a {@link ReadBuffer} and are applied to the
+ * access order in batches by the thread which holds the eviction lock. Writes take the eviction lock, so the cache
+ * is evicted by a single thread at a time.
+ * <p>
+ * When the cache is full, the least recently used entries are evicted as per the eviction factor. With the
+ * TinyLFU admission enabled, a new entry is admitted only if it has been accessed more often than the least recently
+ * used entry, which keeps one-hit keys from flushing out the popular ones.
+ *
+ * @since 2.0.0
+ */
+class CacheEngine {
+
+    private final ConcurrentHashMap<BString, CacheNode> map;
+    private final int capacity;
+    private final int evictionCount;
+    private final boolean managed;
+    private final FrequencySketch sketch;
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final ReadBuffer readBuffer = new ReadBuffer();
+    private final TimerWheel timerWheel = new TimerWheel(System.nanoTime());
+    // head is the most recently used node and the tail is the least recently used one
+    private CacheNode head;
+    private CacheNode tail;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates an engine, which only stores the entries. The eviction is done by the caller.
+     *
+     * @param capacity capacity of the cache
+     */
+    CacheEngine(int capacity) {
+        this.map = new ConcurrentHashMap<>(capacity);
+        this.capacity = capacity;
+        this.evictionCount = 0;
+        this.managed = false;
+        this.sketch = null;
+    }
+
+    /**
+     * Creates an engine, which manages the eviction and the expiry of the entries.
+     *
+     * @param capacity       capacity of the cache
+     * @param evictionFactor factor of the capacity that is evicted when the cache is full
+     * @param admission      whether a new entry has to pass the TinyLFU admission filter once the cache is full
+     */
+    CacheEngine(int capacity, double evictionFactor, boolean admission) {
+        this.map = new ConcurrentHashMap<>(capacity);
+        this.capacity = capacity;
+        this.evictionCount = Math.max(1, (int) Math.round(capacity * evictionFactor));
+        this.managed = true;
+        this.sketch = admission ? new FrequencySketch(capacity) : null;
+    }
+
+    Object get(BString key) {
+        return get(key, null);
+    }
+
+    /**
+     * Returns the value of an entry, with a single lookup which also records the hit or the miss.
+     *
+     * @param key    key of the entry
+     * @param absent value returned when there is no entry for the key
+     * @return the value, {@code absent} if there is no entry or {@code null} if the entry has expired
+     */
+    Object get(BString key, Object absent) {
+        CacheNode node = map.get(key);
+        if (!managed) {
+            return node == null ? absent : node.value;
+        }
+        if (node == null) {
+            misses.increment();
+            return absent;
+        }
+        long now = System.nanoTime();
+        if (node.isExpired(now) && removeIfExpired(node, now)) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        if (readBuffer.offer(node) && evictionLock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+        return node.value;
+    }
+
+    /**
+     * Adds or replaces an entry.
+     *
+     * @param key    key of the entry
+     * @param value  value of the entry
+     * @param maxAge max age of the entry in nanoseconds or {@link CacheNode#NO_EXPIRY}
+     */
+    void put(BString key, Object value, long maxAge) {
+        if (!managed) {
+            map.put(key, new CacheNode(key, value, CacheNode.NO_EXPIRY));
+            return;
+        }
+
+        long now = System.nanoTime();
+        long expTime = maxAge == CacheNode.NO_EXPIRY ? CacheNode.NO_EXPIRY : now + maxAge;
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            timerWheel.advance(now, this::removeNode);
+            if (sketch != null) {
+                sketch.increment(key);
+            }
+
+            CacheNode node = map.get(key);
+            if (node != null) {
+                timerWheel.deschedule(node);
+                node.value = value;
+                node.expTime = expTime;
+                timerWheel.schedule(node);
+                moveToHead(node);
+                return;
+            }
+
+            if (map.size() >= capacity) {
+                if (sketch != null && tail != null && sketch.frequency(key) <= sketch.frequency(tail.key)) {
+                    // the new entry is less popular than the entry it would replace
+                    return;
+                }
+                evict();
+            }
+
+            node = new CacheNode(key, value, expTime);
+            map.put(key, node);
+            linkHead(node);
+            timerWheel.schedule(node);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    void remove(BString key) {
+        if (!managed) {
+            map.remove(key);
+            return;
+        }
+        evictionLock.lock();
+        try {
+            CacheNode node = map.get(key);
+            if (node != null) {
+                removeNode(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    void clear() {
+        if (!managed) {
+            map.clear();
+            return;
+        }
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            for (CacheNode node = head; node != null; node = head) {
+                removeNode(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the entries which have expired.
+     */
+    void cleanUp() {
+        if (!managed) {
+            return;
+        }
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            timerWheel.advance(System.nanoTime(), this::removeNode);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    boolean containsKey(BString key) {
+        return map.containsKey(key);
+    }
+
+    Set<BString> keys() {
+        return map.keySet();
+    }
+
+    int size() {
+        return map.size();
+    }
+
+    long getHitCount() {
+        return hits.sum();
+    }
+
+    long getMissCount() {
+        return misses.sum();
+    }
+
+    long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Removes a node which was found expired without holding the eviction lock. The node is checked again under the
+     * lock, as a put may have refreshed it in the meantime.
+     *
+     * @param node node which was found expired
+     * @param now  time the node was found expired
+     * @return true if the node has been removed, false if it has been refreshed
+     */
+    private boolean removeIfExpired(CacheNode node, long now) {
+        evictionLock.lock();
+        try {
+            if (node.removed) {
+                return true;
+            }
+            if (!node.isExpired(now)) {
+                return false;
+            }
+            removeNode(node);
+            return true;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    // Below methods must be called while holding the eviction lock
+
+    private void evict() {
+        for (int i = 0; i < evictionCount && tail != null; i++) {
+            removeNode(tail);
+            evictions.increment();
+        }
+    }
+
+    private void drainReadBuffer() {
+        readBuffer.drainTo(node -> {
+            if (!node.removed) {
+                moveToHead(node);
+            }
+            if (sketch != null) {
+                sketch.increment(node.key);
+            }
+        });
+    }
+
+    private void removeNode(CacheNode node) {
+        if (node.removed) {
+            return;
+        }
+        node.removed = true;
+        map.remove(node.key, node);
+        unlink(node);
+        timerWheel.deschedule(node);
+    }
+
+    private void moveToHead(CacheNode node) {
+        if (node == head) {
+            return;
+        }
+        unlink(node);
+        linkHead(node);
+    }
+
+    private void linkHead(CacheNode node) {
+        node.prev = null;
+        node.next = head;
+        if (head != null) {
+            head.prev = node;
+        } else {
+            tail = node;
+        }
+        head = node;
+    }
+
+    private void unlink(CacheNode node) {
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else if (head == node) {
+            head = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        } else if (tail == node) {
+            tail = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import org.ballerinalang.jvm.values.api.BString;
+
+/**
+ * Entry of the {@link CacheEngine}. Apart from the key and the value, a node is linked in to the access order list
+ * and to a bucket of the {@link TimerWheel}. The links are guarded by the eviction lock of the engine.
+ *
+ * @since 2.0.0
+ */
+class CacheNode {
+
+    static final long NO_EXPIRY = -1;
+
+    final BString key;
+    volatile Object value;
+    volatile long expTime;
+
+    // access order links
+    CacheNode prev;
+    CacheNode next;
+
+    // timer wheel links
+    CacheNode prevInBucket;
+    CacheNode nextInBucket;
+
+    boolean removed;
+
+    CacheNode(BString key, Object value, long expTime) {
+        this.key = key;
+        this.value = value;
+        this.expTime = expTime;
+    }
+
+    boolean isExpired(long now) {
+        long expTime = this.expTime;
+        return expTime != NO_EXPIRY && expTime - now < 0;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Striped, lossy buffer of the cache reads, which are yet to be applied to the access order of the
+ * {@link CacheEngine}. Readers record the accessed node without taking any lock and the buffer is drained in batches
+ * by the thread which holds the eviction lock. A read is dropped if its stripe is full or contended, which only makes
+ * the access order slightly less accurate.
+ *
+ * @since 2.0.0
+ */
+class ReadBuffer {
+
+    private static final int STRIPE_SIZE = 16;
+    private static final int STRIPE_MASK = STRIPE_SIZE - 1;
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+
+    ReadBuffer() {
+        int stripeCount = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.stripeMask = stripeCount - 1;
+    }
+
+    /**
+     * Records a read of the given node.
+     *
+     * @param node node which was read
+     * @return true if the stripe of the current thread is full and should be drained
+     */
+    boolean offer(CacheNode node) {
+        Stripe stripe = stripes[(int) Thread.currentThread().getId() & stripeMask];
+        long tail = stripe.writeCounter.get();
+        long size = tail - stripe.readCounter;
+        if (size >= STRIPE_SIZE) {
+            return true;
+        }
+        if (stripe.writeCounter.compareAndSet(tail, tail + 1)) {
+            stripe.buffer.lazySet((int) (tail & STRIPE_MASK), node);
+            return size + 1 == STRIPE_SIZE;
+        }
+        return false;
+    }
+
+    /**
+     * Applies all the buffered reads to the given consumer. Must be called while holding the eviction lock.
+     *
+     * @param consumer consumer of the read nodes
+     */
+    void drainTo(Consumer<CacheNode> consumer) {
+        for (Stripe stripe : stripes) {
+            long head = stripe.readCounter;
+            long tail = stripe.writeCounter.get();
+            for (; head < tail; head++) {
+                int index = (int) (head & STRIPE_MASK);
+                CacheNode node = stripe.buffer.get(index);
+                if (node == null) {
+                    // the writer has claimed the slot, but not published the node yet
+                    break;
+                }
+                stripe.buffer.lazySet(index, null);
+                consumer.accept(node);
+            }
+            stripe.readCounter = head;
+        }
+    }
+
+    /**
+     * Ring buffer of a single stripe.
+     */
+    private static class Stripe {
+        final AtomicReferenceArray<CacheNode> buffer = new AtomicReferenceArray<>(STRIPE_SIZE);
+        final AtomicLong writeCounter = new AtomicLong();
+        volatile long readCounter;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import java.util.function.Consumer;
+
+/**
+ * Hashed timer wheel, which keeps the cache nodes that have an expiry time. A node is placed in the bucket of the tick
+ * (about a second) in which it expires, so advancing the wheel only visits the buckets of the ticks that have passed
+ * instead of all the entries of the cache. Nodes that expire after more than one rotation of the wheel stay in their
+ * bucket until their time comes. Not thread safe, it is only used while holding the eviction lock.
+ *
+ * @since 2.0.0
+ */
+class TimerWheel {
+
+    // 2^30 ns is a little more than a second, which is the unit of the max age of the cache entries
+    private static final int TICK_SHIFT = 30;
+    private static final int BUCKET_COUNT = 512;
+    private static final int BUCKET_MASK = BUCKET_COUNT - 1;
+
+    private final CacheNode[] buckets = new CacheNode[BUCKET_COUNT];
+    private long currentTick;
+
+    TimerWheel(long now) {
+        this.currentTick = now >> TICK_SHIFT;
+    }
+
+    void schedule(CacheNode node) {
+        if (node.expTime == CacheNode.NO_EXPIRY) {
+            return;
+        }
+        int index = (int) ((node.expTime >> TICK_SHIFT) & BUCKET_MASK);
+        CacheNode head = buckets[index];
+        node.prevInBucket = null;
+        node.nextInBucket = head;
+        if (head != null) {
+            head.prevInBucket = node;
+        }
+        buckets[index] = node;
+    }
+
+    void deschedule(CacheNode node) {
+        if (node.expTime == CacheNode.NO_EXPIRY) {
+            return;
+        }
+        if (node.prevInBucket != null) {
+            node.prevInBucket.nextInBucket = node.nextInBucket;
+        } else {
+            int index = (int) ((node.expTime >> TICK_SHIFT) & BUCKET_MASK);
+            if (buckets[index] == node) {
+                buckets[index] = node.nextInBucket;
+            }
+        }
+        if (node.nextInBucket != null) {
+            node.nextInBucket.prevInBucket = node.prevInBucket;
+        }
+        node.prevInBucket = null;
+        node.nextInBucket = null;
+    }
+
+    /**
+     * Moves the wheel to the given time and passes the nodes which have expired to the given consumer. The consumer
+     * is expected to deschedule the node.
+     *
+     * @param now     current time in nanoseconds
+     * @param expirer consumer of the expired nodes
+     */
+    void advance(long now, Consumer<CacheNode> expirer) {
+        long tick = now >> TICK_SHIFT;
+        if (tick == currentTick) {
+            return;
+        }
+        // the bucket of the current tick is visited again, since the nodes in it may have expired by now
+        long ticks = Math.min(tick - currentTick + 1, BUCKET_COUNT);
+        for (long i = 0; i < ticks; i++) {
+            int index = (int) ((currentTick + i) & BUCKET_MASK);
+            CacheNode node = buckets[index];
+            while (node != null) {
+                CacheNode next = node.nextInBucket;
+                if (node.isExpired(now)) {
+                    expirer.accept(node);
+                }
+                node = next;
+            }
+        }
+        currentTick = tick;
+    }
+}
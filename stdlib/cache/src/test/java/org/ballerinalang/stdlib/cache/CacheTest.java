@@ -226,6 +226,28 @@ public class CacheTest {
         Assert.assertEquals(((BInteger) returns[1]).intValue(), expected.length);
     }
 
+    @Test
+    public void testCacheEvictionWithTinyLfu() {
+        BValue[] args = new BValue[0];
+        BValue[] returns = BRunUtil.invoke(compileResult, "testCacheEvictionWithTinyLfu", args);
+        Assert.assertTrue(returns[0] instanceof BValueArray);
+        Assert.assertTrue(returns[1] instanceof BInteger);
+        String[] expected = new String[]{"A", "B", "C"};
+        String[] actual = removeEmptyValues(((BValueArray) returns[0]).getStringArray());
+        Assert.assertTrue(Arrays.equals(actual, expected));
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), expected.length);
+    }
+
+    @Test
+    public void testStats() {
+        BValue[] args = new BValue[0];
+        BValue[] returns = BRunUtil.invoke(compileResult, "testStats", args);
+        // "A" is evicted when "C" is added, hence the last get is a miss
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 2);
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 1);
+        Assert.assertEquals(((BInteger) returns[2]).intValue(), 1);
+    }
+
     @Test(enabled = false)
     public void testCacheEvictionWithTimer1() {
         BValue[] args = new BValue[0];
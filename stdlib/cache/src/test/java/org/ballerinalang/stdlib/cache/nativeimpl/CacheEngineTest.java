@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.values.api.BString;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Test class for the {@link CacheEngine} which manages the eviction and the expiry of the entries.
+ */
+public class CacheEngineTest {
+
+    private static final BString KEY = StringUtils.fromString("key");
+    private static final int ITERATIONS = 200000;
+
+    @Test(description = "Test an expired entry is removed and counted as a miss")
+    public void testGetExpiredEntry() throws InterruptedException {
+        CacheEngine engine = new CacheEngine(10, 0.25, false);
+        engine.put(KEY, "value", TimeUnit.MILLISECONDS.toNanos(1));
+        Thread.sleep(5);
+        Assert.assertNull(engine.get(KEY));
+        Assert.assertFalse(engine.containsKey(KEY));
+        Assert.assertEquals(engine.getMissCount(), 1);
+    }
+
+    @Test(description = "Test an entry which is put again right after it expires is not removed by a concurrent get")
+    public void testConcurrentGetAndPutOnExpiry() throws InterruptedException {
+        CacheEngine engine = new CacheEngine(10, 0.25, false);
+        AtomicBoolean done = new AtomicBoolean();
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                engine.get(KEY);
+            }
+        });
+        reader.start();
+        try {
+            for (int i = 0; i < ITERATIONS; i++) {
+                // the entry expires right away, so the reader keeps finding it expired
+                engine.put(KEY, "expired", 1);
+                String value = "value" + i;
+                engine.put(KEY, value, CacheNode.NO_EXPIRY);
+                Assert.assertEquals(engine.get(KEY), value, "entry put again was removed in iteration " + i);
+            }
+        } finally {
+            done.set(true);
+            reader.join();
+        }
+    }
+}
@@ -204,6 +204,39 @@ function testCacheEvictionWithCapacity2() returns [string[], int] {
     return [cache.keys(), cache.size()];
 }
 
+function testCacheEvictionWithTinyLfu() returns [string[], int] {
+    cache:CacheConfig config = {
+        capacity: 3,
+        evictionPolicy: new cache:TinyLfuEvictionPolicy(),
+        evictionFactor: 0.34
+    };
+    cache:Cache cache = new(config);
+    checkpanic cache.put("A", "1");
+    any|cache:Error x = cache.get("A");
+    x = cache.get("A");
+    checkpanic cache.put("B", "2");
+    checkpanic cache.put("C", "3");
+    // "D" has not been accessed before, hence it is not admitted in place of the least recently used entry
+    checkpanic cache.put("D", "4");
+    return [cache.keys(), cache.size()];
+}
+
+function testStats() returns [int, int, int] {
+    cache:CacheConfig config = {
+        capacity: 2,
+        evictionFactor: 0.5
+    };
+    cache:Cache cache = new(config);
+    checkpanic cache.put("A", "1");
+    checkpanic cache.put("B", "2");
+    any|cache:Error x = cache.get("A");
+    x = cache.get("B");
+    checkpanic cache.put("C", "3");
+    x = cache.get("A");
+    cache:CacheStats stats = cache.stats();
+    return [stats.hitCount, stats.missCount, stats.evictionCount];
+}
+
 function testCacheEvictionWithTimer1() returns [string[], int] {
     int cleanupIntervalInSeconds = 2;
     cache:CacheConfig config = {
@@ -0,0 +1,301 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/java;
+
+# The hash algorithms supported by the incremental hashing, HMAC and signature verification objects.
+public type HashAlgorithm MD5|SHA1|SHA256|SHA384|SHA512;
+
+# The `MD5` hash algorithm.
+public const MD5 = "MD5";
+
+# The `SHA-1` hash algorithm.
+public const SHA1 = "SHA1";
+
+# The `SHA-256` hash algorithm.
+public const SHA256 = "SHA256";
+
+# The `SHA-384` hash algorithm.
+public const SHA384 = "SHA384";
+
+# The `SHA-512` hash algorithm.
+public const SHA512 = "SHA512";
+
+# The AES modes supported by the `crypto:AesCipher` object.
+public type AesMode CBC|ECB|GCM;
+
+# The `CBC` mode.
+public const CBC = "CBC";
+
+# The `ECB` mode.
+public const ECB = "ECB";
+
+# The `GCM` mode.
+public const GCM = "GCM";
+
+# Whether a `crypto:AesCipher` encrypts or decrypts.
+public type CipherMode ENCRYPT|DECRYPT;
+
+# Encrypts the data.
+public const ENCRYPT = "ENCRYPT";
+
+# Decrypts the data.
+public const DECRYPT = "DECRYPT";
+
+// Number of bytes read from a channel at a time.
+const int CHUNK_SIZE = 8192;
+
+type ChunkConsumer abstract object {
+    public function update(byte[] input);
+};
+
+# Calculates a hash over data, which is fed to it in parts. Large content such as a file or a request body can be
+# hashed without reading all of it into memory.
+# ```ballerina
+#  crypto:Hasher hasher = new(crypto:SHA256);
+#  io:Error? result = hasher.updateFrom(byteChannel);
+#  byte[] hash = hasher.digest();
+# ```
+public type Hasher object {
+
+    # Called when a new `crypto:Hasher` object is created.
+    #
+    # + algorithm - Hash algorithm
+    public function init(HashAlgorithm algorithm) {
+        externInitHasher(self, algorithm);
+    }
+
+    # Adds the given data to the hash.
+    #
+    # + input - Part of the data to be hashed
+    public function update(byte[] input) {
+        externUpdateHasher(self, input);
+    }
+
+    # Adds the remaining content of the given channel to the hash. The channel is not closed.
+    #
+    # + channel - Channel to read the data to be hashed from
+    # + return - An `io:Error` if the channel could not be read
+    public function updateFrom(io:ReadableByteChannel channel) returns io:Error? {
+        return readChunks(channel, self);
+    }
+
+    # Returns the hash of the data added so far, and resets the hasher so that it can be reused.
+    #
+    # + return - Hashed output
+    public function digest() returns byte[] {
+        return externDigestHasher(self);
+    }
+};
+
+# Calculates an HMAC over data, which is fed to it in parts.
+# ```ballerina
+#  crypto:Hmac hmac = new(crypto:SHA256, key);
+#  io:Error? result = hmac.updateFrom(byteChannel);
+#  byte[] mac = hmac.digest();
+# ```
+public type Hmac object {
+
+    # Called when a new `crypto:Hmac` object is created.
+    #
+    # + algorithm - Hash function used by the HMAC
+    # + key - Key used for HMAC generation
+    public function init(HashAlgorithm algorithm, byte[] key) {
+        externInitHmac(self, algorithm, key);
+    }
+
+    # Adds the given data to the HMAC.
+    #
+    # + input - Part of the data to be hashed
+    public function update(byte[] input) {
+        externUpdateHmac(self, input);
+    }
+
+    # Adds the remaining content of the given channel to the HMAC. The channel is not closed.
+    #
+    # + channel - Channel to read the data to be hashed from
+    # + return - An `io:Error` if the channel could not be read
+    public function updateFrom(io:ReadableByteChannel channel) returns io:Error? {
+        return readChunks(channel, self);
+    }
+
+    # Returns the HMAC of the data added so far, and resets the HMAC so that it can be reused with the same key.
+    #
+    # + return - HMAC output
+    public function digest() returns byte[] {
+        return externDigestHmac(self);
+    }
+};
+
+# Verifies an RSA signature over data, which is fed to it in parts. A signed request body, for example, can be
+# verified while it is read.
+# ```ballerina
+#  crypto:SignatureVerifier verifier = check new(crypto:SHA256, publicKey);
+#  check verifier.updateFrom(byteChannel);
+#  boolean|crypto:Error validity = verifier.verify(signature);
+# ```
+public type SignatureVerifier object {
+
+    # Called when a new `crypto:SignatureVerifier` object is created.
+    #
+    # + algorithm - Hash function of the RSA signature
+    # + publicKey - Public key used for verification
+    # + return - A `crypto:Error` if the public key is invalid
+    public function init(HashAlgorithm algorithm, PublicKey publicKey) returns Error? {
+        return externInitSignatureVerifier(self, algorithm, publicKey);
+    }
+
+    # Adds the given data to the content to be verified.
+    #
+    # + data - Part of the content to be verified
+    public function update(byte[] data) {
+        externUpdateSignatureVerifier(self, data);
+    }
+
+    # Adds the remaining content of the given channel to the content to be verified. The channel is not closed.
+    #
+    # + channel - Channel to read the content to be verified from
+    # + return - An `io:Error` if the channel could not be read
+    public function updateFrom(io:ReadableByteChannel channel) returns io:Error? {
+        return readChunks(channel, self);
+    }
+
+    # Verifies the signature over the content added so far, and resets the verifier so that it can be reused with
+    # the same public key.
+    #
+    # + signature - Signature value
+    # + return - Validity of the signature
+    public function verify(byte[] signature) returns boolean {
+        return externVerifySignature(self, signature);
+    }
+};
+
+# Encrypts or decrypts data with AES, which is fed to it in parts. Each part gives the output which is ready so far,
+# and `finish` gives the rest. In `GCM` decryption, the output is only given by `finish`, once the tag is verified.
+# ```ballerina
+#  crypto:AesCipher cipher = check new(crypto:ENCRYPT, crypto:GCM, key, iv, "NONE");
+#  byte[] part = check cipher.update(data);
+#  byte[] last = check cipher.finish();
+# ```
+public type AesCipher object {
+
+    # Called when a new `crypto:AesCipher` object is created.
+    #
+    # + mode - Whether the cipher encrypts or decrypts
+    # + aesMode - AES mode
+    # + key - Encryption key
+    # + iv - Initialization vector, which is required by the `CBC` and `GCM` modes
+    # + padding - The padding
+    # + tagSize - Tag size of the `GCM` mode
+    # + return - A `crypto:Error` if the key or the initialization vector is invalid
+    public function init(CipherMode mode, AesMode aesMode, byte[] key, byte[]? iv = (),
+                         AesPadding padding = "PKCS5", int tagSize = 128) returns Error? {
+        return externInitAesCipher(self, mode, aesMode, key, iv, padding, tagSize);
+    }
+
+    # Encrypts or decrypts the given part of the data.
+    #
+    # + input - Part of the data
+    # + return - Output which is ready so far or else a `crypto:Error` if the cipher cannot be used, such as a `GCM`
+    #            cipher which is used for encryption again after it is finished
+    public function update(byte[] input) returns byte[]|Error {
+        return externUpdateAesCipher(self, input);
+    }
+
+    # Finishes the encryption or decryption and resets the cipher. A reset `GCM` cipher can only be reused for
+    # decryption, as an initialization vector must not be reused for encryption.
+    #
+    # + return - Rest of the output or else a `crypto:Error` if the data is invalid or the cipher cannot be used
+    public function finish() returns byte[]|Error {
+        return externFinishAesCipher(self);
+    }
+};
+
+function readChunks(io:ReadableByteChannel channel, ChunkConsumer consumer) returns io:Error? {
+    while (true) {
+        byte[]|io:Error chunk = channel.read(CHUNK_SIZE);
+        if (chunk is io:EofError) {
+            return;
+        } else if (chunk is io:Error) {
+            return chunk;
+        } else {
+            consumer.update(chunk);
+        }
+    }
+}
+
+function externInitHasher(Hasher hasher, HashAlgorithm algorithm) = @java:Method {
+    name: "initHasher",
+    class: "org.ballerinalang.stdlib.crypto.nativeimpl.Hash"
+} external;
+
+function externUpdateHasher(Hasher hasher, byte[] input) = @java:Method {
+    name: "updateHasher",
+    class: "org.ballerinalang.stdlib.crypto.nativeimpl.Hash"
+} external;
+
+function externDigestHasher(Hasher hasher) returns byte[] = @java:Method {
+    name: "digestHasher",
+    class: "org.ballerinalang.stdlib.crypto.nativeimpl.Hash"
+} external;
+
+function externInitHmac(Hmac hmac, HashAlgorithm algorithm, byte[] key) = @java:Method {
+    name: "initHmac",
+    class: "org.ballerinalang.stdlib.crypto.nativeimpl.Hmac"
+} external;
+
+function externUpdateHmac(Hmac hmac, byte[] input) = @java:Method {
+    name: "updateHmac",
+    class: "org.ballerinalang.stdlib.crypto.nativeimpl.Hmac"
+} external;
+
+function externDigestHmac(Hmac hmac) returns byte[] = @java:Method {
+    name: "digestHmac",
+    class: "org.ballerinalang.stdlib.crypto.nativeimpl.Hmac"
+} external;
+
+function externInitSignatureVerifier(SignatureVerifier verifier, HashAlgorithm algorithm, PublicKey publicKey)
+                                     returns Error? = @java:Method {
+    name: "initSignatureVerifier",
+    class: "org.ballerinalang.stdlib.crypto.nativeimpl.Sign"
+} external;
+
+function externUpdateSignatureVerifier(SignatureVerifier verifier, byte[] data) = @java:Method {
+    name: "updateSignatureVerifier",
+    class: "org.ballerinalang.stdlib.crypto.nativeimpl.Sign"
+} external;
+
+function externVerifySignature(SignatureVerifier verifier, byte[] signature) returns boolean = @java:Method {
+    name: "verifySignature",
+    class: "org.ballerinalang.stdlib.crypto.nativeimpl.Sign"
+} external;
+
+function externInitAesCipher(AesCipher aesCipher, CipherMode mode, AesMode aesMode, byte[] key, byte[]? iv,
+                             AesPadding padding, int tagSize) returns Error? = @java:Method {
+    name: "initAesCipher",
+    class: "org.ballerinalang.stdlib.crypto.nativeimpl.AesCipher"
+} external;
+
+function externUpdateAesCipher(AesCipher aesCipher, byte[] input) returns byte[]|Error = @java:Method {
+    name: "updateAesCipher",
+    class: "org.ballerinalang.stdlib.crypto.nativeimpl.AesCipher"
+} external;
+
+function externFinishAesCipher(AesCipher aesCipher) returns byte[]|Error = @java:Method {
+    name: "finishAesCipher",
+    class: "org.ballerinalang.stdlib.crypto.nativeimpl.AesCipher"
+} external;
@@ -54,6 +54,18 @@ public class Constants {
     // Native data key for private key within the PublicKey record.
     public static final String NATIVE_DATA_PUBLIC_KEY_CERTIFICATE = "NATIVE_DATA_PUBLIC_KEY_CERTIFICATE";
 
+    // Native data key for the message digest of a Hasher object.
+    public static final String NATIVE_DATA_MESSAGE_DIGEST = "NATIVE_DATA_MESSAGE_DIGEST";
+
+    // Native data key for the MAC of a Hmac object.
+    public static final String NATIVE_DATA_MAC = "NATIVE_DATA_MAC";
+
+    // Native data key for the signature of a SignatureVerifier object.
+    public static final String NATIVE_DATA_SIGNATURE = "NATIVE_DATA_SIGNATURE";
+
+    // Native data key for the cipher of an AesCipher object.
+    public static final String NATIVE_DATA_CIPHER = "NATIVE_DATA_CIPHER";
+
     // Path field in KEY_STORE_RECORD record.
     public static final BString KEY_STORE_RECORD_PATH_FIELD = StringUtils.fromString("path");
 
@@ -32,6 +32,8 @@ import java.security.Signature;
 import java.security.SignatureException;
 import java.security.spec.AlgorithmParameterSpec;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -72,6 +74,29 @@ public class CryptoUtils {
      */
     private static final int[] VALID_AES_KEY_SIZES = new int[] { 16, 24, 32 };
 
+    /**
+     * Provider instances of the current thread, against their algorithms. Looking up a provider is costly compared to
+     * hashing or signing a small input, so the instances are reused by the strands run on the same thread. An
+     * instance is initialized and finished within a single call, which does not yield, so one strand never sees the
+     * state of another.
+     * <p>
+     * A pooled instance would otherwise keep the last key it was initialized with for as long as the thread lives.
+     * Hence only digests, signature verification and public key RSA ciphers, which hold no secrets, are reused as
+     * they are. MACs and AES ciphers are reused too, since initializing them is cheap, but they are initialized with
+     * {@link #DISCARDED_KEY} once finished, at the cost of one more initialization per call. Signing and private key
+     * RSA ciphers use a new instance for each call.
+     */
+    private static final ThreadLocal<Map<String, MessageDigest>> MESSAGE_DIGESTS =
+            ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<String, Mac>> MACS = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<String, Signature>> SIGNATURES = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<String, Cipher>> CIPHERS = ThreadLocal.withInitial(HashMap::new);
+
+    /**
+     * Key which replaces the key of a pooled MAC or AES cipher once it is finished.
+     */
+    private static final SecretKey DISCARDED_KEY = new SecretKeySpec(new byte[16], Constants.AES);
+
     private CryptoUtils() {
 
     }
@@ -87,9 +112,13 @@ public class CryptoUtils {
     public static byte[] hmac(String algorithm, byte[] key, byte[] input) {
         try {
             SecretKey secretKey = new SecretKeySpec(key, algorithm);
-            Mac mac = Mac.getInstance(algorithm);
+            Mac mac = getMac(algorithm);
             mac.init(secretKey);
-            return mac.doFinal(input);
+            try {
+                return mac.doFinal(input);
+            } finally {
+                discardKey(mac, algorithm);
+            }
         } catch (NoSuchAlgorithmException | InvalidKeyException e) {
             throw CryptoUtils.createError("Error occurred while calculating HMAC: " + e.getMessage());
         }
@@ -104,10 +133,7 @@ public class CryptoUtils {
      */
     public static byte[] hash(String algorithm, byte[] input) {
         try {
-            MessageDigest messageDigest;
-            messageDigest = MessageDigest.getInstance(algorithm);
-            messageDigest.update(input);
-            return messageDigest.digest();
+            return getMessageDigest(algorithm).digest(input);
         } catch (NoSuchAlgorithmException e) {
             throw CryptoUtils.createError("Error occurred while calculating hash: " + e.getMessage());
         }
@@ -123,6 +149,7 @@ public class CryptoUtils {
      */
     public static Object sign(String algorithm, PrivateKey privateKey, byte[] input) {
         try {
+            // a signature instance keeps the private key, so it is not reused
             Signature sig = Signature.getInstance(algorithm);
             sig.initSign(privateKey);
             sig.update(input);
@@ -145,7 +172,7 @@ public class CryptoUtils {
      */
     public static Object verify(String algorithm, PublicKey publicKey, byte[] data, byte[] signature) {
         try {
-            Signature sig = Signature.getInstance(algorithm);
+            Signature sig = getSignature(algorithm);
             sig.initVerify(publicKey);
             sig.update(data);
             return sig.verify(signature);
@@ -187,8 +214,10 @@ public class CryptoUtils {
                 return CryptoUtils.createError("Valid tag sizes are: " + Arrays.toString(VALID_GCM_TAG_SIZES));
             }
             AlgorithmParameterSpec paramSpec = buildParameterSpec(transformedAlgorithmMode, iv, (int) tagSize);
-            Cipher cipher = Cipher.getInstance(Constants.RSA + "/" + transformedAlgorithmMode + "/"
-                    + transformedAlgorithmPadding);
+            String transformation = Constants.RSA + "/" + transformedAlgorithmMode + "/" + transformedAlgorithmPadding;
+            // a cipher instance keeps the key, so it is only reused for public keys
+            Cipher cipher = key instanceof PublicKey ? getCipher(transformation, transformedAlgorithmMode) :
+                    Cipher.getInstance(transformation);
             initCipher(cipher, cipherMode, key, paramSpec);
             return new ArrayValueImpl(cipher.doFinal(input));
         } catch (NoSuchAlgorithmException e) {
@@ -217,6 +246,34 @@ public class CryptoUtils {
      */
     public static Object aesEncryptDecrypt(CipherMode cipherMode, String algorithmMode,
                                            String algorithmPadding, byte[] key, byte[] input, byte[] iv, long tagSize) {
+        Object cipher = initAesCipher(cipherMode, algorithmMode, algorithmPadding, key, iv, tagSize, true);
+        if (cipher instanceof ErrorValue) {
+            return cipher;
+        }
+        try {
+            return new ArrayValueImpl(((Cipher) cipher).doFinal(input));
+        } catch (BadPaddingException | IllegalBlockSizeException e) {
+            return CryptoUtils.createError("Error occurred while AES encrypt/decrypt: " + e.getMessage());
+        } finally {
+            discardKey((Cipher) cipher);
+        }
+    }
+
+    /**
+     * Create a cipher for AES encryption or decryption and initialize it with the given key.
+     *
+     * @param cipherMode       cipher mode depending on encryption or decryption
+     * @param algorithmMode    mode used during encryption
+     * @param algorithmPadding padding used during encryption
+     * @param key              key to be used during encryption
+     * @param iv               initialization vector
+     * @param tagSize          tag size used for GCM encryption
+     * @param reuse            whether the cipher instance of the current thread is used, which is only safe if the
+     *                         cipher is finished before the strand yields
+     * @return initialized cipher or error if the key or the parameters are invalid
+     */
+    public static Object initAesCipher(CipherMode cipherMode, String algorithmMode, String algorithmPadding,
+                                       byte[] key, byte[] iv, long tagSize, boolean reuse) {
         try {
             if (Arrays.stream(VALID_AES_KEY_SIZES).noneMatch(validSize -> validSize == key.length)) {
                 return CryptoUtils.createError("Invalid key size. valid key sizes in bytes: " +
@@ -230,21 +287,88 @@ public class CryptoUtils {
                         Arrays.toString(VALID_GCM_TAG_SIZES));
             }
             AlgorithmParameterSpec paramSpec = buildParameterSpec(transformedAlgorithmMode, iv, (int) tagSize);
-            Cipher cipher = Cipher.getInstance("AES/" + transformedAlgorithmMode + "/" + transformedAlgorithmPadding);
+            String transformation = "AES/" + transformedAlgorithmMode + "/" + transformedAlgorithmPadding;
+            Cipher cipher = reuse ? getCipher(transformation, transformedAlgorithmMode) :
+                    Cipher.getInstance(transformation);
             initCipher(cipher, cipherMode, keySpec, paramSpec);
-            return new ArrayValueImpl(cipher.doFinal(input));
+            return cipher;
         } catch (NoSuchAlgorithmException e) {
             return CryptoUtils.createError("Unsupported algorithm: AES " + algorithmMode + " " + algorithmPadding +
                     ": " + e.getMessage());
         } catch (NoSuchPaddingException e) {
             return CryptoUtils.createError("Unsupported padding scheme defined in  the algorithm: AES " +
                     algorithmMode + " " + algorithmPadding + ": " + e.getMessage());
-        } catch (BadPaddingException | IllegalBlockSizeException | InvalidAlgorithmParameterException |
-                InvalidKeyException | ErrorValue e) {
+        } catch (InvalidAlgorithmParameterException | InvalidKeyException | ErrorValue e) {
             return CryptoUtils.createError("Error occurred while AES encrypt/decrypt: " + e.getMessage());
         }
     }
 
+    private static MessageDigest getMessageDigest(String algorithm) throws NoSuchAlgorithmException {
+        Map<String, MessageDigest> messageDigests = MESSAGE_DIGESTS.get();
+        MessageDigest messageDigest = messageDigests.get(algorithm);
+        if (messageDigest == null) {
+            messageDigest = MessageDigest.getInstance(algorithm);
+            messageDigests.put(algorithm, messageDigest);
+        }
+        return messageDigest;
+    }
+
+    private static Mac getMac(String algorithm) throws NoSuchAlgorithmException {
+        Map<String, Mac> macs = MACS.get();
+        Mac mac = macs.get(algorithm);
+        if (mac == null) {
+            mac = Mac.getInstance(algorithm);
+            macs.put(algorithm, mac);
+        }
+        return mac;
+    }
+
+    private static Signature getSignature(String algorithm) throws NoSuchAlgorithmException {
+        Map<String, Signature> signatures = SIGNATURES.get();
+        Signature signature = signatures.get(algorithm);
+        if (signature == null) {
+            signature = Signature.getInstance(algorithm);
+            signatures.put(algorithm, signature);
+        }
+        return signature;
+    }
+
+    private static void discardKey(Mac mac, String algorithm) {
+        try {
+            mac.init(DISCARDED_KEY);
+        } catch (InvalidKeyException e) {
+            MACS.get().remove(algorithm);
+        }
+    }
+
+    private static void discardKey(Cipher cipher) {
+        String transformation = cipher.getAlgorithm();
+        if (CIPHERS.get().get(transformation) != cipher) {
+            return;
+        }
+        try {
+            cipher.init(Cipher.ENCRYPT_MODE, DISCARDED_KEY, cipher.getParameters());
+        } catch (InvalidKeyException | InvalidAlgorithmParameterException e) {
+            CIPHERS.get().remove(transformation);
+        }
+    }
+
+    private static Cipher getCipher(String transformation, String algorithmMode)
+            throws NoSuchAlgorithmException, NoSuchPaddingException {
+        // A GCM cipher refuses to encrypt again with the key and IV it was last initialized with, which the callers
+        // are allowed to do, so GCM ciphers are not reused.
+        if (Constants.GCM.equals(algorithmMode)) {
+            return Cipher.getInstance(transformation);
+        }
+        Map<String, Cipher> ciphers = CIPHERS.get();
+        Cipher cipher = ciphers.get(transformation);
+        if (cipher == null) {
+            cipher = Cipher.getInstance(transformation);
+            ciphers.put(transformation, cipher);
+        }
+        return cipher;
+    }
+
     /**
      * Initialize cipher for encryption and decryption operations.
      *
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.crypto.nativeimpl;
+
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.stdlib.crypto.Constants;
+import org.ballerinalang.stdlib.crypto.CryptoUtils;
+
+import javax.crypto.BadPaddingException;
+import javax.crypto.Cipher;
+import javax.crypto.IllegalBlockSizeException;
+
+/**
+ * Extern functions of the ballerina AES cipher, which encrypts or decrypts data that is fed to it in parts.
+ *
+ * @since 2.0.0
+ */
+public class AesCipher {
+
+    private static final String DECRYPT = "DECRYPT";
+
+    public static Object initAesCipher(ObjectValue aesCipher, Object mode, Object algorithmMode, ArrayValue keyValue,
+                                       Object ivValue, Object padding, long tagSize) {
+        CryptoUtils.CipherMode cipherMode = DECRYPT.equals(mode.toString()) ? CryptoUtils.CipherMode.DECRYPT :
+                CryptoUtils.CipherMode.ENCRYPT;
+        byte[] iv = null;
+        if (ivValue instanceof ArrayValue) {
+            iv = ((ArrayValue) ivValue).getBytes();
+        }
+        String aesMode = algorithmMode.toString();
+        // The cipher is fed across strand yields, so it does not use the ciphers of the current thread.
+        Object cipher = CryptoUtils.initAesCipher(cipherMode, aesMode, padding.toString(), keyValue.getBytes(), iv,
+                                                  Constants.GCM.equals(aesMode) ? tagSize : -1, false);
+        if (cipher instanceof Cipher) {
+            aesCipher.addNativeData(Constants.NATIVE_DATA_CIPHER, cipher);
+            return null;
+        }
+        return cipher;
+    }
+
+    public static Object updateAesCipher(ObjectValue aesCipher, ArrayValue inputValue) {
+        try {
+            byte[] output = getCipher(aesCipher).update(inputValue.getBytes());
+            return new ArrayValueImpl(output == null ? new byte[0] : output);
+        } catch (IllegalStateException e) {
+            // e.g. a GCM cipher which is used for encryption again after it is finished
+            return CryptoUtils.createError("Error occurred while AES encrypt/decrypt: " + e.getMessage());
+        }
+    }
+
+    public static Object finishAesCipher(ObjectValue aesCipher) {
+        try {
+            return new ArrayValueImpl(getCipher(aesCipher).doFinal());
+        } catch (BadPaddingException | IllegalBlockSizeException | IllegalStateException e) {
+            return CryptoUtils.createError("Error occurred while AES encrypt/decrypt: " + e.getMessage());
+        }
+    }
+
+    private static Cipher getCipher(ObjectValue aesCipher) {
+        return (Cipher) aesCipher.getNativeData(Constants.NATIVE_DATA_CIPHER);
+    }
+}
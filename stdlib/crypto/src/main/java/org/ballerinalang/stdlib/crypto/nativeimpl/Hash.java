@@ -21,9 +21,13 @@ package org.ballerinalang.stdlib.crypto.nativeimpl;
 import org.ballerinalang.jvm.StringUtils;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.stdlib.crypto.Constants;
 import org.ballerinalang.stdlib.crypto.CryptoUtils;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.zip.CRC32;
 import java.util.zip.Checksum;
 
@@ -64,4 +68,35 @@ public class Hash {
         return new ArrayValueImpl(CryptoUtils.hash("SHA-512", inputValue.getBytes()));
     }
 
+    public static void initHasher(ObjectValue hasher, Object algorithm) {
+        try {
+            // The hasher is fed across strand yields, so it does not use the message digests of the current thread.
+            MessageDigest messageDigest = MessageDigest.getInstance(getDigestAlgorithm(algorithm.toString()));
+            hasher.addNativeData(Constants.NATIVE_DATA_MESSAGE_DIGEST, messageDigest);
+        } catch (NoSuchAlgorithmException e) {
+            throw CryptoUtils.createError("Error occurred while calculating hash: " + e.getMessage());
+        }
+    }
+
+    public static void updateHasher(ObjectValue hasher, ArrayValue inputValue) {
+        getMessageDigest(hasher).update(inputValue.getBytes());
+    }
+
+    public static ArrayValue digestHasher(ObjectValue hasher) {
+        return new ArrayValueImpl(getMessageDigest(hasher).digest());
+    }
+
+    private static MessageDigest getMessageDigest(ObjectValue hasher) {
+        return (MessageDigest) hasher.getNativeData(Constants.NATIVE_DATA_MESSAGE_DIGEST);
+    }
+
+    /**
+     * Returns the message digest name of a `crypto:HashAlgorithm`, e.g. SHA-256 for SHA256.
+     *
+     * @param algorithm hash algorithm
+     * @return message digest algorithm
+     */
+    private static String getDigestAlgorithm(String algorithm) {
+        return algorithm.startsWith("SHA") ? "SHA-" + algorithm.substring(3) : algorithm;
+    }
 }
@@ -20,8 +20,16 @@ package org.ballerinalang.stdlib.crypto.nativeimpl;
 
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.stdlib.crypto.Constants;
 import org.ballerinalang.stdlib.crypto.CryptoUtils;
 
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
 /**
  * Extern functions ballerina hmac algorithms.
  *
@@ -48,4 +56,28 @@ public class Hmac {
     public static ArrayValue hmacSha512(ArrayValue inputValue, ArrayValue keyValue) {
         return new ArrayValueImpl(CryptoUtils.hmac("HmacSHA512", keyValue.getBytes(), inputValue.getBytes()));
     }
+
+    public static void initHmac(ObjectValue hmac, Object algorithm, ArrayValue keyValue) {
+        String macAlgorithm = "Hmac" + algorithm;
+        try {
+            // The HMAC is fed across strand yields, so it does not use the MACs of the current thread.
+            Mac mac = Mac.getInstance(macAlgorithm);
+            mac.init(new SecretKeySpec(keyValue.getBytes(), macAlgorithm));
+            hmac.addNativeData(Constants.NATIVE_DATA_MAC, mac);
+        } catch (NoSuchAlgorithmException | InvalidKeyException | IllegalArgumentException e) {
+            throw CryptoUtils.createError("Error occurred while calculating HMAC: " + e.getMessage());
+        }
+    }
+
+    public static void updateHmac(ObjectValue hmac, ArrayValue inputValue) {
+        getMac(hmac).update(inputValue.getBytes());
+    }
+
+    public static ArrayValue digestHmac(ObjectValue hmac) {
+        return new ArrayValueImpl(getMac(hmac).doFinal());
+    }
+
+    private static Mac getMac(ObjectValue hmac) {
+        return (Mac) hmac.getNativeData(Constants.NATIVE_DATA_MAC);
+    }
 }
@@ -20,11 +20,16 @@ package org.ballerinalang.stdlib.crypto.nativeimpl;
 
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.stdlib.crypto.Constants;
 import org.ballerinalang.stdlib.crypto.CryptoUtils;
 
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.security.Signature;
+import java.security.SignatureException;
 
 /**
  * Extern functions ballerina signing and verifying algorithms.
@@ -102,4 +107,39 @@ public class Sign {
         PublicKey key = (PublicKey) publicKey.getNativeData(Constants.NATIVE_DATA_PUBLIC_KEY);
         return CryptoUtils.verify("SHA512withRSA", key, data, signature);
     }
+
+    public static Object initSignatureVerifier(ObjectValue verifier, Object algorithm, MapValue<?, ?> publicKey) {
+        PublicKey key = (PublicKey) publicKey.getNativeData(Constants.NATIVE_DATA_PUBLIC_KEY);
+        try {
+            // The verifier is fed across strand yields, so it does not use the signatures of the current thread.
+            Signature signature = Signature.getInstance(algorithm + "withRSA");
+            signature.initVerify(key);
+            verifier.addNativeData(Constants.NATIVE_DATA_SIGNATURE, signature);
+            return null;
+        } catch (InvalidKeyException e) {
+            return CryptoUtils.createError("Uninitialized public key: " + e.getMessage());
+        } catch (NoSuchAlgorithmException e) {
+            throw CryptoUtils.createError("Error occurred while calculating signature: " + e.getMessage());
+        }
+    }
+
+    public static void updateSignatureVerifier(ObjectValue verifier, ArrayValue dataValue) {
+        try {
+            getSignature(verifier).update(dataValue.getBytes());
+        } catch (SignatureException e) {
+            throw CryptoUtils.createError("Error occurred while calculating signature: " + e.getMessage());
+        }
+    }
+
+    public static boolean verifySignature(ObjectValue verifier, ArrayValue signatureValue) {
+        try {
+            return getSignature(verifier).verify(signatureValue.getBytes());
+        } catch (SignatureException e) {
+            throw CryptoUtils.createError("Error occurred while calculating signature: " + e.getMessage());
+        }
+    }
+
+    private static Signature getSignature(ObjectValue verifier) {
+        return (Signature) verifier.getNativeData(Constants.NATIVE_DATA_SIGNATURE);
+    }
 }
@@ -35,6 +35,14 @@ import org.testng.annotations.Test;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
 
 /**
  * Test cases for ballerina.crypto native functions.
@@ -908,4 +916,101 @@ public class CryptoTest {
         Assert.assertEquals(((BError) returnValues[0]).getMessage(),
                 "Error occurred while RSA encrypt/decrypt: Unsupported padding: PKCS99");
     }
+
+    //
+    // Incremental Crypto Related Tests
+    //
+
+    @Test(description = "Test hashing data which is fed in parts, reading most of it from a channel")
+    public void testIncrementalHash() throws GeneralSecurityException {
+        byte[] input = createInput(20000);
+        BValue[] returnValues = BRunUtil.invoke(compileResult, "testIncrementalHash",
+                new BValue[]{new BValueArray(input), new BString("SHA256")});
+        Assert.assertFalse(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
+        Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(),
+                MessageDigest.getInstance("SHA-256").digest(input));
+
+        returnValues = BRunUtil.invoke(compileResult, "testIncrementalHash",
+                new BValue[]{new BValueArray(input), new BString("MD5")});
+        Assert.assertFalse(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
+        Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(), MessageDigest.getInstance("MD5").digest(input));
+    }
+
+    @Test(description = "Test generating an HMAC over data read from a channel")
+    public void testIncrementalHmac() throws GeneralSecurityException {
+        byte[] input = createInput(20000);
+        byte[] key = "abcdefghijk".getBytes(StandardCharsets.UTF_8);
+        BValue[] returnValues = BRunUtil.invoke(compileResult, "testIncrementalHmac",
+                new BValue[]{new BValueArray(input), new BValueArray(key), new BString("SHA512")});
+        Assert.assertFalse(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
+
+        Mac mac = Mac.getInstance("HmacSHA512");
+        mac.init(new SecretKeySpec(key, "HmacSHA512"));
+        Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(), mac.doFinal(input));
+    }
+
+    @Test(description = "Test verifying an RSA-SHA256 signature over data read from a channel")
+    public void testIncrementalVerify() {
+        byte[] input = createInput(20000);
+        BValue[] returnValues = BRunUtil.invoke(compileResult, "testIncrementalVerify",
+                new BValue[]{new BValueArray(input), new BValueArray(input),
+                        new BString(confRoot.resolve("testKeystore.p12").toString()), new BString("ballerina"),
+                        new BString("ballerina"), new BString("ballerina")});
+        Assert.assertFalse(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
+        Assert.assertTrue(((BBoolean) returnValues[0]).booleanValue());
+
+        byte[] otherInput = createInput(20001);
+        returnValues = BRunUtil.invoke(compileResult, "testIncrementalVerify",
+                new BValue[]{new BValueArray(otherInput), new BValueArray(input),
+                        new BString(confRoot.resolve("testKeystore.p12").toString()), new BString("ballerina"),
+                        new BString("ballerina"), new BString("ballerina")});
+        Assert.assertFalse(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
+        Assert.assertFalse(((BBoolean) returnValues[0]).booleanValue());
+    }
+
+    @Test(description = "Test AES GCM encryption of data which is fed in parts")
+    public void testIncrementalEncryptAesGcm() throws GeneralSecurityException {
+        byte[] input = createInput(1000);
+        byte[] key = createInput(KEY_SIZE);
+        byte[] iv = createInput(16);
+        BValue[] returnValues = BRunUtil.invoke(compileResult, "testIncrementalEncryptAesGcm",
+                new BValue[]{new BValueArray(input), new BValueArray(key), new BValueArray(iv)});
+        Assert.assertFalse(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
+
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"), new GCMParameterSpec(128, iv));
+        Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(), cipher.doFinal(input));
+    }
+
+    @Test(description = "Test AES CBC decryption of data which is fed in parts")
+    public void testIncrementalDecryptAesCbc() throws GeneralSecurityException {
+        byte[] input = createInput(1000);
+        byte[] key = createInput(KEY_SIZE);
+        byte[] iv = createInput(16);
+        Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"), new IvParameterSpec(iv));
+        byte[] encrypted = cipher.doFinal(input);
+
+        BValue[] returnValues = BRunUtil.invoke(compileResult, "testIncrementalDecryptAesCbc",
+                new BValue[]{new BValueArray(encrypted), new BValueArray(key), new BValueArray(iv)});
+        Assert.assertFalse(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
+        Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(), input);
+    }
+
+    @Test(description = "Test a GCM cipher which is used for encryption again after it is finished returns errors")
+    public void testAesGcmEncryptAfterFinish() {
+        BValue[] returnValues = BRunUtil.invoke(compileResult, "testAesGcmEncryptAfterFinish",
+                new BValue[]{new BValueArray(createInput(100)), new BValueArray(createInput(KEY_SIZE)),
+                        new BValueArray(createInput(16))});
+        Assert.assertFalse(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
+        Assert.assertTrue(((BBoolean) returnValues[0]).booleanValue());
+    }
+
+    private static byte[] createInput(int length) {
+        byte[] input = new byte[length];
+        for (int i = 0; i < length; i++) {
+            input[i] = (byte) i;
+        }
+        return input;
+    }
 }
@@ -15,6 +15,7 @@
 // under the License.
 
 import ballerina/crypto;
+import ballerina/io;
 
 function testHashWithCRC32b(byte[] input) returns string {
     return crypto:crc32b(input);
@@ -260,3 +261,60 @@ function testVerifyRsaMd5(byte[] input, byte[] signature, string path, string ke
     crypto:PublicKey pk = check crypto:decodePublicKey(keyStore, keyAlias);
     return crypto:verifyRsaMd5Signature(input, signature, pk);
 }
+
+function testIncrementalHash(byte[] input, crypto:HashAlgorithm algorithm) returns byte[]|error {
+    crypto:Hasher hasher = new(algorithm);
+    hasher.update(input.slice(0, 10));
+    io:ReadableByteChannel channel = check io:createReadableChannel(input.slice(10));
+    check hasher.updateFrom(channel);
+    return hasher.digest();
+}
+
+function testIncrementalHmac(byte[] input, byte[] key, crypto:HashAlgorithm algorithm) returns byte[]|error {
+    crypto:Hmac hmac = new(algorithm, key);
+    io:ReadableByteChannel channel = check io:createReadableChannel(input);
+    check hmac.updateFrom(channel);
+    return hmac.digest();
+}
+
+function testIncrementalVerify(byte[] input, byte[] signedInput, string path, string keyStorePassword,
+                               string keyAlias, string keyPassword) returns boolean|error {
+    crypto:KeyStore keyStore = {
+        path: path,
+        password: keyStorePassword
+    };
+    crypto:PrivateKey privateKey = check crypto:decodePrivateKey(keyStore, keyAlias, keyPassword);
+    byte[] signature = check crypto:signRsaSha256(signedInput, privateKey);
+    crypto:PublicKey publicKey = check crypto:decodePublicKey(keyStore, keyAlias);
+    crypto:SignatureVerifier verifier = check new(crypto:SHA256, publicKey);
+    io:ReadableByteChannel channel = check io:createReadableChannel(input);
+    check verifier.updateFrom(channel);
+    return verifier.verify(signature);
+}
+
+function testIncrementalEncryptAesGcm(byte[] input, byte[] key, byte[] iv) returns byte[]|error {
+    crypto:AesCipher cipher = check new(crypto:ENCRYPT, crypto:GCM, key, iv, "NONE");
+    byte[] output = check cipher.update(input.slice(0, 10));
+    byte[] rest = check cipher.update(input.slice(10));
+    output.push(...rest);
+    byte[] last = check cipher.finish();
+    output.push(...last);
+    return output;
+}
+
+function testIncrementalDecryptAesCbc(byte[] input, byte[] key, byte[] iv) returns byte[]|error {
+    crypto:AesCipher cipher = check new(crypto:DECRYPT, crypto:CBC, key, iv);
+    byte[] output = check cipher.update(input);
+    byte[] last = check cipher.finish();
+    output.push(...last);
+    return output;
+}
+
+function testAesGcmEncryptAfterFinish(byte[] input, byte[] key, byte[] iv) returns boolean|error {
+    crypto:AesCipher cipher = check new(crypto:ENCRYPT, crypto:GCM, key, iv, "NONE");
+    _ = check cipher.update(input);
+    _ = check cipher.finish();
+    byte[]|crypto:Error updated = cipher.update(input);
+    byte[]|crypto:Error finished = cipher.finish();
+    return updated is crypto:Error && finished is crypto:Error;
+}
@@ -47,11 +47,12 @@ public final class Constants {
     public static final String RESULT_SET_NATIVE_DATA_FIELD = "ResultSet";
     public static final String CONNECTION_NATIVE_DATA_FIELD = "Connection";
     public static final String STATEMENT_NATIVE_DATA_FIELD = "Statement";
-    public static final String COLUMN_DEFINITIONS_DATA_FIELD = "ColumnDefinition";
-    public static final String RECORD_TYPE_DATA_FIELD = "recordType";
+    public static final String ROW_MAPPER_NATIVE_DATA_FIELD = "RowMapper";
     public static final String PROCEDURE_CALL_PARAM_CACHE = "procedureCallParamCache";
     public static final String PROCEDURE_CALL_META_DATA = "procedureCallMetaData";
 
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+
     public static final String PROCEDURE_CALL_RESULT = "ProcedureCallResult";
     public static final String TYPE_DESCRIPTIONS_NATIVE_DATA_FIELD = "TypeDescription";
     public static final String RESULT_SET_COUNT_NATIVE_DATA_FIELD = "ResultSetCount";
@@ -75,6 +75,7 @@ public class QueryUtils {
                 }
                 connection = SQLDatasourceUtils.getConnection(strand, client, sqlDatasource);
                 statement = connection.prepareStatement(sqlQuery);
+                statement.setFetchSize(Constants.DEFAULT_FETCH_SIZE);
                 if (paramSQLString instanceof AbstractObjectValue) {
                     setParams(connection, statement, (AbstractObjectValue) paramSQLString);
                 }
@@ -20,14 +20,10 @@ package org.ballerinalang.sql.utils;
 
 import org.ballerinalang.jvm.JSONParser;
 import org.ballerinalang.jvm.types.BArrayType;
-import org.ballerinalang.jvm.types.BStructureType;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.util.exceptions.BallerinaException;
-import org.ballerinalang.jvm.values.MapValue;
-import org.ballerinalang.jvm.values.MapValueImpl;
 import org.ballerinalang.jvm.values.ObjectValue;
-import org.ballerinalang.jvm.values.api.BString;
 import org.ballerinalang.sql.Constants;
 import org.ballerinalang.sql.exception.ApplicationError;
 
@@ -48,10 +44,8 @@ import java.sql.Types;
 import java.time.OffsetDateTime;
 import java.time.OffsetTime;
 import java.util.Calendar;
-import java.util.List;
 import java.util.TimeZone;
 
-import static org.ballerinalang.jvm.StringUtils.fromString;
 import static org.ballerinalang.sql.utils.Utils.cleanUpConnection;
 import static org.ballerinalang.sql.utils.Utils.convert;
 import static org.ballerinalang.sql.utils.Utils.getString;
@@ -68,17 +62,8 @@ public class RecordIteratorUtils {
         ResultSet resultSet = (ResultSet) recordIterator.getNativeData(Constants.RESULT_SET_NATIVE_DATA_FIELD);
         try {
             if (resultSet.next()) {
-                BStructureType streamConstraint = (BStructureType) recordIterator.
-                        getNativeData(Constants.RECORD_TYPE_DATA_FIELD);
-                MapValue<BString, Object> bStruct = new MapValueImpl<>(streamConstraint);
-                List<ColumnDefinition> columnDefinitions = (List<ColumnDefinition>) recordIterator
-                        .getNativeData(Constants.COLUMN_DEFINITIONS_DATA_FIELD);
-                for (int i = 0; i < columnDefinitions.size(); i++) {
-                    ColumnDefinition columnDefinition = columnDefinitions.get(i);
-                    bStruct.put(fromString(columnDefinition.getBallerinaFieldName()),
-                            getResult(resultSet, i + 1, columnDefinition));
-                }
-                return bStruct;
+                RowMapper rowMapper = (RowMapper) recordIterator.getNativeData(Constants.ROW_MAPPER_NATIVE_DATA_FIELD);
+                return rowMapper.map(resultSet);
             } else {
                 return null;
             }
@@ -93,7 +78,7 @@ public class RecordIteratorUtils {
         }
     }
 
-    private static Object getResult(ResultSet resultSet, int columnIndex, ColumnDefinition columnDefinition)
+    static Object getResult(ResultSet resultSet, int columnIndex, ColumnDefinition columnDefinition)
             throws SQLException, ApplicationError, IOException {
         int sqlType = columnDefinition.getSqlType();
         BType ballerinaType = columnDefinition.getBallerinaType();
@@ -188,7 +173,7 @@ public class RecordIteratorUtils {
                 return convert(sqlxml, sqlType, ballerinaType);
             default:
                 if (ballerinaType.getTag() == TypeTags.INT_TAG) {
-                    convert(resultSet.getInt(columnIndex), sqlType, ballerinaType, resultSet.wasNull());
+                    return convert(resultSet.getInt(columnIndex), sqlType, ballerinaType, resultSet.wasNull());
                 } else if (ballerinaType.getTag() == TypeTags.STRING_TAG
                         || ballerinaType.getTag() == TypeTags.ANY_TAG
                         || ballerinaType.getTag() == TypeTags.ANYDATA_TAG) {
@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.sql.utils;
+
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BStructureType;
+import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.values.CompactRecordValueImpl;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.sql.exception.ApplicationError;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+import static org.ballerinalang.jvm.StringUtils.fromString;
+
+/**
+ * Maps the rows of a result set to records of the stream constraint. The field names and the readers of the columns
+ * are resolved once per query from the column definitions, instead of for every row.
+ *
+ * @since 2.0.0
+ */
+class RowMapper {
+
+    private final BStructureType recordType;
+    private final BString[] fieldNames;
+    private final ColumnReader[] columnReaders;
+
+    RowMapper(List<ColumnDefinition> columnDefinitions, BStructureType recordType) {
+        this.recordType = recordType;
+        int columnCount = columnDefinitions.size();
+        this.fieldNames = new BString[columnCount];
+        this.columnReaders = new ColumnReader[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            ColumnDefinition columnDefinition = columnDefinitions.get(i);
+            fieldNames[i] = fromString(columnDefinition.getBallerinaFieldName());
+            columnReaders[i] = createColumnReader(columnDefinition);
+        }
+    }
+
+    /**
+     * Maps the current row of the given result set to a record.
+     *
+     * @param resultSet result set, which is positioned at the row
+     * @return the record
+     */
+    MapValue<BString, Object> map(ResultSet resultSet) throws SQLException, ApplicationError, IOException {
+        MapValue<BString, Object> record;
+        if (recordType instanceof BRecordType) {
+            record = new CompactRecordValueImpl<>((BRecordType) recordType);
+        } else {
+            record = new MapValueImpl<>(recordType);
+        }
+        for (int i = 0; i < columnReaders.length; i++) {
+            record.put(fieldNames[i], columnReaders[i].read(resultSet, i + 1));
+        }
+        return record;
+    }
+
+    /**
+     * Creates the reader of a column. The most common SQL types are read straight into the Ballerina type of the
+     * field, since the Ballerina type is validated against the SQL type when the column definition is created.
+     * Others are read through {@link RecordIteratorUtils#getResult(ResultSet, int, ColumnDefinition)}.
+     */
+    private static ColumnReader createColumnReader(ColumnDefinition columnDefinition) {
+        int typeTag = columnDefinition.getBallerinaType().getTag();
+        switch (columnDefinition.getSqlType()) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+                if (typeTag == TypeTags.INT_TAG) {
+                    return (resultSet, columnIndex) -> {
+                        long value = resultSet.getInt(columnIndex);
+                        return resultSet.wasNull() ? null : value;
+                    };
+                }
+                break;
+            case Types.INTEGER:
+            case Types.BIGINT:
+                if (typeTag == TypeTags.INT_TAG) {
+                    return (resultSet, columnIndex) -> {
+                        long value = resultSet.getLong(columnIndex);
+                        return resultSet.wasNull() ? null : value;
+                    };
+                }
+                break;
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                if (typeTag == TypeTags.STRING_TAG) {
+                    return (resultSet, columnIndex) -> fromString(resultSet.getString(columnIndex));
+                }
+                break;
+            case Types.REAL:
+            case Types.FLOAT:
+                if (typeTag == TypeTags.FLOAT_TAG) {
+                    return (resultSet, columnIndex) -> {
+                        double value = resultSet.getFloat(columnIndex);
+                        return resultSet.wasNull() ? null : value;
+                    };
+                }
+                break;
+            case Types.DOUBLE:
+                if (typeTag == TypeTags.FLOAT_TAG) {
+                    return (resultSet, columnIndex) -> {
+                        double value = resultSet.getDouble(columnIndex);
+                        return resultSet.wasNull() ? null : value;
+                    };
+                }
+                break;
+            case Types.BIT:
+            case Types.BOOLEAN:
+                if (typeTag == TypeTags.BOOLEAN_TAG) {
+                    return (resultSet, columnIndex) -> {
+                        boolean value = resultSet.getBoolean(columnIndex);
+                        return resultSet.wasNull() ? null : value;
+                    };
+                }
+                break;
+            default:
+                break;
+        }
+        return (resultSet, columnIndex) -> RecordIteratorUtils.getResult(resultSet, columnIndex, columnDefinition);
+    }
+
+    /**
+     * Reads the value of a column of the current row as a Ballerina value.
+     */
+    @FunctionalInterface
+    private interface ColumnReader {
+
+        Object read(ResultSet resultSet, int columnIndex) throws SQLException, ApplicationError, IOException;
+    }
+}
@@ -1313,8 +1313,8 @@ class Utils {
         resultIterator.addNativeData(Constants.RESULT_SET_NATIVE_DATA_FIELD, resultSet);
         resultIterator.addNativeData(Constants.STATEMENT_NATIVE_DATA_FIELD, statement);
         resultIterator.addNativeData(Constants.CONNECTION_NATIVE_DATA_FIELD, connection);
-        resultIterator.addNativeData(Constants.COLUMN_DEFINITIONS_DATA_FIELD, columnDefinitions);
-        resultIterator.addNativeData(Constants.RECORD_TYPE_DATA_FIELD, streamConstraint);
+        resultIterator.addNativeData(Constants.ROW_MAPPER_NATIVE_DATA_FIELD,
+                new RowMapper(columnDefinitions, streamConstraint));
         return resultIterator;
     }
 
@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.sql.query;
+
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BFloat;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.model.values.BValueArray;
+import org.ballerinalang.sql.utils.SQLDBUtils;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+
+/**
+ * This test class tests the mapping of the result rows of a query to records.
+ *
+ * @since 2.0.0
+ */
+public class RowMapperQueryTest {
+    private CompileResult result;
+    private static final String DB_NAME = "TEST_SQL_ROW_MAPPER";
+    private static final String URL = SQLDBUtils.URL_PREFIX + DB_NAME;
+    private BValue[] args = {new BString(URL), new BString(SQLDBUtils.DB_USER), new BString(SQLDBUtils.DB_PASSWORD)};
+
+    @BeforeClass
+    public void setup() throws SQLException {
+        result = BCompileUtil.compile(SQLDBUtils.getMockModuleDir(), "query");
+        SQLDBUtils.initHsqlDatabase(DB_NAME, SQLDBUtils.getSQLResourceDir("query",
+                "row-mapper-test-data.sql"));
+    }
+
+    @Test(description = "Test the values and the NULL values of the columns read directly into Ballerina values")
+    public void testRowMapperQuery() {
+        BValue[] returnVal = BRunUtil.invokeFunction(result, "testRowMapperQuery", args);
+        Assert.assertEquals(returnVal[0].getType().getTag(), TypeTags.ARRAY);
+        Assert.assertEquals(returnVal[0].size(), 2);
+
+        LinkedHashMap row = ((BMap) ((BValueArray) returnVal[0]).getRefValue(0)).getMap();
+        Assert.assertEquals(row.size(), 11);
+        Assert.assertEquals(row.get("ID"), new BInteger(1));
+        Assert.assertEquals(row.get("TINYINT_TYPE"), new BInteger(127));
+        Assert.assertEquals(row.get("SMALLINT_TYPE"), new BInteger(32767));
+        Assert.assertEquals(row.get("INT_TYPE"), new BInteger(2147483647));
+        Assert.assertEquals(row.get("BIGINT_TYPE"), new BInteger(9223372036854774807L));
+        Assert.assertEquals(((BFloat) row.get("REAL_TYPE")).floatValue(), 1234.5);
+        Assert.assertEquals(((BFloat) row.get("FLOAT_TYPE")).floatValue(), 1234.5);
+        Assert.assertEquals(((BFloat) row.get("DOUBLE_TYPE")).floatValue(), 1234.5);
+        Assert.assertEquals(row.get("BIT_TYPE"), new BBoolean(true));
+        Assert.assertEquals(row.get("BOOLEAN_TYPE"), new BBoolean(true));
+        Assert.assertEquals(row.get("VARCHAR_TYPE").stringValue(), "Hello");
+
+        row = ((BMap) ((BValueArray) returnVal[0]).getRefValue(1)).getMap();
+        Assert.assertEquals(row.size(), 11);
+        Assert.assertEquals(row.get("ID"), new BInteger(2));
+        for (String column : Arrays.asList("TINYINT_TYPE", "SMALLINT_TYPE", "INT_TYPE", "BIGINT_TYPE", "REAL_TYPE",
+                "FLOAT_TYPE", "DOUBLE_TYPE", "BIT_TYPE", "BOOLEAN_TYPE", "VARCHAR_TYPE")) {
+            Assert.assertTrue(row.containsKey(column), column);
+            Assert.assertNull(row.get(column), column);
+        }
+    }
+
+    @Test(description = "Test the NULL values of the columns mapped to optional fields of a record")
+    public void testRowMapperTypeRecord() {
+        BValue[] returnVal = BRunUtil.invokeFunction(result, "testRowMapperTypeRecord", args);
+        Assert.assertEquals(returnVal[0].size(), 2);
+        BMap record = (BMap) ((BValueArray) returnVal[0]).getRefValue(0);
+        Assert.assertEquals(record.getType().getName(), "RowMapperType");
+        LinkedHashMap row = record.getMap();
+        Assert.assertEquals(row.get("tinyint_type"), new BInteger(127));
+        Assert.assertEquals(row.get("bigint_type"), new BInteger(9223372036854774807L));
+        Assert.assertEquals(((BFloat) row.get("double_type")).floatValue(), 1234.5);
+        Assert.assertEquals(row.get("boolean_type"), new BBoolean(true));
+        Assert.assertEquals(row.get("varchar_type").stringValue(), "Hello");
+
+        row = ((BMap) ((BValueArray) returnVal[0]).getRefValue(1)).getMap();
+        Assert.assertEquals(row.size(), 11);
+        Assert.assertEquals(row.get("id"), new BInteger(2));
+        for (String field : Arrays.asList("tinyint_type", "smallint_type", "int_type", "bigint_type", "real_type",
+                "float_type", "double_type", "bit_type", "boolean_type", "varchar_type")) {
+            Assert.assertTrue(row.containsKey(field), field);
+            Assert.assertNull(row.get(field), field);
+        }
+    }
+
+    @Test(description = "Test the records of an open record type keep the fields added after the columns are mapped")
+    public void testRowMapperOpenRecord() {
+        BValue[] returnVal = BRunUtil.invokeFunction(result, "testRowMapperOpenRecord", args);
+        Assert.assertEquals(returnVal[0].size(), 2);
+
+        LinkedHashMap row = ((BMap) ((BValueArray) returnVal[0]).getRefValue(0)).getMap();
+        Assert.assertEquals(new ArrayList<>(row.keySet()),
+                            Arrays.asList("id", "int_type", "varchar_type", "extra_type"));
+        Assert.assertEquals(row.get("int_type"), new BInteger(2147483647));
+        Assert.assertEquals(row.get("varchar_type").stringValue(), "Hello");
+        Assert.assertEquals(row.get("extra_type").stringValue(), "Extra");
+
+        row = ((BMap) ((BValueArray) returnVal[0]).getRefValue(1)).getMap();
+        Assert.assertEquals(new ArrayList<>(row.keySet()),
+                            Arrays.asList("id", "int_type", "varchar_type", "extra_type"));
+        Assert.assertEquals(row.get("int_type"), new BInteger(-1));
+        Assert.assertNull(row.get("varchar_type"));
+        Assert.assertEquals(row.get("extra_type").stringValue(), "Extra");
+    }
+
+    @Test(description = "Test a column of an SQL type without a specific mapping is mapped to an int field")
+    public void testRowMapperOtherTypeToInt() {
+        BValue[] returnVal = BRunUtil.invokeFunction(result, "testRowMapperOtherTypeToInt", args);
+        Assert.assertEquals(returnVal[0].size(), 2);
+        LinkedHashMap row = ((BMap) ((BValueArray) returnVal[0]).getRefValue(0)).getMap();
+        Assert.assertEquals(row.get("interval_type"), new BInteger(10));
+        row = ((BMap) ((BValueArray) returnVal[0]).getRefValue(1)).getMap();
+        Assert.assertNull(row.get("interval_type"));
+    }
+}
@@ -0,0 +1,24 @@
+CREATE TABLE RowMapperTypes (
+   id INT IDENTITY,
+   tinyint_type TINYINT,
+   smallint_type SMALLINT,
+   int_type INT,
+   bigint_type BIGINT,
+   real_type REAL,
+   float_type FLOAT,
+   double_type DOUBLE,
+   bit_type BIT,
+   boolean_type BOOLEAN,
+   varchar_type VARCHAR(50),
+   interval_type INTERVAL DAY,
+   PRIMARY KEY (id)
+);
+/
+INSERT INTO RowMapperTypes (id, tinyint_type, smallint_type, int_type, bigint_type, real_type, float_type,
+    double_type, bit_type, boolean_type, varchar_type, interval_type) VALUES (1, 127, 32767, 2147483647,
+    9223372036854774807, 1234.5, 1234.5, 1234.5, 1, true, 'Hello', INTERVAL '10' DAY);
+/
+INSERT INTO RowMapperTypes (id, tinyint_type, smallint_type, int_type, bigint_type, real_type, float_type,
+    double_type, bit_type, boolean_type, varchar_type, interval_type) VALUES (2, null, null, null, null, null, null,
+    null, null, null, null, null);
+/
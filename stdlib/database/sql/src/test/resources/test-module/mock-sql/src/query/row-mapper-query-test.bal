@@ -0,0 +1,112 @@
+// Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import mockclient;
+import ballerina/sql;
+
+function testRowMapperQuery(string url, string user, string password) returns @tainted record {}[]|error {
+    mockclient:Client dbClient = check new (url = url, user = user, password = password);
+    stream<record{}, sql:Error> streamData = dbClient->query("SELECT id, tinyint_type, "
+        + "smallint_type, int_type, bigint_type, real_type, float_type, double_type, bit_type, boolean_type, "
+        + "varchar_type FROM RowMapperTypes ORDER BY id");
+    record {}[] returnData = [];
+    error? e = streamData.forEach(function(record {} data) {
+        returnData.push(data);
+    });
+    check dbClient.close();
+    if (e is error) {
+        return e;
+    }
+    return returnData;
+}
+
+type RowMapperType record {
+    int id;
+    int? tinyint_type;
+    int? smallint_type;
+    int? int_type;
+    int? bigint_type;
+    float? real_type;
+    float? float_type;
+    float? double_type;
+    boolean? bit_type;
+    boolean? boolean_type;
+    string? varchar_type;
+};
+
+function testRowMapperTypeRecord(string url, string user, string password) returns @tainted RowMapperType[]|error {
+    mockclient:Client dbClient = check new (url = url, user = user, password = password);
+    stream<record{}, error> streamResult = dbClient->query("SELECT id, tinyint_type, "
+        + "smallint_type, int_type, bigint_type, real_type, float_type, double_type, bit_type, boolean_type, "
+        + "varchar_type FROM RowMapperTypes ORDER BY id", RowMapperType);
+    stream<RowMapperType, sql:Error> streamData = <stream<RowMapperType, sql:Error>>streamResult;
+    RowMapperType[] returnData = [];
+    error? e = streamData.forEach(function(RowMapperType data) {
+        returnData.push(data);
+    });
+    check dbClient.close();
+    if (e is error) {
+        return e;
+    }
+    return returnData;
+}
+
+type RowMapperOpenType record {
+    int id;
+    int? int_type;
+    string? varchar_type;
+};
+
+function testRowMapperOpenRecord(string url, string user, string password)
+returns @tainted RowMapperOpenType[]|error {
+    mockclient:Client dbClient = check new (url = url, user = user, password = password);
+    stream<record{}, error> streamResult = dbClient->query("SELECT id, int_type, varchar_type FROM RowMapperTypes "
+        + "ORDER BY id", RowMapperOpenType);
+    stream<RowMapperOpenType, sql:Error> streamData = <stream<RowMapperOpenType, sql:Error>>streamResult;
+    RowMapperOpenType[] returnData = [];
+    error? e = streamData.forEach(function(RowMapperOpenType data) {
+        // fields which are not declared in the record type are added after the columns are mapped
+        data["extra_type"] = "Extra";
+        data["int_type"] = data?.int_type ?: -1;
+        returnData.push(data);
+    });
+    check dbClient.close();
+    if (e is error) {
+        return e;
+    }
+    return returnData;
+}
+
+type RowMapperIntervalType record {
+    int id;
+    int? interval_type;
+};
+
+function testRowMapperOtherTypeToInt(string url, string user, string password)
+returns @tainted RowMapperIntervalType[]|error {
+    mockclient:Client dbClient = check new (url = url, user = user, password = password);
+    stream<record{}, error> streamResult = dbClient->query("SELECT id, interval_type FROM RowMapperTypes ORDER BY id",
+        RowMapperIntervalType);
+    stream<RowMapperIntervalType, sql:Error> streamData = <stream<RowMapperIntervalType, sql:Error>>streamResult;
+    RowMapperIntervalType[] returnData = [];
+    error? e = streamData.forEach(function(RowMapperIntervalType data) {
+        returnData.push(data);
+    });
+    check dbClient.close();
+    if (e is error) {
+        return e;
+    }
+    return returnData;
+}
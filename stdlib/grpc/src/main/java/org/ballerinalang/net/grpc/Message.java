@@ -19,7 +19,6 @@ import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.DescriptorProtos;
 import com.google.protobuf.Descriptors;
-import com.google.protobuf.WireFormat;
 import io.netty.handler.codec.http.HttpHeaders;
 import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.types.BRecordType;
@@ -35,8 +34,8 @@ import org.ballerinalang.jvm.values.api.BValueCreator;
 import org.ballerinalang.jvm.values.utils.StringUtils;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Generic Proto3 Message.
@@ -45,15 +44,16 @@ import java.util.Map;
  */
 public class Message {
 
-    private static final String GOOGLE_PROTOBUF_ANY = "google.protobuf.Any";
-    private static final String GOOGLE_PROTOBUF_ANY_VALUE = "google.protobuf.Any.value";
-    private static final String GOOGLE_PROTOBUF_ANY_TYPE_URL = "google.protobuf.Any.type_url";
+    static final String GOOGLE_PROTOBUF_ANY_TYPE_URL = "google.protobuf.Any.type_url";
 
     private String messageName;
     private int memoizedSize = -1;
     private HttpHeaders headers;
     private Object bMessage = null;
     private Descriptors.Descriptor descriptor = null;
+    private MessageCodec messageCodec = null;
+    // nested messages created while computing the size, which are written in the same order
+    private List<Message> nestedMessages = null;
 
     private static final BArrayType stringArrayType = new BArrayType(BTypes.typeString);
     private static final BArrayType booleanArrayType = new BArrayType(BTypes.typeBoolean);
@@ -75,6 +75,11 @@ public class Message {
         this.messageName = descriptor.getName();
     }
 
+    private Message(MessageCodec messageCodec, Object bMessage) {
+        this(messageCodec.getDescriptor(), bMessage);
+        this.messageCodec = messageCodec;
+    }
+
     private Message(String messageName) {
         this.messageName = messageName;
     }
@@ -108,9 +113,11 @@ public class Message {
             String messageName,
             BType bType,
             com.google.protobuf.CodedInputStream input,
-            Map<Integer, Descriptors.FieldDescriptor> fieldDescriptors)
+            MessageCodec messageCodec)
             throws IOException {
         this(messageName);
+        this.descriptor = messageCodec.getDescriptor();
+        this.messageCodec = messageCodec;
 
         if (bType instanceof BUnionType && ((BUnionType) bType).isNullable()) {
             List<BType> memberTypes = ((BUnionType) bType).getMemberTypes();
@@ -135,22 +142,17 @@ public class Message {
 
         if (input == null) {
             if (bMapValue != null) {
-                for (Map.Entry<Integer, Descriptors.FieldDescriptor> entry : fieldDescriptors.entrySet()) {
-                    BString bFieldName = org.ballerinalang.jvm.StringUtils.fromString(entry.getValue().getName());
-                    if (entry.getValue().getType().toProto().getNumber() ==
-                            DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE_VALUE &&
-                            !entry.getValue().isRepeated()) {
-                        bMapValue.put(bFieldName, null);
-                    } else if (entry.getValue().getType().toProto().getNumber() ==
-                            DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE) {
-                        bMapValue.put(bFieldName, org.ballerinalang.jvm.StringUtils
-                                .fromString(entry.getValue().getEnumType().findValueByNumber(0).toString()));
+                for (MessageCodec.Field field : messageCodec.getFields()) {
+                    if (field.isMessage() && !field.repeated) {
+                        bMapValue.put(field.name, null);
+                    } else if (field.type == DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE) {
+                        bMapValue.put(field.name, field.getEnumName(0));
                     }
                 }
             } else {
-                // Here fieldDescriptors map size should be one. Because the value can assign to one scalar field.
-                for (Map.Entry<Integer, Descriptors.FieldDescriptor> entry : fieldDescriptors.entrySet()) {
-                    switch (entry.getValue().getType().toProto().getNumber()) {
+                // Here fields size should be one. Because the value can assign to one scalar field.
+                for (MessageCodec.Field field : messageCodec.getFields()) {
+                    switch (field.type) {
                         case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE:
                         case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT_VALUE: {
                             bMessage = (double) 0;
@@ -175,7 +177,7 @@ public class Message {
                         default: {
                             throw Status.Code.INTERNAL.toStatus().withDescription("Error while decoding request " +
                                     "message. Field type is not supported : " +
-                                    entry.getValue().getType()).asRuntimeException();
+                                    field.descriptor.getType()).asRuntimeException();
                         }
                     }
                 }
@@ -187,282 +189,199 @@ public class Message {
             int tag = input.readTag();
             if (tag == 0) {
                 done = true;
-            } else if (fieldDescriptors.containsKey(tag)) {
-                Descriptors.FieldDescriptor fieldDescriptor = fieldDescriptors.get(tag);
-                BString bFieldName = org.ballerinalang.jvm.StringUtils.fromString(fieldDescriptor.getName());
-                switch (fieldDescriptor.getType().toProto().getNumber()) {
-                    case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE: {
-                        if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue floatArray = (ArrayValue) BValueCreator.createArrayValue(floatArrayType);
-                                if (bMapValue.containsKey(bFieldName)) {
-                                    floatArray = (ArrayValue) bMapValue.get(bFieldName);
-                                } else {
-                                    bMapValue.put(bFieldName, floatArray);
-                                }
-                                floatArray.add(floatArray.size(), input.readDouble());
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bMapValue, fieldDescriptor, input.readDouble());
-                            } else {
-                                bMapValue.put(bFieldName, input.readDouble());
-                            }
-                        } else {
-                            bMessage = input.readDouble();
-                        }
-                        break;
-                    }
-                    case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT_VALUE: {
-                        if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue floatArray = (ArrayValue) BValueCreator.createArrayValue(floatArrayType);
-                                if (bMapValue.containsKey(bFieldName)) {
-                                    floatArray = (ArrayValue) bMapValue.get(bFieldName);
-                                } else {
-                                    bMapValue.put(bFieldName, floatArray);
-                                }
-                                floatArray.add(floatArray.size(),
-                                        Double.parseDouble(String.valueOf(input.readFloat())));
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                double bValue = Double.parseDouble(String.valueOf(input.readFloat()));
-                                updateBMapValue(bMapValue, fieldDescriptor, bValue);
-                            } else {
-                                bMapValue.put(bFieldName, Double.parseDouble(String.valueOf(input.readFloat())));
-                            }
-                        } else {
-                            bMessage = Double.parseDouble(String.valueOf(input.readFloat()));
-                        }
-                        break;
-                    }
-                    case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64_VALUE: {
-                        if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue intArray = (ArrayValue) BValueCreator.createArrayValue(intArrayType);
-                                if (bMapValue.containsKey(bFieldName)) {
-                                    intArray = (ArrayValue) bMapValue.get(bFieldName);
-                                } else {
-                                    bMapValue.put(bFieldName, intArray);
-                                }
-                                intArray.add(intArray.size(), input.readInt64());
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bMapValue, fieldDescriptor, input.readInt64());
-                            } else {
-                                bMapValue.put(bFieldName, input.readInt64());
-                            }
-                        } else {
-                            bMessage = input.readInt64();
-                        }
-                        break;
-                    }
-                    case DescriptorProtos.FieldDescriptorProto.Type.TYPE_UINT64_VALUE: {
-                        if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue intArray = (ArrayValue) BValueCreator.createArrayValue(intArrayType);
-                                if (bMapValue.containsKey(bFieldName)) {
-                                    intArray = (ArrayValue) bMapValue.get(bFieldName);
-                                } else {
-                                    bMapValue.put(bFieldName, intArray);
-                                }
-                                intArray.add(intArray.size(), input.readUInt64());
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bMapValue, fieldDescriptor, input.readUInt64());
-                            } else {
-                                bMapValue.put(bFieldName, input.readUInt64());
-                            }
-                        } else {
-                            bMessage = input.readUInt64();
-                        }
-                        break;
-                    }
-                    case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32_VALUE: {
-                        if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue intArray = (ArrayValue) BValueCreator.createArrayValue(intArrayType);
-                                if (bMapValue.containsKey(bFieldName)) {
-                                    intArray = (ArrayValue) bMapValue.get(bFieldName);
-                                } else {
-                                    bMapValue.put(bFieldName, intArray);
-                                }
-                                intArray.add(intArray.size(), input.readInt32());
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bMapValue, fieldDescriptor, input.readInt32());
-                            } else {
-                                bMapValue.put(bFieldName, input.readInt32());
-                            }
-                        } else {
-                            bMessage = input.readInt32();
-                        }
-                        break;
-                    }
-                    case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED64_VALUE: {
-                        if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue intArray = (ArrayValue) BValueCreator.createArrayValue(intArrayType);
-                                if (bMapValue.containsKey(bFieldName)) {
-                                    intArray = (ArrayValue) bMapValue.get(bFieldName);
-                                } else {
-                                    bMapValue.put(bFieldName, intArray);
-                                }
-                                intArray.add(intArray.size(), input.readFixed64());
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bMapValue, fieldDescriptor, input.readFixed64());
-                            } else {
-                                bMapValue.put(bFieldName, input.readFixed64());
-                            }
-                        } else {
-                            bMessage = input.readFixed64();
-                        }
-                        break;
-                    }
-                    case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED32_VALUE: {
-                        if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue intArray = (ArrayValue) BValueCreator.createArrayValue(intArrayType);
-                                if (bMapValue.containsKey(bFieldName)) {
-                                    intArray = (ArrayValue) bMapValue.get(bFieldName);
-                                } else {
-                                    bMapValue.put(bFieldName, intArray);
-                                }
-                                intArray.add(intArray.size(), input.readFixed32());
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bMapValue, fieldDescriptor, input.readFixed32());
-                            } else {
-                                bMapValue.put(bFieldName, input.readFixed32());
-                            }
-                        } else {
-                            bMessage = input.readFixed32();
-                        }
-                        break;
-                    }
-                    case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BOOL_VALUE: {
-                        if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue booleanArray = (ArrayValue) BValueCreator.createArrayValue(booleanArrayType);
-                                if (bMapValue.containsKey(bFieldName)) {
-                                    booleanArray = (ArrayValue) bMapValue.get(bFieldName);
-                                } else {
-                                    bMapValue.put(bFieldName, booleanArray);
-                                }
-                                booleanArray.add(booleanArray.size(), input.readBool());
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bMapValue, fieldDescriptor, input.readBool());
-                            } else {
-                                bMapValue.put(bFieldName, input.readBool());
-                            }
-                        } else {
-                            bMessage = input.readBool();
-                        }
-                        break;
-                    }
-                    case DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING_VALUE: {
-                        if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue stringArray = (ArrayValue) BValueCreator.createArrayValue(stringArrayType);
-                                if (bMapValue.containsKey(bFieldName)) {
-                                    stringArray = (ArrayValue) bMapValue.get(bFieldName);
-                                } else {
-                                    bMapValue.put(bFieldName, stringArray);
-                                }
-                                stringArray.add(stringArray.size(),
-                                        org.ballerinalang.jvm.StringUtils.fromString(input.readStringRequireUtf8()));
-                                bMapValue.put(bFieldName, stringArray);
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bMapValue, fieldDescriptor,
-                                        org.ballerinalang.jvm.StringUtils.fromString(input.readStringRequireUtf8()));
-                            } else {
-                                bMapValue.put(bFieldName,
-                                        org.ballerinalang.jvm.StringUtils.fromString(input.readStringRequireUtf8()));
-                            }
-                        } else if (!fieldDescriptor.getFullName().equals(GOOGLE_PROTOBUF_ANY_TYPE_URL)) {
-                            bMessage = org.ballerinalang.jvm.StringUtils.fromString(input.readStringRequireUtf8());
-                        }
-                        break;
-                    }
-                    case DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE: {
-                        if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue stringArray = (ArrayValue) BValueCreator.createArrayValue(stringArrayType);
-                                if (bMapValue.containsKey(bFieldName)) {
-                                    stringArray = (ArrayValue) bMapValue.get(bFieldName);
-                                } else {
-                                    bMapValue.put(bFieldName, stringArray);
-                                }
-                                stringArray.add(stringArray.size(), org.ballerinalang.jvm.StringUtils.fromString(
-                                        fieldDescriptor.getEnumType().findValueByNumber(input.readEnum()).toString()));
-                                bMapValue.put(bFieldName, stringArray);
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                String bValue = fieldDescriptor.getEnumType().findValueByNumber(input
-                                        .readEnum()).toString();
-                                updateBMapValue(bMapValue, fieldDescriptor,
-                                        org.ballerinalang.jvm.StringUtils.fromString(bValue));
-                            } else {
-                                bMapValue.put(bFieldName, org.ballerinalang.jvm.StringUtils.fromString(
-                                        fieldDescriptor.getEnumType().findValueByNumber(input.readEnum()).toString()));
-                            }
-                        } else {
-                            bMessage = org.ballerinalang.jvm.StringUtils.fromString(
-                                    fieldDescriptor.getEnumType().findValueByNumber(input.readEnum()).toString());
-                        }
-                        break;
-                    }
-                    case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BYTES_VALUE: {
-                        if (bMapValue != null) {
-                             if (fieldDescriptor.getContainingOneof() != null) {
-                                Object bValue = BValueCreator.createArrayValue(input.readByteArray());
-                                updateBMapValue(bMapValue, fieldDescriptor, bValue);
-                             } else {
-                                 bMapValue.put(bFieldName, BValueCreator.createArrayValue(input.readByteArray()));
-                             }
-                        } else {
-                            bMessage = BValueCreator.createArrayValue(input.readByteArray());
-                        }
-                        break;
-                    }
-                    case DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE_VALUE: {
-                        BRecordType recordType;
-                        if (bType instanceof BRecordType) {
-                            recordType = (BRecordType) bType;
-                        } else {
-                            throw Status.Code.INTERNAL.toStatus().withDescription("Error while decoding request " +
-                                    "message. record type is not supported : " +
-                                    fieldDescriptor.getType()).asRuntimeException();
-                        }
-                        if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue structArray = bMapValue.get(bFieldName) != null ?
-                                        (ArrayValue) bMapValue.get(bFieldName) : null;
-                                BType fieldType = recordType.getFields().get(bFieldName.getValue()).getFieldType();
-                                if (structArray == null || structArray.size() == 0) {
-                                    structArray = (ArrayValue) BValueCreator.createArrayValue((BArrayType) fieldType);
-                                    bMapValue.put(bFieldName, structArray);
-                                }
-                                structArray.add(structArray.size(), readMessage(fieldDescriptor,
-                                        ((BArrayType) fieldType).getElementType(), input).bMessage);
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                BType fieldType = recordType.getFields().get(bFieldName.getValue()).getFieldType();
-                                Object bValue = readMessage(fieldDescriptor, fieldType, input).bMessage;
-                                updateBMapValue(bMapValue, fieldDescriptor, bValue);
-                            } else {
-                                BType fieldType = recordType.getFields().get(bFieldName.getValue()).getFieldType();
-                                bMapValue.put(bFieldName, readMessage(fieldDescriptor, fieldType, input).bMessage);
-                            }
-                        } else {
-                            BType fieldType = recordType.getFields().get(bFieldName.getValue()).getFieldType();
-                            bMessage = readMessage(fieldDescriptor, fieldType, input).bMessage;
-                        }
-                        break;
-                    }
-                    default: {
-                        throw Status.Code.INTERNAL.toStatus().withDescription("Error while decoding request message. " +
-                                "Field type is not supported : " + fieldDescriptor.getType()).asRuntimeException();
-                    }
+                continue;
+            }
+            MessageCodec.Field field = messageCodec.getField(tag);
+            if (field == null) {
+                input.skipField(tag);
+            } else if (tag == field.packedTag) {
+                int oldLimit = input.pushLimit(input.readRawVarint32());
+                while (input.getBytesUntilLimit() > 0) {
+                    readField(field, bMapValue, bType, input, tag);
+                }
+                input.popLimit(oldLimit);
+            } else {
+                readField(field, bMapValue, bType, input, tag);
+            }
+        }
+    }
+
+    private void readField(MessageCodec.Field field, BMap<BString, Object> bMapValue, BType bType,
+                           CodedInputStream input, int tag) throws IOException {
+        switch (field.type) {
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE: {
+                double value = input.readDouble();
+                if (bMapValue == null) {
+                    bMessage = value;
+                } else if (field.repeated) {
+                    ArrayValue floatArray = getArrayValue(bMapValue, field, floatArrayType);
+                    floatArray.add(floatArray.size(), value);
+                } else {
+                    bMapValue.put(field.name, value);
+                }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT_VALUE: {
+                double value = Double.parseDouble(String.valueOf(input.readFloat()));
+                if (bMapValue == null) {
+                    bMessage = value;
+                } else if (field.repeated) {
+                    ArrayValue floatArray = getArrayValue(bMapValue, field, floatArrayType);
+                    floatArray.add(floatArray.size(), value);
+                } else {
+                    bMapValue.put(field.name, value);
+                }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64_VALUE: {
+                long value = input.readInt64();
+                if (bMapValue == null) {
+                    bMessage = value;
+                } else if (field.repeated) {
+                    ArrayValue intArray = getArrayValue(bMapValue, field, intArrayType);
+                    intArray.add(intArray.size(), value);
+                } else {
+                    bMapValue.put(field.name, value);
+                }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_UINT64_VALUE: {
+                long value = input.readUInt64();
+                if (bMapValue == null) {
+                    bMessage = value;
+                } else if (field.repeated) {
+                    ArrayValue intArray = getArrayValue(bMapValue, field, intArrayType);
+                    intArray.add(intArray.size(), value);
+                } else {
+                    bMapValue.put(field.name, value);
+                }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32_VALUE: {
+                int value = input.readInt32();
+                if (bMapValue == null) {
+                    bMessage = value;
+                } else if (field.repeated) {
+                    ArrayValue intArray = getArrayValue(bMapValue, field, intArrayType);
+                    intArray.add(intArray.size(), value);
+                } else {
+                    bMapValue.put(field.name, value);
+                }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED64_VALUE: {
+                long value = input.readFixed64();
+                if (bMapValue == null) {
+                    bMessage = value;
+                } else if (field.repeated) {
+                    ArrayValue intArray = getArrayValue(bMapValue, field, intArrayType);
+                    intArray.add(intArray.size(), value);
+                } else {
+                    bMapValue.put(field.name, value);
+                }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED32_VALUE: {
+                int value = input.readFixed32();
+                if (bMapValue == null) {
+                    bMessage = value;
+                } else if (field.repeated) {
+                    ArrayValue intArray = getArrayValue(bMapValue, field, intArrayType);
+                    intArray.add(intArray.size(), value);
+                } else {
+                    bMapValue.put(field.name, value);
+                }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BOOL_VALUE: {
+                boolean value = input.readBool();
+                if (bMapValue == null) {
+                    bMessage = value;
+                } else if (field.repeated) {
+                    ArrayValue booleanArray = getArrayValue(bMapValue, field, booleanArrayType);
+                    booleanArray.add(booleanArray.size(), value);
+                } else {
+                    bMapValue.put(field.name, value);
+                }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING_VALUE: {
+                if (bMapValue == null && field.anyTypeUrl) {
+                    input.skipField(tag);
+                    break;
+                }
+                BString value = org.ballerinalang.jvm.StringUtils.fromString(input.readStringRequireUtf8());
+                if (bMapValue == null) {
+                    bMessage = value;
+                } else if (field.repeated) {
+                    ArrayValue stringArray = getArrayValue(bMapValue, field, stringArrayType);
+                    stringArray.add(stringArray.size(), value);
+                } else {
+                    bMapValue.put(field.name, value);
+                }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE: {
+                BString value = field.getEnumName(input.readEnum());
+                if (bMapValue == null) {
+                    bMessage = value;
+                } else if (field.repeated) {
+                    ArrayValue stringArray = getArrayValue(bMapValue, field, stringArrayType);
+                    stringArray.add(stringArray.size(), value);
+                } else {
+                    bMapValue.put(field.name, value);
                 }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BYTES_VALUE: {
+                Object value = BValueCreator.createArrayValue(input.readByteArray());
+                if (bMapValue == null) {
+                    bMessage = value;
+                } else {
+                    bMapValue.put(field.name, value);
+                }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE_VALUE: {
+                BRecordType recordType;
+                if (bType instanceof BRecordType) {
+                    recordType = (BRecordType) bType;
+                } else {
+                    throw Status.Code.INTERNAL.toStatus().withDescription("Error while decoding request " +
+                            "message. record type is not supported : " +
+                            field.descriptor.getType()).asRuntimeException();
+                }
+                BType fieldType = recordType.getFields().get(field.name.getValue()).getFieldType();
+                if (bMapValue == null) {
+                    bMessage = readMessage(field, fieldType, input).bMessage;
+                } else if (field.repeated) {
+                    ArrayValue structArray = (ArrayValue) bMapValue.get(field.name);
+                    if (structArray == null || structArray.size() == 0) {
+                        structArray = (ArrayValue) BValueCreator.createArrayValue((BArrayType) fieldType);
+                        bMapValue.put(field.name, structArray);
+                    }
+                    structArray.add(structArray.size(), readMessage(field,
+                            ((BArrayType) fieldType).getElementType(), input).bMessage);
+                } else {
+                    bMapValue.put(field.name, readMessage(field, fieldType, input).bMessage);
+                }
+                break;
+            }
+            default: {
+                throw Status.Code.INTERNAL.toStatus().withDescription("Error while decoding request message. " +
+                        "Field type is not supported : " + field.descriptor.getType()).asRuntimeException();
             }
         }
     }
 
-    private void updateBMapValue(BMap<BString, Object> bMapValue,
-                                 Descriptors.FieldDescriptor fieldDescriptor, Object bValue) {
-        bMapValue.put(org.ballerinalang.jvm.StringUtils.fromString(fieldDescriptor.getName()), bValue);
+    private static ArrayValue getArrayValue(BMap<BString, Object> bMapValue, MessageCodec.Field field,
+                                            BArrayType arrayType) {
+        ArrayValue arrayValue = (ArrayValue) bMapValue.get(field.name);
+        if (arrayValue == null) {
+            arrayValue = (ArrayValue) BValueCreator.createArrayValue(arrayType);
+            bMapValue.put(field.name, arrayValue);
+        }
+        return arrayValue;
     }
 
     public com.google.protobuf.Descriptors.Descriptor getDescriptor() {
@@ -472,11 +391,9 @@ public class Message {
         return MessageRegistry.getInstance().getMessageDescriptor(messageName);
     }
 
-    @SuppressWarnings("unchecked")
-    void writeTo(com.google.protobuf.CodedOutputStream output)
-            throws java.io.IOException {
-        if (bMessage == null) {
-            return;
+    private MessageCodec getMessageCodec() {
+        if (messageCodec != null) {
+            return messageCodec;
         }
         Descriptors.Descriptor messageDescriptor = getDescriptor();
         if (messageDescriptor == null) {
@@ -485,210 +402,61 @@ public class Message {
                             "message name: " + messageName)
                     .asRuntimeException();
         }
+        messageCodec = MessageRegistry.getInstance().getMessageCodec(messageDescriptor);
+        return messageCodec;
+    }
 
-        MapValue<BString, Object> bMapValue = null;
-        if (bMessage instanceof MapValue) {
-            bMapValue = (MapValue<BString, Object>) bMessage;
+    @SuppressWarnings("unchecked")
+    void writeTo(com.google.protobuf.CodedOutputStream output)
+            throws java.io.IOException {
+        if (bMessage == null) {
+            return;
         }
-        for (Descriptors.FieldDescriptor fieldDescriptor : messageDescriptor.getFields()) {
-            BString bFieldName = org.ballerinalang.jvm.StringUtils.fromString(fieldDescriptor.getName());
-            switch (fieldDescriptor.getType().toProto().getNumber()) {
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeDouble(fieldDescriptor.getNumber(), valueArray.getFloat(i));
-                            }
-                        } else {
-                            output.writeDouble(fieldDescriptor.getNumber(), (Double) bValue);
-                        }
-                    } else if (bMessage instanceof Double) {
-                        output.writeDouble(fieldDescriptor.getNumber(), (Double) bMessage);
-                    }
-                    break;
-                }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeFloat(fieldDescriptor.getNumber(), Float.parseFloat(String.valueOf
-                                        (valueArray.getFloat(i))));
-                            }
-                        } else {
-                            output.writeFloat(fieldDescriptor.getNumber(), Float.parseFloat(String.valueOf(bValue)));
-                        }
-                    } else if (bMessage instanceof Double) {
-                        output.writeFloat(fieldDescriptor.getNumber(), Float.parseFloat(String.valueOf
-                                (bMessage)));
-                    }
-                    break;
-                }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeInt64(fieldDescriptor.getNumber(), valueArray.getInt(i));
-                            }
-                        } else {
-                            output.writeInt64(fieldDescriptor.getNumber(), (long) bValue);
-                        }
-                    } else if (bMessage instanceof Long) {
-                        output.writeInt64(fieldDescriptor.getNumber(), (long) bMessage);
-                    }
-                    break;
-                }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_UINT64_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeUInt64(fieldDescriptor.getNumber(), valueArray.getInt(i));
-                            }
-                        } else {
-                            output.writeUInt64(fieldDescriptor.getNumber(), (long) bValue);
-                        }
-                    } else if (bMessage instanceof Long) {
-                        output.writeUInt64(fieldDescriptor.getNumber(), (long) bMessage);
-                    }
-                    break;
-                }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeInt32(fieldDescriptor.getNumber(),
-                                                  getIntValue(valueArray.getInt(i)));
-                            }
-                        } else {
-                            output.writeInt32(fieldDescriptor.getNumber(), getIntValue(bValue));
-                        }
-                    } else if (bMessage instanceof Long) {
-                        output.writeInt32(fieldDescriptor.getNumber(), getIntValue(bMessage));
-                    }
-                    break;
-                }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED64_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeFixed64(fieldDescriptor.getNumber(), valueArray.getInt(i));
-                            }
-                        } else {
-                            output.writeFixed64(fieldDescriptor.getNumber(), (long) bValue);
-                        }
-                    } else if (bMessage instanceof Long) {
-                        output.writeFixed64(fieldDescriptor.getNumber(), (long) bMessage);
-                    }
-                    break;
-                }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED32_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeFixed32(fieldDescriptor.getNumber(),
-                                                    getIntValue(valueArray.getInt(i)));
-                            }
-                        } else {
-                            output.writeFixed32(fieldDescriptor.getNumber(), getIntValue(bValue));
-                        }
-                    } else if (bMessage instanceof Long) {
-                        output.writeFixed32(fieldDescriptor.getNumber(), getIntValue(bMessage));
-                    }
-                    break;
-                }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BOOL_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeBool(fieldDescriptor.getNumber(), valueArray.getBoolean(i));
-                            }
-                        } else {
-                            output.writeBool(fieldDescriptor.getNumber(), ((boolean) bValue));
-                        }
-                    } else if (bMessage instanceof Boolean) {
-                        output.writeBool(fieldDescriptor.getNumber(), (boolean) bMessage);
+        // computing the size creates the nested messages, which are then written in the same order.
+        getSerializedSize();
+        int nestedIndex = 0;
+        for (MessageCodec.Field field : getMessageCodec().getFields()) {
+            if (field.isMessage()) {
+                if (bMessage instanceof MapValue
+                        && ((MapValue<BString, Object>) bMessage).containsKey(field.name)) {
+                    Object bValue = ((MapValue<BString, Object>) bMessage).get(field.name);
+                    int count = bValue instanceof ArrayValue ? ((ArrayValue) bValue).size() : 1;
+                    for (int i = 0; i < count; i++) {
+                        Message message = nestedMessages.get(nestedIndex++);
+                        output.writeRawBytes(field.tagBytes);
+                        output.writeUInt32NoTag(message.getSerializedSize());
+                        message.writeTo(output);
                     }
-                    break;
                 }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeString(fieldDescriptor.getNumber(), valueArray.getBString(i).getValue());
-                            }
-                        } else {
-                            output.writeString(fieldDescriptor.getNumber(), ((BString) bValue).getValue());
-                        }
-                    } else if (bMessage instanceof BString
-                            && !fieldDescriptor.getFullName().equals(GOOGLE_PROTOBUF_ANY_TYPE_URL)) {
-                        output.writeString(fieldDescriptor.getNumber(), ((BString) bMessage).getValue());
-                    }
-                    break;
-                }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
-                        if (bValue instanceof ArrayValue
-                                && !fieldDescriptor.getMessageType().getFullName().equals(GOOGLE_PROTOBUF_ANY_VALUE)) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                Message message = new Message(fieldDescriptor.getMessageType(),
-                                                              valueArray.getRefValue(i));
-                                output.writeTag(fieldDescriptor.getNumber(), WireFormat.WIRETYPE_LENGTH_DELIMITED);
-                                output.writeUInt32NoTag(message.getSerializedSize());
-                                message.writeTo(output);
-                            }
-                        } else {
-                            Message message = new Message(fieldDescriptor.getMessageType(), bValue);
-                            output.writeTag(fieldDescriptor.getNumber(), WireFormat.WIRETYPE_LENGTH_DELIMITED);
-                            output.writeUInt32NoTag(message.getSerializedSize());
-                            message.writeTo(output);
-                        }
-                    }
-                    break;
-                }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
-                        output.writeEnum(fieldDescriptor.getNumber(), fieldDescriptor.getEnumType()
-                                .findValueByName(((BString) bValue).getValue()).getNumber());
-                    }
-                    break;
-                }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BYTES_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            output.writeByteArray(fieldDescriptor.getNumber(), valueArray.getBytes());
-                        }
-                    } else if (bMessage instanceof ArrayValue) {
-                        ArrayValue valueArray = (ArrayValue) bMessage;
-                        output.writeByteArray(fieldDescriptor.getNumber(), valueArray.getBytes());
+                continue;
+            }
+            Object bValue = getFieldValue(field);
+            if (bValue == null) {
+                continue;
+            }
+            if (field.type == DescriptorProtos.FieldDescriptorProto.Type.TYPE_BYTES_VALUE) {
+                output.writeRawBytes(field.tagBytes);
+                output.writeByteArrayNoTag(((ArrayValue) bValue).getBytes());
+            } else if (bValue instanceof ArrayValue) {
+                ArrayValue valueArray = (ArrayValue) bValue;
+                if (field.packed) {
+                    if (valueArray.size() == 0) {
+                        continue;
+                    }
+                    output.writeRawBytes(field.packedTagBytes);
+                    output.writeUInt32NoTag(computePackedDataSize(field, valueArray));
+                    for (int i = 0; i < valueArray.size(); i++) {
+                        writeElementNoTag(output, field, valueArray, i);
+                    }
+                } else {
+                    for (int i = 0; i < valueArray.size(); i++) {
+                        output.writeRawBytes(field.tagBytes);
+                        writeElementNoTag(output, field, valueArray, i);
                     }
-                    break;
-                }
-                default: {
-                    throw Status.Code.INTERNAL.toStatus().withDescription("Error while writing output stream. " +
-                            "Field type is not supported : " + fieldDescriptor.getType()).asRuntimeException();
                 }
+            } else {
+                output.writeRawBytes(field.tagBytes);
+                writeValueNoTag(output, field, bValue);
             }
         }
     }
@@ -704,254 +472,244 @@ public class Message {
             memoizedSize = size;
             return size;
         }
-        Descriptors.Descriptor messageDescriptor = getDescriptor();
-        if (messageDescriptor == null) {
-            throw Status.Code.INTERNAL.toStatus()
-                    .withDescription("Error while processing the message, Couldn't find message descriptor for " +
-                            "message name: " + messageName)
-                    .asRuntimeException();
+        for (MessageCodec.Field field : getMessageCodec().getFields()) {
+            if (field.isMessage()) {
+                if (bMessage instanceof MapValue
+                        && ((MapValue<BString, Object>) bMessage).containsKey(field.name)) {
+                    Object bValue = ((MapValue<BString, Object>) bMessage).get(field.name);
+                    if (bValue instanceof ArrayValue) {
+                        ArrayValue valueArray = (ArrayValue) bValue;
+                        for (int i = 0; i < valueArray.size(); i++) {
+                            size += computeMessageSize(field, valueArray.getRefValue(i));
+                        }
+                    } else {
+                        size += computeMessageSize(field, bValue);
+                    }
+                }
+                continue;
+            }
+            Object bValue = getFieldValue(field);
+            if (bValue == null) {
+                continue;
+            }
+            if (field.type == DescriptorProtos.FieldDescriptorProto.Type.TYPE_BYTES_VALUE) {
+                size += field.getTagSize() + CodedOutputStream.computeByteArraySizeNoTag(
+                        ((ArrayValue) bValue).getBytes());
+            } else if (bValue instanceof ArrayValue) {
+                ArrayValue valueArray = (ArrayValue) bValue;
+                if (field.packed) {
+                    if (valueArray.size() > 0) {
+                        int dataSize = computePackedDataSize(field, valueArray);
+                        size += field.packedTagBytes.length + CodedOutputStream.computeUInt32SizeNoTag(dataSize)
+                                + dataSize;
+                    }
+                } else {
+                    size += valueArray.size() * field.getTagSize() + computePackedDataSize(field, valueArray);
+                }
+            } else {
+                size += field.getTagSize() + computeValueSizeNoTag(field, bValue);
+            }
         }
-        MapValue<BString, Object> bMapValue = null;
+        memoizedSize = size;
+        return size;
+    }
+
+    /**
+     * Returns the value of a scalar field, or null if the field has no value to write. A message which is not a
+     * record is the value of the single field of a wrapper message.
+     */
+    @SuppressWarnings("unchecked")
+    private Object getFieldValue(MessageCodec.Field field) {
         if (bMessage instanceof MapValue) {
-            bMapValue = (MapValue<BString, Object>) bMessage;
+            Object bValue = ((MapValue<BString, Object>) bMessage).get(field.name);
+            if (field.type == DescriptorProtos.FieldDescriptorProto.Type.TYPE_BYTES_VALUE
+                    && !(bValue instanceof ArrayValue)) {
+                return null;
+            }
+            return bValue;
+        }
+        switch (field.type) {
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE:
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT_VALUE:
+                return bMessage instanceof Double ? bMessage : null;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64_VALUE:
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_UINT64_VALUE:
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32_VALUE:
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED64_VALUE:
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED32_VALUE:
+                return bMessage instanceof Long ? bMessage : null;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BOOL_VALUE:
+                return bMessage instanceof Boolean ? bMessage : null;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING_VALUE:
+                return bMessage instanceof BString && !field.anyTypeUrl ? bMessage : null;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BYTES_VALUE:
+                return bMessage instanceof ArrayValue ? bMessage : null;
+            default:
+                return null;
         }
+    }
 
-        for (Descriptors.FieldDescriptor fieldDescriptor : messageDescriptor.getFields()) {
-            BString bFieldName = org.ballerinalang.jvm.StringUtils.fromString(fieldDescriptor.getName());
-            switch (fieldDescriptor.getType().toProto().getNumber()) {
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                size += com.google.protobuf.CodedOutputStream.computeDoubleSize(
-                                        fieldDescriptor.getNumber(), valueArray.getFloat(i));
-                            }
-                        } else {
-                            size += com.google.protobuf.CodedOutputStream.computeDoubleSize(fieldDescriptor.getNumber(),
-                                                                                            (double) bValue);
-                        }
-                    } else if (bMessage instanceof Double) {
-                        size += com.google.protobuf.CodedOutputStream.computeDoubleSize(fieldDescriptor.getNumber(),
-                                ((double) bMessage));
-                    }
-                    break;
-                }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                size += com.google.protobuf.CodedOutputStream.computeFloatSize(
-                                        fieldDescriptor.getNumber(),
-                                        Float.parseFloat(String.valueOf(valueArray.getFloat(i))));
-                            }
-                        } else {
-                            size += com.google.protobuf.CodedOutputStream.computeFloatSize(
-                                    fieldDescriptor.getNumber(), Float.parseFloat(String.valueOf(bValue)));
-                        }
-                    } else if (bMessage instanceof Double) {
-                        size += com.google.protobuf.CodedOutputStream.computeFloatSize(fieldDescriptor
-                                .getNumber(), Float.parseFloat(String.valueOf(bMessage)));
-                    }
-                    break;
-                }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                size += com.google.protobuf.CodedOutputStream.computeInt64Size(
-                                        fieldDescriptor.getNumber(), valueArray.getInt(i));
-                            }
-                        } else {
-                            size += com.google.protobuf.CodedOutputStream.computeInt64Size(
-                                    fieldDescriptor.getNumber(), (long) bValue);
-                        }
-                    } else if (bMessage instanceof Long) {
-                        size += com.google.protobuf.CodedOutputStream.computeInt64Size(fieldDescriptor
-                                .getNumber(), (long) bMessage);
-                    }
-                    break;
-                }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_UINT64_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                size += com.google.protobuf.CodedOutputStream.computeUInt64Size(
-                                        fieldDescriptor.getNumber(), valueArray.getInt(i));
-                            }
-                        } else {
-                            size += com.google.protobuf.CodedOutputStream.computeUInt64Size(
-                                    fieldDescriptor.getNumber(), (long) bValue);
-                        }
-                    } else if (bMessage instanceof Long) {
-                        size += com.google.protobuf.CodedOutputStream.computeUInt64Size(fieldDescriptor
-                                .getNumber(), (long) bMessage);
-                    }
-                    break;
-                }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                size += com.google.protobuf.CodedOutputStream.computeInt32Size(
-                                        fieldDescriptor.getNumber(), getIntValue(valueArray.getInt(i)));
-                            }
-                        } else {
-                            size += com.google.protobuf.CodedOutputStream.computeInt32Size(
-                                    fieldDescriptor.getNumber(), getIntValue(bValue));
-                        }
-                    } else if (bMessage instanceof Long) {
-                        size += com.google.protobuf.CodedOutputStream.computeInt32Size(fieldDescriptor
-                                .getNumber(), getIntValue(bMessage));
-                    }
-                    break;
-                }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED64_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                size += com.google.protobuf.CodedOutputStream.computeFixed64Size(
-                                        fieldDescriptor.getNumber(), valueArray.getInt(i));
-                            }
-                        } else {
-                            size += com.google.protobuf.CodedOutputStream.computeFixed64Size(
-                                    fieldDescriptor.getNumber(), (long) bValue);
-                        }
-                    } else if (bMessage instanceof Long) {
-                        size += com.google.protobuf.CodedOutputStream.computeFixed64Size(fieldDescriptor
-                                .getNumber(), (long) bMessage);
-                    }
-                    break;
-                }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED32_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                size += com.google.protobuf.CodedOutputStream.computeFixed32Size(
-                                        fieldDescriptor.getNumber(), getIntValue(valueArray.getInt(i)));
-                            }
-                        } else {
-                            size += com.google.protobuf.CodedOutputStream.computeFixed32Size(
-                                    fieldDescriptor.getNumber(), getIntValue(bValue));
-                        }
-                    } else if (bMessage instanceof Long) {
-                        size += com.google.protobuf.CodedOutputStream.computeFixed32Size(fieldDescriptor
-                                .getNumber(), getIntValue(bMessage));
-                    }
-                    break;
-                }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BOOL_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                size += com.google.protobuf.CodedOutputStream.computeBoolSize(
-                                        fieldDescriptor.getNumber(), valueArray.getBoolean(i));
-                            }
-                        } else {
-                            size += com.google.protobuf.CodedOutputStream.computeBoolSize(
-                                    fieldDescriptor.getNumber(), (boolean) bValue);
-                        }
-                    } else if (bMessage instanceof Boolean) {
-                        size += com.google.protobuf.CodedOutputStream.computeBoolSize(fieldDescriptor
-                                .getNumber(), (boolean) bMessage);
-                    }
+    private int computeMessageSize(MessageCodec.Field field, Object bValue) {
+        Message message = new Message(field.getMessageCodec(), bValue);
+        if (nestedMessages == null) {
+            nestedMessages = new ArrayList<>();
+        }
+        nestedMessages.add(message);
+        int messageSize = message.getSerializedSize();
+        return field.getTagSize() + CodedOutputStream.computeUInt32SizeNoTag(messageSize) + messageSize;
+    }
+
+    private static void writeValueNoTag(CodedOutputStream output, MessageCodec.Field field, Object bValue)
+            throws IOException {
+        switch (field.type) {
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE:
+                output.writeDoubleNoTag(((Number) bValue).doubleValue());
+                break;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT_VALUE:
+                output.writeFloatNoTag(((Number) bValue).floatValue());
+                break;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64_VALUE:
+                output.writeInt64NoTag(((Number) bValue).longValue());
+                break;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_UINT64_VALUE:
+                output.writeUInt64NoTag(((Number) bValue).longValue());
+                break;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32_VALUE:
+                output.writeInt32NoTag(((Number) bValue).intValue());
+                break;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED64_VALUE:
+                output.writeFixed64NoTag(((Number) bValue).longValue());
+                break;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED32_VALUE:
+                output.writeFixed32NoTag(((Number) bValue).intValue());
+                break;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BOOL_VALUE:
+                output.writeBoolNoTag((boolean) bValue);
+                break;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING_VALUE:
+                output.writeStringNoTag(((BString) bValue).getValue());
+                break;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE:
+                output.writeEnumNoTag(field.getEnumNumber(((BString) bValue).getValue()));
+                break;
+            default:
+                throw Status.Code.INTERNAL.toStatus().withDescription("Error while writing output stream. " +
+                        "Field type is not supported : " + field.descriptor.getType()).asRuntimeException();
+        }
+    }
+
+    private static void writeElementNoTag(CodedOutputStream output, MessageCodec.Field field, ArrayValue valueArray,
+                                          int index) throws IOException {
+        switch (field.type) {
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE:
+                output.writeDoubleNoTag(valueArray.getFloat(index));
+                break;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT_VALUE:
+                output.writeFloatNoTag((float) valueArray.getFloat(index));
+                break;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64_VALUE:
+                output.writeInt64NoTag(valueArray.getInt(index));
+                break;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_UINT64_VALUE:
+                output.writeUInt64NoTag(valueArray.getInt(index));
+                break;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32_VALUE:
+                output.writeInt32NoTag((int) valueArray.getInt(index));
+                break;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED64_VALUE:
+                output.writeFixed64NoTag(valueArray.getInt(index));
+                break;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED32_VALUE:
+                output.writeFixed32NoTag((int) valueArray.getInt(index));
+                break;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BOOL_VALUE:
+                output.writeBoolNoTag(valueArray.getBoolean(index));
+                break;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING_VALUE:
+                output.writeStringNoTag(valueArray.getBString(index).getValue());
+                break;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE:
+                output.writeEnumNoTag(field.getEnumNumber(valueArray.getBString(index).getValue()));
+                break;
+            default:
+                throw Status.Code.INTERNAL.toStatus().withDescription("Error while writing output stream. " +
+                        "Field type is not supported : " + field.descriptor.getType()).asRuntimeException();
+        }
+    }
+
+    private static int computeValueSizeNoTag(MessageCodec.Field field, Object bValue) {
+        switch (field.type) {
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE:
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED64_VALUE:
+                return Long.BYTES;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT_VALUE:
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED32_VALUE:
+                return Integer.BYTES;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64_VALUE:
+                return CodedOutputStream.computeInt64SizeNoTag(((Number) bValue).longValue());
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_UINT64_VALUE:
+                return CodedOutputStream.computeUInt64SizeNoTag(((Number) bValue).longValue());
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32_VALUE:
+                return CodedOutputStream.computeInt32SizeNoTag(((Number) bValue).intValue());
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BOOL_VALUE:
+                return 1;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING_VALUE:
+                return CodedOutputStream.computeStringSizeNoTag(((BString) bValue).getValue());
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE:
+                return CodedOutputStream.computeEnumSizeNoTag(field.getEnumNumber(((BString) bValue).getValue()));
+            default:
+                throw Status.Code.INTERNAL.toStatus().withDescription(
+                        "Error while calculating the serialized type. Field type is not supported : "
+                                + field.descriptor.getType()).asRuntimeException();
+        }
+    }
+
+    /**
+     * Returns the size of the elements of a repeated field without their tags, which is the size of the data of the
+     * packed encoding.
+     */
+    private static int computePackedDataSize(MessageCodec.Field field, ArrayValue valueArray) {
+        int count = valueArray.size();
+        switch (field.type) {
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE:
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED64_VALUE:
+                return count * Long.BYTES;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT_VALUE:
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED32_VALUE:
+                return count * Integer.BYTES;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BOOL_VALUE:
+                return count;
+            default:
+                break;
+        }
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            switch (field.type) {
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64_VALUE:
+                    size += CodedOutputStream.computeInt64SizeNoTag(valueArray.getInt(i));
                     break;
-                }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                size += CodedOutputStream.computeStringSize(fieldDescriptor.getNumber(), valueArray
-                                        .getBString(i).getValue());
-                            }
-                        } else {
-                            size += CodedOutputStream.computeStringSize(fieldDescriptor.getNumber(),
-                                    ((BString) bValue).getValue());
-                        }
-                    } else if (bMessage instanceof BString) {
-                        size += CodedOutputStream.computeStringSize(fieldDescriptor.getNumber(),
-                                ((BString) bMessage).getValue());
-                    }
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_UINT64_VALUE:
+                    size += CodedOutputStream.computeUInt64SizeNoTag(valueArray.getInt(i));
                     break;
-                }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
-                        if (bValue instanceof ArrayValue
-                                && !fieldDescriptor.getMessageType().getFullName().equals(GOOGLE_PROTOBUF_ANY)) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                MapValue<BString, Object> value = (MapValue<BString, Object>) valueArray.getRefValue(i);
-                                Message message = new Message(fieldDescriptor.getMessageType(), value);
-                                size += computeMessageSize(fieldDescriptor, message);
-                            }
-                        } else {
-                            Message message = new Message(fieldDescriptor.getMessageType(), bValue);
-                            size += computeMessageSize(fieldDescriptor, message);
-                        }
-                    }
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32_VALUE:
+                    size += CodedOutputStream.computeInt32SizeNoTag((int) valueArray.getInt(i));
                     break;
-                }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
-
-                        size += com.google.protobuf.CodedOutputStream.computeEnumSize(
-                                fieldDescriptor.getNumber(),
-                                fieldDescriptor.getEnumType().findValueByName(((BString) bValue).getValue())
-                                        .getNumber());
-                    }
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING_VALUE:
+                    size += CodedOutputStream.computeStringSizeNoTag(valueArray.getBString(i).getValue());
                     break;
-                }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BYTES_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
-                        Object bValue = bMapValue.get(bFieldName);
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            size += com.google.protobuf.CodedOutputStream
-                                    .computeByteArraySize(fieldDescriptor.getNumber(), valueArray.getBytes());
-                        }
-                    } else if (bMessage instanceof ArrayValue) {
-                        ArrayValue valueArray = (ArrayValue) bMessage;
-                        size += com.google.protobuf.CodedOutputStream
-                                .computeByteArraySize(fieldDescriptor.getNumber(), valueArray.getBytes());
-                    }
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE:
+                    size += CodedOutputStream.computeEnumSizeNoTag(
+                            field.getEnumNumber(valueArray.getBString(i).getValue()));
                     break;
-                }
                 default:
                     throw Status.Code.INTERNAL.toStatus().withDescription(
                             "Error while calculating the serialized type. Field type is not supported : "
-                                    + fieldDescriptor.getType()).asRuntimeException();
-
+                                    + field.descriptor.getType()).asRuntimeException();
             }
         }
-        memoizedSize = size;
         return size;
     }
 
-    private int computeMessageSize(Descriptors.FieldDescriptor fieldDescriptor, Message message) {
-        return CodedOutputStream.computeTagSize(fieldDescriptor
-                .getNumber()) + CodedOutputStream.computeUInt32SizeNoTag
-                (message.getSerializedSize()) + message.getSerializedSize();
-    }
-
     public byte[] toByteArray() {
         try {
             final byte[] result = new byte[getSerializedSize()];
@@ -965,23 +723,16 @@ public class Message {
         }
     }
 
-
-    private Message readMessage(final Descriptors.FieldDescriptor fieldDescriptor, final BType bType,
-                                final CodedInputStream in) throws IOException {
+    private Message readMessage(final MessageCodec.Field field, final BType bType, final CodedInputStream in)
+            throws IOException {
         int length = in.readRawVarint32();
         final int oldLimit = in.pushLimit(length);
-        Message result = new MessageParser(fieldDescriptor.getMessageType(), bType).parseFrom(in);
+        MessageCodec fieldCodec = field.getMessageCodec();
+        Message result = new Message(fieldCodec.getDescriptor().getName(), bType, in, fieldCodec);
         in.popLimit(oldLimit);
         return result;
     }
 
-    private int getIntValue(Object value) {
-        if (value instanceof Long) {
-            return ((Long) value).intValue();
-        }
-        return (int) value;
-    }
-
     @Override
     public String toString() {
         StringBuilder payload = new StringBuilder("Message : ");
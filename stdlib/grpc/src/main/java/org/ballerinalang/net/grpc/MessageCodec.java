@@ -0,0 +1,207 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.net.grpc;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.DescriptorProtos;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.WireFormat;
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.values.api.BString;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encoding and decoding details of a proto message type, which are resolved once from the message descriptor. The
+ * fields of the message hold their Ballerina field names and their encoded tags, so that encoding or decoding a
+ * message neither looks up the descriptors nor creates field names.
+ *
+ * @since 2.0.0
+ */
+public class MessageCodec {
+
+    // fields with numbers below this are looked up from an array, the rest from a map
+    private static final int MAX_ARRAY_FIELD_NUMBER = 256;
+    private static final int TAG_TYPE_BITS = 3;
+
+    private final Descriptors.Descriptor descriptor;
+    private final Field[] fields;
+    private final Field[] fieldsByNumber;
+    private final Map<Integer, Field> sparseFields = new HashMap<>();
+
+    MessageCodec(Descriptors.Descriptor descriptor) {
+        this.descriptor = descriptor;
+        List<Descriptors.FieldDescriptor> fieldDescriptors = descriptor.getFields();
+        this.fields = new Field[fieldDescriptors.size()];
+        int maxNumber = 0;
+        for (Descriptors.FieldDescriptor fieldDescriptor : fieldDescriptors) {
+            if (fieldDescriptor.getNumber() < MAX_ARRAY_FIELD_NUMBER) {
+                maxNumber = Math.max(maxNumber, fieldDescriptor.getNumber());
+            }
+        }
+        this.fieldsByNumber = new Field[maxNumber + 1];
+        for (int i = 0; i < fields.length; i++) {
+            Field field = new Field(fieldDescriptors.get(i));
+            fields[i] = field;
+            if (field.number < MAX_ARRAY_FIELD_NUMBER) {
+                fieldsByNumber[field.number] = field;
+            } else {
+                sparseFields.put(field.number, field);
+            }
+        }
+    }
+
+    public Descriptors.Descriptor getDescriptor() {
+        return descriptor;
+    }
+
+    /**
+     * Returns the fields of the message in the order they are declared.
+     *
+     * @return message fields
+     */
+    Field[] getFields() {
+        return fields;
+    }
+
+    /**
+     * Returns the field a tag read from the wire belongs to. A repeated scalar field matches both its own tag and
+     * the tag of its packed encoding.
+     *
+     * @param tag tag read from the wire
+     * @return the field, or null if the message has no field for the tag
+     */
+    Field getField(int tag) {
+        int number = tag >>> TAG_TYPE_BITS;
+        Field field;
+        if (number < fieldsByNumber.length) {
+            field = fieldsByNumber[number];
+        } else {
+            field = sparseFields.get(number);
+        }
+        if (field == null || (tag != field.tag && tag != field.packedTag)) {
+            return null;
+        }
+        return field;
+    }
+
+    /**
+     * A field of a message, with the details needed to encode and decode it.
+     */
+    static final class Field {
+
+        final Descriptors.FieldDescriptor descriptor;
+        final BString name;
+        final int type;
+        final int number;
+        final int tag;
+        final byte[] tagBytes;
+        // the tag of the packed encoding, or -1 if the field is not packable
+        final int packedTag;
+        final byte[] packedTagBytes;
+        final boolean repeated;
+        final boolean packed;
+        final boolean anyTypeUrl;
+        // names of the enum values against their numbers and the reverse, if the field is an enum
+        private final Map<Integer, BString> enumNames;
+        private final Map<String, Integer> enumNumbers;
+        private volatile MessageCodec messageCodec;
+
+        private Field(Descriptors.FieldDescriptor descriptor) {
+            this.descriptor = descriptor;
+            this.name = StringUtils.fromString(descriptor.getName());
+            this.type = descriptor.getType().toProto().getNumber();
+            this.number = descriptor.getNumber();
+            this.tag = (number << TAG_TYPE_BITS) | MessageUtils.getFieldWireType(descriptor.getType());
+            this.tagBytes = toVarintBytes(tag);
+            this.repeated = descriptor.isRepeated();
+            if (repeated && descriptor.isPackable()) {
+                this.packedTag = (number << TAG_TYPE_BITS) | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+                this.packedTagBytes = toVarintBytes(packedTag);
+            } else {
+                this.packedTag = -1;
+                this.packedTagBytes = null;
+            }
+            this.packed = descriptor.isPacked();
+            this.anyTypeUrl = Message.GOOGLE_PROTOBUF_ANY_TYPE_URL.equals(descriptor.getFullName());
+            if (type == DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE) {
+                this.enumNames = new HashMap<>();
+                this.enumNumbers = new HashMap<>();
+                for (Descriptors.EnumValueDescriptor value : descriptor.getEnumType().getValues()) {
+                    enumNames.putIfAbsent(value.getNumber(), StringUtils.fromString(value.toString()));
+                    enumNumbers.putIfAbsent(value.getName(), value.getNumber());
+                }
+            } else {
+                this.enumNames = null;
+                this.enumNumbers = null;
+            }
+        }
+
+        /**
+         * Returns the codec of the message type of the field. The codec is resolved when it is first used, as
+         * message types may refer to themselves.
+         *
+         * @return codec of the field message type
+         */
+        MessageCodec getMessageCodec() {
+            MessageCodec codec = messageCodec;
+            if (codec == null) {
+                codec = MessageRegistry.getInstance().getMessageCodec(descriptor.getMessageType());
+                messageCodec = codec;
+            }
+            return codec;
+        }
+
+        BString getEnumName(int number) {
+            BString name = enumNames.get(number);
+            if (name == null) {
+                name = StringUtils.fromString(descriptor.getEnumType().findValueByNumber(number).toString());
+            }
+            return name;
+        }
+
+        int getEnumNumber(String name) {
+            Integer number = enumNumbers.get(name);
+            if (number == null) {
+                return descriptor.getEnumType().findValueByName(name).getNumber();
+            }
+            return number;
+        }
+
+        boolean isMessage() {
+            return type == DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE_VALUE;
+        }
+
+        int getTagSize() {
+            return tagBytes.length;
+        }
+
+        private static byte[] toVarintBytes(int value) {
+            byte[] bytes = new byte[CodedOutputStream.computeUInt32SizeNoTag(value)];
+            int i = 0;
+            while ((value & ~0x7F) != 0) {
+                bytes[i++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[i] = (byte) value;
+            return bytes;
+        }
+    }
+}
@@ -16,6 +16,9 @@
 package org.ballerinalang.net.grpc;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultLastHttpContent;
@@ -26,11 +29,6 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.nio.ByteBuffer;
-import java.util.ArrayList;
-import java.util.List;
-
-import static java.lang.Math.min;
 
 /**
  * Framer for gRPC messages to be delivered via the transport layer.
@@ -49,19 +47,17 @@ public class MessageFramer {
     private static final byte COMPRESSED = 1;
 
     private int maxOutboundMessageSize = NO_MAX_OUTBOUND_MESSAGE_SIZE;
-    private ByteBuffer buffer;
+    private ByteBuf buffer;
     private Compressor compressor = Codec.Identity.NONE;
     private boolean messageCompression = true;
     private final OutputStreamAdapter outputStreamAdapter = new OutputStreamAdapter();
-    private final byte[] headerScratch = new byte[HEADER_LENGTH];
     private final HttpCarbonMessage carbonMessage;
     private boolean closed;
 
     // Use 4k as our minimum buffer size.
     private static final int MIN_BUFFER = 4096;
 
-    // Set the maximum buffer size to 1MB
-    private static final int MAX_BUFFER = 1024 * 1024;
+    private static final ByteBufAllocator ALLOCATOR = PooledByteBufAllocator.DEFAULT;
 
     /**
      * Creates new {@link MessageFramer} instance.
@@ -115,32 +111,40 @@ public class MessageFramer {
         if (messageLength != -1) {
             return writeKnownLengthUncompressed(message, messageLength);
         }
-        BufferChainOutputStream bufferChain = new BufferChainOutputStream();
-        int written = writeToOutputStream(message, bufferChain);
-        if (maxOutboundMessageSize >= 0 && written > maxOutboundMessageSize) {
-            throw Status.Code.RESOURCE_EXHAUSTED.toStatus()
-                    .withDescription(
-                            String.format("message too large %d > %d", written, maxOutboundMessageSize))
-                    .asRuntimeException();
+        ByteBuf payload = ALLOCATOR.buffer(MIN_BUFFER);
+        try {
+            int written = writeToOutputStream(message, new ByteBufOutputStream(payload));
+            if (maxOutboundMessageSize >= 0 && written > maxOutboundMessageSize) {
+                throw Status.Code.RESOURCE_EXHAUSTED.toStatus()
+                        .withDescription(
+                                String.format("message too large %d > %d", written, maxOutboundMessageSize))
+                        .asRuntimeException();
+            }
+            writePayloadBuffer(payload, false);
+            return written;
+        } finally {
+            payload.release();
         }
-        writeBufferChain(bufferChain, false);
-        return written;
     }
 
     private int writeCompressed(InputStream message) throws IOException {
-        BufferChainOutputStream bufferChain = new BufferChainOutputStream();
-        int written;
-        try (OutputStream compressingStream = compressor.compress(bufferChain)) {
-            written = writeToOutputStream(message, compressingStream);
-        }
-        if (maxOutboundMessageSize >= 0 && written > maxOutboundMessageSize) {
-            throw Status.Code.RESOURCE_EXHAUSTED.toStatus()
-                    .withDescription(
-                            String.format("message too large %d > %d", written, maxOutboundMessageSize))
-                    .asRuntimeException();
+        ByteBuf payload = ALLOCATOR.buffer(MIN_BUFFER);
+        try {
+            int written;
+            try (OutputStream compressingStream = compressor.compress(new ByteBufOutputStream(payload))) {
+                written = writeToOutputStream(message, compressingStream);
+            }
+            if (maxOutboundMessageSize >= 0 && written > maxOutboundMessageSize) {
+                throw Status.Code.RESOURCE_EXHAUSTED.toStatus()
+                        .withDescription(
+                                String.format("message too large %d > %d", written, maxOutboundMessageSize))
+                        .asRuntimeException();
+            }
+            writePayloadBuffer(payload, true);
+            return written;
+        } finally {
+            payload.release();
         }
-        writeBufferChain(bufferChain, true);
-        return written;
     }
 
     private int getKnownLength(InputStream inputStream) throws IOException {
@@ -151,7 +155,8 @@ public class MessageFramer {
     }
 
     /**
-     * Write an unserialized/uncompressed message with a known length.
+     * Write an unserialized/uncompressed message with a known length. A proto message is encoded directly into the
+     * frame buffer.
      */
     private int writeKnownLengthUncompressed(InputStream message, int messageLength)
             throws IOException {
@@ -160,41 +165,26 @@ public class MessageFramer {
                     .withDescription(String.format("message too large %d > %d", messageLength, maxOutboundMessageSize))
                     .asRuntimeException();
         }
-        ByteBuffer header = ByteBuffer.wrap(headerScratch);
-        header.put(UNCOMPRESSED);
-        header.putInt(messageLength);
-        // Allocate the initial buffer chunk based on frame header + payload length.
-        if (buffer == null) {
-            buffer = ByteBuffer.allocate(header.position() + messageLength);
+        // Allocate the buffer based on frame header + payload length.
+        ensureWritable(HEADER_LENGTH + messageLength);
+        buffer.writeByte(UNCOMPRESSED);
+        buffer.writeInt(messageLength);
+        if (message instanceof ProtoInputStream) {
+            return ((ProtoInputStream) message).drainTo(buffer);
         }
-        writeRaw(headerScratch, 0, header.position());
         return writeToOutputStream(message, outputStreamAdapter);
     }
 
     /**
-     * Write a message that has been serialized to a sequence of buffers.
+     * Write a message that has been serialized to a buffer.
      */
-    private void writeBufferChain(BufferChainOutputStream bufferChain, boolean compressed) {
-        ByteBuffer header = ByteBuffer.wrap(headerScratch);
-        header.put(compressed ? COMPRESSED : UNCOMPRESSED);
-        int messageLength = bufferChain.readableBytes();
-        header.putInt(messageLength);
-
-        // Allocate the initial buffer chunk based on frame header + payload length.
-        if (buffer == null) {
-            buffer = ByteBuffer.allocate(header.position() + messageLength);
-        }
-        writeRaw(headerScratch, 0, header.position());
-        if (messageLength == 0) {
-            return;
-        }
-
-        List<ByteBuffer> bufferList = bufferChain.bufferList;
-        // Assign the current buffer to the last in the chain so it can be used
-        // for future writes or written with end-of-stream=true on close.
-        for (ByteBuffer byteBuffer : bufferList) {
-            buffer.put(byteBuffer.array(), 0, byteBuffer.limit() - 1);
-        }
+    private void writePayloadBuffer(ByteBuf payload, boolean compressed) {
+        int messageLength = payload.readableBytes();
+        // Allocate the buffer based on frame header + payload length.
+        ensureWritable(HEADER_LENGTH + messageLength);
+        buffer.writeByte(compressed ? COMPRESSED : UNCOMPRESSED);
+        buffer.writeInt(messageLength);
+        buffer.writeBytes(payload);
     }
 
     private static int writeToOutputStream(InputStream message, OutputStream outputStream)
@@ -207,18 +197,16 @@ public class MessageFramer {
     }
 
     private void writeRaw(byte[] b, int off, int len) {
-        while (len > 0) {
-            if (buffer != null && buffer.limit() == 0) {
-                commitToSink(false);
-            }
-            if (buffer == null) {
-                // InboundMessage a buffer allocation using the message length as a hint.
-                buffer = ByteBuffer.allocate(len);
-            }
-            int toWrite = min(len, buffer.limit());
-            buffer.put(b, off, toWrite);
-            off += toWrite;
-            len -= toWrite;
+        ensureWritable(len);
+        buffer.writeBytes(b, off, len);
+    }
+
+    private void ensureWritable(int length) {
+        if (buffer == null) {
+            // Use the length as a hint for the buffer allocation.
+            buffer = ALLOCATOR.buffer(length);
+        } else {
+            buffer.ensureWritable(length);
         }
     }
 
@@ -226,7 +214,7 @@ public class MessageFramer {
      * Writes any pending buffered data in the framer to carbon message.
      */
     public void flush() {
-        if (buffer != null && buffer.limit() > 0) {
+        if (buffer != null && buffer.isReadable()) {
             commitToSink(false);
         }
     }
@@ -247,7 +235,7 @@ public class MessageFramer {
         if (!isClosed()) {
             closed = true;
             //Release all the pending buffer before close.
-            if (buffer != null && buffer.limit() == 0) {
+            if (buffer != null && !buffer.isReadable()) {
                 releaseBuffer();
             }
             commitToSink(true);
@@ -264,16 +252,14 @@ public class MessageFramer {
 
     private void releaseBuffer() {
         if (buffer != null) {
-            buffer.clear();
+            buffer.release();
             buffer = null;
         }
     }
 
     private void commitToSink(boolean endOfStream) {
-        ByteBuf content = Unpooled.buffer(0);
-        if (buffer != null) {
-            content = Unpooled.wrappedBuffer((ByteBuffer) buffer.rewind());
-        }
+        // the transport releases the buffer once it is written
+        ByteBuf content = buffer != null ? buffer : Unpooled.EMPTY_BUFFER;
         if (endOfStream) {
             carbonMessage.addHttpContent(new DefaultLastHttpContent(content));
         } else {
@@ -313,65 +299,4 @@ public class MessageFramer {
             writeRaw(b, off, len);
         }
     }
-
-    /**
-     * Produce a collection of ByteBuffer instances from the data written to an
-     * {@link OutputStream}.
-     *
-     * <p>
-     * Referenced from grpc-java implementation.
-     * <p>
-     */
-    private static final class BufferChainOutputStream extends OutputStream {
-
-        private final List<ByteBuffer> bufferList = new ArrayList<ByteBuffer>();
-        private ByteBuffer current;
-
-        /**
-         * This is slow, don't call it.  If you care about write overhead, use a BufferedOutputStream.
-         * Better yet, you can use your own single byte buffer and call
-         * {@link #write(byte[], int, int)}.
-         */
-        @Override
-        public void write(int b) {
-            if (current != null && current.limit() > 0) {
-                current.put((byte) b);
-                return;
-            }
-            byte[] singleByte = new byte[]{(byte) b};
-            write(singleByte, 0, 1);
-        }
-
-        @Override
-        public void write(byte[] b, int off, int len) {
-            if (current == null) {
-                // InboundMessage len bytes initially from the allocator, it may give us more.
-                int capacityHint = Math.min(MAX_BUFFER, Math.max(MIN_BUFFER, len));
-                current = ByteBuffer.allocate(capacityHint);
-                bufferList.add(current);
-            }
-            while (len > 0) {
-                int canWrite = Math.min(len, current.limit());
-                if (canWrite == 0) {
-                    // Assume message is twice as large as previous assumption if were still not done,
-                    // the allocator may allocate more or less than this amount.
-                    int needed = Math.max(len, current.limit() * 2);
-                    current = ByteBuffer.allocate(needed);
-                    bufferList.add(current);
-                } else {
-                    current.put(b, off, canWrite);
-                    off += canWrite;
-                    len -= canWrite;
-                }
-            }
-        }
-
-        private int readableBytes() {
-            int readable = 0;
-            for (ByteBuffer writableBuffer : bufferList) {
-                readable += writableBuffer.limit();
-            }
-            return readable;
-        }
-    }
 }
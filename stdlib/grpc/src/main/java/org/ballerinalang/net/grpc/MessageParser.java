@@ -21,8 +21,6 @@ import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.net.grpc.exception.StatusRuntimeException;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Proto Message Parser.
@@ -33,19 +31,19 @@ public class MessageParser {
 
     private final String messageName;
     private final BType bType;
-    private final Map<Integer, Descriptors.FieldDescriptor> fieldDescriptors;
+    private final MessageCodec messageCodec;
 
     public MessageParser(String messageName, BType bType) {
         this.messageName = messageName;
         this.bType = bType;
         Descriptors.Descriptor messageDescriptor = MessageRegistry.getInstance().getMessageDescriptor(messageName);
-        this.fieldDescriptors = computeFieldTagValues(messageDescriptor);
+        this.messageCodec = getMessageCodec(messageDescriptor);
     }
 
     MessageParser(Descriptors.Descriptor descriptor, BType bType) {
         this.messageName = descriptor.getName();
         this.bType = bType;
-        this.fieldDescriptors = computeFieldTagValues(descriptor);
+        this.messageCodec = getMessageCodec(descriptor);
     }
 
     /**
@@ -54,7 +52,7 @@ public class MessageParser {
      * @return Message object with bValue
      */
     Message parseFrom(CodedInputStream input) throws IOException {
-        return new Message(messageName, bType, input, fieldDescriptors);
+        return new Message(messageName, bType, input, messageCodec);
     }
 
     /**
@@ -62,22 +60,15 @@ public class MessageParser {
      * @return message instance without bValue.
      */
     Message getDefaultInstance() throws IOException {
-        return new Message(messageName, bType, null, fieldDescriptors);
+        return new Message(messageName, bType, null, messageCodec);
     }
 
-    private Map<Integer, Descriptors.FieldDescriptor> computeFieldTagValues(Descriptors.Descriptor messageDescriptor) {
+    private MessageCodec getMessageCodec(Descriptors.Descriptor messageDescriptor) {
         if (messageDescriptor == null) {
             throw MessageUtils.getConnectorError(new StatusRuntimeException(Status
                     .fromCode(Status.Code.INTERNAL).withDescription("Couldn't find message descriptor for the " +
                             "message name: " + messageName)));
         }
-        Map<Integer, Descriptors.FieldDescriptor> fieldDescriptors = new HashMap<>();
-        for (Descriptors.FieldDescriptor fieldDescriptor : messageDescriptor.getFields()) {
-            Descriptors.FieldDescriptor.Type fieldType = fieldDescriptor.getType();
-            int number = fieldDescriptor.getNumber();
-            int byteCode = ((number << 3) + MessageUtils.getFieldWireType(fieldType));
-            fieldDescriptors.put(byteCode, fieldDescriptor);
-        }
-        return fieldDescriptors;
+        return MessageRegistry.getInstance().getMessageCodec(messageDescriptor);
     }
 }
@@ -20,16 +20,18 @@ import com.google.protobuf.Descriptors;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Proto Message Registry.
- * Contains message descriptor against message name.
+ * Contains message descriptor against message name, and the codec of each message type.
  *
  * @since 1.0.0
  */
 public class MessageRegistry {
 
     private Map<String, Descriptors.Descriptor> messageDescriptors = new HashMap<>();
+    private final Map<String, MessageCodec> messageCodecs = new ConcurrentHashMap<>();
 
     private static volatile MessageRegistry messageRegistry = new MessageRegistry();
 
@@ -47,6 +49,22 @@ public class MessageRegistry {
         return messageDescriptors.get(messageName);
     }
 
+    /**
+     * Returns the codec of a message type, creating it when the message type is first seen. Codecs are kept against
+     * the full message name, and replaced when a new descriptor is registered for the same name.
+     *
+     * @param messageDescriptor message descriptor
+     * @return codec of the message type
+     */
+    public MessageCodec getMessageCodec(Descriptors.Descriptor messageDescriptor) {
+        MessageCodec codec = messageCodecs.get(messageDescriptor.getFullName());
+        if (codec == null || codec.getDescriptor() != messageDescriptor) {
+            codec = new MessageCodec(messageDescriptor);
+            messageCodecs.put(messageDescriptor.getFullName(), codec);
+        }
+        return codec;
+    }
+
     public Map<String, Descriptors.Descriptor> getMessageDescriptorMap() {
         return Collections.unmodifiableMap(messageDescriptors);
     }
@@ -24,7 +24,6 @@ import io.netty.handler.codec.http.LastHttpContent;
 import org.wso2.transport.http.netty.message.HttpCarbonMessage;
 
 import java.io.InputStream;
-import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
@@ -169,8 +168,7 @@ public class OutboundMessage {
             framer().writePayload(entity);
             framer().flush();
         } else {
-            ByteBuffer byteBuffer = ByteBuffer.allocate(0);
-            responseMessage.addHttpContent(new DefaultLastHttpContent(Unpooled.wrappedBuffer(byteBuffer)));
+            responseMessage.addHttpContent(new DefaultLastHttpContent(Unpooled.EMPTY_BUFFER));
         }
     }
 
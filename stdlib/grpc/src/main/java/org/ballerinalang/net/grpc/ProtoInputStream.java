@@ -18,6 +18,8 @@
 package org.ballerinalang.net.grpc;
 
 import com.google.protobuf.CodedOutputStream;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -115,4 +117,30 @@ class ProtoInputStream extends InputStream implements Drainable, KnownLength {
         }
         return written;
     }
+
+    /**
+     * Encodes the message directly into the given buffer, without copying it through an intermediate array.
+     *
+     * @param target buffer to write the message to
+     * @return number of bytes written
+     * @throws IOException if the message cannot be written
+     */
+    int drainTo(ByteBuf target) throws IOException {
+        if (message == null) {
+            return drainTo(new ByteBufOutputStream(target));
+        }
+        int written = message.getSerializedSize();
+        target.ensureWritable(written);
+        if (target.nioBufferCount() != 1) {
+            return drainTo(new ByteBufOutputStream(target));
+        }
+        int writerIndex = target.writerIndex();
+        CodedOutputStream codedOutput = CodedOutputStream.newInstance(target.nioBuffer(writerIndex, written));
+        message.writeTo(codedOutput);
+        codedOutput.flush();
+        codedOutput.checkNoSpaceLeft();
+        target.writerIndex(writerIndex + written);
+        message = null;
+        return written;
+    }
 }
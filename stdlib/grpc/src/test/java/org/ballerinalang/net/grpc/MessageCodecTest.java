@@ -0,0 +1,346 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.net.grpc;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.DescriptorProtos;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.ValueCreator;
+import org.ballerinalang.jvm.values.api.BString;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Test class for the message codecs.
+ *
+ * @since 2.0.0
+ */
+public class MessageCodecTest {
+
+    // records are decoded through the value creator of the module they are defined in
+    private static final BPackage TEST_PACKAGE = new BPackage("grpctest", "codec", "0.1.0");
+
+    private final Map<String, BRecordType> recordTypes = new HashMap<>();
+    private Descriptors.Descriptor orderDescriptor;
+    private Descriptors.Descriptor customerDescriptor;
+    private Descriptors.Descriptor valueDescriptor;
+    private Descriptors.Descriptor readingDescriptor;
+    private Descriptors.EnumDescriptor statusDescriptor;
+
+    @BeforeClass
+    public void setup() throws Descriptors.DescriptorValidationException {
+        DescriptorProtos.FileDescriptorProto fileProto = DescriptorProtos.FileDescriptorProto.newBuilder()
+                .setName("codec_test.proto")
+                .setPackage("grpcservices")
+                .setSyntax("proto3")
+                .addMessageType(DescriptorProtos.DescriptorProto.newBuilder().setName("Order")
+                        .addField(field("ids", 1, DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64, true))
+                        .addField(field("name", 2, DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING, false))
+                        .addField(field("prices", 3, DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE, true))
+                        .addField(field("tags", 4, DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING, true))
+                        .addField(field("quantity", 300, DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32,
+                                false)))
+                .addMessageType(DescriptorProtos.DescriptorProto.newBuilder().setName("Customer")
+                        .addField(field("name", 1, DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING, false))
+                        .addField(field("orders", 2, DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE, true)
+                                .toBuilder().setTypeName(".grpcservices.Order"))
+                        .addField(field("latest", 3, DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE, false)
+                                .toBuilder().setTypeName(".grpcservices.Order")))
+                .addMessageType(DescriptorProtos.DescriptorProto.newBuilder().setName("Value")
+                        .addField(field("value", 1, DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE, false)))
+                .addEnumType(DescriptorProtos.EnumDescriptorProto.newBuilder().setName("Status")
+                        .addValue(DescriptorProtos.EnumValueDescriptorProto.newBuilder().setName("ACTIVE")
+                                .setNumber(0))
+                        .addValue(DescriptorProtos.EnumValueDescriptorProto.newBuilder().setName("SUSPENDED")
+                                .setNumber(1)))
+                .addMessageType(DescriptorProtos.DescriptorProto.newBuilder().setName("Reading")
+                        .addField(field("counts", 1, DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64, true))
+                        .addField(unpacked(field("unpackedCounts", 2,
+                                DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64, true)))
+                        .addField(field("values", 3, DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE, true))
+                        .addField(unpacked(field("unpackedValues", 4,
+                                DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE, true)))
+                        .addField(field("status", 5, DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM, false)
+                                .toBuilder().setTypeName(".grpcservices.Status"))
+                        .addField(field("statuses", 6, DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM, true)
+                                .toBuilder().setTypeName(".grpcservices.Status")))
+                .build();
+        Descriptors.FileDescriptor fileDescriptor = Descriptors.FileDescriptor.buildFrom(fileProto,
+                new Descriptors.FileDescriptor[0]);
+        orderDescriptor = fileDescriptor.findMessageTypeByName("Order");
+        customerDescriptor = fileDescriptor.findMessageTypeByName("Customer");
+        valueDescriptor = fileDescriptor.findMessageTypeByName("Value");
+        readingDescriptor = fileDescriptor.findMessageTypeByName("Reading");
+        statusDescriptor = fileDescriptor.findEnumTypeByName("Status");
+
+        BType intArray = new BArrayType(BTypes.typeInt);
+        BType floatArray = new BArrayType(BTypes.typeFloat);
+        BType stringArray = new BArrayType(BTypes.typeString);
+        BRecordType orderType = createRecordType("Order", "ids", intArray, "name", BTypes.typeString,
+                "prices", floatArray, "tags", stringArray, "quantity", BTypes.typeInt);
+        createRecordType("Customer", "name", BTypes.typeString, "orders", new BArrayType(orderType),
+                "latest", orderType);
+        createRecordType("Reading", "counts", intArray, "unpackedCounts", intArray, "values", floatArray,
+                "unpackedValues", floatArray, "status", BTypes.typeString, "statuses", stringArray);
+        ValueCreator.addValueCreator(TEST_PACKAGE.org, TEST_PACKAGE.name, TEST_PACKAGE.version, new ValueCreator() {
+            @Override
+            public MapValue<BString, Object> createRecordValue(String recordTypeName) {
+                return new MapValueImpl<>(recordTypes.get(recordTypeName));
+            }
+
+            @Override
+            public ObjectValue createObjectValue(String objectTypeName, Scheduler scheduler, Strand parent,
+                                                 Map<String, Object> properties, Object[] args) {
+                throw new UnsupportedOperationException(objectTypeName);
+            }
+        });
+    }
+
+    @Test(description = "Test fields are found by their tags, including the packed tags of repeated fields")
+    public void testFieldLookup() {
+        MessageCodec codec = MessageRegistry.getInstance().getMessageCodec(orderDescriptor);
+        Assert.assertSame(MessageRegistry.getInstance().getMessageCodec(orderDescriptor), codec);
+
+        Assert.assertEquals(codec.getField(1 << 3).name.getValue(), "ids");
+        Assert.assertEquals(codec.getField((1 << 3) | 2).name.getValue(), "ids");
+        Assert.assertEquals(codec.getField((2 << 3) | 2).name.getValue(), "name");
+        Assert.assertEquals(codec.getField(300 << 3).name.getValue(), "quantity");
+        Assert.assertNull(codec.getField(2 << 3));
+        Assert.assertNull(codec.getField(5 << 3));
+    }
+
+    @Test(description = "Test a record is encoded as protobuf encodes the same message")
+    public void testEncodeMessage() {
+        Message message = new Message(orderDescriptor, createOrder(7, "gold"));
+        byte[] bytes = message.toByteArray();
+        Assert.assertEquals(bytes.length, message.getSerializedSize());
+        Assert.assertEquals(bytes, buildOrder(7, "gold").toByteArray());
+    }
+
+    @Test(description = "Test nested and repeated messages are encoded as protobuf encodes the same message")
+    public void testEncodeNestedMessage() {
+        MapValueImpl<BString, Object> customer = new MapValueImpl<>();
+        customer.put(StringUtils.fromString("name"), StringUtils.fromString("Bob"));
+        customer.put(StringUtils.fromString("orders"), new ArrayValueImpl(
+                new Object[]{createOrder(1, "first"), createOrder(2, "second")}, new BArrayType(BTypes.typeMap)));
+        customer.put(StringUtils.fromString("latest"), createOrder(2, "second"));
+
+        DynamicMessage expected = DynamicMessage.newBuilder(customerDescriptor)
+                .setField(customerDescriptor.findFieldByName("name"), "Bob")
+                .addRepeatedField(customerDescriptor.findFieldByName("orders"), buildOrder(1, "first"))
+                .addRepeatedField(customerDescriptor.findFieldByName("orders"), buildOrder(2, "second"))
+                .setField(customerDescriptor.findFieldByName("latest"), buildOrder(2, "second"))
+                .build();
+        Assert.assertEquals(new Message(customerDescriptor, customer).toByteArray(), expected.toByteArray());
+    }
+
+    @Test(description = "Test a wrapper message is decoded, skipping the fields which are not known")
+    public void testDecodeSkipsUnknownFields() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        output.writeString(5, "unknown");
+        output.writeDouble(1, 2.5);
+        output.flush();
+
+        Message message = new MessageParser(valueDescriptor, BTypes.typeFloat)
+                .parseFrom(CodedInputStream.newInstance(bytes.toByteArray()));
+        Assert.assertEquals(message.getbMessage(), 2.5);
+    }
+
+    @Test(description = "Test a record encoded by protobuf is decoded, skipping the fields which are not known")
+    public void testDecodeMessage() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(buildOrder(7, "gold").toByteArray());
+        CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        output.writeString(5, "unknown");
+        output.writeInt64(6, 42);
+        output.writeFixed64(7, 1);
+        output.flush();
+
+        MapValue<BString, Object> order = decode(orderDescriptor, "Order", bytes.toByteArray());
+        assertOrder(order, 7, "gold");
+        Assert.assertEquals(order.size(), 5);
+    }
+
+    @Test(description = "Test packed and unpacked repeated fields and enums encoded by protobuf are decoded")
+    public void testDecodeRepeatedFields() throws IOException {
+        Descriptors.EnumValueDescriptor suspended = statusDescriptor.findValueByName("SUSPENDED");
+        Descriptors.EnumValueDescriptor active = statusDescriptor.findValueByName("ACTIVE");
+        DynamicMessage.Builder builder = DynamicMessage.newBuilder(readingDescriptor);
+        for (long count : new long[]{0, 150, -1, Long.MAX_VALUE}) {
+            builder.addRepeatedField(readingDescriptor.findFieldByName("counts"), count);
+            builder.addRepeatedField(readingDescriptor.findFieldByName("unpackedCounts"), count);
+        }
+        for (double value : new double[]{-0.5, 3.75}) {
+            builder.addRepeatedField(readingDescriptor.findFieldByName("values"), value);
+            builder.addRepeatedField(readingDescriptor.findFieldByName("unpackedValues"), value);
+        }
+        builder.setField(readingDescriptor.findFieldByName("status"), suspended);
+        builder.addRepeatedField(readingDescriptor.findFieldByName("statuses"), suspended);
+        builder.addRepeatedField(readingDescriptor.findFieldByName("statuses"), active);
+        byte[] bytes = builder.build().toByteArray();
+
+        MapValue<BString, Object> reading = decode(readingDescriptor, "Reading", bytes);
+        long[] counts = {0, 150, -1, Long.MAX_VALUE};
+        Assert.assertEquals(getArray(reading, "counts").getIntArray(), counts);
+        Assert.assertEquals(getArray(reading, "unpackedCounts").getIntArray(), counts);
+        double[] values = {-0.5, 3.75};
+        Assert.assertEquals(getFloats(getArray(reading, "values")), values);
+        Assert.assertEquals(getFloats(getArray(reading, "unpackedValues")), values);
+        Assert.assertEquals(((BString) reading.get(StringUtils.fromString("status"))).getValue(), suspended.toString());
+        ArrayValue statuses = getArray(reading, "statuses");
+        Assert.assertEquals(statuses.size(), 2);
+        Assert.assertEquals(statuses.getBString(0).getValue(), suspended.toString());
+        Assert.assertEquals(statuses.getBString(1).getValue(), active.toString());
+    }
+
+    @Test(description = "Test nested and repeated nested messages encoded by protobuf are decoded")
+    public void testDecodeNestedMessage() throws IOException {
+        DynamicMessage customer = DynamicMessage.newBuilder(customerDescriptor)
+                .setField(customerDescriptor.findFieldByName("name"), "Bob")
+                .addRepeatedField(customerDescriptor.findFieldByName("orders"), buildOrder(1, "first"))
+                .addRepeatedField(customerDescriptor.findFieldByName("orders"), buildOrder(2, "second"))
+                .setField(customerDescriptor.findFieldByName("latest"), buildOrder(3, "third"))
+                .build();
+
+        MapValue<BString, Object> decoded = decode(customerDescriptor, "Customer", customer.toByteArray());
+        Assert.assertEquals(decoded.get(StringUtils.fromString("name")).toString(), "Bob");
+        ArrayValue orders = getArray(decoded, "orders");
+        Assert.assertEquals(orders.size(), 2);
+        assertOrder(getRecord(orders.getRefValue(0)), 1, "first");
+        assertOrder(getRecord(orders.getRefValue(1)), 2, "second");
+        assertOrder(getRecord(decoded.get(StringUtils.fromString("latest"))), 3, "third");
+
+        // a record decodes to the same bytes it was encoded from
+        Assert.assertEquals(new Message(customerDescriptor, decoded).toByteArray(), customer.toByteArray());
+    }
+
+    private MapValue<BString, Object> decode(Descriptors.Descriptor descriptor, String recordTypeName, byte[] bytes)
+            throws IOException {
+        Message message = new MessageParser(descriptor, recordTypes.get(recordTypeName))
+                .parseFrom(CodedInputStream.newInstance(bytes));
+        return getRecord(message.getbMessage());
+    }
+
+    private static void assertOrder(MapValue<BString, Object> order, long quantity, String name) {
+        Assert.assertEquals(getArray(order, "ids").getIntArray(), new long[]{1, 300, -2});
+        Assert.assertEquals(order.get(StringUtils.fromString("name")).toString(), name);
+        Assert.assertEquals(getFloats(getArray(order, "prices")), new double[]{1.5, 2.25});
+        ArrayValue tags = getArray(order, "tags");
+        Assert.assertEquals(tags.size(), 2);
+        Assert.assertEquals(tags.getBString(0).getValue(), "a");
+        Assert.assertEquals(tags.getBString(1).getValue(), "b");
+        Assert.assertEquals(((Number) order.get(StringUtils.fromString("quantity"))).longValue(), quantity);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static MapValue<BString, Object> getRecord(Object value) {
+        Assert.assertTrue(value instanceof MapValue, String.valueOf(value));
+        return (MapValue<BString, Object>) value;
+    }
+
+    private static ArrayValue getArray(MapValue<BString, Object> record, String fieldName) {
+        Object value = record.get(StringUtils.fromString(fieldName));
+        Assert.assertTrue(value instanceof ArrayValue, fieldName);
+        return (ArrayValue) value;
+    }
+
+    private static double[] getFloats(ArrayValue array) {
+        double[] values = new double[array.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = array.getFloat(i);
+        }
+        return values;
+    }
+
+    // field names and types are given in pairs
+    private BRecordType createRecordType(String name, Object... fields) {
+        Map<String, BField> recordFields = new LinkedHashMap<>();
+        for (int i = 0; i < fields.length; i += 2) {
+            recordFields.put((String) fields[i], new BField((BType) fields[i + 1], (String) fields[i], 0));
+        }
+        BRecordType recordType = new BRecordType(name, TEST_PACKAGE, 0, recordFields, null, true, 0);
+        recordTypes.put(name, recordType);
+        return recordType;
+    }
+
+    private static MapValueImpl<BString, Object> createOrder(long quantity, String name) {
+        MapValueImpl<BString, Object> order = new MapValueImpl<>();
+        order.put(StringUtils.fromString("ids"), new ArrayValueImpl(new long[]{1, 300, -2}));
+        order.put(StringUtils.fromString("name"), StringUtils.fromString(name));
+        order.put(StringUtils.fromString("prices"), new ArrayValueImpl(new double[]{1.5, 2.25}));
+        order.put(StringUtils.fromString("tags"), new ArrayValueImpl(
+                new BString[]{StringUtils.fromString("a"), StringUtils.fromString("b")}));
+        order.put(StringUtils.fromString("quantity"), quantity);
+        return order;
+    }
+
+    private DynamicMessage buildOrder(int quantity, String name) {
+        DynamicMessage.Builder builder = DynamicMessage.newBuilder(orderDescriptor);
+        for (long id : new long[]{1, 300, -2}) {
+            builder.addRepeatedField(orderDescriptor.findFieldByName("ids"), id);
+        }
+        builder.setField(orderDescriptor.findFieldByName("name"), name);
+        for (double price : new double[]{1.5, 2.25}) {
+            builder.addRepeatedField(orderDescriptor.findFieldByName("prices"), price);
+        }
+        builder.addRepeatedField(orderDescriptor.findFieldByName("tags"), "a");
+        builder.addRepeatedField(orderDescriptor.findFieldByName("tags"), "b");
+        builder.setField(orderDescriptor.findFieldByName("quantity"), quantity);
+        return builder.build();
+    }
+
+    private static DescriptorProtos.FieldDescriptorProto unpacked(DescriptorProtos.FieldDescriptorProto field) {
+        return field.toBuilder().setOptions(DescriptorProtos.FieldOptions.newBuilder().setPacked(false)).build();
+    }
+
+    private static DescriptorProtos.FieldDescriptorProto field(String name, int number,
+                                                              DescriptorProtos.FieldDescriptorProto.Type type,
+                                                              boolean repeated) {
+        return DescriptorProtos.FieldDescriptorProto.newBuilder()
+                .setName(name)
+                .setNumber(number)
+                .setType(type)
+                .setLabel(repeated ? DescriptorProtos.FieldDescriptorProto.Label.LABEL_REPEATED :
+                        DescriptorProtos.FieldDescriptorProto.Label.LABEL_OPTIONAL)
+                .build();
+    }
+}
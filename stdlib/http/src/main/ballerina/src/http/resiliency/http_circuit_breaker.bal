@@ -14,7 +14,7 @@
 // specific language governing permissions and limitations
 // under the License.
 
-import ballerina/log;
+import ballerina/java;
 import ballerina/time;
 
 # A finite type for modeling the states of the Circuit Breaker. The Circuit Breaker starts in the `CLOSED` state.
@@ -37,7 +37,8 @@ public const CB_HALF_OPEN_STATE = "HALF_OPEN";
 # will trip and move to the `OPEN` state.
 public const CB_CLOSED_STATE = "CLOSED";
 
-# Maintains the health of the Circuit Breaker.
+# Maintains the health of the Circuit Breaker. Only the `startTime` is used by the Circuit Breaker, which keeps the
+# rest of the health natively, hence the other fields are not updated.
 #
 # + lastRequestSuccess - Whether last request is success or not
 # + totalRequestCount - Total request count received within the `RollingWindow`
@@ -120,15 +121,23 @@ public type CircuitBreakerInferredConfig record {|
 # + config - The configurations of the client endpoint associated with this `CircuitBreaker` instance
 # + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
 # + httpClient - The underlying `HttpActions` instance which will be making the actual network calls
-# + circuitHealth - The circuit health monitor
-# + currentCircuitState - The current state the circuit is in
 public type CircuitBreakerClient client object {
 
     public string url;
     public ClientConfiguration config;
     public CircuitBreakerInferredConfig circuitBreakerInferredConfig;
     public HttpClient httpClient;
+    # The circuit health monitor, which provides the start time of the circuit
+    # # Deprecated
+    # The counters and the buckets of the circuit health are not updated. Use `getCurrentState()` to get the state of
+    # the circuit.
+    @deprecated
     public CircuitHealth circuitHealth;
+    # The state the circuit was in after the last call
+    # # Deprecated
+    # The state is updated only after the calls made through this client. Use `getCurrentState()` to get the current
+    # state of the circuit.
+    @deprecated
     public CircuitState currentCircuitState = CB_CLOSED_STATE;
 
     # A Circuit Breaker implementation which can be used to gracefully handle network failures.
@@ -137,7 +146,7 @@ public type CircuitBreakerClient client object {
     # + config - The configurations of the client endpoint associated with this `CircuitBreaker` instance
     # + circuitBreakerInferredConfig - Configurations derived from the `http:CircuitBreakerConfig`
     # + httpClient - The underlying `HttpActions` instance, which will be making the actual network calls
-    # + circuitHealth - The circuit health monitor
+    # + circuitHealth - The circuit health monitor, which provides the start time of the circuit
     public function init(string url, ClientConfiguration config, CircuitBreakerInferredConfig
         circuitBreakerInferredConfig, HttpClient httpClient, CircuitHealth circuitHealth) {
         RollingWindow rollingWindow = circuitBreakerInferredConfig.rollingWindow;
@@ -150,6 +159,9 @@ public type CircuitBreakerClient client object {
         self.circuitBreakerInferredConfig = circuitBreakerInferredConfig;
         self.httpClient = httpClient;
         self.circuitHealth = circuitHealth;
+        externInitCircuitBreaker(self, circuitBreakerInferredConfig.failureThreshold,
+            circuitBreakerInferredConfig.resetTimeInMillis, rollingWindow.requestVolumeThreshold,
+            rollingWindow.timeWindowInMillis, rollingWindow.bucketSizeInMillis, circuitHealth.startTime.time);
     }
 
     # The POST remote function implementation of the Circuit Breaker. This wraps the `CircuitBreakerClient.post()`
@@ -161,15 +173,14 @@ public type CircuitBreakerClient client object {
     # + return - The response for the request or an `http:ClientError` if failed to establish communication with the upstream
     #            server
     public remote function post(string path, RequestMessage message) returns Response|ClientError {
-        CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        CircuitState currentState = <CircuitState> externUpdateCircuitState(self);
 
-        if (self.currentCircuitState == CB_OPEN_STATE) {
+        if (currentState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self);
         } else {
             var serviceResponse = self.httpClient->post(path, <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self);
         }
     }
 
@@ -182,15 +193,14 @@ public type CircuitBreakerClient client object {
     # + return - The response for the request or an `http:ClientError` if failed to establish communication with the upstream
     #            server
     public remote function head(string path, public RequestMessage message = ()) returns Response|ClientError {
-        CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        CircuitState currentState = <CircuitState> externUpdateCircuitState(self);
 
-        if (self.currentCircuitState == CB_OPEN_STATE) {
+        if (currentState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self);
         } else {
             var serviceResponse = self.httpClient->head(path, message = <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self);
         }
     }
 
@@ -203,15 +213,14 @@ public type CircuitBreakerClient client object {
     # + return - The response for the request or an `http:ClientError` if failed to establish communication with the upstream
     #            server
     public remote function put(string path, RequestMessage message) returns Response|ClientError {
-        CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        CircuitState currentState = <CircuitState> externUpdateCircuitState(self);
 
-        if (self.currentCircuitState == CB_OPEN_STATE) {
+        if (currentState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self);
         } else {
             var serviceResponse = self.httpClient->put(path, <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self);
         }
     }
 
@@ -225,15 +234,14 @@ public type CircuitBreakerClient client object {
     # + return - The response for the request or an `http:ClientError` if failed to establish communication with the upstream
     #            server
     public remote function execute(string httpVerb, string path, RequestMessage message) returns Response|ClientError {
-        CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        CircuitState currentState = <CircuitState> externUpdateCircuitState(self);
 
-        if (self.currentCircuitState == CB_OPEN_STATE) {
+        if (currentState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self);
         } else {
             var serviceResponse = self.httpClient->execute(httpVerb, path, <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self);
         }
     }
 
@@ -246,15 +254,14 @@ public type CircuitBreakerClient client object {
     # + return - The response for the request or an `http:ClientError` if failed to establish communication with the upstream
     #            server
     public remote function patch(string path, RequestMessage message) returns Response|ClientError {
-        CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        CircuitState currentState = <CircuitState> externUpdateCircuitState(self);
 
-        if (self.currentCircuitState == CB_OPEN_STATE) {
+        if (currentState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self);
         } else {
             var serviceResponse = self.httpClient->patch(path, <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self);
         }
     }
 
@@ -267,15 +274,14 @@ public type CircuitBreakerClient client object {
     # + return - The response for the request or an `http:ClientError` if failed to establish communication with the upstream
     #            server
     public remote function delete(string path, public RequestMessage message = ()) returns Response|ClientError {
-        CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        CircuitState currentState = <CircuitState> externUpdateCircuitState(self);
 
-        if (self.currentCircuitState == CB_OPEN_STATE) {
+        if (currentState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self);
         } else {
             var serviceResponse = self.httpClient->delete(path, <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self);
         }
     }
 
@@ -288,15 +294,14 @@ public type CircuitBreakerClient client object {
     # + return - The response for the request or an `http:ClientError` if failed to establish communication with the upstream
     #            server
     public remote function get(string path, public RequestMessage message = ()) returns Response|ClientError {
-        CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        CircuitState currentState = <CircuitState> externUpdateCircuitState(self);
 
-        if (self.currentCircuitState == CB_OPEN_STATE) {
+        if (currentState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self);
         } else {
             var serviceResponse = self.httpClient->get(path, message = <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self);
         }
     }
 
@@ -309,15 +314,14 @@ public type CircuitBreakerClient client object {
     # + return - The response for the request or an `http:ClientError` if failed to establish communication with the upstream
     #            server
     public remote function options(string path, public RequestMessage message = ()) returns Response|ClientError {
-        CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        CircuitState currentState = <CircuitState> externUpdateCircuitState(self);
 
-        if (self.currentCircuitState == CB_OPEN_STATE) {
+        if (currentState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self);
         } else {
             var serviceResponse = self.httpClient->options(path, message = <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self);
         }
     }
 
@@ -329,15 +333,14 @@ public type CircuitBreakerClient client object {
     # + return - The response for the request or an `http:ClientError` if failed to establish communication with the upstream
     #            server
     public remote function forward(string path, Request request) returns Response|ClientError {
-        CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        CircuitState currentState = <CircuitState> externUpdateCircuitState(self);
 
-        if (self.currentCircuitState == CB_OPEN_STATE) {
+        if (currentState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self);
         } else {
             var serviceResponse = self.httpClient->forward(path, request);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self);
         }
     }
 
@@ -352,19 +355,19 @@ public type CircuitBreakerClient client object {
     # + return - An `http:HttpFuture` that represents an asynchronous service invocation or else an `http:ClientError` if the submission
     #            fails
     public remote function submit(string httpVerb, string path, RequestMessage message) returns HttpFuture|ClientError {
-        CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        CircuitState currentState = <CircuitState> externUpdateCircuitState(self);
 
-        if (self.currentCircuitState == CB_OPEN_STATE) {
+        if (currentState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self);
         } else {
             var serviceFuture = self.httpClient->submit(httpVerb, path, <Request>message);
             if (serviceFuture is HttpFuture) {
                 var serviceResponse = self.httpClient->getResponse(serviceFuture);
-                var result = updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+                var result = updateCircuitHealthAndRespond(serviceResponse, self);
             } else {
-                updateCircuitHealthFailure(self.circuitHealth, cbic);
+                externRecordCircuitFailure(self);
+                self.currentCircuitState = self.getCurrentState();
             }
             return serviceFuture;
         }
@@ -415,136 +418,45 @@ public type CircuitBreakerClient client object {
     # Force the circuit into a closed state in which it will allow requests regardless of the error percentage
     # until the failure threshold exceeds.
     public function forceClose() {
-        self.currentCircuitState = CB_CLOSED_STATE;
+        externForceCloseCircuit(self);
+        self.currentCircuitState = self.getCurrentState();
     }
 
     # Force the circuit into a open state in which it will suspend all requests
     # until `resetTimeInMillis` interval exceeds.
     public function forceOpen() {
-        self.currentCircuitState = CB_OPEN_STATE;
-        self.circuitHealth.lastForcedOpenTime = time:currentTime();
+        externForceOpenCircuit(self);
+        self.currentCircuitState = self.getCurrentState();
     }
 
     # Provides the `http:CircuitState` of the circuit breaker.
     #
     # + return - The current `http:CircuitState` of the circuit breaker
     public function getCurrentState() returns CircuitState {
-        return self.currentCircuitState;
+        return <CircuitState> externGetCircuitState(self);
     }
 };
 
 
-# Updates the circuit state.
-#
-# + circuitHealth - Circuit Breaker health status
-# + currentStateValue - Circuit Breaker current state value
-# + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
-# + return - State of the circuit
-function updateCircuitState(CircuitHealth circuitHealth, CircuitState currentStateValue,
-                            CircuitBreakerInferredConfig circuitBreakerInferredConfig) returns CircuitState {
-    lock {
-        CircuitState currentState = currentStateValue;
-        prepareRollingWindow(circuitHealth, circuitBreakerInferredConfig);
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        updateLastUsedBucketId(currentBucketId, circuitHealth);
-        circuitHealth.lastRequestTime = time:currentTime();
-        int totalRequestsCount = getTotalRequestsCount(circuitHealth);
-        circuitHealth.totalRequestCount = totalRequestsCount;
-        if (totalRequestsCount >= circuitBreakerInferredConfig.rollingWindow.requestVolumeThreshold) {
-            if (currentState == CB_OPEN_STATE) {
-                currentState = switchCircuitStateOpenToHalfOpenOnResetTime(circuitBreakerInferredConfig,
-                                                                                    circuitHealth, currentState);
-            } else if (currentState == CB_HALF_OPEN_STATE) {
-                if (!circuitHealth.lastRequestSuccess) {
-                    // If the trial run has failed, trip the circuit again
-                    currentState = CB_OPEN_STATE;
-                    log:printInfo("CircuitBreaker trial run has failed. Circuit switched from HALF_OPEN to OPEN state.")
-                    ;
-                } else {
-                    // If the trial run was successful reset the circuit
-                    currentState = CB_CLOSED_STATE;
-                    log:printInfo(
-                        "CircuitBreaker trial run  was successful. Circuit switched from HALF_OPEN to CLOSE state.");
-                }
-            } else {
-                float currentFailureRate = getCurrentFailureRatio(circuitHealth);
-
-                if (currentFailureRate > circuitBreakerInferredConfig.failureThreshold) {
-                    currentState = CB_OPEN_STATE;
-                    log:printInfo("CircuitBreaker failure threshold exceeded. Circuit tripped from CLOSE to OPEN state."
-                    );
-                }
-            }
-        } else {
-            currentState = switchCircuitStateOpenToHalfOpenOnResetTime(circuitBreakerInferredConfig,
-                                                                                    circuitHealth, currentState);
-        }
-        Bucket bucket = <Bucket> circuitHealth.totalBuckets[currentBucketId];
-        bucket.totalCount += 1;
-        return currentState;
-    }
-}
-
-function updateCircuitHealthAndRespond(Response|ClientError serviceResponse, CircuitHealth circuitHealth,
-                               CircuitBreakerInferredConfig circuitBreakerInferredConfig) returns Response|ClientError {
+function updateCircuitHealthAndRespond(Response|ClientError serviceResponse, CircuitBreakerClient cbClient)
+                                        returns Response|ClientError {
     if (serviceResponse is Response) {
-        if (circuitBreakerInferredConfig.statusCodes[serviceResponse.statusCode]) {
-            updateCircuitHealthFailure(circuitHealth, circuitBreakerInferredConfig);
+        if (cbClient.circuitBreakerInferredConfig.statusCodes[serviceResponse.statusCode]) {
+            externRecordCircuitFailure(cbClient);
         } else {
-            updateCircuitHealthSuccess(circuitHealth, circuitBreakerInferredConfig);
+            externRecordCircuitSuccess(cbClient);
         }
     } else {
-        updateCircuitHealthFailure(circuitHealth, circuitBreakerInferredConfig);
+        externRecordCircuitFailure(cbClient);
     }
+    cbClient.currentCircuitState = cbClient.getCurrentState();
     return serviceResponse;
 }
 
-function updateCircuitHealthFailure(CircuitHealth circuitHealth,
-                                    CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-    lock {
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        circuitHealth.lastRequestSuccess = false;
-        updateLastUsedBucketId(currentBucketId, circuitHealth);
-        Bucket bucket = <Bucket> circuitHealth.totalBuckets[currentBucketId];
-        bucket.failureCount += 1;
-        time:Time lastUpdated = time:currentTime();
-        circuitHealth.lastErrorTime = lastUpdated;
-        Bucket?[] buckets = circuitHealth.totalBuckets;
-        if (buckets is Bucket[]) {
-            //TODO:Get this verified
-            time:Time? lastUpdatedTime = buckets[currentBucketId]?.lastUpdatedTime;
-            if (lastUpdatedTime is time:Time) {
-                lastUpdatedTime = lastUpdated;
-            }
-        }
-    }
-}
-
-function updateCircuitHealthSuccess(CircuitHealth circuitHealth,
-                                    CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-    lock {
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        time:Time lastUpdated = time:currentTime();
-        updateLastUsedBucketId(currentBucketId, circuitHealth);
-        circuitHealth.lastRequestSuccess = true;
-        Bucket?[] buckets = circuitHealth.totalBuckets;
-        if (buckets is Bucket[]) {
-            //TODO:Get this verified
-            time:Time? lastUpdatedTime = buckets[currentBucketId]?.lastUpdatedTime;
-            if (lastUpdatedTime is time:Time) {
-                lastUpdatedTime = lastUpdated;
-            }
-        }
-    }
-}
-
 // Handles open circuit state.
-function handleOpenCircuit(CircuitHealth circuitHealth, CircuitBreakerInferredConfig circuitBreakerInferredConfig)
-             returns (ClientError) {
-    time:Time effectiveErrorTime = getEffectiveErrorTime(circuitHealth);
-    int timeDif = time:currentTime().time - effectiveErrorTime.time;
-    int timeRemaining = circuitBreakerInferredConfig.resetTimeInMillis - timeDif;
-    updateRejectedRequestCount(circuitHealth, circuitBreakerInferredConfig);
+function handleOpenCircuit(CircuitBreakerClient cbClient) returns ClientError {
+    int timeRemaining = externRecordCircuitRejection(cbClient);
+    cbClient.currentCircuitState = cbClient.getCurrentState();
     string errorMessage = "Upstream service unavailable. Requests to upstream service will be suspended for "
         + timeRemaining.toString() + " milliseconds.";
     return UpstreamServiceUnavailableError(errorMessage);
@@ -560,176 +472,52 @@ function validateCircuitBreakerConfiguration(CircuitBreakerConfig circuitBreaker
     }
 }
 
-# Calculates a failure at a given point.
-#
-# + circuitHealth - Circuit Breaker health status
-# + return - Current failure ratio
-function getCurrentFailureRatio(CircuitHealth circuitHealth) returns float {
-    int totalCount = 0;
-    int totalFailures = 0;
-
-    foreach var optBucket in circuitHealth.totalBuckets {
-        var bucket = <Bucket>optBucket;
-        totalCount =  totalCount + bucket.failureCount +
-                                        (bucket.totalCount - (bucket.failureCount + bucket.rejectedCount));
-        totalFailures = totalFailures + bucket.failureCount;
-    }
-    float ratio = 0.0;
-    if (totalCount > 0) {
-        ratio = <float> totalFailures / totalCount;
-    }
-    return ratio;
-}
-
-# Calculates the total requests count within a `RollingWindow`.
-#
-# + circuitHealth - Circuit Breaker health status
-# + return - Total requests count
-function getTotalRequestsCount(CircuitHealth circuitHealth) returns int {
-    int totalCount = 0;
-
-    foreach var bucket in circuitHealth.totalBuckets {
-        Bucket temp = <Bucket>bucket;
-        totalCount  =  totalCount + temp.totalCount;
-    }
-    return totalCount;
-}
-
-# Calculates the current bucket ID.
-#
-# + circuitHealth - Circuit Breaker health status
-# + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
-# + return - Current bucket id
-function getCurrentBucketId(CircuitHealth circuitHealth, CircuitBreakerInferredConfig circuitBreakerInferredConfig)
-             returns int {
-    int elapsedTime = (time:currentTime().time - circuitHealth.startTime.time) % circuitBreakerInferredConfig.
-        rollingWindow.timeWindowInMillis;
-    int currentBucketId = ((elapsedTime / circuitBreakerInferredConfig.rollingWindow.bucketSizeInMillis) + 1)
-        % circuitBreakerInferredConfig.noOfBuckets;
-    return currentBucketId;
-}
-
-# Updates the rejected requests count.
-#
-# + circuitHealth - Circuit Breaker health status
-# + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
-function updateRejectedRequestCount(CircuitHealth circuitHealth,
-                                                CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-
-    int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-    updateLastUsedBucketId(currentBucketId, circuitHealth);
-    Bucket bucket = <Bucket>circuitHealth.totalBuckets[currentBucketId];
-    bucket.rejectedCount += 1;
-}
-
-# Resets the bucket values to the default ones.
-#
-# + circuitHealth - - Circuit Breaker health status.
-# + bucketId - - Id of the bucket should reset.
-function resetBucketStats(CircuitHealth circuitHealth, int bucketId) {
-    circuitHealth.totalBuckets[bucketId] = {};
-}
-
-function getEffectiveErrorTime(CircuitHealth circuitHealth) returns time:Time {
-    time:Time? lastErrorTime = circuitHealth?.lastErrorTime;
-    time:Time? lastForcedOpenTime = circuitHealth?.lastForcedOpenTime;
-    if (lastErrorTime is time:Time && lastForcedOpenTime is time:Time) {
-     return (lastErrorTime.time > lastForcedOpenTime.time)
-        ? lastErrorTime : lastForcedOpenTime;
-    }
-    //TODO:What to send?
-    return time:currentTime();
-}
-
-# Populates the `RollingWindow` statistics to handle circuit breaking within the `RollingWindow` time frame.
-#
-# + circuitHealth - Circuit Breaker health status
-# + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
-function prepareRollingWindow(CircuitHealth circuitHealth, CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-
-    int currentTime = time:currentTime().time;
-    time:Time? lastRequestTime = circuitHealth?.lastRequestTime;
-    //TODO:Get this logic verified
-    int idleTime = 0;
-    if (lastRequestTime is time:Time) {
-        idleTime = currentTime - lastRequestTime.time;
-    }
-    RollingWindow rollingWindow = circuitBreakerInferredConfig.rollingWindow;
-    // If the time duration between two requests greater than timeWindowInMillis values, reset the buckets to default.
-    if (idleTime > rollingWindow.timeWindowInMillis) {
-        reInitializeBuckets(circuitHealth);
-    } else {
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        int lastUsedBucketId = circuitHealth.lastUsedBucketId;
-        // Check whether subsequent requests received within same bucket(sub time window). If the idle time is greater
-        // than bucketSizeInMillis means subsequent calls are received time exceeding the rolling window. if we need to
-        // reset the buckets to default.
-        if (currentBucketId == circuitHealth.lastUsedBucketId && idleTime > rollingWindow.bucketSizeInMillis) {
-            reInitializeBuckets(circuitHealth);
-        // If the current bucket (sub time window) is less than last updated bucket. Stats of the current bucket to
-        // zeroth bucket and Last bucket to last used bucket needs to be reset to default.
-        } else if (currentBucketId < lastUsedBucketId) {
-            int index = currentBucketId;
-            while (index >= 0) {
-                resetBucketStats(circuitHealth, index);
-                index -= 1;
-            }
-            int lastIndex = (circuitHealth.totalBuckets.length()) - 1;
-            while (lastIndex > currentBucketId) {
-                resetBucketStats(circuitHealth, lastIndex);
-                lastIndex -= 1;
-            }
-        } else {
-            // If the current bucket (sub time window) is greater than last updated bucket. Stats of current bucket to
-            // last used bucket needs to be reset without resetting last used bucket stat.
-            while (currentBucketId > lastUsedBucketId && idleTime > rollingWindow.bucketSizeInMillis) {
-                resetBucketStats(circuitHealth, currentBucketId);
-                currentBucketId -= 1;
-            }
-        }
-    }
-}
-
-# Reinitializes the Buckets to the default state.
-#
-# + circuitHealth - Circuit Breaker health status
-function reInitializeBuckets(CircuitHealth circuitHealth) {
-    Bucket?[] bucketArray = [];
-    int bucketIndex = 0;
-    while (bucketIndex < circuitHealth.totalBuckets.length()) {
-        bucketArray[bucketIndex] = {};
-        bucketIndex += 1;
-    }
-    circuitHealth.totalBuckets = bucketArray;
-}
-
-# Updates the `lastUsedBucketId` in `CircuitHealth`.
-#
-# + bucketId - Possition of the currrently used bucket
-# + circuitHealth - Circuit Breaker health status
-function updateLastUsedBucketId(int bucketId, CircuitHealth circuitHealth) {
-    if (bucketId != circuitHealth.lastUsedBucketId) {
-        resetBucketStats(circuitHealth, bucketId);
-        circuitHealth.lastUsedBucketId = bucketId;
-    }
-}
-
-# Switches circuit state from open to half open state when reset time exceeded.
-#
-# + circuitBreakerInferredConfig -  Configurations derived from `CircuitBreakerConfig`
-# + circuitHealth - Circuit Breaker health status
-# + currentState - current state of the circuit
-# + return - Calculated state value of the circuit
-function switchCircuitStateOpenToHalfOpenOnResetTime(CircuitBreakerInferredConfig circuitBreakerInferredConfig,
-                                        CircuitHealth circuitHealth, CircuitState currentState) returns CircuitState {
-    CircuitState currentCircuitState = currentState;
-    if (currentState == CB_OPEN_STATE) {
-        time:Time effectiveErrorTime = getEffectiveErrorTime(circuitHealth);
-        int elapsedTime = time:currentTime().time - effectiveErrorTime.time;
-        if (elapsedTime > circuitBreakerInferredConfig.resetTimeInMillis) {
-            currentCircuitState = CB_HALF_OPEN_STATE;
-            log:printInfo("CircuitBreaker reset timeout reached. Circuit switched from OPEN to HALF_OPEN state.");
-        }
-    }
-    return currentCircuitState;
-}
+function externInitCircuitBreaker(CircuitBreakerClient cbClient, float failureThreshold, int resetTimeInMillis,
+                                  int requestVolumeThreshold, int timeWindowInMillis, int bucketSizeInMillis,
+                                  int startTime) =
+@java:Method {
+    class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitBreaker",
+    name: "init"
+} external;
+
+function externUpdateCircuitState(CircuitBreakerClient cbClient) returns string =
+@java:Method {
+    class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitBreaker",
+    name: "updateState"
+} external;
+
+function externRecordCircuitSuccess(CircuitBreakerClient cbClient) =
+@java:Method {
+    class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitBreaker",
+    name: "recordSuccess"
+} external;
+
+function externRecordCircuitFailure(CircuitBreakerClient cbClient) =
+@java:Method {
+    class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitBreaker",
+    name: "recordFailure"
+} external;
+
+function externRecordCircuitRejection(CircuitBreakerClient cbClient) returns int =
+@java:Method {
+    class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitBreaker",
+    name: "recordRejection"
+} external;
+
+function externForceOpenCircuit(CircuitBreakerClient cbClient) =
+@java:Method {
+    class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitBreaker",
+    name: "forceOpen"
+} external;
+
+function externForceCloseCircuit(CircuitBreakerClient cbClient) =
+@java:Method {
+    class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitBreaker",
+    name: "forceClose"
+} external;
+
+function externGetCircuitState(CircuitBreakerClient cbClient) returns string =
+@java:Method {
+    class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitBreaker",
+    name: "getState"
+} external;
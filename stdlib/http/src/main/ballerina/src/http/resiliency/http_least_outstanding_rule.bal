@@ -0,0 +1,40 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/java;
+
+# Implementation of the least outstanding requests load balancing strategy. The client with the least number of
+# in-flight requests is chosen, hence slower targets receive fewer requests.
+public type LoadBalancerLeastOutstandingRule object {
+
+    # Provides an HTTP client, which is chosen according to the least outstanding requests algorithm.
+    #
+    # + loadBalanceCallerActionsArray - Array of HTTP clients, which needs to be load balanced
+    # + return - Chosen `http:Client` from the algorithm or else an `http:ClientError` if there are no clients
+    public function getNextClient(Client?[] loadBalanceCallerActionsArray) returns Client|ClientError {
+        Client? httpClient = externGetLeastOutstandingRequestsClient(loadBalanceCallerActionsArray);
+        if (httpClient is Client) {
+            return httpClient;
+        }
+        return GenericClientError("No HTTP client is available for load balancing");
+    }
+};
+
+function externGetLeastOutstandingRequestsClient(Client?[] loadBalanceCallerActionsArray) returns Client? =
+@java:Method {
+    class: "org.ballerinalang.net.http.nativeimpl.ExternLoadBalancer",
+    name: "getLeastOutstandingRequestsClient"
+} external;
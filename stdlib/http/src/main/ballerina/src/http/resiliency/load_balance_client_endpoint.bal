@@ -14,6 +14,7 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/java;
 import ballerina/mime;
 
 # LoadBalanceClient endpoint provides load balancing functionality over multiple HTTP clients.
@@ -40,6 +41,7 @@ public type LoadBalanceClient client object {
             panic lbClients;
         } else {
             self.loadBalanceClientsArray = lbClients;
+            externInitTargetLoads(lbClients);
             var lbRule = loadBalanceClientConfig.lbRule;
             if (lbRule is LoadBalancerRule) {
                 self.lbRule = lbRule;
@@ -243,15 +245,27 @@ function performLoadBalanceAction(LoadBalanceClient lb, string path, Request req
         }
     }
 
+    Client[] triedClients = [];
     while (loadBalanceTermination < lb.loadBalanceClientsArray.length()) {
-        var loadBalanceClient = lb.lbRule.getNextClient(lb.loadBalanceClientsArray);
-        if (loadBalanceClient is Client) {
-            var serviceResponse = invokeEndpoint(path, request, requestAction, loadBalanceClient);
+        var nextClient = lb.lbRule.getNextClient(lb.loadBalanceClientsArray);
+        if (nextClient is Client) {
+            // A target which already failed for this request is not tried again during the failover.
+            Client? untriedClient = getUntriedClient(lb.loadBalanceClientsArray, triedClients, nextClient);
+            if (untriedClient is ()) {
+                break;
+            }
+            Client loadBalanceClient = <Client> untriedClient;
+            triedClients[triedClients.length()] = loadBalanceClient;
+            // The in-flight requests and the latency of the clients are tracked for the load aware rules. The
+            // response is recorded even if the call panics, so that the in-flight requests do not leak.
+            int startTime = externOnLoadBalancedRequest(loadBalanceClient);
+            var serviceResponse = trap invokeEndpoint(path, request, requestAction, loadBalanceClient);
+            externOnLoadBalancedResponse(loadBalanceClient, startTime, serviceResponse is error);
             if (serviceResponse is Response) {
                 return serviceResponse;
             } else if (serviceResponse is HttpFuture) {
                 return getInvalidTypeError();
-            } else {
+            } else if (serviceResponse is ClientError) {
                 if (lb.failover) {
                     loadBalancerInRequest = check createFailoverRequest(loadBalancerInRequest, requestEntity);
                     loadBalanceActionErrorData.httpActionErr[lbErrorIndex] = serviceResponse;
@@ -260,14 +274,46 @@ function performLoadBalanceAction(LoadBalanceClient lb, string path, Request req
                 } else {
                     return serviceResponse;
                 }
+            } else {
+                panic serviceResponse;
             }
         } else {
-            return loadBalanceClient;
+            return nextClient;
         }
     }
     return populateGenericLoadBalanceActionError(loadBalanceActionErrorData);
 }
 
+// Returns the client selected by the load balancing rule if it has not been tried for the request yet. Otherwise,
+// returns the next client in the array after it which has not been tried, or `()` if all of them have been tried.
+function getUntriedClient(Client?[] loadBalanceClientsArray, Client[] triedClients, Client selectedClient)
+                                                                                                returns Client? {
+    int length = loadBalanceClientsArray.length();
+    int selectedIndex = 0;
+    foreach var i in 0 ..< length {
+        if (loadBalanceClientsArray[i] === selectedClient) {
+            selectedIndex = i;
+            break;
+        }
+    }
+    foreach var offset in 0 ..< length {
+        var loadBalanceClient = loadBalanceClientsArray[(selectedIndex + offset) % length];
+        if (loadBalanceClient is Client && !isTriedClient(triedClients, loadBalanceClient)) {
+            return loadBalanceClient;
+        }
+    }
+    return ();
+}
+
+function isTriedClient(Client[] triedClients, Client loadBalanceClient) returns boolean {
+    foreach var triedClient in triedClients {
+        if (triedClient === loadBalanceClient) {
+            return true;
+        }
+    }
+    return false;
+}
+
 // Populates generic error specific to Load Balance connector by including all the errors returned from endpoints.
 function populateGenericLoadBalanceActionError(LoadBalanceActionErrorData loadBalanceActionErrorData)
                                                     returns ClientError {
@@ -304,7 +350,9 @@ function populateGenericLoadBalanceActionError(LoadBalanceActionErrorData loadBa
 # | cookieConfig - Copied from CommonClientConfiguration    |
 #
 # + targets - The upstream HTTP endpoints among which the incoming HTTP traffic load should be distributed
-# + lbRule - LoadBalancing rule
+# + lbRule - LoadBalancing rule. Round robin is used if no rule is given. `http:LoadBalancerLeastOutstandingRule`,
+#            `http:LoadBalancerPowerOfTwoChoicesRule` and `http:LoadBalancerPeakEwmaRule` take the load of the targets
+#            into account
 # + failover - Configuration for load balancer whether to fail over in case of a failure
 public type LoadBalanceClientConfiguration record {|
     *CommonClientConfiguration;
@@ -346,3 +394,21 @@ function createLoadBalanceHttpClientArray(LoadBalanceClientConfiguration loadBal
     }
     return httpClients;
 }
+
+function externInitTargetLoads(Client?[] loadBalanceClientsArray) =
+@java:Method {
+    class: "org.ballerinalang.net.http.nativeimpl.ExternLoadBalancer",
+    name: "initTargetLoads"
+} external;
+
+function externOnLoadBalancedRequest(Client loadBalanceClient) returns int =
+@java:Method {
+    class: "org.ballerinalang.net.http.nativeimpl.ExternLoadBalancer",
+    name: "onRequest"
+} external;
+
+function externOnLoadBalancedResponse(Client loadBalanceClient, int startTime, boolean failed) =
+@java:Method {
+    class: "org.ballerinalang.net.http.nativeimpl.ExternLoadBalancer",
+    name: "onResponse"
+} external;
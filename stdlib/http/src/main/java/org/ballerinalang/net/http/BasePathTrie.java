@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable trie of the service base paths of a host, which finds the most specific base path of a request path in a
+ * single pass over the path, without creating any string. A new trie is built whenever a service is registered or
+ * unregistered.
+ * <p>
+ * A request path is dispatched to,
+ * <ol>
+ * <li>the base path which is equal to the request path ignoring the case, or else</li>
+ * <li>the longest base path which is followed by a '/' in the request path, or else</li>
+ * <li>the default base path ("/"), if there is a service registered for it.</li>
+ * </ol>
+ *
+ * @since 2.0.0
+ */
+public class BasePathTrie {
+
+    private static final char PATH_SEPARATOR = '/';
+
+    private final Node root;
+    private final String[][] exactMatchBuckets;
+    private final int exactMatchMask;
+
+    private BasePathTrie(Node root, String[][] exactMatchBuckets) {
+        this.root = root;
+        this.exactMatchBuckets = exactMatchBuckets;
+        this.exactMatchMask = exactMatchBuckets.length - 1;
+    }
+
+    /**
+     * Builds a trie of the given base paths. The base paths are expected to be sanitized, i.e. to start with a '/'
+     * and to not end with a '/', unless it is the default base path.
+     *
+     * @param basePaths base paths of the services in the registration order
+     * @return the trie
+     */
+    public static BasePathTrie build(Collection<String> basePaths) {
+        Node root = new Node();
+        int bucketCount = Integer.highestOneBit(Math.max(basePaths.size(), 1) * 4 - 1);
+        List<List<String>> buckets = new ArrayList<>(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.add(new ArrayList<>(1));
+        }
+
+        for (String basePath : basePaths) {
+            buckets.get(caseInsensitiveHash(basePath, basePath.length()) & (bucketCount - 1)).add(basePath);
+            if (HttpConstants.DEFAULT_BASE_PATH.equals(basePath)) {
+                root.basePath = basePath;
+                continue;
+            }
+            Node node = root;
+            int start = basePath.charAt(0) == PATH_SEPARATOR ? 1 : 0;
+            while (start <= basePath.length()) {
+                int end = basePath.indexOf(PATH_SEPARATOR, start);
+                if (end < 0) {
+                    end = basePath.length();
+                }
+                node = node.children.computeIfAbsent(basePath.substring(start, end), segment -> new Node());
+                start = end + 1;
+            }
+            node.basePath = basePath;
+        }
+
+        String[][] exactMatchBuckets = new String[bucketCount][];
+        for (int i = 0; i < bucketCount; i++) {
+            exactMatchBuckets[i] = buckets.get(i).toArray(new String[0]);
+        }
+        root.freeze();
+        return new BasePathTrie(root, exactMatchBuckets);
+    }
+
+    /**
+     * Finds the most specific base path for the given request path.
+     *
+     * @param requestPath raw path of the request, without the query
+     * @return the matching base path or null if there is none
+     */
+    public String match(String requestPath) {
+        return match(requestPath, requestPath.length());
+    }
+
+    /**
+     * Finds the most specific base path for the raw path at the start of the given request target.
+     *
+     * @param requestTarget request target, which starts with the raw path of the request
+     * @param pathEnd       the index at which the raw path ends
+     * @return the matching base path or null if there is none
+     */
+    public String match(String requestTarget, int pathEnd) {
+        String exactMatch = findExactMatch(requestTarget, pathEnd);
+        if (exactMatch != null) {
+            return exactMatch;
+        }
+
+        String bestMatch = null;
+        Node node = root;
+        int start = pathEnd > 0 && requestTarget.charAt(0) == PATH_SEPARATOR ? 1 : 0;
+        while (true) {
+            int end = requestTarget.indexOf(PATH_SEPARATOR, start);
+            if (end < 0 || end >= pathEnd) {
+                // the last segment of the path can only be an exact match, which was checked above
+                break;
+            }
+            node = node.getChild(requestTarget, start, end);
+            if (node == null) {
+                break;
+            }
+            if (node.basePath != null) {
+                bestMatch = node.basePath;
+            }
+            start = end + 1;
+        }
+        return bestMatch != null ? bestMatch : root.basePath;
+    }
+
+    private String findExactMatch(String requestTarget, int pathEnd) {
+        String[] bucket = exactMatchBuckets[caseInsensitiveHash(requestTarget, pathEnd) & exactMatchMask];
+        String caseInsensitiveMatch = null;
+        for (String basePath : bucket) {
+            if (basePath.length() != pathEnd) {
+                continue;
+            }
+            if (requestTarget.startsWith(basePath)) {
+                return basePath;
+            }
+            if (caseInsensitiveMatch == null && requestTarget.regionMatches(true, 0, basePath, 0, pathEnd)) {
+                caseInsensitiveMatch = basePath;
+            }
+        }
+        return caseInsensitiveMatch;
+    }
+
+    private static int caseInsensitiveHash(String value, int end) {
+        int hash = 0;
+        for (int i = 0; i < end; i++) {
+            hash = 31 * hash + Character.toLowerCase(value.charAt(i));
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Node of the trie, which represents a path segment.
+     */
+    private static class Node {
+
+        String basePath;
+        Map<String, Node> children = new HashMap<>();
+
+        // open addressing table of the children, which is looked up by a region of the request path
+        private String[] segments;
+        private Node[] nodes;
+        private int mask;
+
+        void freeze() {
+            int tableSize = Integer.highestOneBit(Math.max(children.size(), 1) * 4 - 1);
+            segments = new String[tableSize];
+            nodes = new Node[tableSize];
+            mask = tableSize - 1;
+            for (Map.Entry<String, Node> child : children.entrySet()) {
+                String segment = child.getKey();
+                int index = spread(segment.hashCode()) & mask;
+                while (segments[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                segments[index] = segment;
+                nodes[index] = child.getValue();
+                child.getValue().freeze();
+            }
+            children = null;
+        }
+
+        Node getChild(String path, int start, int end) {
+            int length = end - start;
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + path.charAt(i);
+            }
+            int index = spread(hash) & mask;
+            String segment;
+            while ((segment = segments[index]) != null) {
+                if (segment.length() == length && path.regionMatches(start, segment, 0, length)) {
+                    return nodes[index];
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+
+        private static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
@@ -49,7 +49,6 @@ public class HTTPServicesRegistry {
 
     protected Map<String, ServicesMapHolder> servicesMapByHost = new ConcurrentHashMap<>();
     protected Map<String, HttpService> servicesByBasePath;
-    protected List<String> sortedServiceURIs;
     private final WebSocketServicesRegistry webSocketServicesRegistry;
     private Scheduler scheduler;
 
@@ -88,13 +87,13 @@ public class HTTPServicesRegistry {
     }
 
     /**
-     * Get sortedServiceURIs list for given host name.
+     * Get the base path trie for given host name.
      *
      * @param hostName of the service
-     * @return the sorted basePath list if exists else null
+     * @return the base path trie if exists else null
      */
-    public List<String> getSortedServiceURIsByHost(String hostName) {
-        return servicesMapByHost.get(hostName).sortedServiceURIs;
+    public BasePathTrie getBasePathTrieByHost(String hostName) {
+        return servicesMapByHost.get(hostName).basePathTrie;
     }
 
     /**
@@ -107,13 +106,13 @@ public class HTTPServicesRegistry {
 
         for (HttpService httpService : httpServices) {
             String hostName = httpService.getHostName();
-            if (servicesMapByHost.get(hostName) == null) {
+            ServicesMapHolder servicesMapHolder = servicesMapByHost.get(hostName);
+            if (servicesMapHolder == null) {
                 servicesByBasePath = new ConcurrentHashMap<>();
-                sortedServiceURIs = new CopyOnWriteArrayList<>();
-                servicesMapByHost.put(hostName, new ServicesMapHolder(servicesByBasePath, sortedServiceURIs));
+                servicesMapHolder = new ServicesMapHolder(servicesByBasePath);
+                servicesMapByHost.put(hostName, servicesMapHolder);
             } else {
                 servicesByBasePath = getServicesByHost(hostName);
-                sortedServiceURIs = getSortedServiceURIsByHost(hostName);
             }
 
             String basePath = httpService.getBasePath();
@@ -129,8 +128,7 @@ public class HTTPServicesRegistry {
             logger.info(errLog);
 
             //basePath will get cached after registering service
-            sortedServiceURIs.add(basePath);
-            sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+            servicesMapHolder.addBasePath(basePath);
             // Register the WebSocket upgrade service in the WebSocket registry
             registerWebSocketUpgradeService(httpService);
         }
@@ -164,23 +162,12 @@ public class HTTPServicesRegistry {
         return basePath;
     }
 
-    public String findTheMostSpecificBasePath(String requestURIPath, Map<String, HttpService> services,
-                                              List<String> sortedServiceURIs) {
-        for (Object key : sortedServiceURIs) {
-            if (!requestURIPath.toLowerCase().contains(key.toString().toLowerCase())) {
-                continue;
-            }
-            if (requestURIPath.length() <= key.toString().length()) {
-                return key.toString();
-            }
-            if (requestURIPath.startsWith(key.toString().concat("/"))) {
-                return key.toString();
-            }
-        }
-        if (services.containsKey(HttpConstants.DEFAULT_BASE_PATH)) {
-            return HttpConstants.DEFAULT_BASE_PATH;
-        }
-        return null;
+    public String findTheMostSpecificBasePath(String requestURIPath, BasePathTrie basePathTrie) {
+        return basePathTrie.match(requestURIPath);
+    }
+
+    public String findTheMostSpecificBasePath(String requestTarget, int pathEnd, BasePathTrie basePathTrie) {
+        return basePathTrie.match(requestTarget, pathEnd);
     }
 
     public void setScheduler(Scheduler scheduler) {
@@ -192,15 +179,35 @@ public class HTTPServicesRegistry {
     }
 
     /**
-     * Holds both serviceByBasePath map and sorted Service basePath list.
+     * Holds both serviceByBasePath map and the trie of the service base paths.
      */
     protected class ServicesMapHolder {
         private Map<String, HttpService> servicesByBasePath;
-        private List<String> sortedServiceURIs;
+        private List<String> basePaths = new CopyOnWriteArrayList<>();
+        private volatile BasePathTrie basePathTrie = BasePathTrie.build(basePaths);
 
-        public ServicesMapHolder(Map<String, HttpService> servicesByBasePath, List<String> sortedServiceURIs) {
+        public ServicesMapHolder(Map<String, HttpService> servicesByBasePath) {
             this.servicesByBasePath = servicesByBasePath;
-            this.sortedServiceURIs = sortedServiceURIs;
+        }
+
+        /**
+         * Adds the base path of a registered service and rebuilds the trie with it.
+         *
+         * @param basePath base path of the service
+         */
+        void addBasePath(String basePath) {
+            basePaths.add(basePath);
+            basePathTrie = BasePathTrie.build(basePaths);
+        }
+
+        /**
+         * Removes the base path of an unregistered service and rebuilds the trie without it.
+         *
+         * @param basePath base path of the service
+         */
+        void removeBasePath(String basePath) {
+            basePaths.remove(basePath);
+            basePathTrie = BasePathTrie.build(basePaths);
         }
     }
 
@@ -218,19 +225,17 @@ public class HTTPServicesRegistry {
                 continue;
             }
             servicesByBasePath = getServicesByHost(hostName);
-            sortedServiceURIs = getSortedServiceURIsByHost(hostName);
 
             String basePath = httpService.getBasePath();
             if (!servicesByBasePath.containsKey(basePath)) {
                 continue;
             }
             servicesByBasePath.remove(basePath);
-            sortedServiceURIs.remove(basePath);
+            servicesMapHolder.removeBasePath(basePath);
             if (logger.isDebugEnabled()) {
                 logger.debug(String.format("Service detached : %s with context %s", service.getType().getName(),
                                            basePath));
             }
-            sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
         }
     }
 }
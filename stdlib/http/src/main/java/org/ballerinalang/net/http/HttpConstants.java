@@ -436,6 +436,12 @@ public class HttpConstants {
     //WebSocket Related constants for WebSocket upgrade
     public static final String NATIVE_DATA_WEBSOCKET_CONNECTION_MANAGER = "NATIVE_DATA_WEBSOCKET_CONNECTION_MANAGER";
 
+    //Circuit breaker related constants
+    public static final String NATIVE_DATA_CIRCUIT_BREAKER = "NATIVE_DATA_CIRCUIT_BREAKER";
+
+    //Load balancer related constants
+    public static final String NATIVE_DATA_TARGET_LOAD = "NATIVE_DATA_TARGET_LOAD";
+
     public static final int REQUEST_STRUCT_INDEX = 1;
     public static final boolean DIRTY_REQUEST = true;
     public static final String NO_ENTITY_BODY = "NO_ENTITY_BODY";
@@ -18,11 +18,14 @@
 package org.ballerinalang.net.http;
 
 import io.netty.handler.codec.http.HttpHeaderNames;
+import org.ballerinalang.jvm.JSONDataBinder;
+import org.ballerinalang.jvm.JSONParser;
 import org.ballerinalang.jvm.StringUtils;
 import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.util.exceptions.BallerinaConnectorException;
+import org.ballerinalang.jvm.util.exceptions.BallerinaException;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.ErrorValue;
 import org.ballerinalang.jvm.values.MapValue;
@@ -39,7 +42,6 @@ import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLDecoder;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import static org.ballerinalang.net.http.HttpConstants.DEFAULT_HOST;
@@ -55,15 +57,15 @@ public class HttpDispatcher {
     public static HttpService findService(HTTPServicesRegistry servicesRegistry, HttpCarbonMessage inboundReqMsg) {
         try {
             Map<String, HttpService> servicesOnInterface;
-            List<String> sortedServiceURIs;
+            BasePathTrie basePathTrie;
             String hostName = inboundReqMsg.getHeader(HttpHeaderNames.HOST.toString());
 
             if (hostName != null && servicesRegistry.getServicesMapHolder(hostName) != null) {
                 servicesOnInterface = servicesRegistry.getServicesByHost(hostName);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(hostName);
+                basePathTrie = servicesRegistry.getBasePathTrieByHost(hostName);
             } else if (servicesRegistry.getServicesMapHolder(DEFAULT_HOST) != null) {
                 servicesOnInterface = servicesRegistry.getServicesByHost(DEFAULT_HOST);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(DEFAULT_HOST);
+                basePathTrie = servicesRegistry.getBasePathTrieByHost(DEFAULT_HOST);
             } else {
                 inboundReqMsg.setHttpStatusCode(404);
                 String localAddress = inboundReqMsg.getProperty(HttpConstants.LOCAL_ADDRESS).toString();
@@ -78,34 +80,43 @@ public class HttpDispatcher {
             inboundReqMsg.setProperty(HttpConstants.TO, uriWithoutMatrixParams);
             inboundReqMsg.setProperty(HttpConstants.MATRIX_PARAMS, matrixParams);
 
-            URI validatedUri = getValidatedURI(uriWithoutMatrixParams);
+            // an origin form request target is validated in a single scan and is matched against the base paths as
+            // it is, anything else is parsed as a URI
+            String requestTarget = uriWithoutMatrixParams;
+            int pathEnd = URIUtil.getRawPathEnd(requestTarget);
+            String rawQuery;
+            String query;
+            if (pathEnd >= 0) {
+                rawQuery = URIUtil.getRawQuery(requestTarget, pathEnd);
+                query = rawQuery;
+            } else {
+                URI validatedUri = getValidatedURI(uriWithoutMatrixParams);
+                requestTarget = validatedUri.getRawPath();
+                pathEnd = requestTarget.length();
+                rawQuery = validatedUri.getRawQuery();
+                query = validatedUri.getQuery();
+            }
 
-            String basePath = servicesRegistry.findTheMostSpecificBasePath(validatedUri.getRawPath(),
-                    servicesOnInterface, sortedServiceURIs);
+            String basePath = servicesRegistry.findTheMostSpecificBasePath(requestTarget, pathEnd, basePathTrie);
 
             if (basePath == null) {
                 inboundReqMsg.setHttpStatusCode(404);
                 throw new BallerinaConnectorException("no matching service found for path : " +
-                        validatedUri.getRawPath());
+                        requestTarget.substring(0, pathEnd));
             }
 
             HttpService service = servicesOnInterface.get(basePath);
-            setInboundReqProperties(inboundReqMsg, validatedUri, basePath);
+            inboundReqMsg.setProperty(HttpConstants.BASE_PATH, basePath);
+            inboundReqMsg.setProperty(HttpConstants.SUB_PATH, URIUtil.getSubPath(requestTarget, pathEnd, basePath));
+            inboundReqMsg.setProperty(HttpConstants.QUERY_STR, query);
+            //store query params comes with request as it is
+            inboundReqMsg.setProperty(HttpConstants.RAW_QUERY_STR, rawQuery);
             return service;
         } catch (Exception e) {
             throw new BallerinaConnectorException(e.getMessage());
         }
     }
 
-    private static void setInboundReqProperties(HttpCarbonMessage inboundReqMsg, URI requestUri, String basePath) {
-        String subPath = URIUtil.getSubPath(requestUri.getRawPath(), basePath);
-        inboundReqMsg.setProperty(HttpConstants.BASE_PATH, basePath);
-        inboundReqMsg.setProperty(HttpConstants.SUB_PATH, subPath);
-        inboundReqMsg.setProperty(HttpConstants.QUERY_STR, requestUri.getQuery());
-        //store query params comes with request as it is
-        inboundReqMsg.setProperty(HttpConstants.RAW_QUERY_STR, requestUri.getRawQuery());
-    }
-
     public static URI getValidatedURI(String uriStr) {
         URI requestUri;
         try {
@@ -257,7 +268,39 @@ public class HttpDispatcher {
     }
 
     private static Object getRecordEntity(ObjectValue inRequestEntity, BType entityBodyType) {
-        Object result = getRecord(entityBodyType, getBJsonValue(inRequestEntity));
+        if (EntityBodyHandler.getByteChannel(inRequestEntity) == null) {
+            return getRecordFromJson(entityBodyType, getBJsonValue(inRequestEntity));
+        }
+        BString payload = EntityBodyHandler.constructStringDataSource(inRequestEntity);
+        EntityBodyHandler.addMessageDataSource(inRequestEntity, payload);
+        try {
+            // the payload is bound to the record type while it is being parsed, without building a json value first
+            return JSONDataBinder.bind(payload.getValue(), entityBodyType, HttpDispatcher::convertJson);
+        } catch (BallerinaException e) {
+            // convert the json value of the payload, so that the error is reported the same way as for a json payload
+            Object bjson = JSONParser.parse(payload.getValue());
+            EntityBodyHandler.addJsonMessageDataSource(inRequestEntity, bjson);
+            return getRecordFromJson(entityBodyType, bjson);
+        }
+    }
+
+    private static Object getRecordFromJson(BType entityBodyType, Object bjson) {
+        Object result = getRecord(entityBodyType, bjson);
+        if (result instanceof ErrorValue) {
+            throw (ErrorValue) result;
+        }
+        return result;
+    }
+
+    /**
+     * Convert a part of the payload, which cannot be bound directly, to the relevant type.
+     *
+     * @param bjson      Represents the json value of the part
+     * @param targetType Represents the type of the part
+     * @return the converted value
+     */
+    private static Object convertJson(Object bjson, BType targetType) {
+        Object result = CloneWithType.convert(targetType, bjson);
         if (result instanceof ErrorValue) {
             throw (ErrorValue) result;
         }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.net.http.resiliency.CircuitBreaker;
+
+import static org.ballerinalang.net.http.HttpConstants.NATIVE_DATA_CIRCUIT_BREAKER;
+
+/**
+ * Utilities related to the state of the circuit breaker client.
+ *
+ * @since 2.0.0
+ */
+public class ExternCircuitBreaker {
+
+    private static final BString[] STATE_NAMES = new BString[CircuitBreaker.State.values().length];
+
+    static {
+        for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+            STATE_NAMES[state.ordinal()] = StringUtils.fromString(state.name());
+        }
+    }
+
+    public static void init(ObjectValue cbClient, double failureThreshold, long resetTimeInMillis,
+                            long requestVolumeThreshold, long timeWindowInMillis, long bucketSizeInMillis,
+                            long startTime) {
+        cbClient.addNativeData(NATIVE_DATA_CIRCUIT_BREAKER,
+                               new CircuitBreaker(failureThreshold, resetTimeInMillis, requestVolumeThreshold,
+                                                  timeWindowInMillis, bucketSizeInMillis, startTime));
+    }
+
+    public static BString updateState(ObjectValue cbClient) {
+        return STATE_NAMES[getCircuitBreaker(cbClient).updateState().ordinal()];
+    }
+
+    public static void recordSuccess(ObjectValue cbClient) {
+        getCircuitBreaker(cbClient).recordSuccess();
+    }
+
+    public static void recordFailure(ObjectValue cbClient) {
+        getCircuitBreaker(cbClient).recordFailure();
+    }
+
+    public static long recordRejection(ObjectValue cbClient) {
+        return getCircuitBreaker(cbClient).recordRejection();
+    }
+
+    public static void forceOpen(ObjectValue cbClient) {
+        getCircuitBreaker(cbClient).forceOpen();
+    }
+
+    public static void forceClose(ObjectValue cbClient) {
+        getCircuitBreaker(cbClient).forceClose();
+    }
+
+    public static BString getState(ObjectValue cbClient) {
+        return STATE_NAMES[getCircuitBreaker(cbClient).getState().ordinal()];
+    }
+
+    private static CircuitBreaker getCircuitBreaker(ObjectValue cbClient) {
+        return (CircuitBreaker) cbClient.getNativeData(NATIVE_DATA_CIRCUIT_BREAKER);
+    }
+}
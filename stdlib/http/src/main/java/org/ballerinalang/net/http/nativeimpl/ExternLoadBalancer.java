@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl;
+
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.net.http.resiliency.LoadBalancerRules;
+import org.ballerinalang.net.http.resiliency.TargetLoad;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.ballerinalang.net.http.HttpConstants.NATIVE_DATA_TARGET_LOAD;
+
+/**
+ * Utilities related to the load of the load balance targets and the load aware load balancing rules.
+ *
+ * @since 2.0.0
+ */
+public class ExternLoadBalancer {
+
+    public static void initTargetLoads(ArrayValue clients) {
+        long now = System.nanoTime();
+        for (int i = 0; i < clients.size(); i++) {
+            ObjectValue client = (ObjectValue) clients.getRefValue(i);
+            if (client != null && client.getNativeData(NATIVE_DATA_TARGET_LOAD) == null) {
+                client.addNativeData(NATIVE_DATA_TARGET_LOAD, new TargetLoad(now));
+            }
+        }
+    }
+
+    public static long onRequest(ObjectValue client) {
+        TargetLoad targetLoad = getTargetLoad(client);
+        if (targetLoad != null) {
+            targetLoad.onRequest();
+        }
+        return System.nanoTime();
+    }
+
+    public static void onResponse(ObjectValue client, long startTime, boolean failed) {
+        TargetLoad targetLoad = getTargetLoad(client);
+        if (targetLoad != null) {
+            long now = System.nanoTime();
+            if (failed) {
+                targetLoad.onFailure(now - startTime, now);
+            } else {
+                targetLoad.onResponse(now - startTime, now);
+            }
+        }
+    }
+
+    public static Object getLeastOutstandingRequestsClient(ArrayValue clients) {
+        return getClient(clients, LoadBalancerRules.leastOutstandingRequests(getTargetLoads(clients),
+                                                                             ThreadLocalRandom.current()));
+    }
+
+    public static Object getPowerOfTwoChoicesClient(ArrayValue clients) {
+        return getClient(clients, LoadBalancerRules.powerOfTwoChoices(getTargetLoads(clients),
+                                                                      ThreadLocalRandom.current()));
+    }
+
+    public static Object getPeakEwmaClient(ArrayValue clients) {
+        return getClient(clients, LoadBalancerRules.peakEwma(getTargetLoads(clients), ThreadLocalRandom.current(),
+                                                             System.nanoTime()));
+    }
+
+    private static TargetLoad[] getTargetLoads(ArrayValue clients) {
+        TargetLoad[] targetLoads = new TargetLoad[clients.size()];
+        for (int i = 0; i < targetLoads.length; i++) {
+            targetLoads[i] = getTargetLoad((ObjectValue) clients.getRefValue(i));
+        }
+        return targetLoads;
+    }
+
+    private static TargetLoad getTargetLoad(ObjectValue client) {
+        return client == null ? null : (TargetLoad) client.getNativeData(NATIVE_DATA_TARGET_LOAD);
+    }
+
+    private static Object getClient(ArrayValue clients, int index) {
+        return index < 0 ? null : clients.getRefValue(index);
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.resiliency;
+
+import org.ballerinalang.logging.BLogManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import static org.ballerinalang.jvm.util.BLangConstants.BALLERINA_BUILTIN_PKG_PREFIX;
+import static org.ballerinalang.net.http.HttpConstants.PROTOCOL_HTTP;
+
+/**
+ * The state and the rolling window statistics of a circuit breaker, which are updated without locking.
+ * <p>
+ * The rolling window is a ring of buckets, each of which counts the requests of a sub window of
+ * {@code bucketSizeInMillis}. A bucket is replaced with a new one when the ring wraps around to it, and the buckets of
+ * sub windows older than the time window are ignored when the statistics are summed up. The state transitions are
+ * done with compare-and-set, hence each transition happens and is logged only once even when many requests see it.
+ *
+ * @since 2.0.0
+ */
+public class CircuitBreaker {
+
+    // the logger which log:printInfo() uses in the ballerina/http module, where the transitions were logged earlier
+    private static final Logger log = LoggerFactory.getLogger(
+            BLogManager.BALLERINA_ROOT_LOGGER_NAME + "." + BALLERINA_BUILTIN_PKG_PREFIX + "/" + PROTOCOL_HTTP);
+
+    /**
+     * States of the circuit. The names are the values of the {@code http:CircuitState} constants.
+     */
+    public enum State {
+        OPEN, HALF_OPEN, CLOSED
+    }
+
+    private final double failureThreshold;
+    private final long resetTimeInMillis;
+    private final long requestVolumeThreshold;
+    private final long bucketSizeInMillis;
+    private final int noOfBuckets;
+    private final long startTime;
+    private final LongSupplier clock;
+
+    private final AtomicReferenceArray<Bucket> buckets;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private volatile boolean lastRequestSuccess;
+    private volatile long lastErrorTime;
+    private volatile long lastForcedOpenTime;
+
+    public CircuitBreaker(double failureThreshold, long resetTimeInMillis, long requestVolumeThreshold,
+                          long timeWindowInMillis, long bucketSizeInMillis, long startTime) {
+        this(failureThreshold, resetTimeInMillis, requestVolumeThreshold, timeWindowInMillis, bucketSizeInMillis,
+             startTime, System::currentTimeMillis);
+    }
+
+    /**
+     * Creates a circuit breaker which reads the current time in milliseconds from the given clock.
+     *
+     * @param failureThreshold       failure ratio above which the circuit trips
+     * @param resetTimeInMillis      time to wait after an error before a trial request is sent
+     * @param requestVolumeThreshold minimum number of requests in the time window to trip the circuit
+     * @param timeWindowInMillis     time window of the request statistics
+     * @param bucketSizeInMillis     granularity at which the time window slides
+     * @param startTime              start time of the circuit
+     * @param clock                  source of the current time
+     */
+    public CircuitBreaker(double failureThreshold, long resetTimeInMillis, long requestVolumeThreshold,
+                          long timeWindowInMillis, long bucketSizeInMillis, long startTime, LongSupplier clock) {
+        this.failureThreshold = failureThreshold;
+        this.resetTimeInMillis = resetTimeInMillis;
+        this.requestVolumeThreshold = requestVolumeThreshold;
+        this.bucketSizeInMillis = bucketSizeInMillis;
+        this.noOfBuckets = (int) (timeWindowInMillis / bucketSizeInMillis);
+        this.startTime = startTime;
+        this.clock = clock;
+        this.buckets = new AtomicReferenceArray<>(noOfBuckets);
+        this.lastErrorTime = startTime;
+        this.lastForcedOpenTime = startTime;
+    }
+
+    /**
+     * Updates the state of the circuit before a request is sent, and counts the request.
+     *
+     * @return the state of the circuit, in which the request should be rejected if it is {@link State#OPEN}
+     */
+    public State updateState() {
+        long now = clock.getAsLong();
+        long epoch = getEpoch(now);
+        Bucket bucket = getBucket(epoch);
+        State currentState = state.get();
+        State nextState = getNextState(currentState, now, epoch);
+        if (nextState != currentState) {
+            if (state.compareAndSet(currentState, nextState)) {
+                logTransition(currentState, nextState);
+            } else {
+                // another request has changed the state in the meantime
+                nextState = state.get();
+            }
+        }
+        bucket.totalCount.increment();
+        return nextState;
+    }
+
+    /**
+     * Records a successful response.
+     */
+    public void recordSuccess() {
+        lastRequestSuccess = true;
+    }
+
+    /**
+     * Records a failed request.
+     */
+    public void recordFailure() {
+        long now = clock.getAsLong();
+        getBucket(getEpoch(now)).failureCount.increment();
+        lastRequestSuccess = false;
+        lastErrorTime = now;
+    }
+
+    /**
+     * Records a request rejected since the circuit is open.
+     *
+     * @return the time in milliseconds until the circuit may be closed again
+     */
+    public long recordRejection() {
+        long now = clock.getAsLong();
+        getBucket(getEpoch(now)).rejectedCount.increment();
+        return resetTimeInMillis - (now - getEffectiveErrorTime());
+    }
+
+    /**
+     * Forces the circuit into the open state.
+     */
+    public void forceOpen() {
+        lastForcedOpenTime = clock.getAsLong();
+        state.set(State.OPEN);
+    }
+
+    /**
+     * Forces the circuit into the closed state.
+     */
+    public void forceClose() {
+        state.set(State.CLOSED);
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    /**
+     * Returns the number of requests within the time window, including the rejected ones.
+     *
+     * @return total request count
+     */
+    public long getTotalRequestCount() {
+        return getTotalRequestCount(getEpoch(clock.getAsLong()));
+    }
+
+    /**
+     * Returns the ratio of the failed requests to the requests which were not rejected, within the time window.
+     *
+     * @return failure ratio
+     */
+    public double getFailureRatio() {
+        return getFailureRatio(getEpoch(clock.getAsLong()));
+    }
+
+    private State getNextState(State currentState, long now, long epoch) {
+        if (getTotalRequestCount(epoch) >= requestVolumeThreshold) {
+            switch (currentState) {
+                case OPEN:
+                    return getStateOnResetTime(now);
+                case HALF_OPEN:
+                    // if the trial request has failed, trip the circuit again, or else reset the circuit
+                    return lastRequestSuccess ? State.CLOSED : State.OPEN;
+                default:
+                    return getFailureRatio(epoch) > failureThreshold ? State.OPEN : State.CLOSED;
+            }
+        }
+        return currentState == State.OPEN ? getStateOnResetTime(now) : currentState;
+    }
+
+    private State getStateOnResetTime(long now) {
+        return now - getEffectiveErrorTime() > resetTimeInMillis ? State.HALF_OPEN : State.OPEN;
+    }
+
+    private long getEffectiveErrorTime() {
+        return Math.max(lastErrorTime, lastForcedOpenTime);
+    }
+
+    private long getTotalRequestCount(long epoch) {
+        long totalCount = 0;
+        for (int i = 0; i < noOfBuckets; i++) {
+            Bucket bucket = buckets.get(i);
+            if (isInWindow(bucket, epoch)) {
+                totalCount += bucket.totalCount.sum();
+            }
+        }
+        return totalCount;
+    }
+
+    private double getFailureRatio(long epoch) {
+        long totalCount = 0;
+        long failureCount = 0;
+        for (int i = 0; i < noOfBuckets; i++) {
+            Bucket bucket = buckets.get(i);
+            if (isInWindow(bucket, epoch)) {
+                // rejected requests are not considered when calculating the ratio
+                totalCount += bucket.totalCount.sum() - bucket.rejectedCount.sum();
+                failureCount += bucket.failureCount.sum();
+            }
+        }
+        return totalCount > 0 ? (double) failureCount / totalCount : 0.0;
+    }
+
+    private long getEpoch(long now) {
+        return Math.max(now - startTime, 0) / bucketSizeInMillis;
+    }
+
+    private boolean isInWindow(Bucket bucket, long epoch) {
+        return bucket != null && bucket.epoch > epoch - noOfBuckets;
+    }
+
+    private Bucket getBucket(long epoch) {
+        int index = (int) (epoch % noOfBuckets);
+        while (true) {
+            Bucket bucket = buckets.get(index);
+            // a bucket of a later sub window is used as it is, if the clock has gone back
+            if (bucket != null && bucket.epoch >= epoch) {
+                return bucket;
+            }
+            Bucket newBucket = new Bucket(epoch);
+            if (buckets.compareAndSet(index, bucket, newBucket)) {
+                return newBucket;
+            }
+        }
+    }
+
+    private static void logTransition(State currentState, State nextState) {
+        if (currentState == State.OPEN) {
+            log.info("CircuitBreaker reset timeout reached. Circuit switched from OPEN to HALF_OPEN state.");
+        } else if (currentState == State.HALF_OPEN) {
+            if (nextState == State.OPEN) {
+                log.info("CircuitBreaker trial run has failed. Circuit switched from HALF_OPEN to OPEN state.");
+            } else {
+                log.info("CircuitBreaker trial run was successful. Circuit switched from HALF_OPEN to CLOSE state.");
+            }
+        } else {
+            log.info("CircuitBreaker failure threshold exceeded. Circuit tripped from CLOSE to OPEN state.");
+        }
+    }
+
+    /**
+     * Request counts of a sub window of the rolling window.
+     */
+    private static class Bucket {
+
+        private final long epoch;
+        private final LongAdder totalCount = new LongAdder();
+        private final LongAdder failureCount = new LongAdder();
+        private final LongAdder rejectedCount = new LongAdder();
+
+        Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+}
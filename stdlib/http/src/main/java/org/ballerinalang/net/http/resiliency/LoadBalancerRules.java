@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.resiliency;
+
+import java.util.Random;
+
+/**
+ * Load balancing algorithms which choose a target based on the {@link TargetLoad} of the targets. Each algorithm
+ * returns the index of the chosen target, or -1 if there are no targets. Targets which are {@code null} are skipped.
+ *
+ * @since 2.0.0
+ */
+public class LoadBalancerRules {
+
+    private LoadBalancerRules() {
+    }
+
+    /**
+     * Chooses the target with the least number of in-flight requests. Ties are broken by starting the scan at a
+     * random target.
+     *
+     * @param targets loads of the targets
+     * @param random  source of randomness
+     * @return index of the chosen target
+     */
+    public static int leastOutstandingRequests(TargetLoad[] targets, Random random) {
+        int length = targets.length;
+        if (length == 0) {
+            return -1;
+        }
+        int start = random.nextInt(length);
+        int chosen = -1;
+        int leastInFlight = Integer.MAX_VALUE;
+        for (int i = 0; i < length; i++) {
+            int index = (start + i) % length;
+            TargetLoad target = targets[index];
+            if (target != null && target.getInFlightRequests() < leastInFlight) {
+                leastInFlight = target.getInFlightRequests();
+                chosen = index;
+            }
+        }
+        return chosen;
+    }
+
+    /**
+     * Chooses the target with the lesser number of in-flight requests, out of two targets chosen at random.
+     *
+     * @param targets loads of the targets
+     * @param random  source of randomness
+     * @return index of the chosen target
+     */
+    public static int powerOfTwoChoices(TargetLoad[] targets, Random random) {
+        int first = pickFirst(targets, random);
+        int second = pickSecond(targets, random, first);
+        if (second < 0) {
+            return first;
+        }
+        return targets[second].getInFlightRequests() < targets[first].getInFlightRequests() ? second : first;
+    }
+
+    /**
+     * Chooses the target with the lesser cost, out of two targets chosen at random. The cost is the peak EWMA of the
+     * latency of the target weighted by its in-flight requests.
+     *
+     * @param targets loads of the targets
+     * @param random  source of randomness
+     * @param now     current time in nanoseconds
+     * @return index of the chosen target
+     */
+    public static int peakEwma(TargetLoad[] targets, Random random, long now) {
+        int first = pickFirst(targets, random);
+        int second = pickSecond(targets, random, first);
+        if (second < 0) {
+            return first;
+        }
+        return targets[second].getCost(now) < targets[first].getCost(now) ? second : first;
+    }
+
+    private static int pickFirst(TargetLoad[] targets, Random random) {
+        if (targets.length == 0) {
+            return -1;
+        }
+        return nextTarget(targets, random.nextInt(targets.length), -1);
+    }
+
+    // Picks a target other than the first one, or returns -1 if there is no other target.
+    private static int pickSecond(TargetLoad[] targets, Random random, int first) {
+        int length = targets.length;
+        if (first < 0 || length < 2) {
+            return -1;
+        }
+        return nextTarget(targets, (first + 1 + random.nextInt(length - 1)) % length, first);
+    }
+
+    // Returns the first target which is not null, from the given index onwards.
+    private static int nextTarget(TargetLoad[] targets, int start, int excluded) {
+        for (int i = 0; i < targets.length; i++) {
+            int index = (start + i) % targets.length;
+            if (index != excluded && targets[index] != null) {
+                return index;
+            }
+        }
+        return -1;
+    }
+}
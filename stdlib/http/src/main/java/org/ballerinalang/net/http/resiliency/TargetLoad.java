@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.resiliency;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The load of a load balance target, which is the number of in-flight requests and the peak exponentially weighted
+ * moving average (EWMA) of the response latency. Both are updated without locking.
+ * <p>
+ * The peak EWMA jumps to a latency higher than the average at once, while lower latencies are averaged in with a
+ * weight which grows with the time since the last update. The average decays towards zero while the target is not
+ * used, so that a target which was slow is tried again later.
+ *
+ * @since 2.0.0
+ */
+public class TargetLoad {
+
+    private static final double DECAY_TIME = TimeUnit.SECONDS.toNanos(10);
+
+    // the cost of a target which has requests in flight, but no latency is known for yet
+    private static final double PENALTY = Long.MAX_VALUE >> 16;
+
+    // the least latency recorded for a failed request, so that a target which fails fast is not preferred
+    private static final long FAILURE_LATENCY = TimeUnit.SECONDS.toNanos(10);
+
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+    private final AtomicReference<Latency> latency;
+
+    public TargetLoad(long now) {
+        this.latency = new AtomicReference<>(new Latency(0, now));
+    }
+
+    /**
+     * Records a request sent to the target.
+     */
+    public void onRequest() {
+        inFlightRequests.incrementAndGet();
+    }
+
+    /**
+     * Records the completion of a request sent to the target.
+     *
+     * @param latencyNanos time taken for the response, in nanoseconds
+     * @param now          current time in nanoseconds
+     */
+    public void onResponse(long latencyNanos, long now) {
+        inFlightRequests.decrementAndGet();
+        while (true) {
+            Latency current = latency.get();
+            double cost;
+            if (latencyNanos > current.cost) {
+                cost = latencyNanos;
+            } else {
+                double weight = current.getWeight(now);
+                cost = current.cost * weight + latencyNanos * (1 - weight);
+            }
+            if (latency.compareAndSet(current, new Latency(cost, Math.max(now, current.timestamp)))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Records a request sent to the target which failed. The failure is recorded as a response which took at least
+     * {@link #FAILURE_LATENCY}, so that the target is avoided until the penalty decays.
+     *
+     * @param latencyNanos time taken for the failure, in nanoseconds
+     * @param now          current time in nanoseconds
+     */
+    public void onFailure(long latencyNanos, long now) {
+        onResponse(Math.max(latencyNanos, FAILURE_LATENCY), now);
+    }
+
+    public int getInFlightRequests() {
+        return inFlightRequests.get();
+    }
+
+    /**
+     * Returns the peak EWMA of the latency, decayed up to the given time.
+     *
+     * @param now current time in nanoseconds
+     * @return latency in nanoseconds
+     */
+    public double getPeakEwma(long now) {
+        Latency current = latency.get();
+        return current.cost * current.getWeight(now);
+    }
+
+    /**
+     * Returns the expected time to serve a request, which is the peak EWMA of the latency weighted by the number of
+     * in-flight requests.
+     *
+     * @param now current time in nanoseconds
+     * @return the cost of sending a request to the target
+     */
+    public double getCost(long now) {
+        int inFlight = inFlightRequests.get();
+        double peakEwma = getPeakEwma(now);
+        if (peakEwma == 0 && inFlight > 0) {
+            return PENALTY + inFlight;
+        }
+        return peakEwma * (inFlight + 1);
+    }
+
+    /**
+     * A latency average and the time it was last updated.
+     */
+    private static class Latency {
+
+        private final double cost;
+        private final long timestamp;
+
+        Latency(double cost, long timestamp) {
+            this.cost = cost;
+            this.timestamp = timestamp;
+        }
+
+        double getWeight(long now) {
+            return Math.exp(-Math.max(now - timestamp, 0) / DECAY_TIME);
+        }
+    }
+}
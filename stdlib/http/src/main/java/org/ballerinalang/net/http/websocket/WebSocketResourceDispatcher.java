@@ -225,6 +225,8 @@ public class WebSocketResourceDispatcher {
                     }
                     return bxml;
                 case TypeTags.RECORD_TYPE_TAG:
+                    // not bound with JSONDataBinder, since the fields missing in the message are set to their zero
+                    // values and the fields which are not in the record are dropped, unlike in a typed conversion
                     return JSONUtils.convertJSONToRecord(JSONParser.parse(aggregateString),
                                                          (BStructureType) dataType);
                 case TypeTags.ARRAY_TAG:
@@ -45,6 +45,10 @@ public class URIUtil {
     public static final char DOT_SEGMENT = '.';
     private static final BString[] EMPTY_STRING_ARRAY = new BString[0];
 
+    // characters which java.net.URI accepts in a path and in a query or a fragment, other than escapes
+    private static final boolean[] PATH_CHARS = asciiTable("-_.!~*'()" + ";:@&=+$,/");
+    private static final boolean[] QUERY_CHARS = asciiTable("-_.!~*'()" + ";/?:@&=+$,[]");
+
     public static String[] getPathSegments(String path) {
         if (path.startsWith(URI_PATH_DELIMITER)) {
             path = path.substring(1);
@@ -53,11 +57,92 @@ public class URIUtil {
     }
 
     public static String getSubPath(String path, String basePath) {
-        if (path.length() == basePath.length()) {
+        return getSubPath(path, path.length(), basePath);
+    }
+
+    public static String getSubPath(String requestTarget, int pathEnd, String basePath) {
+        if (pathEnd == basePath.length()) {
             return URI_PATH_DELIMITER;
         }
 
-        return path.substring(basePath.length());
+        return requestTarget.substring(basePath.length(), pathEnd);
+    }
+
+    /**
+     * Validates a request target in the origin form, i.e. an absolute path followed by an optional query and
+     * fragment, in a single scan and finds where its raw path ends. Only a subset of what {@link java.net.URI} accepts
+     * is accepted here, for which the raw path and the raw query are the regions of the request target before and
+     * after the '?', and the query needs no decoding.
+     *
+     * @param requestTarget request target without the matrix params
+     * @return the index at which the raw path ends, or -1 if the request target has to be parsed as a URI
+     */
+    public static int getRawPathEnd(String requestTarget) {
+        int length = requestTarget.length();
+        if (length == 0 || requestTarget.charAt(0) != '/' || (length > 1 && requestTarget.charAt(1) == '/')) {
+            // an empty, a relative or a network path reference
+            return -1;
+        }
+        int pathEnd = scan(requestTarget, 1, PATH_CHARS, true);
+        int end = pathEnd;
+        if (end < length && requestTarget.charAt(end) == '?') {
+            end = scan(requestTarget, end + 1, QUERY_CHARS, false);
+        }
+        if (end < length && requestTarget.charAt(end) == '#') {
+            end = scan(requestTarget, end + 1, QUERY_CHARS, true);
+        }
+        return end == length ? pathEnd : -1;
+    }
+
+    /**
+     * Returns the raw query of a request target which is validated with {@link #getRawPathEnd(String)}.
+     *
+     * @param requestTarget request target without the matrix params
+     * @param pathEnd       the index at which the raw path ends
+     * @return the raw query or null if the request target has no query
+     */
+    public static String getRawQuery(String requestTarget, int pathEnd) {
+        if (pathEnd == requestTarget.length() || requestTarget.charAt(pathEnd) != '?') {
+            return null;
+        }
+        int queryEnd = requestTarget.indexOf('#', pathEnd);
+        return requestTarget.substring(pathEnd + 1, queryEnd < 0 ? requestTarget.length() : queryEnd);
+    }
+
+    private static int scan(String value, int start, boolean[] legalChars, boolean allowEscapes) {
+        int length = value.length();
+        int i = start;
+        while (i < length) {
+            char c = value.charAt(i);
+            if (c < legalChars.length && legalChars[c]) {
+                i++;
+            } else if (c == '%' && allowEscapes && i + 2 < length && isHexDigit(value.charAt(i + 1)) &&
+                    isHexDigit(value.charAt(i + 2))) {
+                i += 3;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+
+    private static boolean isHexDigit(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    private static boolean[] asciiTable(String punctuation) {
+        boolean[] table = new boolean[128];
+        for (char c = '0'; c <= '9'; c++) {
+            table[c] = true;
+        }
+        for (char c = 'a'; c <= 'z'; c++) {
+            table[c] = true;
+            table[Character.toUpperCase(c)] = true;
+        }
+        for (int i = 0; i < punctuation.length(); i++) {
+            table[punctuation.charAt(i)] = true;
+        }
+        return table;
     }
 
     @SuppressWarnings("unchecked")
@@ -112,6 +197,10 @@ public class URIUtil {
 
 
     public static String extractMatrixParams(String path, Map<String, Map<String, String>> matrixParams) {
+        if (isPlainPath(path)) {
+            // nothing to extract or to normalize, the segments without matrix params are looked up as absent
+            return path;
+        }
         if (path.startsWith("/")) {
             path = path.substring(1);
         }
@@ -139,4 +228,17 @@ public class URIUtil {
         }
         return pathToMatrixParam;
     }
+
+    /**
+     * Checks whether the given path would be returned as it is by {@link #extractMatrixParams(String, Map)}, i.e. it
+     * starts with a '/', has no matrix params and has neither a trailing '/' in the path nor a trailing '?'.
+     */
+    private static boolean isPlainPath(String path) {
+        if (path.isEmpty() || path.charAt(0) != '/' || path.indexOf(';') >= 0 || path.endsWith("?")) {
+            return false;
+        }
+        int queryStart = path.indexOf('?');
+        int pathEnd = queryStart < 0 ? path.length() : queryStart;
+        return pathEnd == 1 || path.charAt(pathEnd - 1) != '/';
+    }
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Test cases for the base path trie, which finds the most specific base path of a request path.
+ */
+public class BasePathTrieTest {
+
+    @Test(description = "Test dispatching to the default base path")
+    public void testDefaultBasePath() {
+        BasePathTrie trie = BasePathTrie.build(Collections.singletonList("/"));
+        Assert.assertEquals(trie.match("/"), "/");
+        Assert.assertEquals(trie.match("/a"), "/");
+        Assert.assertEquals(trie.match("/a/b"), "/");
+        Assert.assertEquals(trie.match(""), "/");
+
+        trie = BasePathTrie.build(Arrays.asList("/", "/a"));
+        Assert.assertEquals(trie.match("/"), "/");
+        Assert.assertEquals(trie.match("/a"), "/a");
+        Assert.assertEquals(trie.match("/b/a"), "/");
+    }
+
+    @Test(description = "Test there is no match without the default base path")
+    public void testNoMatch() {
+        BasePathTrie trie = BasePathTrie.build(Collections.emptyList());
+        Assert.assertNull(trie.match("/"));
+        Assert.assertNull(trie.match("/a"));
+
+        trie = BasePathTrie.build(Collections.singletonList("/a"));
+        Assert.assertNull(trie.match("/"));
+        Assert.assertNull(trie.match("/b"));
+        Assert.assertNull(trie.match("/b/a"));
+    }
+
+    @Test(description = "Test the most specific of the nested base paths is matched")
+    public void testNestedBasePaths() {
+        for (List<String> basePaths : Arrays.asList(Arrays.asList("/a", "/a/b"), Arrays.asList("/a/b", "/a"))) {
+            BasePathTrie trie = BasePathTrie.build(basePaths);
+            Assert.assertEquals(trie.match("/a"), "/a");
+            Assert.assertEquals(trie.match("/a/x"), "/a");
+            Assert.assertEquals(trie.match("/a/b"), "/a/b");
+            Assert.assertEquals(trie.match("/a/b/c"), "/a/b");
+            Assert.assertEquals(trie.match("/a/bc"), "/a");
+            Assert.assertEquals(trie.match("/a/x/b"), "/a");
+        }
+
+        BasePathTrie trie = BasePathTrie.build(Collections.singletonList("/a/b/c"));
+        Assert.assertNull(trie.match("/a"));
+        Assert.assertNull(trie.match("/a/b"));
+        Assert.assertNull(trie.match("/a/b/"));
+        Assert.assertEquals(trie.match("/a/b/c"), "/a/b/c");
+        Assert.assertEquals(trie.match("/a/b/c/d"), "/a/b/c");
+    }
+
+    @Test(description = "Test request paths with trailing slashes")
+    public void testTrailingSlash() {
+        BasePathTrie trie = BasePathTrie.build(Arrays.asList("/a", "/a/b"));
+        Assert.assertEquals(trie.match("/a/"), "/a");
+        Assert.assertEquals(trie.match("/a/b/"), "/a/b");
+        Assert.assertEquals(trie.match("/a//"), "/a");
+        Assert.assertNull(trie.match("/x/"));
+    }
+
+    @Test(description = "Test a base path is not matched by a request path which only starts with its characters")
+    public void testNonSegmentPrefix() {
+        BasePathTrie trie = BasePathTrie.build(Collections.singletonList("/a"));
+        Assert.assertNull(trie.match("/ab"));
+        Assert.assertNull(trie.match("/ab/c"));
+        Assert.assertNull(trie.match("/ab/"));
+
+        trie = BasePathTrie.build(Arrays.asList("/", "/a", "/a/b"));
+        Assert.assertEquals(trie.match("/ab"), "/");
+        Assert.assertEquals(trie.match("/ab/c"), "/");
+        Assert.assertEquals(trie.match("/a/bc"), "/a");
+    }
+
+    @Test(description = "Test the exact match ignores the case while the prefix match does not")
+    public void testCaseInsensitiveExactMatch() {
+        BasePathTrie trie = BasePathTrie.build(Arrays.asList("/Hello", "/hello/World"));
+        Assert.assertEquals(trie.match("/Hello"), "/Hello");
+        Assert.assertEquals(trie.match("/HELLO"), "/Hello");
+        Assert.assertEquals(trie.match("/hello/world"), "/hello/World");
+        Assert.assertEquals(trie.match("/Hello/x"), "/Hello");
+        Assert.assertNull(trie.match("/HELLO/x"));
+    }
+
+    @Test(description = "Test matching the raw path at the start of a request target with a query")
+    public void testRequestTargetWithQuery() {
+        BasePathTrie trie = BasePathTrie.build(Arrays.asList("/a", "/a/b"));
+        Assert.assertEquals(trie.match("/a?x=/a/b", 2), "/a");
+        Assert.assertEquals(trie.match("/A?x=1", 2), "/a");
+        Assert.assertEquals(trie.match("/a/b?x=1", 4), "/a/b");
+        Assert.assertEquals(trie.match("/a/c?x=/a/b/", 4), "/a");
+        Assert.assertNull(trie.match("/b?x=/a/", 2));
+    }
+
+    @Test(description = "Test many base paths, which share the exact match buckets and the child tables")
+    public void testManyBasePaths() {
+        List<String> basePaths = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            basePaths.add("/s" + i);
+            basePaths.add("/s" + i + "/n" + i);
+        }
+        BasePathTrie trie = BasePathTrie.build(basePaths);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(trie.match("/s" + i), "/s" + i);
+            Assert.assertEquals(trie.match("/s" + i + "/x"), "/s" + i);
+            Assert.assertEquals(trie.match("/s" + i + "/n" + i + "/x"), "/s" + i + "/n" + i);
+            Assert.assertEquals(trie.match("/s" + i + "/n" + (i + 1) + "/x"), "/s" + i);
+        }
+        Assert.assertNull(trie.match("/s100"));
+    }
+
+    @Test(description = "Test the trie of a host is rebuilt when the base paths are registered and unregistered")
+    public void testRebuildAfterUnregister() {
+        HTTPServicesRegistry registry = new HTTPServicesRegistry(null);
+        HTTPServicesRegistry.ServicesMapHolder holder = registry.new ServicesMapHolder(new ConcurrentHashMap<>());
+        registry.servicesMapByHost.put(HttpConstants.DEFAULT_HOST, holder);
+
+        holder.addBasePath("/a");
+        holder.addBasePath("/a/b");
+        holder.addBasePath("/");
+        Assert.assertEquals(match(registry, "/a/b/c"), "/a/b");
+        Assert.assertEquals(match(registry, "/x"), "/");
+
+        holder.removeBasePath("/a/b");
+        Assert.assertEquals(match(registry, "/a/b/c"), "/a");
+        Assert.assertEquals(match(registry, "/a/b"), "/a");
+
+        holder.removeBasePath("/");
+        Assert.assertNull(match(registry, "/x"));
+        Assert.assertEquals(match(registry, "/a"), "/a");
+
+        holder.removeBasePath("/a");
+        Assert.assertNull(match(registry, "/a"));
+
+        holder.addBasePath("/a/b");
+        Assert.assertEquals(match(registry, "/a/b/c"), "/a/b");
+        Assert.assertNull(match(registry, "/a/c"));
+    }
+
+    private static String match(HTTPServicesRegistry registry, String requestPath) {
+        return registry.findTheMostSpecificBasePath(requestPath,
+                                                    registry.getBasePathTrieByHost(HttpConstants.DEFAULT_HOST));
+    }
+}
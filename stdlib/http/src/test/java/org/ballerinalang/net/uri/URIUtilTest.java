@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.uri;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.net.URI;
+
+/**
+ * Test cases for validating a request target and finding its raw path and query without parsing it as a URI.
+ */
+public class URIUtilTest {
+
+    @Test(description = "Test the raw path and query of an origin form request target are the ones of the URI")
+    public void testOriginFormRequestTarget() {
+        String[] requestTargets = {"/", "/a", "/a/b/", "/a?", "/a?x=1&y=2", "/a/b?x=/c?d", "/a#f", "/a?x=1#f",
+                "/a%20b/c", "/a:b@c/d;e=f", "/a-b_c.d!e~f*g'h(i)j", "/a?x=[1,2]", "/a%2Fb?x=1"};
+        for (String requestTarget : requestTargets) {
+            int pathEnd = URIUtil.getRawPathEnd(requestTarget);
+            Assert.assertTrue(pathEnd >= 0, requestTarget);
+            URI uri = URI.create(requestTarget);
+            Assert.assertEquals(requestTarget.substring(0, pathEnd), uri.getRawPath(), requestTarget);
+            Assert.assertEquals(URIUtil.getRawQuery(requestTarget, pathEnd), uri.getRawQuery(), requestTarget);
+            Assert.assertEquals(URIUtil.getRawQuery(requestTarget, pathEnd), uri.getQuery(), requestTarget);
+        }
+    }
+
+    @Test(description = "Test the request targets which have to be parsed as a URI")
+    public void testRequestTargetParsedAsURI() {
+        String[] requestTargets = {"", "a/b", "//host/a", "http://host/a", "*", "/a b", "/a%2", "/a%zz", "/a?x=%20",
+                "/a?x=1#f#g", "/a|b", "/a?x={}", "/café", "/a\\b"};
+        for (String requestTarget : requestTargets) {
+            Assert.assertEquals(URIUtil.getRawPathEnd(requestTarget), -1, requestTarget);
+        }
+    }
+
+    @Test(description = "Test the sub path of a request target")
+    public void testSubPath() {
+        Assert.assertEquals(URIUtil.getSubPath("/a/b?x=1", 4, "/a"), "/b");
+        Assert.assertEquals(URIUtil.getSubPath("/a?x=1", 2, "/a"), "/");
+        Assert.assertEquals(URIUtil.getSubPath("/a/b", "/"), "a/b");
+    }
+}
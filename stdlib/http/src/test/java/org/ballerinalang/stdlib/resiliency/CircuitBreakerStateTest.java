@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.resiliency;
+
+import org.ballerinalang.net.http.resiliency.CircuitBreaker;
+import org.ballerinalang.net.http.resiliency.CircuitBreaker.State;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test cases for the state and the rolling window of the circuit breaker.
+ */
+public class CircuitBreakerStateTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test(description = "Test the circuit trips, and gets closed after a successful trial request")
+    public void testTripAndReset() {
+        CircuitBreaker circuitBreaker = createCircuitBreaker(0);
+        sendRequests(circuitBreaker, 2, true);
+        sendRequests(circuitBreaker, 1, false);
+
+        Assert.assertEquals(circuitBreaker.updateState(), State.OPEN);
+        Assert.assertEquals(circuitBreaker.recordRejection(), 1000);
+        clock.addAndGet(500);
+        Assert.assertEquals(circuitBreaker.updateState(), State.OPEN);
+        Assert.assertEquals(circuitBreaker.recordRejection(), 500);
+
+        clock.addAndGet(600);
+        Assert.assertEquals(circuitBreaker.updateState(), State.HALF_OPEN);
+        circuitBreaker.recordSuccess();
+        Assert.assertEquals(circuitBreaker.updateState(), State.CLOSED);
+        Assert.assertEquals(circuitBreaker.getState(), State.CLOSED);
+    }
+
+    @Test(description = "Test the circuit trips again when the trial request fails")
+    public void testTrialRunFailure() {
+        CircuitBreaker circuitBreaker = createCircuitBreaker(0);
+        sendRequests(circuitBreaker, 1, false);
+        Assert.assertEquals(circuitBreaker.updateState(), State.OPEN);
+
+        clock.addAndGet(1100);
+        Assert.assertEquals(circuitBreaker.updateState(), State.HALF_OPEN);
+        circuitBreaker.recordFailure();
+        Assert.assertEquals(circuitBreaker.updateState(), State.OPEN);
+    }
+
+    @Test(description = "Test the circuit does not trip until the request volume threshold is reached")
+    public void testRequestVolumeThreshold() {
+        CircuitBreaker circuitBreaker = createCircuitBreaker(5);
+        sendRequests(circuitBreaker, 4, false);
+        Assert.assertEquals(circuitBreaker.updateState(), State.CLOSED);
+        circuitBreaker.recordFailure();
+        Assert.assertEquals(circuitBreaker.updateState(), State.OPEN);
+    }
+
+    @Test(description = "Test requests older than the time window are not considered")
+    public void testRollingWindow() {
+        CircuitBreaker circuitBreaker = createCircuitBreaker(0);
+        sendRequests(circuitBreaker, 3, true);
+        clock.addAndGet(4000);
+        sendRequests(circuitBreaker, 2, true);
+        sendRequests(circuitBreaker, 1, false);
+        Assert.assertEquals(circuitBreaker.getTotalRequestCount(), 6);
+        Assert.assertEquals(circuitBreaker.getFailureRatio(), 1.0 / 6);
+
+        // the first bucket slides out of the window
+        clock.addAndGet(7000);
+        Assert.assertEquals(circuitBreaker.getTotalRequestCount(), 3);
+        Assert.assertEquals(circuitBreaker.getFailureRatio(), 1.0 / 3);
+        Assert.assertEquals(circuitBreaker.updateState(), State.OPEN);
+
+        // the buckets are reused once the ring wraps around
+        clock.addAndGet(20000);
+        Assert.assertEquals(circuitBreaker.getTotalRequestCount(), 0);
+        sendRequests(circuitBreaker, 2, true);
+        Assert.assertEquals(circuitBreaker.getTotalRequestCount(), 2);
+        Assert.assertEquals(circuitBreaker.getFailureRatio(), 0.0);
+    }
+
+    @Test(description = "Test forcing the circuit open and closed")
+    public void testForceOpenAndClose() {
+        CircuitBreaker circuitBreaker = createCircuitBreaker(0);
+        clock.addAndGet(5000);
+        circuitBreaker.forceOpen();
+        Assert.assertEquals(circuitBreaker.getState(), State.OPEN);
+        Assert.assertEquals(circuitBreaker.updateState(), State.OPEN);
+
+        circuitBreaker.forceClose();
+        Assert.assertEquals(circuitBreaker.updateState(), State.CLOSED);
+    }
+
+    @Test(description = "Test concurrent requests are all counted")
+    public void testConcurrentRequests() throws InterruptedException {
+        CircuitBreaker circuitBreaker = createCircuitBreaker(0);
+        int threadCount = 64;
+        int requestCount = 1000;
+        CountDownLatch startLatch = new CountDownLatch(1);
+        Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    startLatch.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                sendRequests(circuitBreaker, requestCount, true);
+            });
+            threads[i].start();
+        }
+        startLatch.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertEquals(circuitBreaker.getTotalRequestCount(), threadCount * requestCount);
+        Assert.assertEquals(circuitBreaker.getState(), State.CLOSED);
+    }
+
+    private CircuitBreaker createCircuitBreaker(long requestVolumeThreshold) {
+        clock.set(1000000);
+        return new CircuitBreaker(0.3, 1000, requestVolumeThreshold, 10000, 2000, clock.get(), clock::get);
+    }
+
+    private static void sendRequests(CircuitBreaker circuitBreaker, int count, boolean success) {
+        for (int i = 0; i < count; i++) {
+            Assert.assertNotEquals(circuitBreaker.updateState(), State.OPEN);
+            if (success) {
+                circuitBreaker.recordSuccess();
+            } else {
+                circuitBreaker.recordFailure();
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.resiliency;
+
+import org.ballerinalang.net.http.resiliency.LoadBalancerRules;
+import org.ballerinalang.net.http.resiliency.TargetLoad;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases for the load aware load balancing rules.
+ */
+public class LoadBalancerRulesTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test(description = "Test the target with the least in-flight requests is chosen")
+    public void testLeastOutstandingRequests() {
+        TargetLoad[] targets = createTargets(4);
+        sendRequests(targets[0], 3);
+        sendRequests(targets[1], 1);
+        sendRequests(targets[3], 2);
+        Random random = new Random(1);
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(LoadBalancerRules.leastOutstandingRequests(targets, random), 2);
+        }
+
+        targets[2] = null;
+        Assert.assertEquals(LoadBalancerRules.leastOutstandingRequests(targets, random), 1);
+        Assert.assertEquals(LoadBalancerRules.leastOutstandingRequests(new TargetLoad[0], random), -1);
+    }
+
+    @Test(description = "Test the less loaded one of two random targets is chosen")
+    public void testPowerOfTwoChoices() {
+        TargetLoad[] targets = createTargets(3);
+        sendRequests(targets[0], 5);
+        sendRequests(targets[1], 2);
+        Random random = new Random(1);
+        int[] counts = new int[3];
+        for (int i = 0; i < 300; i++) {
+            counts[LoadBalancerRules.powerOfTwoChoices(targets, random)]++;
+        }
+        // the most loaded target is never chosen, and the least loaded one is always chosen when picked
+        Assert.assertEquals(counts[0], 0);
+        Assert.assertTrue(counts[2] > counts[1]);
+
+        Assert.assertEquals(LoadBalancerRules.powerOfTwoChoices(new TargetLoad[]{null, targets[1]}, random), 1);
+    }
+
+    @Test(description = "Test the target with the lesser expected latency is chosen")
+    public void testPeakEwma() {
+        TargetLoad[] targets = createTargets(2);
+        long now = 0;
+        targets[0].onRequest();
+        targets[0].onResponse(50 * MILLIS, now);
+        targets[1].onRequest();
+        targets[1].onResponse(5 * MILLIS, now);
+        Random random = new Random(1);
+        Assert.assertEquals(LoadBalancerRules.peakEwma(targets, random, now), 1);
+
+        // in-flight requests weight the latency
+        sendRequests(targets[1], 10);
+        Assert.assertEquals(LoadBalancerRules.peakEwma(targets, random, now), 0);
+    }
+
+    @Test(description = "Test the peak EWMA of the latency")
+    public void testPeakEwmaLatency() {
+        TargetLoad target = new TargetLoad(0);
+        target.onRequest();
+        target.onResponse(10 * MILLIS, 0);
+        Assert.assertEquals(target.getPeakEwma(0), 10.0 * MILLIS);
+
+        // a higher latency is taken at once
+        target.onRequest();
+        target.onResponse(40 * MILLIS, 0);
+        Assert.assertEquals(target.getPeakEwma(0), 40.0 * MILLIS);
+
+        // a lower latency is averaged in, with a weight which grows with the time since the last update
+        long now = TimeUnit.SECONDS.toNanos(1);
+        target.onRequest();
+        target.onResponse(10 * MILLIS, now);
+        double peakEwma = target.getPeakEwma(now);
+        Assert.assertTrue(peakEwma < 40.0 * MILLIS && peakEwma > 35.0 * MILLIS, String.valueOf(peakEwma));
+
+        // the average decays while the target is not used
+        Assert.assertTrue(target.getPeakEwma(now + TimeUnit.SECONDS.toNanos(60)) < MILLIS);
+        Assert.assertEquals(target.getInFlightRequests(), 0);
+    }
+
+    @Test(description = "Test a target with in-flight requests but no known latency is not preferred")
+    public void testUnknownLatency() {
+        TargetLoad[] targets = createTargets(2);
+        targets[0].onRequest();
+        targets[1].onRequest();
+        targets[1].onResponse(100 * MILLIS, 0);
+        Assert.assertEquals(LoadBalancerRules.peakEwma(targets, new Random(1), 0), 1);
+    }
+
+    @Test(description = "Test a target which always fails is not tried twice for a request and is avoided later")
+    public void testFailover() {
+        TargetLoad[] targets = createTargets(3);
+        Random random = new Random(1);
+        long now = 0;
+        int[] failures = new int[targets.length];
+        for (int i = 0; i < 20; i++) {
+            // fails over the way the load balance client does, skipping the targets already tried for the request. The
+            // failover of the client itself is tested by the load balancer integration tests.
+            boolean[] tried = new boolean[targets.length];
+            boolean served = false;
+            for (int attempt = 0; attempt < targets.length && !served; attempt++) {
+                int target = nextUntriedTarget(LoadBalancerRules.leastOutstandingRequests(targets, random), tried);
+                tried[target] = true;
+                targets[target].onRequest();
+                if (target == 0) {
+                    failures[target]++;
+                    targets[target].onFailure(MILLIS, now);
+                } else {
+                    targets[target].onResponse(20 * MILLIS, now);
+                    served = true;
+                }
+            }
+            Assert.assertTrue(served);
+        }
+        Assert.assertTrue(failures[0] > 0);
+        Assert.assertEquals(targets[0].getInFlightRequests(), 0);
+
+        // a fast failure is not taken as a low latency, so the failing target is not preferred by peak EWMA
+        Assert.assertTrue(targets[0].getPeakEwma(now) > targets[1].getPeakEwma(now));
+        for (int i = 0; i < 10; i++) {
+            Assert.assertNotEquals(LoadBalancerRules.peakEwma(targets, random, now), 0);
+        }
+    }
+
+    private static int nextUntriedTarget(int selected, boolean[] tried) {
+        for (int offset = 0; offset < tried.length; offset++) {
+            int target = (selected + offset) % tried.length;
+            if (!tried[target]) {
+                return target;
+            }
+        }
+        return -1;
+    }
+
+    private static TargetLoad[] createTargets(int count) {
+        TargetLoad[] targets = new TargetLoad[count];
+        for (int i = 0; i < count; i++) {
+            targets[i] = new TargetLoad(0);
+        }
+        return targets;
+    }
+
+    private static void sendRequests(TargetLoad target, int count) {
+        for (int i = 0; i < count; i++) {
+            target.onRequest();
+        }
+    }
+}
@@ -82,6 +82,22 @@ public type ReadableCSVChannel object {
         return ();
     }
 
+# Gets the next set of records from the CSV file. Fewer records than requested are returned if there aren't that many
+# records left.
+# ```ballerina
+# string[][]|io:Error? records = readableCSVChannel.getNextRecords(100);
+# ```
+#
+# + count - Maximum number of records to be read, which should be positive
+# + return - List of records, which are lists of fields in the CSV or else an `io:Error`
+    public function getNextRecords(int count) returns @tainted string[][]|Error? {
+        if(self.dc is ReadableTextRecordChannel){
+            var result = <ReadableTextRecordChannel> self.dc;
+            return result.getNextRecords(count);
+        }
+        return ();
+    }
+
 # Closes a given `CSVChannel`.
 # ```ballerina
 # io:Error? err = readableCSVChannel.close();
@@ -56,6 +56,18 @@ public type ReadableTextRecordChannel object {
         return getNextExtern(self);
     }
 
+# Get the next set of records from the input/output resource. Fewer records than requested are returned if
+# there aren't that many records left.
+# ```ballerina
+# string[][]|io:Error records = readableRecChannel.getNextRecords(100);
+# ```
+#
+# + count - Maximum number of records to be read, which should be positive
+# + return - Set of records or else `io:Error`
+    public function getNextRecords(int count) returns @tainted string[][]|Error {
+        return getNextRecordsExtern(self, count);
+    }
+
 # Closes a given record channel.
 # ```ballerina
 # io:Error err = readableRecChannel.close();
@@ -83,6 +95,12 @@ function getNextExtern(ReadableTextRecordChannel textChannel) returns @tainted s
     class: "org.ballerinalang.stdlib.io.nativeimpl.RecordChannelUtils"
 } external;
 
+function getNextRecordsExtern(ReadableTextRecordChannel textChannel, int count) returns @tainted string[][]|Error =
+@java:Method {
+    name: "getNextRecords",
+    class: "org.ballerinalang.stdlib.io.nativeimpl.RecordChannelUtils"
+} external;
+
 function closeReadableTextRecordChannelExtern(ReadableTextRecordChannel textChannel) returns Error? = @java:Method {
     name: "close",
     class: "org.ballerinalang.stdlib.io.nativeimpl.RecordChannelUtils"
@@ -23,7 +23,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.regex.Pattern;
 
 /**
@@ -92,7 +94,32 @@ public class DelimitedRecordChannel implements IOChannel {
      */
     private Format format;
 
-    private static final String DOUBLE_QUOTE_REGEX = "\"([^\"]*)\"";
+    /**
+     * Tokenizes the records when they are separated by new lines and the fields are separated by a single character.
+     * Otherwise the records and the fields are split through the separators as regular expressions.
+     */
+    private DelimitedRecordTokenizer tokenizer;
+
+    /**
+     * Compiled record separator for reading, which is used when the records are not tokenized.
+     */
+    private Pattern recordSeparatorPattern;
+
+    /**
+     * Compiled field separator for reading, which is used when the records are not tokenized.
+     */
+    private Pattern fieldSeparatorPattern;
+
+    private static final Pattern DOUBLE_QUOTE_PATTERN = Pattern.compile("\"([^\"]*)\"");
+
+    /**
+     * Record separator regex of the formats, which is a new line optionally preceded by a carriage return.
+     */
+    private static final String NEW_LINE_REGEX = "\\r?\\n";
+
+    private static final String NEW_LINE = "\n";
+
+    private static final String REGEX_META_CHARACTERS = ".$|()[]{}^?*+\\";
 
     private static final Logger log = LoggerFactory.getLogger(DelimitedRecordChannel.class);
 
@@ -100,6 +127,7 @@ public class DelimitedRecordChannel implements IOChannel {
         this.channel = channel;
         this.format = format;
         this.persistentCharSequence = new StringBuilder();
+        this.tokenizer = createTokenizer();
     }
 
     public DelimitedRecordChannel(CharacterChannel channel, String recordSeparator, String fieldSeparator) {
@@ -107,6 +135,37 @@ public class DelimitedRecordChannel implements IOChannel {
         this.fieldSeparator = fieldSeparator;
         this.channel = channel;
         this.persistentCharSequence = new StringBuilder();
+        this.tokenizer = createTokenizer();
+    }
+
+    /**
+     * Creates the tokenizer, if the separators for reading are simple enough to be tokenized without regular
+     * expressions.
+     *
+     * @return the tokenizer or null if the separators have to be matched as regular expressions.
+     */
+    private DelimitedRecordTokenizer createTokenizer() {
+        if (null != format) {
+            switch (format) {
+                case CSV:
+                    return new DelimitedRecordTokenizer(channel, ',', true, true);
+                case TDF:
+                    return new DelimitedRecordTokenizer(channel, '\t', false, true);
+                default:
+                    return new DelimitedRecordTokenizer(channel, ',', false, true);
+            }
+        }
+        if (null == fieldSeparator || fieldSeparator.length() != 1 ||
+                REGEX_META_CHARACTERS.indexOf(fieldSeparator.charAt(0)) >= 0) {
+            return null;
+        }
+        if (NEW_LINE.equals(recordSeparator)) {
+            return new DelimitedRecordTokenizer(channel, fieldSeparator.charAt(0), false, false);
+        }
+        if (NEW_LINE_REGEX.equals(recordSeparator)) {
+            return new DelimitedRecordTokenizer(channel, fieldSeparator.charAt(0), false, true);
+        }
+        return null;
     }
 
     @Override
@@ -183,8 +242,7 @@ public class DelimitedRecordChannel implements IOChannel {
                 log.trace(String.format("char[] remaining in memory %s", persistentCharSequence));
             }
             //We need to split the string into 2
-            String[] delimitedRecord = persistentCharSequence.toString().
-                    split(getRecordSeparatorForReading(), numberOfSplits);
+            String[] delimitedRecord = getRecordSeparatorPattern().split(persistentCharSequence, numberOfSplits);
             if (delimitedRecord.length > minimumRecordCount) {
                 record = processIdentifiedRecord(delimitedRecord);
                 int recordCharacterLength = record.length();
@@ -194,8 +252,7 @@ public class DelimitedRecordChannel implements IOChannel {
             } else {
                 readRecordFromChannel();
                 if (channel.hasReachedEnd()) {
-                    delimitedRecord = persistentCharSequence.toString().
-                            split(getRecordSeparatorForReading(), numberOfSplits);
+                    delimitedRecord = getRecordSeparatorPattern().split(persistentCharSequence, numberOfSplits);
                     record = (delimitedRecord.length == numberOfSplits) ?
                             processIdentifiedRecord(delimitedRecord) :
                             readFinalRecord();
@@ -289,6 +346,30 @@ public class DelimitedRecordChannel implements IOChannel {
         return record;
     }
 
+    /**
+     * Gets the compiled record separator for reading.
+     *
+     * @return the record separator pattern.
+     */
+    private Pattern getRecordSeparatorPattern() {
+        if (null == recordSeparatorPattern) {
+            recordSeparatorPattern = Pattern.compile(getRecordSeparatorForReading());
+        }
+        return recordSeparatorPattern;
+    }
+
+    /**
+     * Gets the compiled field separator for reading.
+     *
+     * @return the field separator pattern.
+     */
+    private Pattern getFieldSeparatorPattern() {
+        if (null == fieldSeparatorPattern) {
+            fieldSeparatorPattern = Pattern.compile(getFieldSeparatorForReading());
+        }
+        return fieldSeparatorPattern;
+    }
+
     /**
      * <p>
      * Split based on given regEx.
@@ -301,16 +382,15 @@ public class DelimitedRecordChannel implements IOChannel {
      * @param regex  condition which should be used to split.
      * @return the list of fields
      */
-    private String[] splitIgnoreBlanks(String record, String regex) {
-        Pattern reg = Pattern.compile(regex);
-        String[] split = reg.split(record);
+    private String[] splitIgnoreBlanks(String record, Pattern regex) {
+        String[] split = regex.split(record);
         for (int i = 0; i < split.length; i++) {
             String field = split[i];
             if (field.isEmpty()) {
                 split[i] = "";
                 continue;
             }
-            if (field.matches(DOUBLE_QUOTE_REGEX)) {
+            if (DOUBLE_QUOTE_PATTERN.matcher(field).matches()) {
                 split[i] = field.substring(field.indexOf('\"') + 1, field.lastIndexOf('\"'));
             }
         }
@@ -324,11 +404,10 @@ public class DelimitedRecordChannel implements IOChannel {
      * @return fields which are separated as records.
      */
     private String[] getFields(String record) {
-        String fieldSeparatorForReading = getFieldSeparatorForReading();
         if (null != format && format.shouldIgnoreBlanks()) {
-            return splitIgnoreBlanks(record, fieldSeparatorForReading);
+            return splitIgnoreBlanks(record, getFieldSeparatorPattern());
         } else {
-            return record.split(fieldSeparatorForReading);
+            return getFieldSeparatorPattern().split(record);
         }
     }
 
@@ -352,6 +431,9 @@ public class DelimitedRecordChannel implements IOChannel {
                 log.debug(String.format("Reading record %d from %d", numberOfRecordsReadThroughChannel,
                         channel.hashCode()));
             }
+            if (null != tokenizer) {
+                return readTokenizedRecord(fields);
+            }
             String record = readRecord();
             if (!record.isEmpty() || remaining) {
                 fields = getFields(record);
@@ -377,6 +459,51 @@ public class DelimitedRecordChannel implements IOChannel {
         return fields;
     }
 
+    /**
+     * Reads the next record through the tokenizer.
+     *
+     * @param emptyFields fields which are returned if there are no more records.
+     * @return the list of fields.
+     * @throws BallerinaIOException during I/O errors
+     */
+    private String[] readTokenizedRecord(String[] emptyFields) throws BallerinaIOException {
+        String[] fields = tokenizer.next();
+        if (tokenizer.isEndOfInput()) {
+            //The final record is not followed by a record separator or there are no more records
+            remaining = false;
+        }
+        if (null == fields) {
+            return emptyFields;
+        }
+        numberOfRecordsReadThroughChannel++;
+        if (log.isTraceEnabled()) {
+            log.trace("The list of fields identified in record " + numberOfRecordsReadThroughChannel + "from " +
+                    "channel " + channel.hashCode() + "," + Arrays.toString(fields));
+        }
+        return fields;
+    }
+
+    /**
+     * <p>
+     * Read the next set of records.
+     * </p>
+     * <p>
+     * Fewer records than requested will be returned if the channel does not have that many records left, an empty
+     * list will be returned if all the records have being processed.
+     * </p>
+     *
+     * @param numberOfRecords maximum number of records to be read.
+     * @return the list of records.
+     * @throws BallerinaIOException during I/O errors
+     */
+    public String[][] read(int numberOfRecords) throws BallerinaIOException {
+        List<String[]> records = new ArrayList<>();
+        while (records.size() < numberOfRecords && !hasReachedEnd() && hasNext()) {
+            records.add(read());
+        }
+        return records.toArray(new String[0][]);
+    }
+
     /**
      * Enclose a given field with quotes.
      *
@@ -460,6 +587,9 @@ public class DelimitedRecordChannel implements IOChannel {
 
     @Override
     public boolean remaining() {
+        if (null != tokenizer) {
+            return tokenizer.hasBufferedChars();
+        }
         return persistentCharSequence.length() > 0;
     }
 
@@ -470,6 +600,12 @@ public class DelimitedRecordChannel implements IOChannel {
      * @throws BallerinaIOException if encoding error or channel reading error happens
      */
     public boolean hasNext() throws BallerinaIOException {
+        if (null != tokenizer) {
+            if (remaining && !tokenizer.hasBufferedChars() && !tokenizer.fill()) {
+                remaining = false;
+            }
+            return remaining;
+        }
         if (remaining && persistentCharSequence.length() == 0) {
             //If this is the case we need to further verify whether there will be more bytes left to be read
             //Remaining can become false in the next iteration
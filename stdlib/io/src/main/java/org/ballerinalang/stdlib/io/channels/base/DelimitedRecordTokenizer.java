@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.channels.base;
+
+import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Single pass tokenizer of the records which are separated by new lines and the fields which are separated by a
+ * single character.
+ * </p>
+ * <p>
+ * Characters are read from the {@link CharacterChannel} in chunks into a buffer, and the fields are created directly
+ * from the buffer once the end of a record is found, so no string is created for the record itself. When quoting is
+ * enabled, fields follow RFC 4180, i.e. a field which starts with a double quote may contain field separators, new
+ * lines and escaped ("") double quotes.
+ * </p>
+ * <p>
+ * As with splitting a record through {@link String#split(String)}, trailing empty fields are not returned.
+ * </p>
+ * <p>
+ * <b>Note : </b> this tokenizer does not support concurrent operations.
+ * </p>
+ */
+class DelimitedRecordTokenizer {
+
+    private static final int READ_CHUNK_SIZE = 8192;
+    private static final int INITIAL_FIELD_CAPACITY = 16;
+
+    private static final char QUOTE = '"';
+    private static final char LINE_FEED = '\n';
+    private static final char CARRIAGE_RETURN = '\r';
+
+    // states of the tokenizer
+    private static final int FIELD_START = 0;
+    private static final int UNQUOTED = 1;
+    private static final int QUOTED = 2;
+    private static final int QUOTE_IN_QUOTED = 3;
+
+    // kinds of the fields
+    private static final byte PLAIN = 0;
+    private static final byte QUOTED_PLAIN = 1;
+    private static final byte QUOTED_ESCAPED = 2;
+
+    private final CharacterChannel channel;
+    private final char fieldSeparator;
+    private final boolean quoting;
+    private final boolean carriageReturnBeforeLineFeed;
+
+    /**
+     * Characters read from the channel, which is allocated on the first read since writers never use it.
+     */
+    private char[] buffer;
+    private int position = 0;
+    private int limit = 0;
+    private boolean endOfInput = false;
+
+    /**
+     * Start and end offsets of the fields of the current record, relative to the start of the record.
+     */
+    private int[] fieldBounds = new int[INITIAL_FIELD_CAPACITY * 2];
+    private byte[] fieldKinds = new byte[INITIAL_FIELD_CAPACITY];
+    private int fieldCount;
+
+    private final StringBuilder escapedField = new StringBuilder();
+
+    /**
+     * Creates a tokenizer.
+     *
+     * @param channel                      channel to read the characters from.
+     * @param fieldSeparator               character which separates the fields.
+     * @param quoting                      whether the fields could be enclosed in double quotes.
+     * @param carriageReturnBeforeLineFeed whether a carriage return before the new line belongs to the separator.
+     */
+    DelimitedRecordTokenizer(CharacterChannel channel, char fieldSeparator, boolean quoting,
+                             boolean carriageReturnBeforeLineFeed) {
+        this.channel = channel;
+        this.fieldSeparator = fieldSeparator;
+        this.quoting = quoting;
+        this.carriageReturnBeforeLineFeed = carriageReturnBeforeLineFeed;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return the fields of the record or null if there are no characters left to be read.
+     * @throws BallerinaIOException during I/O error.
+     */
+    String[] next() throws BallerinaIOException {
+        fieldCount = 0;
+        int recordStart = position;
+        int index = position;
+        int fieldStart = 0;
+        byte kind = PLAIN;
+        int state = FIELD_START;
+        while (true) {
+            if (index == limit) {
+                int readFrom = index - recordStart;
+                if (!fill(recordStart)) {
+                    // the last record is not followed by a new line
+                    position = limit;
+                    if (readFrom == 0 && fieldCount == 0) {
+                        return null;
+                    }
+                    addField(fieldStart, readFrom, state == QUOTED ? QUOTED_ESCAPED : kind);
+                    return getFields(recordStart);
+                }
+                recordStart = 0;
+                index = readFrom;
+            }
+            char character = buffer[index];
+            switch (state) {
+                case FIELD_START:
+                case UNQUOTED:
+                    if (character == fieldSeparator) {
+                        addField(fieldStart, index - recordStart, kind);
+                        fieldStart = index - recordStart + 1;
+                        kind = PLAIN;
+                        state = FIELD_START;
+                    } else if (character == LINE_FEED) {
+                        return endRecord(recordStart, index, fieldStart, kind);
+                    } else if (state == FIELD_START) {
+                        if (quoting && character == QUOTE) {
+                            kind = QUOTED_PLAIN;
+                            state = QUOTED;
+                        } else {
+                            state = UNQUOTED;
+                        }
+                    }
+                    break;
+                case QUOTED:
+                    if (character == QUOTE) {
+                        state = QUOTE_IN_QUOTED;
+                    }
+                    break;
+                default:
+                    if (character == QUOTE) {
+                        // escaped double quote
+                        kind = QUOTED_ESCAPED;
+                        state = QUOTED;
+                    } else if (character == fieldSeparator) {
+                        addField(fieldStart, index - recordStart, kind);
+                        fieldStart = index - recordStart + 1;
+                        kind = PLAIN;
+                        state = FIELD_START;
+                    } else if (character == LINE_FEED) {
+                        return endRecord(recordStart, index, fieldStart, kind);
+                    } else {
+                        // characters after the closing quote are kept as they are
+                        kind = QUOTED_ESCAPED;
+                        state = UNQUOTED;
+                    }
+                    break;
+            }
+            index++;
+        }
+    }
+
+    /**
+     * Checks whether there are characters which are read from the channel but not tokenized yet.
+     *
+     * @return true if there are characters left in the buffer.
+     */
+    boolean hasBufferedChars() {
+        return position < limit;
+    }
+
+    /**
+     * Checks whether the channel has no more characters to be read and all the characters read are tokenized.
+     *
+     * @return true if the end of the input is reached.
+     */
+    boolean isEndOfInput() {
+        return endOfInput && position == limit;
+    }
+
+    /**
+     * Reads the next chunk of characters from the channel into the buffer.
+     *
+     * @return true if any characters were read.
+     * @throws BallerinaIOException during I/O error.
+     */
+    boolean fill() throws BallerinaIOException {
+        return fill(position);
+    }
+
+    /**
+     * Reads the next chunk of characters into the buffer, after moving the characters starting from the given index
+     * to the beginning of the buffer.
+     */
+    private boolean fill(int keepFrom) throws BallerinaIOException {
+        if (endOfInput) {
+            return false;
+        }
+        String chars = channel.read(READ_CHUNK_SIZE);
+        if (chars.isEmpty()) {
+            endOfInput = true;
+            return false;
+        }
+        int keptLength = limit - keepFrom;
+        int requiredCapacity = keptLength + chars.length();
+        if (null == buffer) {
+            buffer = new char[Math.max(requiredCapacity, READ_CHUNK_SIZE)];
+        } else if (requiredCapacity > buffer.length) {
+            char[] newBuffer = new char[Math.max(requiredCapacity, buffer.length * 2)];
+            System.arraycopy(buffer, keepFrom, newBuffer, 0, keptLength);
+            buffer = newBuffer;
+        } else if (keepFrom > 0) {
+            System.arraycopy(buffer, keepFrom, buffer, 0, keptLength);
+        }
+        chars.getChars(0, chars.length(), buffer, keptLength);
+        position -= keepFrom;
+        limit = requiredCapacity;
+        return true;
+    }
+
+    private String[] endRecord(int recordStart, int lineFeedIndex, int fieldStart, byte kind) {
+        int fieldEnd = lineFeedIndex - recordStart;
+        if (carriageReturnBeforeLineFeed && fieldEnd > fieldStart && buffer[lineFeedIndex - 1] == CARRIAGE_RETURN) {
+            fieldEnd--;
+        }
+        addField(fieldStart, fieldEnd, kind);
+        position = lineFeedIndex + 1;
+        return getFields(recordStart);
+    }
+
+    private void addField(int start, int end, byte kind) {
+        if (fieldCount == fieldKinds.length) {
+            fieldKinds = Arrays.copyOf(fieldKinds, fieldCount * 2);
+            fieldBounds = Arrays.copyOf(fieldBounds, fieldCount * 4);
+        }
+        fieldBounds[fieldCount * 2] = start;
+        fieldBounds[fieldCount * 2 + 1] = end;
+        fieldKinds[fieldCount] = kind;
+        fieldCount++;
+    }
+
+    private String[] getFields(int recordStart) {
+        int count = fieldCount;
+        if (count > 1) {
+            while (count > 0 && fieldKinds[count - 1] == PLAIN &&
+                    fieldBounds[count * 2 - 2] == fieldBounds[count * 2 - 1]) {
+                count--;
+            }
+        }
+        String[] fields = new String[count];
+        for (int i = 0; i < count; i++) {
+            int start = recordStart + fieldBounds[i * 2];
+            int end = recordStart + fieldBounds[i * 2 + 1];
+            switch (fieldKinds[i]) {
+                case PLAIN:
+                    fields[i] = new String(buffer, start, end - start);
+                    break;
+                case QUOTED_PLAIN:
+                    fields[i] = new String(buffer, start + 1, end - start - 2);
+                    break;
+                default:
+                    fields[i] = unescape(start, end);
+                    break;
+            }
+        }
+        return fields;
+    }
+
+    private String unescape(int start, int end) {
+        escapedField.setLength(0);
+        boolean inQuotes = true;
+        // the opening quote is skipped
+        for (int i = start + 1; i < end; i++) {
+            char character = buffer[i];
+            if (inQuotes && character == QUOTE) {
+                if (i + 1 < end && buffer[i + 1] == QUOTE) {
+                    escapedField.append(QUOTE);
+                    i++;
+                } else {
+                    inQuotes = false;
+                }
+            } else {
+                escapedField.append(character);
+            }
+        }
+        return escapedField.toString();
+    }
+}
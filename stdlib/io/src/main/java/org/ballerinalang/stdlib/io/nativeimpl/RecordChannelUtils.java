@@ -19,6 +19,8 @@
 package org.ballerinalang.stdlib.io.nativeimpl;
 
 import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BTypes;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.jvm.values.api.BString;
@@ -46,6 +48,7 @@ public class RecordChannelUtils {
 
     private static final Logger log = LoggerFactory.getLogger(RecordChannelUtils.class);
     private static final String DEFAULT = "default";
+    private static final BArrayType RECORD_LIST_TYPE = new BArrayType(new BArrayType(BTypes.typeString));
 
     private RecordChannelUtils() {
     }
@@ -107,6 +110,31 @@ public class RecordChannelUtils {
         }
     }
 
+    public static Object getNextRecords(ObjectValue channel, long numberOfRecords) {
+        if (numberOfRecords <= 0) {
+            return IOUtils.createError("number of records to read should be positive: " + numberOfRecords);
+        }
+        DelimitedRecordChannel textRecordChannel =
+                (DelimitedRecordChannel) channel.getNativeData(TXT_RECORD_CHANNEL_NAME);
+        if (textRecordChannel.hasReachedEnd()) {
+            return IOUtils.createEoFError();
+        }
+        try {
+            String[][] records = textRecordChannel.read((int) Math.min(numberOfRecords, Integer.MAX_VALUE));
+            if (records.length == 0) {
+                return IOUtils.createEoFError();
+            }
+            Object[] recordValues = new Object[records.length];
+            for (int i = 0; i < records.length; i++) {
+                recordValues[i] = BValueCreator.createArrayValue(StringUtils.fromStringArray(records[i]));
+            }
+            return BValueCreator.createArrayValue(recordValues, RECORD_LIST_TYPE);
+        } catch (BallerinaIOException e) {
+            log.error("error occurred while reading next text records from ReadableTextRecordChannel", e);
+            return IOUtils.createError(e);
+        }
+    }
+
     public static Object write(ObjectValue channel, ArrayValue content) {
         DelimitedRecordChannel delimitedRecordChannel = (DelimitedRecordChannel) channel
                 .getNativeData(TXT_RECORD_CHANNEL_NAME);
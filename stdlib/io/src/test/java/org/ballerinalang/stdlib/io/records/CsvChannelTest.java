@@ -53,6 +53,57 @@ public class CsvChannelTest {
         currentDirectoryPath = System.getProperty("user.dir") + "/build";
     }
 
+    @Test(description = "Test reading CSV records in batches")
+    public void readCsvInBatchesTest() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/records/sample.csv";
+        BValueArray records;
+
+        //Will initialize the channel
+        BValue[] args = {
+                new BString(getAbsoluteFilePath(resourceToRead)), new BString("UTF-8"), new BString(",")
+        };
+        BRunUtil.invoke(csvInputOutputProgramFile, "initReadableCsvChannel", args);
+
+        BValue[] returns = BRunUtil.invoke(csvInputOutputProgramFile, "nextRecords", new BValue[]{new BInteger(2)});
+        records = (BValueArray) returns[0];
+        Assert.assertEquals(records.size(), 2);
+        Assert.assertEquals(((BValueArray) records.getRefValue(1)).size(), 3);
+
+        returns = BRunUtil.invoke(csvInputOutputProgramFile, "nextRecords", new BValue[]{new BInteger(2)});
+        records = (BValueArray) returns[0];
+        Assert.assertEquals(records.size(), 1);
+        Assert.assertEquals(((BValueArray) records.getRefValue(0)).getString(0), "User3");
+
+        returns = BRunUtil.invoke(csvInputOutputProgramFile, "nextRecords", new BValue[]{new BInteger(2)});
+        BError error = (BError) returns[0];
+        Assert.assertEquals(error.getMessage(), "EoF when reading from the channel");
+
+        BRunUtil.invoke(csvInputOutputProgramFile, "close");
+    }
+
+    @Test(description = "Test reading a non-positive number of CSV records")
+    public void readNonPositiveNumberOfCsvRecordsTest() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/records/sample.csv";
+        BValue[] args = {
+                new BString(getAbsoluteFilePath(resourceToRead)), new BString("UTF-8"), new BString(",")
+        };
+        BRunUtil.invoke(csvInputOutputProgramFile, "initReadableCsvChannel", args);
+
+        BValue[] returns = BRunUtil.invoke(csvInputOutputProgramFile, "nextRecords", new BValue[]{new BInteger(0)});
+        BError error = (BError) returns[0];
+        Assert.assertEquals(error.getMessage(), "number of records to read should be positive: 0");
+
+        returns = BRunUtil.invoke(csvInputOutputProgramFile, "nextRecords", new BValue[]{new BInteger(-1)});
+        error = (BError) returns[0];
+        Assert.assertEquals(error.getMessage(), "number of records to read should be positive: -1");
+
+        returns = BRunUtil.invoke(csvInputOutputProgramFile, "nextRecords", new BValue[]{new BInteger(3)});
+        BValueArray records = (BValueArray) returns[0];
+        Assert.assertEquals(records.size(), 3);
+
+        BRunUtil.invoke(csvInputOutputProgramFile, "close");
+    }
+
     @Test(description = "Test 'readDefaultCSVRecords'")
     public void readCsvTest() throws URISyntaxException {
         String resourceToRead = "datafiles/io/records/sample.csv";
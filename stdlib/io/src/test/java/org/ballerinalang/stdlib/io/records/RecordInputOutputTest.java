@@ -21,6 +21,7 @@ import org.ballerinalang.stdlib.io.MockByteChannel;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.channels.base.CharacterChannel;
 import org.ballerinalang.stdlib.io.channels.base.DelimitedRecordChannel;
+import org.ballerinalang.stdlib.io.csv.Format;
 import org.ballerinalang.stdlib.io.util.TestUtil;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
 import org.testng.Assert;
@@ -144,6 +145,28 @@ public class RecordInputOutputTest {
         recordChannel.close();
     }
 
+    @Test(description = "Read RFC 4180 records with quoted new lines and escaped quotes")
+    public void readQuotedRecords() throws IOException, URISyntaxException, BallerinaIOException {
+        ByteChannel byteChannel = TestUtil.openForReading("datafiles/io/records/sampleRfcEscaped.csv");
+        Channel channel = new MockByteChannel(byteChannel);
+        CharacterChannel characterChannel = new CharacterChannel(channel, StandardCharsets.UTF_8.name());
+        DelimitedRecordChannel recordChannel = new DelimitedRecordChannel(characterChannel, Format.CSV);
+
+        String[] readRecord = recordChannel.read();
+        Assert.assertEquals(readRecord, new String[]{"Tennsco \"Lockers\"", "Guy Armstrong"});
+
+        readRecord = recordChannel.read();
+        Assert.assertEquals(readRecord, new String[]{"Prince Edward\nIsland", "Paper, Storage"});
+        Assert.assertTrue(recordChannel.hasNext(), "Expecting more records but received as EOL.");
+
+        readRecord = recordChannel.read();
+        Assert.assertEquals(readRecord, new String[]{"Xerox 1985", "Dan Reichenbach"});
+        Assert.assertTrue(recordChannel.hasReachedEnd(),
+                "Last record received, but indicate as more records available.");
+
+        recordChannel.close();
+    }
+
     @Test(description = "Writes records to channel")
     public void writeRecords() throws IOException {
         //Number of characters in this file would be 6
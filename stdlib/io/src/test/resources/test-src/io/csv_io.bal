@@ -95,6 +95,19 @@ function nextRecord() returns @tainted string[] | error {
     return io:GenericError("Record channel not initialized properly");
 }
 
+function nextRecords(int count) returns @tainted string[][] | error {
+    var cha = rch;
+    if (cha is io:ReadableCSVChannel) {
+        var result = cha.getNextRecords(count);
+        if (result is string[][]) {
+            return result;
+        } else if (result is error) {
+            return result;
+        }
+    }
+    return io:GenericError("Record channel not initialized properly");
+}
+
 function writeRecord(string[] fields) {
     var cha = wch;
     if (cha is io:WritableCSVChannel) {
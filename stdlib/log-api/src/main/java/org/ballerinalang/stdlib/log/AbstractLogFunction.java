@@ -26,6 +26,8 @@ import org.ballerinalang.logging.util.BLogLevel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import java.util.logging.LogManager;
@@ -41,13 +43,30 @@ public abstract class AbstractLogFunction {
 
     private static final Logger ballerinaRootLogger = LoggerFactory.getLogger(BLogManager.BALLERINA_ROOT_LOGGER_NAME);
 
+    private static final Map<String, Logger> moduleLoggers = new ConcurrentHashMap<>();
+
     protected static Logger getLogger(String pkg) {
         if (".".equals(pkg) || pkg == null) {
             return ballerinaRootLogger;
-        } else {
-            // TODO: Refactor this later
-            return LoggerFactory.getLogger(ballerinaRootLogger.getName() + "." + pkg);
         }
+        Logger logger = moduleLoggers.get(pkg);
+        if (logger == null) {
+            logger = moduleLoggers.computeIfAbsent(pkg, module -> LoggerFactory.getLogger(
+                    ballerinaRootLogger.getName() + "." + module));
+        }
+        return logger;
+    }
+
+    /**
+     * Checks whether the given log level is enabled for the given module.
+     *
+     * @param pkg      module name
+     * @param logLevel log level
+     * @return true if messages of the log level should be logged
+     */
+    static boolean isLogLevelEnabled(String pkg, BLogLevel logLevel) {
+        String module = LOG_MANAGER.isModuleLogLevelEnabled() ? pkg : ".";
+        return LOG_MANAGER.getPackageLogLevel(module).value() <= logLevel.value();
     }
 
     /**
@@ -81,7 +100,21 @@ public abstract class AbstractLogFunction {
         ObserveUtils.logMessageToActiveSpan(logLevel.name(), logMessage, logLevel == BLogLevel.ERROR);
     }
 
-    static String getPackagePath() {
+    /**
+     * Returns the name of the module which called the log function. It is passed by the generated code of the call
+     * through the strand, hence the Java stack is only inspected when the function is called in some other way, e.g.
+     * through a function pointer. This must be called directly by the native log functions.
+     *
+     * @param strand current strand
+     * @return module name in the {@code org/module} form, or {@code .} if the module does not have an organization
+     */
+    static String getCallerModule(Strand strand) {
+        String module = strand.callerModule;
+        if (module != null) {
+            strand.callerModule = null;
+            return module;
+        }
+        // getStackTrace(), getCallerModule(), native log function, log module function, caller
         String className = Thread.currentThread().getStackTrace()[4].getClassName();
         String[] pkgData = className.split("\\.");
         if (pkgData.length > 1) {
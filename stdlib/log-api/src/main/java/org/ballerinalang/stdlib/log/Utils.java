@@ -19,6 +19,7 @@
 package org.ballerinalang.stdlib.log;
 
 import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.values.api.BString;
 import org.ballerinalang.logging.util.BLogLevel;
 
@@ -30,14 +31,10 @@ import org.ballerinalang.logging.util.BLogLevel;
 public class Utils extends AbstractLogFunction {
 
     public static void printDebug(Object msg) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.DEBUG.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.DEBUG.value();
-        }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.DEBUG, getPackagePath(),
+        Strand strand = Scheduler.getStrand();
+        String module = getCallerModule(strand);
+        if (isLogLevelEnabled(module, BLogLevel.DEBUG)) {
+            logMessage(strand, msg, BLogLevel.DEBUG, module,
                     (pkg, message) -> {
                         getLogger(pkg).debug(message);
                     });
@@ -45,14 +42,10 @@ public class Utils extends AbstractLogFunction {
     }
 
     public static void printError(Object msg, Object err) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.ERROR.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.ERROR.value();
-        }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.ERROR, getPackagePath(),
+        Strand strand = Scheduler.getStrand();
+        String module = getCallerModule(strand);
+        if (isLogLevelEnabled(module, BLogLevel.ERROR)) {
+            logMessage(strand, msg, BLogLevel.ERROR, module,
                     (pkg, message) -> {
                         String errorMsg = (err == null) ? "" : " : " + err.toString();
                         getLogger(pkg).error(message + errorMsg);
@@ -61,14 +54,10 @@ public class Utils extends AbstractLogFunction {
     }
 
     public static void printInfo(Object msg) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.INFO.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.INFO.value();
-        }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.INFO, getPackagePath(),
+        Strand strand = Scheduler.getStrand();
+        String module = getCallerModule(strand);
+        if (isLogLevelEnabled(module, BLogLevel.INFO)) {
+            logMessage(strand, msg, BLogLevel.INFO, module,
                     (pkg, message) -> {
                         getLogger(pkg).info(message);
                     });
@@ -76,14 +65,10 @@ public class Utils extends AbstractLogFunction {
     }
 
     public static void printTrace(Object msg) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.TRACE.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.TRACE.value();
-        }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.TRACE, getPackagePath(),
+        Strand strand = Scheduler.getStrand();
+        String module = getCallerModule(strand);
+        if (isLogLevelEnabled(module, BLogLevel.TRACE)) {
+            logMessage(strand, msg, BLogLevel.TRACE, module,
                     (pkg, message) -> {
                         getLogger(pkg).trace(message);
                     });
@@ -91,14 +76,10 @@ public class Utils extends AbstractLogFunction {
     }
 
     public static void printWarn(Object msg) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.WARN.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.WARN.value();
-        }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.WARN, getPackagePath(),
+        Strand strand = Scheduler.getStrand();
+        String module = getCallerModule(strand);
+        if (isLogLevelEnabled(module, BLogLevel.WARN)) {
+            logMessage(strand, msg, BLogLevel.WARN, module,
                     (pkg, message) -> {
                         getLogger(pkg).warn(message);
                     });
@@ -106,11 +87,13 @@ public class Utils extends AbstractLogFunction {
     }
 
     public static void setModuleLogLevel(BString logLevel, Object moduleName) {
+        Strand strand = Scheduler.getStrand();
         String module;
         if (moduleName == null) {
-            module = getPackagePath();
+            module = getCallerModule(strand);
         } else {
             module = moduleName.toString();
+            strand.callerModule = null;
         }
         String level = logLevel.getValue();
         LOG_MANAGER.setModuleLogLevel(BLogLevel.toBLogLevel(level), module);
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.logging;
+
+import org.ballerinalang.logging.handlers.AsyncLogFileHandler;
+import org.ballerinalang.logging.handlers.AsyncLogFileHandler.OverflowPolicy;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Test cases for AsyncLogFileHandler.
+ */
+public class AsyncLogFileHandlerTest {
+
+    private static final int RECORD_COUNT = 10000;
+
+    @Test(description = "Test writing records with the blocking overflow policy.")
+    public void testBlockingPolicy() throws IOException, InterruptedException {
+        Path logFile = Files.createTempFile("async-log", ".log");
+        AsyncLogFileHandler handler = createHandler(logFile, OverflowPolicy.BLOCK);
+        publishRecords(handler, 4);
+        handler.close();
+
+        List<String> lines = Files.readAllLines(logFile, Charset.defaultCharset());
+        Assert.assertEquals(lines.size(), 4 * RECORD_COUNT);
+        for (int thread = 0; thread < 4; thread++) {
+            int expected = 0;
+            String prefix = "thread-" + thread + " ";
+            for (String line : lines) {
+                if (line.startsWith(prefix)) {
+                    Assert.assertEquals(line, prefix + expected++, "Records of a thread are not in order.");
+                }
+            }
+            Assert.assertEquals(expected, RECORD_COUNT);
+        }
+        Files.delete(logFile);
+    }
+
+    @Test(description = "Test writing records with the dropping overflow policy.")
+    public void testDroppingPolicy() throws IOException, InterruptedException {
+        Path logFile = Files.createTempFile("async-log", ".log");
+        AsyncLogFileHandler handler = createHandler(logFile, OverflowPolicy.DROP);
+        publishRecords(handler, 4);
+        handler.close();
+
+        int written = 0;
+        int dropped = 0;
+        for (String line : Files.readAllLines(logFile, Charset.defaultCharset())) {
+            if (line.startsWith("thread-")) {
+                written++;
+            } else {
+                Assert.assertTrue(line.endsWith(" log records were dropped since the log buffer was full"), line);
+                dropped += Integer.parseInt(line.substring(0, line.indexOf(' ')));
+            }
+        }
+        Assert.assertEquals(written + dropped, 4 * RECORD_COUNT);
+        Files.delete(logFile);
+    }
+
+    @Test(description = "Test that records are not written after the handler is closed.")
+    public void testPublishAfterClose() throws IOException {
+        Path logFile = Files.createTempFile("async-log", ".log");
+        AsyncLogFileHandler handler = createHandler(logFile, OverflowPolicy.BLOCK);
+        handler.publish(new LogRecord(Level.INFO, "before"));
+        handler.close();
+        handler.publish(new LogRecord(Level.INFO, "after"));
+        handler.close();
+
+        List<String> lines = Files.readAllLines(logFile, Charset.defaultCharset());
+        Assert.assertEquals(lines.size(), 1);
+        Assert.assertEquals(lines.get(0), "before");
+        Files.delete(logFile);
+    }
+
+    private static AsyncLogFileHandler createHandler(Path logFile, OverflowPolicy policy) throws IOException {
+        AsyncLogFileHandler handler = new AsyncLogFileHandler(logFile.toString(), false, 64, 16, policy);
+        handler.setFormatter(new Formatter() {
+            @Override
+            public String format(LogRecord record) {
+                return record.getMessage() + System.lineSeparator();
+            }
+        });
+        return handler;
+    }
+
+    private static void publishRecords(AsyncLogFileHandler handler, int threadCount) throws InterruptedException {
+        Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            String prefix = "thread-" + i + " ";
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < RECORD_COUNT; j++) {
+                    handler.publish(new LogRecord(Level.INFO, prefix + j));
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+}
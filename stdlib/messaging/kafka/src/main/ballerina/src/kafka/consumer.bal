@@ -69,6 +69,13 @@ import ballerina/java;
 #               performance is required
 # + excludeInternalTopics - Whether records from internal topics should be exposed to the consumer
 # + decoupleProcessing - Decouples processing
+# + partitionedProcessing - Processes the records of each partition in order, while processing the partitions in
+#                           parallel. Partitions are paused while `maxInFlightRecords` records are being processed.
+#                           The listener commits the offsets and pauses the partitions itself, hence committing,
+#                           seeking, pausing and resuming return errors when a service is attached. The other
+#                           functions of the consumer should not be called by the services either
+# + maxInFlightRecords - Maximum number of records being processed before the partitions are paused, when
+#                        `partitionedProcessing` is enabled. This should be a positive value
 # + secureSocket - Configurations related to SSL/TLS encryption
 # + authenticationConfiguration - Authentication-related configurations for the Kafka consumer
 public type ConsumerConfiguration record {|
@@ -114,11 +121,13 @@ public type ConsumerConfiguration record {|
     int pollingIntervalInMillis?;
     int concurrentConsumers?;
     int defaultApiTimeoutInMillis?;
+    int maxInFlightRecords?;
 
     boolean autoCommit = true;
     boolean checkCRCS = true;
     boolean excludeInternalTopics = true;
     boolean decoupleProcessing = false;
+    boolean partitionedProcessing = false;
 
     SecureSocket secureSocket?;
     AuthenticationConfiguration authenticationConfiguration?;
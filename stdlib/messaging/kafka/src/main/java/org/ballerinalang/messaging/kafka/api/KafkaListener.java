@@ -18,9 +18,9 @@
 
 package org.ballerinalang.messaging.kafka.api;
 
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
-import org.apache.kafka.clients.consumer.KafkaConsumer;
-import org.ballerinalang.messaging.kafka.impl.KafkaPollCycleFutureListener;
+import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
 
 /**
  * This interface defines listener which can be registered, to retrieve Kafka records returned from single poll cycle.
@@ -34,20 +34,21 @@ public interface KafkaListener {
      * @param kafkaConsumer consumer on which poll is called upon
      * @param groupId       ID of the consumer group in which the consumer belongs
      */
-    void onRecordsReceived(ConsumerRecords records, KafkaConsumer kafkaConsumer, String groupId);
+    void onRecordsReceived(ConsumerRecords records, Consumer kafkaConsumer, String groupId);
 
     /**
-     * For each poll cycle, it will trigger invocation to this method dispatching polled kafka records.
+     * For each poll cycle, or for the records of each partition in a poll cycle, it will trigger invocation to this
+     * method dispatching polled kafka records.
      *
      * @param records       Kafka records
      * @param kafkaConsumer consumer on which poll is called upon
-     * @param listener      which control the flow of poll cycle
      * @param groupID       ID of the consumer group in which the consumer belongs
+     * @param callback      which gets notified once the records are processed
      */
     void onRecordsReceived(ConsumerRecords records,
-                           KafkaConsumer kafkaConsumer,
+                           Consumer kafkaConsumer,
                            String groupID,
-                           KafkaPollCycleFutureListener listener);
+                           CallableUnitCallback callback);
 
     /**
      * If there are errors, Kafka connector will trigger this method.
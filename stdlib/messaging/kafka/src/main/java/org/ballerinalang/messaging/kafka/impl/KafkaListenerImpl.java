@@ -18,8 +18,8 @@
 
 package org.ballerinalang.messaging.kafka.impl;
 
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
-import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.ballerinalang.jvm.observability.ObservabilityConstants;
 import org.ballerinalang.jvm.observability.ObserveUtils;
 import org.ballerinalang.jvm.scheduling.Scheduler;
@@ -67,7 +67,7 @@ public class KafkaListenerImpl implements KafkaListener {
      * {@inheritDoc}
      */
     @Override
-    public void onRecordsReceived(ConsumerRecords records, KafkaConsumer kafkaConsumer, String groupId) {
+    public void onRecordsReceived(ConsumerRecords records, Consumer kafkaConsumer, String groupId) {
         listener.addNativeData(NATIVE_CONSUMER, kafkaConsumer);
         executeResource(listener, records, groupId);
         KafkaMetricsUtil.reportConsume(listener, records);
@@ -77,10 +77,10 @@ public class KafkaListenerImpl implements KafkaListener {
      * {@inheritDoc}
      */
     @Override
-    public void onRecordsReceived(ConsumerRecords records, KafkaConsumer kafkaConsumer, String groupId,
-                                  KafkaPollCycleFutureListener consumer) {
+    public void onRecordsReceived(ConsumerRecords records, Consumer kafkaConsumer, String groupId,
+                                  CallableUnitCallback callback) {
         listener.addNativeData(NATIVE_CONSUMER, kafkaConsumer);
-        executeResource(listener, consumer, records, groupId);
+        executeResource(listener, callback, records, groupId);
         KafkaMetricsUtil.reportConsume(listener, records);
     }
 
@@ -104,14 +104,14 @@ public class KafkaListenerImpl implements KafkaListener {
         }
     }
 
-    private void executeResource(ObjectValue listener, KafkaPollCycleFutureListener consumer, ConsumerRecords records,
+    private void executeResource(ObjectValue listener, CallableUnitCallback callback, ConsumerRecords records,
                                  String groupId) {
         if (ObserveUtils.isTracingEnabled()) {
             Map<String, Object> properties = getNewObserverContextInProperties(listener);
-            Executor.submit(this.scheduler, service, KAFKA_RESOURCE_ON_MESSAGE, null, ON_MESSAGE_METADATA, consumer,
+            Executor.submit(this.scheduler, service, KAFKA_RESOURCE_ON_MESSAGE, null, ON_MESSAGE_METADATA, callback,
                             properties, getResourceParameters(service, this.listener, records, groupId));
         } else {
-            Executor.submit(this.scheduler, service, KAFKA_RESOURCE_ON_MESSAGE, null, ON_MESSAGE_METADATA, consumer,
+            Executor.submit(this.scheduler, service, KAFKA_RESOURCE_ON_MESSAGE, null, ON_MESSAGE_METADATA, callback,
                             null, getResourceParameters(service, this.listener, records, groupId));
         }
     }
@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.messaging.kafka.impl;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
+import org.ballerinalang.messaging.kafka.api.KafkaListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code KafkaPartitionDispatcher} dispatches the polled records of each partition in order, while the partitions are
+ * processed in parallel.
+ * <p>
+ * Each partition has a lane, which dispatches the records of one poll cycle at a time and dispatches the next records
+ * of the partition only when the previous ones are processed. When the number of records which are polled but not
+ * yet processed exceeds the configured limit, the partitions with pending records are paused, and they are resumed
+ * once the number drops to half of the limit. If the offsets are not committed automatically, the offsets of the
+ * processed records are committed per partition, once per poll cycle.
+ * <p>
+ * Since the consumer is not thread safe, all the methods except the processing callbacks are called in the polling
+ * thread. The processing callbacks do not use the consumer, and the native functions of the consumer which commit
+ * offsets, seek, pause or resume partitions return errors, so that the resources do not use the consumer either.
+ */
+public class KafkaPartitionDispatcher implements ConsumerRebalanceListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(KafkaPartitionDispatcher.class);
+
+    private final Consumer kafkaConsumer;
+    private final KafkaListener kafkaListener;
+    private final String groupId;
+    private final String serviceId;
+    private final int maxInFlightRecords;
+    private final boolean commitOffsets;
+
+    private final Map<TopicPartition, PartitionLane> lanes = new HashMap<>();
+    private final Set<TopicPartition> pausedPartitions = new HashSet<>();
+    private final Map<TopicPartition, OffsetAndMetadata> processedOffsets = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlightRecords = new AtomicInteger();
+
+    public KafkaPartitionDispatcher(Consumer kafkaConsumer, KafkaListener kafkaListener, String groupId,
+                                    String serviceId, int maxInFlightRecords, boolean commitOffsets) {
+        this.kafkaConsumer = kafkaConsumer;
+        this.kafkaListener = kafkaListener;
+        this.groupId = groupId;
+        this.serviceId = serviceId;
+        this.maxInFlightRecords = maxInFlightRecords;
+        this.commitOffsets = commitOffsets;
+    }
+
+    /**
+     * Commits the offsets of the processed records and resumes the paused partitions if the number of in-flight
+     * records has dropped enough. This should be called before each poll.
+     */
+    public void beforePoll() {
+        commitProcessedOffsets(false);
+        lanes.values().removeIf(PartitionLane::isRetired);
+        if (!pausedPartitions.isEmpty() && inFlightRecords.get() <= maxInFlightRecords / 2) {
+            kafkaConsumer.resume(pausedPartitions);
+            pausedPartitions.clear();
+        }
+    }
+
+    /**
+     * Queues the polled records in the lanes of their partitions.
+     *
+     * @param records records of a poll cycle
+     */
+    @SuppressWarnings("unchecked")
+    public void dispatch(ConsumerRecords records) {
+        for (TopicPartition partition : (Set<TopicPartition>) records.partitions()) {
+            List<ConsumerRecord> partitionRecords = records.records(partition);
+            inFlightRecords.addAndGet(partitionRecords.size());
+            lanes.computeIfAbsent(partition, PartitionLane::new).add(partitionRecords);
+        }
+
+        if (inFlightRecords.get() > maxInFlightRecords) {
+            Set<TopicPartition> assignment = kafkaConsumer.assignment();
+            Set<TopicPartition> busyPartitions = new HashSet<>();
+            for (PartitionLane lane : lanes.values()) {
+                // the lane of a revoked partition may still be processing its last records
+                if (lane.isBusy() && assignment.contains(lane.partition)
+                        && !pausedPartitions.contains(lane.partition)) {
+                    busyPartitions.add(lane.partition);
+                }
+            }
+            if (!busyPartitions.isEmpty()) {
+                kafkaConsumer.pause(busyPartitions);
+                pausedPartitions.addAll(busyPartitions);
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Paused partitions " + busyPartitions + " of service " + serviceId + " since "
+                                         + inFlightRecords.get() + " records are being processed.");
+                }
+            }
+        }
+    }
+
+    /**
+     * Commits the offsets of the processed records synchronously. This should be called in the polling thread
+     * before the consumer is closed.
+     */
+    public void close() {
+        commitProcessedOffsets(true);
+    }
+
+    /**
+     * Returns the number of records which are dispatched but not yet processed.
+     *
+     * @return number of in-flight records
+     */
+    public int getInFlightRecordCount() {
+        return inFlightRecords.get();
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        commitProcessedOffsets(true);
+        for (TopicPartition partition : partitions) {
+            PartitionLane lane = lanes.get(partition);
+            // A lane which is still processing records is kept until they are processed, so that the records of
+            // the partition are not processed in parallel if it is assigned again.
+            if (lane != null && !lane.revoke()) {
+                lanes.remove(partition);
+            }
+            pausedPartitions.remove(partition);
+            processedOffsets.remove(partition);
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+        // lanes are created when the records of the partitions are received
+    }
+
+    @SuppressWarnings("unchecked")
+    private void commitProcessedOffsets(boolean sync) {
+        if (!commitOffsets || processedOffsets.isEmpty()) {
+            return;
+        }
+        Set<TopicPartition> assignment = kafkaConsumer.assignment();
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (Map.Entry<TopicPartition, OffsetAndMetadata> entry : processedOffsets.entrySet()) {
+            // an offset processed later is committed in the next cycle
+            if (processedOffsets.remove(entry.getKey(), entry.getValue()) && assignment.contains(entry.getKey())) {
+                offsets.put(entry.getKey(), entry.getValue());
+            }
+        }
+        if (offsets.isEmpty()) {
+            return;
+        }
+        try {
+            if (sync) {
+                commitSync(offsets);
+            } else {
+                kafkaConsumer.commitAsync(offsets, (committedOffsets, exception) -> {
+                    if (exception != null) {
+                        logger.error("Failed to commit offsets " + committedOffsets + " of service " + serviceId,
+                                     exception);
+                        restoreProcessedOffsets(committedOffsets);
+                    }
+                });
+            }
+        } catch (KafkaException e) {
+            logger.error("Failed to commit offsets " + offsets + " of service " + serviceId, e);
+            restoreProcessedOffsets(offsets);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void commitSync(Map<TopicPartition, OffsetAndMetadata> offsets) {
+        try {
+            kafkaConsumer.commitSync(offsets);
+        } catch (WakeupException e) {
+            // A wake up which did not interrupt a poll is pending until the consumer is used next, and it aborts
+            // this commit instead. The exception clears the wake up, so the commit is tried once more.
+            kafkaConsumer.commitSync(offsets);
+        }
+    }
+
+    /**
+     * Puts the offsets of a failed commit back, so that they are committed in the next cycle, unless a later offset
+     * of the partition is processed meanwhile.
+     */
+    private void restoreProcessedOffsets(Map<TopicPartition, OffsetAndMetadata> offsets) {
+        for (Map.Entry<TopicPartition, OffsetAndMetadata> entry : offsets.entrySet()) {
+            processedOffsets.merge(entry.getKey(), entry.getValue(),
+                                   (processed, failed) -> processed.offset() >= failed.offset() ? processed : failed);
+        }
+    }
+
+    /**
+     * Records of a partition, which are processed one poll cycle at a time. Once the partition is revoked, the offsets
+     * of the records being processed are not committed, and the pending records are discarded.
+     */
+    private class PartitionLane implements CallableUnitCallback {
+
+        private final TopicPartition partition;
+        private final Queue<List<ConsumerRecord>> pendingRecords = new ArrayDeque<>();
+        private List<ConsumerRecord> currentRecords;
+        private boolean revoked;
+
+        PartitionLane(TopicPartition partition) {
+            this.partition = partition;
+        }
+
+        void add(List<ConsumerRecord> records) {
+            synchronized (this) {
+                if (currentRecords != null) {
+                    pendingRecords.add(records);
+                    return;
+                }
+                currentRecords = records;
+                revoked = false;
+            }
+            process(records);
+        }
+
+        synchronized boolean isBusy() {
+            return currentRecords != null;
+        }
+
+        synchronized boolean isRetired() {
+            return revoked && currentRecords == null;
+        }
+
+        /**
+         * Discards the pending records of the revoked partition.
+         *
+         * @return whether records of the partition are still being processed
+         */
+        boolean revoke() {
+            int discarded = 0;
+            boolean busy;
+            synchronized (this) {
+                revoked = true;
+                for (List<ConsumerRecord> records : pendingRecords) {
+                    discarded += records.size();
+                }
+                pendingRecords.clear();
+                busy = currentRecords != null;
+            }
+            inFlightRecords.addAndGet(-discarded);
+            return busy;
+        }
+
+        @Override
+        public void notifySuccess() {
+            processNext();
+        }
+
+        @Override
+        public void notifyFailure(ErrorValue error) {
+            logger.error("Ballerina engine has completed resource invocation with exception for service " + serviceId
+                                 + " and partition " + partition + ".", error.stringValue());
+            processNext();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void process(List<ConsumerRecord> records) {
+            ConsumerRecords partitionRecords = new ConsumerRecords(Collections.singletonMap(partition, records));
+            try {
+                kafkaListener.onRecordsReceived(partitionRecords, kafkaConsumer, groupId, this);
+            } catch (RuntimeException e) {
+                kafkaListener.onError(e);
+                processNext();
+            }
+        }
+
+        private void processNext() {
+            List<ConsumerRecord> next;
+            synchronized (this) {
+                List<ConsumerRecord> processed = currentRecords;
+                inFlightRecords.addAndGet(-processed.size());
+                if (commitOffsets && !revoked) {
+                    long nextOffset = processed.get(processed.size() - 1).offset() + 1;
+                    processedOffsets.put(partition, new OffsetAndMetadata(nextOffset));
+                }
+                next = pendingRecords.poll();
+                currentRecords = next;
+                if (next != null) {
+                    // records queued after the revocation belong to the partition assigned again
+                    revoked = false;
+                }
+            }
+            if (next != null) {
+                process(next);
+            }
+        }
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.ballerinalang.messaging.kafka.impl;
 
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
@@ -30,6 +31,7 @@ import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
@@ -50,10 +52,13 @@ public class KafkaRecordConsumer {
 
     private static final Logger logger = LoggerFactory.getLogger(KafkaRecordConsumer.class);
 
-    private KafkaConsumer kafkaConsumer;
+    private static final int DEFAULT_MAX_IN_FLIGHT_RECORDS = 1000;
+
+    private Consumer kafkaConsumer;
     private Duration pollingTimeout = Duration.ofMillis(1000);
     private int pollingInterval = 1000;
     private boolean decoupleProcessing = true;
+    private KafkaPartitionDispatcher partitionDispatcher;
     private String groupId;
     private KafkaListener kafkaListener;
     private String serviceId;
@@ -62,7 +67,7 @@ public class KafkaRecordConsumer {
     private ScheduledFuture pollTaskFuture;
 
     public KafkaRecordConsumer(KafkaListener kafkaListener, Properties configParams, String serviceId, int consumerId,
-                               KafkaConsumer kafkaConsumer) {
+                               Consumer kafkaConsumer) {
         this.serviceId = serviceId;
         this.consumerId = consumerId;
         // Initialize Kafka Consumer.
@@ -72,11 +77,10 @@ public class KafkaRecordConsumer {
             this.kafkaConsumer = kafkaConsumer;
         }
         List<String> topics = (ArrayList<String>) configParams.get(KafkaConstants.ALIAS_TOPICS.getValue());
-        // Subscribe Kafka Consumer to given topics.
-        this.kafkaConsumer.subscribe(topics);
         this.kafkaListener = kafkaListener;
         if (configParams.get(KafkaConstants.ALIAS_POLLING_TIMEOUT.getValue()) != null) {
-            this.pollingTimeout = Duration.ofMillis((Integer) configParams.get(KafkaConstants.ALIAS_POLLING_TIMEOUT));
+            this.pollingTimeout = Duration.ofMillis(
+                    (Integer) configParams.get(KafkaConstants.ALIAS_POLLING_TIMEOUT.getValue()));
         }
         if (configParams.get(KafkaConstants.ALIAS_POLLING_INTERVAL.getValue()) != null) {
             this.pollingInterval = (Integer) configParams.get(KafkaConstants.ALIAS_POLLING_INTERVAL.getValue());
@@ -86,9 +90,25 @@ public class KafkaRecordConsumer {
         }
         // This is to override default decouple processing setting if required.
         if (configParams.get(KafkaConstants.ALIAS_DECOUPLE_PROCESSING.getValue()) != null) {
-            this.decoupleProcessing = (Boolean) configParams.get(KafkaConstants.ALIAS_DECOUPLE_PROCESSING);
+            this.decoupleProcessing = (Boolean) configParams.get(
+                    KafkaConstants.ALIAS_DECOUPLE_PROCESSING.getValue());
         }
         this.groupId = (String) configParams.get(ConsumerConfig.GROUP_ID_CONFIG);
+
+        // Subscribe Kafka Consumer to given topics.
+        if (Boolean.TRUE.equals(configParams.get(KafkaConstants.ALIAS_PARTITIONED_PROCESSING.getValue()))) {
+            int maxInFlightRecords = DEFAULT_MAX_IN_FLIGHT_RECORDS;
+            if (configParams.get(KafkaConstants.ALIAS_MAX_IN_FLIGHT_RECORDS.getValue()) != null) {
+                maxInFlightRecords = (Integer) configParams.get(KafkaConstants.ALIAS_MAX_IN_FLIGHT_RECORDS.getValue());
+            }
+            // Offsets are committed by the consumer itself when auto commit is enabled, which is the default.
+            boolean autoCommit = !Boolean.FALSE.equals(configParams.get(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG));
+            this.partitionDispatcher = new KafkaPartitionDispatcher(this.kafkaConsumer, kafkaListener, this.groupId,
+                                                                    serviceId, maxInFlightRecords, !autoCommit);
+            this.kafkaConsumer.subscribe(topics, this.partitionDispatcher);
+        } else {
+            this.kafkaConsumer.subscribe(topics);
+        }
     }
 
     private void poll() {
@@ -97,6 +117,9 @@ public class KafkaRecordConsumer {
             try {
                 // Make thread-safe as kafka does not support multiple thread access
                 if (!closed.get()) {
+                    if (this.partitionDispatcher != null) {
+                        this.partitionDispatcher.beforePoll();
+                    }
                     recordsRetrieved = this.kafkaConsumer.poll(this.pollingTimeout);
                 }
             } catch (WakeupException e) {
@@ -105,7 +128,7 @@ public class KafkaRecordConsumer {
                     throw e;
                 }
             }
-            if (logger.isDebugEnabled()) {
+            if (logger.isDebugEnabled() && recordsRetrieved != null) {
                 logger.debug("Kafka service " + this.serviceId + " attached to consumer "
                                      + this.consumerId + " has received " + recordsRetrieved.count() + " records.");
             }
@@ -120,10 +143,14 @@ public class KafkaRecordConsumer {
 
     private void processRetrievedRecords(ConsumerRecords consumerRecords) {
         if (Objects.nonNull(consumerRecords) && !consumerRecords.isEmpty()) {
+            // When partitionedProcessing == 'true' the records of each partition are processed in order, while the
+            // partitions are processed in parallel.
             // When decoupleProcessing == 'true' Kafka records set will be dispatched and processed in
             // Parallel threads.
             // Otherwise dispatching and processing will have single threaded semantics.
-            if (this.decoupleProcessing) {
+            if (this.partitionDispatcher != null) {
+                this.partitionDispatcher.dispatch(consumerRecords);
+            } else if (this.decoupleProcessing) {
                 this.kafkaListener.onRecordsReceived(consumerRecords, kafkaConsumer, groupId);
             } else {
                 Semaphore sem = new Semaphore(0);
@@ -166,8 +193,35 @@ public class KafkaRecordConsumer {
     public void stopConsume() {
         // Make closed true, therefore poll function stops polling, and make stop operation thread-safe
         closed.set(true);
+        if (this.partitionDispatcher != null && !this.executorService.isShutdown()) {
+            // The offsets of the processed records are committed in the polling thread, once the current poll cycle
+            // completes, since the consumer is not thread safe.
+            this.executorService.execute(() -> this.partitionDispatcher.close());
+        }
         this.kafkaConsumer.wakeup();
+        if (this.partitionDispatcher != null) {
+            this.executorService.shutdown();
+            try {
+                if (!this.executorService.awaitTermination(this.pollingTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                    logger.warn("Kafka service " + this.serviceId + " attached to consumer " + this.consumerId
+                                        + " did not complete the current poll cycle in time. Committing the offsets "
+                                        + "of the processed records while closing the consumer.");
+                    commitProcessedOffsets();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
         this.kafkaConsumer.close();
         this.executorService.shutdown();
     }
+
+    private void commitProcessedOffsets() {
+        try {
+            this.partitionDispatcher.close();
+        } catch (ConcurrentModificationException e) {
+            logger.error("Failed to commit the offsets of the processed records of service " + this.serviceId
+                                 + " since consumer " + this.consumerId + " is still being polled.", e);
+        }
+    }
 }
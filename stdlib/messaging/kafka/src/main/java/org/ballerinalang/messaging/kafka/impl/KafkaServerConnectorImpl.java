@@ -58,6 +58,11 @@ public class KafkaServerConnectorImpl implements KafkaServerConnector {
             throw new KafkaConnectorException(
                     "Number of Concurrent consumers should be a positive integer value greater than zero.");
         }
+        Object maxInFlightRecords = configParams.get(KafkaConstants.ALIAS_MAX_IN_FLIGHT_RECORDS.getValue());
+        if (maxInFlightRecords != null && (Integer) maxInFlightRecords <= 0) {
+            throw new KafkaConnectorException(
+                    "Maximum number of in-flight records should be a positive integer value greater than zero.");
+        }
         this.configParams = configParams;
         this.kafkaConsumer = kafkaConsumer;
     }
@@ -25,6 +25,7 @@ import org.ballerinalang.jvm.scheduling.Scheduler;
 import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.jvm.values.api.BArray;
+import org.ballerinalang.jvm.values.api.BError;
 import org.ballerinalang.jvm.values.api.BString;
 import org.ballerinalang.messaging.kafka.observability.KafkaMetricsUtil;
 import org.ballerinalang.messaging.kafka.observability.KafkaObservabilityConstants;
@@ -37,6 +38,7 @@ import java.util.ArrayList;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_OFFSET;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_ERROR;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_CONSUMER;
+import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.checkPartitionedProcessing;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.createKafkaError;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.createTopicPartitionFromPartitionOffset;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getTopicPartitionList;
@@ -57,6 +59,10 @@ public class Seek {
      */
     public static Object seek(ObjectValue consumerObject, MapValue<BString, Object> partitionOffset) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
+        BError error = checkPartitionedProcessing(consumerObject, "seek the consumer");
+        if (error != null) {
+            return error;
+        }
         KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
         TopicPartition topicPartition = createTopicPartitionFromPartitionOffset(partitionOffset);
         Long offset = partitionOffset.getIntValue(ALIAS_OFFSET);
@@ -79,6 +85,10 @@ public class Seek {
      */
     public static Object seekToBeginning(ObjectValue consumerObject, BArray topicPartitions) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
+        BError error = checkPartitionedProcessing(consumerObject, "seek the consumer to the beginning");
+        if (error != null) {
+            return error;
+        }
         KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
         ArrayList<TopicPartition> partitionList = getTopicPartitionList(topicPartitions, logger);
         try {
@@ -99,6 +109,10 @@ public class Seek {
      */
     public static Object seekToEnd(ObjectValue consumerObject, BArray topicPartitions) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
+        BError error = checkPartitionedProcessing(consumerObject, "seek the consumer to the end");
+        if (error != null) {
+            return error;
+        }
         KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
         ArrayList<TopicPartition> partitionList = getTopicPartitionList(topicPartitions, logger);
         try {
@@ -94,6 +94,8 @@ public class KafkaConstants {
     public static final BString ALIAS_POLLING_TIMEOUT = StringUtils.fromString("pollingTimeoutInMillis");
     public static final BString ALIAS_POLLING_INTERVAL = StringUtils.fromString("pollingIntervalInMillis");
     public static final BString ALIAS_DECOUPLE_PROCESSING = StringUtils.fromString("decoupleProcessing");
+    public static final BString ALIAS_PARTITIONED_PROCESSING = StringUtils.fromString("partitionedProcessing");
+    public static final BString ALIAS_MAX_IN_FLIGHT_RECORDS = StringUtils.fromString("maxInFlightRecords");
     public static final BString ALIAS_TOPIC = StringUtils.fromString("topic");
     public static final BString ALIAS_PARTITION = StringUtils.fromString("partition");
     public static final BString ALIAS_OFFSET = StringUtils.fromString("offset");
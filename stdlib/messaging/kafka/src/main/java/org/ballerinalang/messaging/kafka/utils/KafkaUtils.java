@@ -57,8 +57,10 @@ import static org.ballerinalang.messaging.kafka.utils.AvroUtils.handleAvroConsum
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ADDITIONAL_PROPERTIES_MAP_FIELD;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_CONCURRENT_CONSUMERS;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_DECOUPLE_PROCESSING;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_MAX_IN_FLIGHT_RECORDS;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_OFFSET;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_PARTITION;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_PARTITIONED_PROCESSING;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_POLLING_INTERVAL;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_POLLING_TIMEOUT;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_TOPIC;
@@ -210,6 +212,8 @@ public class KafkaUtils {
         addIntParamIfPresent(ALIAS_POLLING_INTERVAL.getValue(), configurations, properties, ALIAS_POLLING_INTERVAL);
         addIntParamIfPresent(ALIAS_CONCURRENT_CONSUMERS.getValue(), configurations, properties,
                              ALIAS_CONCURRENT_CONSUMERS);
+        addIntParamIfPresent(ALIAS_MAX_IN_FLIGHT_RECORDS.getValue(), configurations, properties,
+                             ALIAS_MAX_IN_FLIGHT_RECORDS);
 
         addBooleanParamIfPresent(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, configurations, properties,
                                  KafkaConstants.CONSUMER_ENABLE_AUTO_COMMIT_CONFIG, true);
@@ -220,6 +224,8 @@ public class KafkaUtils {
 
         addBooleanParamIfPresent(ALIAS_DECOUPLE_PROCESSING.getValue(), configurations, properties,
                                  ALIAS_DECOUPLE_PROCESSING, false);
+        addBooleanParamIfPresent(ALIAS_PARTITIONED_PROCESSING.getValue(), configurations, properties,
+                                 ALIAS_PARTITIONED_PROCESSING, false);
         if (Objects.nonNull(configurations.get(SECURE_SOCKET))) {
             processSslProperties(configurations, properties);
         }
@@ -758,6 +764,27 @@ public class KafkaUtils {
         KafkaMetricsUtil.reportNewProducer(producerObject);
     }
 
+    /**
+     * Checks whether the given operation can be done on the consumer. When the consumer is a listener which
+     * processes the partitions in parallel, the listener commits the offsets of the processed records, pauses and
+     * resumes the partitions, and the consumer, which is not thread safe, is used only by the polling thread.
+     *
+     * @param consumerObject Kafka consumer object from ballerina.
+     * @param operation      Description of the operation, which is used in the error message.
+     * @return {@code BError}, if the operation is not allowed, null otherwise.
+     */
+    public static BError checkPartitionedProcessing(ObjectValue consumerObject, String operation) {
+        if (consumerObject.getNativeData(KafkaConstants.SERVER_CONNECTOR) == null) {
+            return null;
+        }
+        MapValue<BString, Object> consumerConfigurations = consumerObject.getMapValue(CONSUMER_CONFIG_FIELD_NAME);
+        if (Boolean.TRUE.equals(consumerConfigurations.get(ALIAS_PARTITIONED_PROCESSING))) {
+            return createKafkaError("Failed to " + operation + ": not allowed when partitioned processing is enabled",
+                                    CONSUMER_ERROR);
+        }
+        return null;
+    }
+
     public static String getBrokerNames(ObjectValue listener) {
         MapValue<BString, Object> listenerConfigurations = listener.getMapValue(CONSUMER_CONFIG_FIELD_NAME);
         return listenerConfigurations.get(KafkaConstants.CONSUMER_BOOTSTRAP_SERVERS_CONFIG).toString();
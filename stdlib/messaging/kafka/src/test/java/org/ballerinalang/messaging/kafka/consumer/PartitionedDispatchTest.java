@@ -0,0 +1,366 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.messaging.kafka.consumer;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
+import org.ballerinalang.messaging.kafka.api.KafkaListener;
+import org.ballerinalang.messaging.kafka.exceptions.KafkaConnectorException;
+import org.ballerinalang.messaging.kafka.impl.KafkaPartitionDispatcher;
+import org.ballerinalang.messaging.kafka.impl.KafkaRecordConsumer;
+import org.ballerinalang.messaging.kafka.impl.KafkaServerConnectorImpl;
+import org.ballerinalang.messaging.kafka.utils.KafkaConstants;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Test cases for dispatching the records of each partition in order, while processing the partitions in parallel.
+ */
+public class PartitionedDispatchTest {
+
+    private static final String topic = "partitioned-dispatch-test-topic";
+    private static final String groupId = "partitioned-dispatch-test-group";
+    private static final String serviceId = "partitioned-dispatch-test-service";
+    private static final TopicPartition partition0 = new TopicPartition(topic, 0);
+    private static final TopicPartition partition1 = new TopicPartition(topic, 1);
+
+    @Test(description = "Test records of each partition are processed in order, and partitions in parallel")
+    public void testPartitionOrder() {
+        MockConsumer<String, String> consumer = createConsumer();
+        RecordingListener listener = new RecordingListener();
+        KafkaPartitionDispatcher dispatcher = new KafkaPartitionDispatcher(consumer, listener, groupId, serviceId,
+                                                                           100, false);
+        for (int cycle = 0; cycle < 3; cycle++) {
+            addRecords(consumer, partition0, cycle * 5, 5);
+            addRecords(consumer, partition1, cycle * 5, 5);
+            poll(consumer, dispatcher);
+        }
+
+        // Only the first batch of each partition is dispatched until it is processed, while both partitions are
+        // being processed at the same time.
+        Assert.assertEquals(listener.pendingBatches.size(), 2);
+        Assert.assertEquals(dispatcher.getInFlightRecordCount(), 30);
+
+        listener.completeAll(6);
+        Assert.assertEquals(dispatcher.getInFlightRecordCount(), 0);
+        Assert.assertEquals(listener.getOffsets(partition0), range(0, 15));
+        Assert.assertEquals(listener.getOffsets(partition1), range(0, 15));
+        listener.shutdown();
+    }
+
+    @Test(description = "Test partitions are paused while too many records are being processed")
+    public void testPauseAndResume() {
+        MockConsumer<String, String> consumer = createConsumer();
+        RecordingListener listener = new RecordingListener();
+        KafkaPartitionDispatcher dispatcher = new KafkaPartitionDispatcher(consumer, listener, groupId, serviceId,
+                                                                           10, false);
+        addRecords(consumer, partition0, 0, 8);
+        addRecords(consumer, partition1, 0, 8);
+        poll(consumer, dispatcher);
+        Assert.assertEquals(consumer.paused(), new HashSet<>(Arrays.asList(partition0, partition1)));
+
+        // Records of the paused partitions are not polled.
+        addRecords(consumer, partition0, 8, 2);
+        Assert.assertTrue(consumer.poll(Duration.ZERO).isEmpty());
+
+        // Partitions are resumed once the number of records being processed drops to half of the limit.
+        listener.completeAll(1);
+        dispatcher.beforePoll();
+        Assert.assertEquals(consumer.paused().size(), 2);
+        listener.completeAll(1);
+        dispatcher.beforePoll();
+        Assert.assertTrue(consumer.paused().isEmpty());
+        Assert.assertEquals(consumer.poll(Duration.ZERO).count(), 2);
+        listener.shutdown();
+    }
+
+    @Test(description = "Test offsets of the processed records are committed when auto commit is disabled")
+    public void testOffsetCommit() {
+        MockConsumer<String, String> consumer = createConsumer();
+        RecordingListener listener = new RecordingListener();
+        KafkaPartitionDispatcher dispatcher = new KafkaPartitionDispatcher(consumer, listener, groupId, serviceId,
+                                                                           100, true);
+        addRecords(consumer, partition0, 0, 4);
+        addRecords(consumer, partition1, 0, 6);
+        poll(consumer, dispatcher);
+        addRecords(consumer, partition0, 4, 3);
+        poll(consumer, dispatcher);
+        Assert.assertNull(consumer.committed(partition0));
+
+        listener.completeAll(2);
+        dispatcher.beforePoll();
+        Assert.assertEquals(consumer.committed(partition0).offset(), 4);
+        Assert.assertEquals(consumer.committed(partition1).offset(), 6);
+
+        listener.completeAll(1);
+        dispatcher.close();
+        Assert.assertEquals(consumer.committed(partition0).offset(), 7);
+        listener.shutdown();
+    }
+
+    @Test(description = "Test pending records of a revoked partition are not processed")
+    public void testRevokedPartition() {
+        MockConsumer<String, String> consumer = createConsumer();
+        RecordingListener listener = new RecordingListener();
+        KafkaPartitionDispatcher dispatcher = new KafkaPartitionDispatcher(consumer, listener, groupId, serviceId,
+                                                                           100, true);
+        addRecords(consumer, partition0, 0, 2);
+        poll(consumer, dispatcher);
+        addRecords(consumer, partition0, 2, 2);
+        poll(consumer, dispatcher);
+
+        dispatcher.onPartitionsRevoked(Collections.singletonList(partition0));
+        listener.completeAll(1);
+        Assert.assertEquals(dispatcher.getInFlightRecordCount(), 0);
+        Assert.assertEquals(listener.getOffsets(partition0), range(0, 2));
+        dispatcher.close();
+        Assert.assertNull(consumer.committed(partition0));
+        listener.shutdown();
+    }
+
+    @Test(description = "Test records of a partition assigned again are processed after the records being "
+            + "processed when it was revoked")
+    public void testReassignedPartition() {
+        MockConsumer<String, String> consumer = createConsumer();
+        RecordingListener listener = new RecordingListener();
+        KafkaPartitionDispatcher dispatcher = new KafkaPartitionDispatcher(consumer, listener, groupId, serviceId,
+                                                                           100, true);
+        addRecords(consumer, partition0, 0, 2);
+        poll(consumer, dispatcher);
+
+        dispatcher.onPartitionsRevoked(Collections.singletonList(partition0));
+        dispatcher.onPartitionsAssigned(Collections.singletonList(partition0));
+        addRecords(consumer, partition0, 2, 2);
+        poll(consumer, dispatcher);
+
+        // The records received after the partition is assigned again wait for the records of the revoked partition.
+        Assert.assertEquals(listener.pendingBatches.size(), 1);
+        listener.completeAll(2);
+        Assert.assertEquals(dispatcher.getInFlightRecordCount(), 0);
+        Assert.assertEquals(listener.getOffsets(partition0), range(0, 4));
+        dispatcher.close();
+        Assert.assertEquals(consumer.committed(partition0).offset(), 4);
+        listener.shutdown();
+    }
+
+    @Test(description = "Test offsets of the processed records are committed when the consumer is stopped while "
+            + "the polling thread is not polling")
+    public void testOffsetCommitOnStop() throws InterruptedException {
+        WakeupAwareConsumer consumer = new WakeupAwareConsumer();
+        CountDownLatch recordsReceived = new CountDownLatch(1);
+        RecordingListener listener = new RecordingListener() {
+            @Override
+            public void onRecordsReceived(ConsumerRecords records, Consumer kafkaConsumer, String groupId,
+                                          CallableUnitCallback callback) {
+                callback.notifySuccess();
+                recordsReceived.countDown();
+                // Keep the polling thread out of poll() until the consumer is woken up.
+                try {
+                    consumer.wokenUp.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        Properties configParams = new Properties();
+        configParams.put(KafkaConstants.ALIAS_TOPICS.getValue(), new ArrayList<>(Collections.singletonList(topic)));
+        configParams.put(KafkaConstants.ALIAS_POLLING_TIMEOUT.getValue(), 5000);
+        configParams.put(KafkaConstants.ALIAS_POLLING_INTERVAL.getValue(), 10);
+        configParams.put(KafkaConstants.ALIAS_PARTITIONED_PROCESSING.getValue(), true);
+        configParams.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        configParams.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        KafkaRecordConsumer recordConsumer = new KafkaRecordConsumer(listener, configParams, serviceId, 0, consumer);
+        consumer.rebalance(Collections.singletonList(partition0));
+        consumer.updateBeginningOffsets(Collections.singletonMap(partition0, 0L));
+        addRecords(consumer, partition0, 0, 3);
+
+        recordConsumer.consume();
+        Assert.assertTrue(recordsReceived.await(5, TimeUnit.SECONDS));
+        recordConsumer.stopConsume();
+        Assert.assertEquals(consumer.committedOffsets.get(partition0).offset(), 3);
+        listener.shutdown();
+    }
+
+    @Test(description = "Test a non-positive maximum number of in-flight records is rejected",
+          expectedExceptions = KafkaConnectorException.class,
+          expectedExceptionsMessageRegExp = "Maximum number of in-flight records should be a positive .*")
+    public void testNonPositiveMaxInFlightRecords() throws KafkaConnectorException {
+        Properties configParams = new Properties();
+        configParams.put(KafkaConstants.ALIAS_MAX_IN_FLIGHT_RECORDS.getValue(), 0);
+        new KafkaServerConnectorImpl(serviceId, configParams, new RecordingListener(), null);
+    }
+
+    private static MockConsumer<String, String> createConsumer() {
+        MockConsumer<String, String> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.assign(Arrays.asList(partition0, partition1));
+        Map<TopicPartition, Long> beginningOffsets = new HashMap<>();
+        beginningOffsets.put(partition0, 0L);
+        beginningOffsets.put(partition1, 0L);
+        consumer.updateBeginningOffsets(beginningOffsets);
+        return consumer;
+    }
+
+    private static void addRecords(MockConsumer<String, String> consumer, TopicPartition partition, long offset,
+                                   int count) {
+        for (int i = 0; i < count; i++) {
+            consumer.addRecord(new ConsumerRecord<>(topic, partition.partition(), offset + i, null, "message"));
+        }
+    }
+
+    private static void poll(Consumer<String, String> consumer, KafkaPartitionDispatcher dispatcher) {
+        dispatcher.beforePoll();
+        dispatcher.dispatch(consumer.poll(Duration.ZERO));
+    }
+
+    private static List<Long> range(long from, long to) {
+        List<Long> offsets = new ArrayList<>();
+        for (long offset = from; offset < to; offset++) {
+            offsets.add(offset);
+        }
+        return offsets;
+    }
+
+    /**
+     * Mock consumer which, like the Kafka consumer, keeps a wake up which did not interrupt a poll pending until the
+     * consumer is polled or offsets are committed synchronously.
+     */
+    private static class WakeupAwareConsumer extends MockConsumer<String, String> {
+
+        private final AtomicBoolean wakeupPending = new AtomicBoolean();
+        private final CountDownLatch wokenUp = new CountDownLatch(1);
+        private final Map<TopicPartition, OffsetAndMetadata> committedOffsets = new ConcurrentHashMap<>();
+
+        WakeupAwareConsumer() {
+            super(OffsetResetStrategy.EARLIEST);
+        }
+
+        @Override
+        public synchronized ConsumerRecords<String, String> poll(Duration timeout) {
+            checkWakeup();
+            return super.poll(timeout);
+        }
+
+        @Override
+        public synchronized void commitSync(Map<TopicPartition, OffsetAndMetadata> offsets) {
+            checkWakeup();
+            super.commitSync(offsets);
+            committedOffsets.putAll(offsets);
+        }
+
+        @Override
+        public void wakeup() {
+            wakeupPending.set(true);
+            wokenUp.countDown();
+        }
+
+        private void checkWakeup() {
+            if (wakeupPending.getAndSet(false)) {
+                throw new WakeupException();
+            }
+        }
+    }
+
+    /**
+     * Listener which records the processed offsets, and completes the processing of the dispatched records only
+     * when asked to, in a separate thread.
+     */
+    private static class RecordingListener implements KafkaListener {
+
+        private final BlockingQueue<Runnable> pendingBatches = new LinkedBlockingQueue<>();
+        private final Map<TopicPartition, List<Long>> offsets = new ConcurrentHashMap<>();
+        private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        @Override
+        public void onRecordsReceived(ConsumerRecords records, Consumer kafkaConsumer, String groupId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onRecordsReceived(ConsumerRecords records, Consumer kafkaConsumer, String groupId,
+                                      CallableUnitCallback callback) {
+            Assert.assertEquals(records.partitions().size(), 1);
+            pendingBatches.add(() -> {
+                for (ConsumerRecord record : (Iterable<ConsumerRecord>) records) {
+                    offsets.computeIfAbsent(new TopicPartition(record.topic(), record.partition()),
+                                            partition -> Collections.synchronizedList(new ArrayList<>()))
+                            .add(record.offset());
+                }
+                callback.notifySuccess();
+            });
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            Assert.fail("Unexpected error", throwable);
+        }
+
+        /**
+         * Completes the given number of batches one after the other. Completing a batch dispatches the next batch
+         * of the partition, if any.
+         */
+        void completeAll(int batchCount) {
+            try {
+                for (int i = 0; i < batchCount; i++) {
+                    Runnable batch = pendingBatches.poll(5, TimeUnit.SECONDS);
+                    Assert.assertNotNull(batch, "No records were dispatched");
+                    executor.submit(batch).get(5, TimeUnit.SECONDS);
+                }
+            } catch (InterruptedException | ExecutionException | TimeoutException e) {
+                Assert.fail("Failed to process the records", e);
+            }
+        }
+
+        List<Long> getOffsets(TopicPartition partition) {
+            return offsets.get(partition);
+        }
+
+        void shutdown() {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.messaging.kafka.consumer;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
+import org.ballerinalang.messaging.kafka.api.KafkaListener;
+import org.ballerinalang.messaging.kafka.impl.KafkaRecordConsumer;
+import org.ballerinalang.messaging.kafka.utils.KafkaConstants;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases for the polling options of the Kafka record consumer.
+ */
+public class RecordConsumerConfigTest {
+
+    private static final String topic = "record-consumer-config-test-topic";
+    private static final String groupId = "record-consumer-config-test-group";
+    private static final String serviceId = "record-consumer-config-test-service";
+    private static final TopicPartition partition = new TopicPartition(topic, 0);
+
+    @Test(description = "Test the consumer starts when the polling timeout and decouple processing are set")
+    public void testPollingTimeoutAndDecoupleProcessing() throws InterruptedException {
+        MockConsumer<String, String> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        CountDownLatch recordsReceived = new CountDownLatch(1);
+        KafkaListener listener = new KafkaListener() {
+            @Override
+            public void onRecordsReceived(ConsumerRecords records, Consumer kafkaConsumer, String groupId) {
+                Assert.fail("Records are expected to be processed in the polling thread");
+            }
+
+            @Override
+            public void onRecordsReceived(ConsumerRecords records, Consumer kafkaConsumer, String groupId,
+                                          CallableUnitCallback callback) {
+                if (records.count() == 2) {
+                    recordsReceived.countDown();
+                }
+                callback.notifySuccess();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                // the consumer may be polled once more while it is being closed
+            }
+        };
+        Properties configParams = new Properties();
+        configParams.put(KafkaConstants.ALIAS_TOPICS.getValue(), new ArrayList<>(Collections.singletonList(topic)));
+        configParams.put(KafkaConstants.ALIAS_POLLING_TIMEOUT.getValue(), 500);
+        configParams.put(KafkaConstants.ALIAS_POLLING_INTERVAL.getValue(), 10);
+        configParams.put(KafkaConstants.ALIAS_DECOUPLE_PROCESSING.getValue(), false);
+        configParams.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        KafkaRecordConsumer recordConsumer = new KafkaRecordConsumer(listener, configParams, serviceId, 0, consumer);
+        consumer.rebalance(Collections.singletonList(partition));
+        consumer.updateBeginningOffsets(Collections.singletonMap(partition, 0L));
+        consumer.addRecord(new ConsumerRecord<>(topic, 0, 0, null, "message"));
+        consumer.addRecord(new ConsumerRecord<>(topic, 0, 1, null, "message"));
+
+        recordConsumer.consume();
+        Assert.assertTrue(recordsReceived.await(5, TimeUnit.SECONDS), "Records were not received");
+        recordConsumer.stopConsume();
+    }
+}
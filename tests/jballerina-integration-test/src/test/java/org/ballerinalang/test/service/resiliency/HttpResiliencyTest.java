@@ -67,6 +67,7 @@ public class HttpResiliencyTest extends BaseTest {
     private static final String LB_ROUND_ROBIN_WITH_FO_SERVICE_PATH = "lb" + File.separator + "failover";
     private static final String ALL_LB_EP_FAILURE_SERVICE_PATH = "lb" + File.separator + "delay";
     private static final String LB_CUSTOM_ALGO_SERVICE_PATH = "lb" + File.separator + "custom";
+    private static final String LB_LOAD_AWARE_SERVICE_PATH = "lb" + File.separator + "loadAware" + File.separator;
 
     @BeforeTest(alwaysRun = true)
     public void start() throws BallerinaTestException {
@@ -300,6 +301,21 @@ public class HttpResiliencyTest extends BaseTest {
         verifyResponses(9313, LB_CUSTOM_ALGO_SERVICE_PATH, responseCode, message);
     }
 
+    @Test(description = "Test for verify failover behavior with the load aware rules of load balancer",
+            dataProvider = "loadAwareFailoverResponseDataProvider")
+    public void loadAwareFailoverTest(String rule) throws Exception {
+        // The rules choose among equally loaded targets randomly, so a few requests are sent to each of them.
+        for (int i = 0; i < 3; i++) {
+            verifyResponses(9313, LB_LOAD_AWARE_SERVICE_PATH + rule, SC_OK, "Mock2 Resource is Invoked.");
+        }
+    }
+
+    @Test(description = "Test for verify the error message when all endpoints of a load aware rule are failing")
+    public void testAllLoadAwareLbEndpointFailure() throws Exception {
+        verifyResponses(9313, LB_LOAD_AWARE_SERVICE_PATH + "allFailing", SC_INTERNAL_SERVER_ERROR,
+                        "All the load balance endpoints failed. Last error was: " + IDLE_TIMEOUT_MESSAGE);
+    }
+
     // TODO: #16933
     @Test(description = "Test basic failover scenario for HTTP2 clients", enabled = false)
     public void testBasicHttp2Failover() throws IOException {
@@ -442,6 +458,15 @@ public class HttpResiliencyTest extends BaseTest {
         };
     }
 
+    @DataProvider(name = "loadAwareFailoverResponseDataProvider")
+    public Object[][] loadAwareFailoverResponseDataProvider() {
+        return new Object[][]{
+                new Object[]{"leastOutstanding"},
+                new Object[]{"powerOfTwoChoices"},
+                new Object[]{"peakEwma"},
+        };
+    }
+
     private void verifyResponses(int port, String path, int responseCode, String expectedMessage) throws Exception {
         Map<String, String> headers = new HashMap<>();
         headers.put(HttpHeaderNames.CONTENT_TYPE.toString(), TestConstant.CONTENT_TYPE_JSON);
@@ -49,6 +49,49 @@ http:LoadBalanceClient delayedBackendEP = new({
     timeoutInMillis: 2000
 });
 
+http:LoadBalanceClient leastOutstandingFailoverEP = new({
+    targets: [
+        { url: "http://localhost:8093/mock4" },
+        { url: "http://localhost:8093/mock5" },
+        { url: "http://localhost:8093/mock2" }
+    ],
+    lbRule: new http:LoadBalancerLeastOutstandingRule(),
+    failover: true,
+    timeoutInMillis: 1000
+});
+
+http:LoadBalanceClient powerOfTwoChoicesFailoverEP = new({
+    targets: [
+        { url: "http://localhost:8093/mock4" },
+        { url: "http://localhost:8093/mock5" },
+        { url: "http://localhost:8093/mock2" }
+    ],
+    lbRule: new http:LoadBalancerPowerOfTwoChoicesRule(),
+    failover: true,
+    timeoutInMillis: 1000
+});
+
+http:LoadBalanceClient peakEwmaFailoverEP = new({
+    targets: [
+        { url: "http://localhost:8093/mock4" },
+        { url: "http://localhost:8093/mock5" },
+        { url: "http://localhost:8093/mock2" }
+    ],
+    lbRule: new http:LoadBalancerPeakEwmaRule(),
+    failover: true,
+    timeoutInMillis: 1000
+});
+
+http:LoadBalanceClient leastOutstandingDelayedEP = new({
+    targets: [
+        { url: "http://localhost:8093/mock4" },
+        { url: "http://localhost:8093/mock5" }
+    ],
+    lbRule: new http:LoadBalancerLeastOutstandingRule(),
+    failover: true,
+    timeoutInMillis: 1000
+});
+
 CustomLoadBalancerRule customLbRule = new CustomLoadBalancerRule(2);
 
 http:LoadBalanceClient customLbBackendEP = new ({
@@ -152,6 +195,36 @@ service loadBalancerDemoService on new http:Listener(9313) {
             }
         }
     }
+
+    @http:ResourceConfig {
+        path: "/loadAware/{rule}"
+    }
+    resource function loadAwareFailover(http:Caller caller, http:Request req, string rule) {
+        http:LoadBalanceClient lbClient = leastOutstandingFailoverEP;
+        if (rule == "powerOfTwoChoices") {
+            lbClient = powerOfTwoChoicesFailoverEP;
+        } else if (rule == "peakEwma") {
+            lbClient = peakEwmaFailoverEP;
+        } else if (rule == "allFailing") {
+            lbClient = leastOutstandingDelayedEP;
+        }
+        json requestPayload = { "name": "Ballerina" };
+        var response = lbClient->post("/", requestPayload);
+        if (response is http:Response) {
+            var responseToCaller = caller->respond(response);
+            if (responseToCaller is error) {
+                log:printError("Error sending response", responseToCaller);
+            }
+        } else {
+            http:Response outResponse = new;
+            outResponse.statusCode = 500;
+            outResponse.setPayload(<@untainted> response.message());
+            var responseToCaller = caller->respond(outResponse);
+            if (responseToCaller is error) {
+                log:printError("Error sending response", responseToCaller);
+            }
+        }
+    }
 }
 
 @http:ServiceConfig { basePath: "/mock1" }
@@ -309,4 +309,10 @@ public class FunctionPointersTest {
     public void testDefaultParams() {
         BRunUtil.invoke(fpProgram, "testDefaultParams");
     }
+
+    @Test(description = "Test function pointers with primitive args which are of sub types of the params")
+    public void testFunctionPointersWithPrimitiveArgs() {
+        BValue[] returns = BRunUtil.invoke(fpProgram, "testFunctionPointersWithPrimitiveArgs");
+        Assert.assertEquals(returns[0].stringValue(), "[3.0, 5.0, 45, false]");
+    }
 }
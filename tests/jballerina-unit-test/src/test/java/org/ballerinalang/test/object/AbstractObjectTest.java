@@ -108,4 +108,17 @@ public class AbstractObjectTest {
         BValue[] result = BRunUtil.invoke(abstractObjects, "testAbstractObjectInObject");
         Assert.assertEquals(result[0].stringValue(), "{city:\"Colombo\", address:{city:\"Colombo\"}}");
     }
+
+    @Test(description = "Test calling methods of different object types through an abstract object type")
+    public void testAbstractObjectMethodCalls() {
+        BValue[] result = BRunUtil.invoke(abstractObjects, "testAbstractObjectMethodCalls");
+        Assert.assertEquals(result[0].stringValue(), "[4, 6, 8, 0, 0, 9, 1, 8, 12, 16, 0, 0, 18, 2, 12, 18, 24, " +
+                "0, 0, 27, 3]");
+    }
+
+    @Test(description = "Test calling methods of an object which is of a structurally equivalent object type")
+    public void testStructurallyEquivalentObjectMethodCalls() {
+        BValue[] result = BRunUtil.invoke(abstractObjects, "testStructurallyEquivalentObjectMethodCalls");
+        Assert.assertEquals(result[0].stringValue(), "[6, 8]");
+    }
 }
@@ -148,6 +148,12 @@ public class LimitClauseTest {
         Assert.assertEquals(fullName2.get("lastName").stringValue(), "Fonseka");
     }
 
+    @Test(description = "Test limit clause with where and let clauses")
+    public void testLimitClauseWithWhereAndLet() {
+        BValue[] returnValues = BRunUtil.invoke(result, "testLimitClauseWithWhereAndLet");
+        Assert.assertTrue(((BBoolean) returnValues[0]).booleanValue());
+    }
+
     @Test(expectedExceptions = BLangRuntimeException.class, description = "Test limit clause with incompatible types",
             groups = { "brokenOnNewParser" })
     public void testNegativeScenarios() {
@@ -43,6 +43,11 @@ public class StringValueBasicsTest extends BStringTestCommons {
         Assert.assertEquals(returns[0].stringValue(), "red apple");
     }
 
+    @Test
+    public void testConcatInLoop() {
+        testAndAssert("concatInLoop", 1002);
+    }
+
     @Test
     public void testNonBMPStringLength() {
         testAndAssert("nonBMPLength", 5);
@@ -208,3 +208,33 @@ public function testDefaultParams() {
         panic error("Returned string should equal 'Anne'");
     }
 }
+
+function scale(int|float value, float factor) returns float {
+    if (value is int) {
+        return <float>value * factor;
+    }
+    return <float>value * factor;
+}
+
+function testFunctionPointersWithPrimitiveArgs() returns [float, float, int, boolean] {
+    function (int, float) returns float|error intScaler = scale;
+    function (float, float) returns float floatScaler = scale;
+    float|error scaledInt = intScaler(2, 1.5);
+
+    int offset = 10;
+    function (byte, int) returns int adder = function (int a, int b) returns int {
+        return a + b + offset;
+    };
+    byte b = 5;
+    int sum = 0;
+    int i = 0;
+    while (i < 3) {
+        sum = adder(b, sum);
+        i += 1;
+    }
+
+    function (int) returns boolean isEven = function (int n) returns boolean {
+        return n % 2 == 0;
+    };
+    return [scaledInt is float ? scaledInt : -1.0, floatScaler(2.5, 2.0), sum, isEven(sum)];
+}
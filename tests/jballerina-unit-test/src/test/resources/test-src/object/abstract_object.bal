@@ -53,3 +53,87 @@ public function testAbstractObjectInObject() returns Employee {
     Employee emp = new("Colombo", stdAddr);
     return emp;
 }
+
+public type Shape abstract object {
+    public int side;
+
+    public function area(int scale = 1) returns int;
+};
+
+public type Square object {
+    public int side;
+
+    public function init(int side) {
+        self.side = side;
+    }
+
+    public function area(int scale = 1) returns int {
+        return self.side * self.side * scale;
+    }
+};
+
+public type Rectangle object {
+    public int side;
+    public int width;
+
+    public function init(int side, int width) {
+        self.side = side;
+        self.width = width;
+    }
+
+    public function area(int scale = 1) returns int {
+        return self.side * self.width * scale;
+    }
+};
+
+public type Triangle object {
+    public int side;
+
+    public function init(int side) {
+        self.side = side;
+    }
+
+    public function area(int scale = 1) returns int {
+        return self.side * self.side * scale / 2;
+    }
+};
+
+public type Line object {
+    public int side;
+
+    public function init(int side) {
+        self.side = side;
+    }
+
+    public function area(int scale = 1) returns int {
+        return 0;
+    }
+};
+
+public type Point object {
+    public int side = 0;
+
+    public function area(int scale = 1) returns int {
+        return 0;
+    }
+};
+
+public function testAbstractObjectMethodCalls() returns int[] {
+    Shape[] shapes = [new Square(2), new Rectangle(2, 3), new Triangle(4), new Line(5), new Point(),
+                      new Square(3), new Rectangle(1, 1)];
+    int[] areas = [];
+    int i = 0;
+    while (i < 3) {
+        foreach Shape shape in shapes {
+            areas.push(shape.area(i + 1));
+        }
+        i += 1;
+    }
+    return areas;
+}
+
+public function testStructurallyEquivalentObjectMethodCalls() returns [int, int] {
+    Square square = new Rectangle(2, 3);
+    Square otherSquare = new(2);
+    return [square.area(), otherSquare.area(scale = 2)];
+}
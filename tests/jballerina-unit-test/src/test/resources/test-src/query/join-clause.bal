@@ -461,7 +461,7 @@ function testSimpleJoinClauseWithFunctionInAnEquals() returns boolean {
     return testPassed;
 }
 
-function testSimpleJoinWithAStream() {
+function testSimpleJoinWithAStream() returns boolean {
     Person p1 = {id: 1, fname: "Alex", lname: "George"};
     Person p2 = {id: 2, fname: "Ranjan", lname: "Fonseka"};
 
@@ -481,6 +481,59 @@ function testSimpleJoinWithAStream() {
            lname : person.lname,
            dept : name
        };
+
+    boolean testPassed = true;
+    DeptPerson dp;
+    testPassed = testPassed && deptPersonList.length() == 2;
+    dp = deptPersonList[0];
+    testPassed = testPassed && dp.fname == "Alex" && dp.lname == "George" && dp.dept == "HR";
+    dp = deptPersonList[1];
+    testPassed = testPassed && dp.fname == "Ranjan" && dp.lname == "Fonseka" && dp.dept == "HR";
+    return testPassed;
+}
+
+function testJoinClauseWithDuplicateKeys() returns boolean {
+    Person p1 = {id: 1, fname: "Alex", lname: "George"};
+    Person p2 = {id: 2, fname: "Ranjan", lname: "Fonseka"};
+    Person p3 = {id: 1, fname: "John", lname: "David"};
+
+    Department d1 = {id: 1, name:"HR"};
+    Department d2 = {id: 2, name:"Operations"};
+    Department d3 = {id: 1, name:"Finance"};
+    Department d4 = {id: 3, name:"Legal"};
+
+    Person[] personList = [p1, p2, p3];
+    Department[] deptList = [d1, d2, d3, d4];
+
+    DeptPerson[] deptPersonList =
+       from var person in personList
+       join Department dept in deptList
+       on person.id equals dept.id
+       select {
+           fname : person.fname,
+           lname : person.lname,
+           dept : dept.name
+       };
+
+    // the operands of the condition are swapped, so the departments are not looked up by the key
+    DeptPerson[] swappedDeptPersonList =
+       from var person in personList
+       join Department dept in deptList
+       on dept.id equals person.id
+       select {
+           fname : person.fname,
+           lname : person.lname,
+           dept : dept.name
+       };
+
+    boolean testPassed = deptPersonList == swappedDeptPersonList;
+    testPassed = testPassed && deptPersonList.length() == 5;
+    testPassed = testPassed && deptPersonList[0].fname == "Alex" && deptPersonList[0].dept == "HR";
+    testPassed = testPassed && deptPersonList[1].fname == "Alex" && deptPersonList[1].dept == "Finance";
+    testPassed = testPassed && deptPersonList[2].fname == "Ranjan" && deptPersonList[2].dept == "Operations";
+    testPassed = testPassed && deptPersonList[3].fname == "John" && deptPersonList[3].dept == "HR";
+    testPassed = testPassed && deptPersonList[4].fname == "John" && deptPersonList[4].dept == "Finance";
+    return testPassed;
 }
 
 function getDeptName(int id) returns string {
@@ -209,3 +209,24 @@ function testLimitClauseWithQueryAction4() returns FullName[] {
 
     return nameList;
 }
+
+int evaluatedRows = 0;
+
+function countRow(int id) returns int {
+    evaluatedRows += 1;
+    return id;
+}
+
+function testLimitClauseWithWhereAndLet() returns boolean {
+    int[] ids = [1, 2, 3, 4, 5, 6, 7, 8];
+    evaluatedRows = 0;
+
+    int[] evenIds = from var id in ids
+            let int countedId = countRow(id)
+            where countedId % 2 == 0
+            select countedId
+            limit 2;
+
+    // rows after the limit is reached are not evaluated
+    return evenIds == [2, 4] && evaluatedRows == 4;
+}
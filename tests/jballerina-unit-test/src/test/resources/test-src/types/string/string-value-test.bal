@@ -70,3 +70,17 @@ function anydataToStringCast() returns int {
     string k = <string> a;
     return k.length();
 }
+
+function concatInLoop() returns int {
+    string s = "";
+    foreach int i in 0 ..< 100 {
+        s = s + "h😀llo";
+    }
+    // both strings are built by appending to the same string
+    string t = s + "!";
+    string u = s + "?";
+    if (t[500] != "!" || u[500] != "?" || s[101] != "😀" || t.substring(495, 500) != "h😀llo" || t == u) {
+        return -1;
+    }
+    return t.length() + u.length();
+}